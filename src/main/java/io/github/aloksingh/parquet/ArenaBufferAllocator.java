@@ -0,0 +1,64 @@
+package io.github.aloksingh.parquet;
+
+import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link BufferAllocator} that carves buffers out of an off-heap {@link Arena}.
+ *
+ * <p>Buffers are never recycled individually; {@link #release(ByteBuffer)} does nothing. All
+ * memory handed out is freed at once when the allocator is closed, which makes the lifetime
+ * of page buffers explicit and keeps them off the garbage-collected heap. This fits a scan
+ * that decodes a row group and then discards all of its pages, and is how
+ * {@link ParquetFileReader#openRowGroup(int)} uses it.
+ *
+ * <p>The allocator uses a shared arena, so buffers may be allocated and read from any thread.
+ * Accessing a buffer after the allocator is closed throws {@link IllegalStateException}.
+ */
+public class ArenaBufferAllocator implements BufferAllocator, AutoCloseable {
+  private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+  private final Arena arena;
+
+  /**
+   * Creates an allocator backed by a new shared arena.
+   */
+  public ArenaBufferAllocator() {
+    this.arena = Arena.ofShared();
+  }
+
+  /**
+   * Returns a direct buffer of exactly {@code size} bytes allocated from the arena.
+   *
+   * @param size the number of bytes needed
+   * @return a buffer with {@code size} bytes remaining
+   * @throws IllegalStateException if the allocator has been closed
+   */
+  @Override
+  public ByteBuffer allocate(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("Invalid buffer size: " + size);
+    }
+    if (size == 0) {
+      return EMPTY.duplicate();
+    }
+    return arena.allocate(size, Long.BYTES).asByteBuffer();
+  }
+
+  /**
+   * Does nothing; arena memory is only freed by {@link #close()}.
+   *
+   * @param buffer a buffer returned by {@link #allocate(int)}
+   */
+  @Override
+  public void release(ByteBuffer buffer) {
+  }
+
+  /**
+   * Frees all buffers allocated from this allocator.
+   */
+  @Override
+  public void close() {
+    arena.close();
+  }
+}
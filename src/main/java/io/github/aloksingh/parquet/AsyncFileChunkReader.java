@@ -0,0 +1,194 @@
+package io.github.aloksingh.parquet;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * ChunkReader implementation backed by an {@link AsynchronousFileChannel}.
+ *
+ * <p>{@link #readBytesAsync(long, int)} starts the read and returns immediately, so a caller
+ * can have the reads for every column chunk of a row group in flight at once and decode each
+ * chunk as soon as its bytes arrive (see
+ * {@link ParquetFileReader.RowGroupReader#readColumnsAsync(int...)}). On slow volumes this
+ * hides read latency behind decoding work. {@link #readBytes(long, int)} waits for the
+ * asynchronous read to complete.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * try (AsyncFileChunkReader chunkReader = new AsyncFileChunkReader(path);
+ *      ParquetFileReader reader = new ParquetFileReader(chunkReader)) {
+ *   List<CompletableFuture<ColumnValues>> columns =
+ *       reader.getRowGroup(0).readColumnsAsync(0, 1, 2);
+ * }
+ * }</pre>
+ *
+ * @see ChunkReader
+ */
+public class AsyncFileChunkReader implements ChunkReader, AutoCloseable {
+  private final AsynchronousFileChannel channel;
+  private final long length;
+
+  /**
+   * Creates a new AsyncFileChunkReader that completes reads on the default thread pool.
+   *
+   * @param path the path to the file to read
+   * @throws IOException if the file cannot be opened
+   */
+  public AsyncFileChunkReader(Path path) throws IOException {
+    this(path, null);
+  }
+
+  /**
+   * Creates a new AsyncFileChunkReader for the specified path string.
+   *
+   * @param path the path string to the file to read
+   * @throws IOException if the file cannot be opened
+   */
+  public AsyncFileChunkReader(String path) throws IOException {
+    this(Path.of(path));
+  }
+
+  /**
+   * Creates a new AsyncFileChunkReader that completes reads on the given executor.
+   *
+   * <p>Dependent stages attached without an explicit executor, such as decoding in
+   * {@link ParquetFileReader.RowGroupReader#readColumnsAsync(int...)}, also run on it.
+   *
+   * @param path the path to the file to read
+   * @param executor the executor that handles I/O completions, or {@code null} for the
+   *                 system default pool
+   * @throws IOException if the file cannot be opened
+   */
+  public AsyncFileChunkReader(Path path, ExecutorService executor) throws IOException {
+    this.channel = AsynchronousFileChannel.open(path, Set.of(StandardOpenOption.READ), executor);
+    this.length = channel.size();
+  }
+
+  /**
+   * Returns the total length of the file in bytes.
+   *
+   * @return the file length in bytes
+   */
+  @Override
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Reads a chunk of bytes from the file, waiting for the asynchronous read to complete.
+   *
+   * <p>If the requested length exceeds the available bytes from the position to the end of
+   * file, it will read only the available bytes.
+   *
+   * @param position the byte position to start reading from (0-based)
+   * @param length the number of bytes to read
+   * @return a ByteBuffer positioned at 0 containing the read bytes
+   * @throws IOException if position is negative, beyond file length,
+   *                     or if an I/O error occurs during reading
+   */
+  @Override
+  public ByteBuffer readBytes(long position, int length) throws IOException {
+    try {
+      return readBytesAsync(position, length).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while reading at position " + position);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Failed to read at position " + position, e.getCause());
+    }
+  }
+
+  /**
+   * Starts reading a chunk of bytes from the file and returns without waiting.
+   *
+   * <p>If the requested length exceeds the available bytes from the position to the end of
+   * file, it will read only the available bytes.
+   *
+   * @param position the byte position to start reading from (0-based)
+   * @param length the number of bytes to read
+   * @return a future completed with a ByteBuffer positioned at 0 containing the read bytes,
+   *         or completed exceptionally with an {@link IOException}
+   */
+  @Override
+  public CompletableFuture<ByteBuffer> readBytesAsync(long position, int length) {
+    if (position < 0) {
+      return CompletableFuture.failedFuture(new IOException(String.format(
+          "Invalid position: %d", position)));
+    }
+    if (position >= this.length) {
+      return CompletableFuture.failedFuture(new IOException(String.format(
+          "Position %d is beyond file length %d", position, this.length)));
+    }
+
+    // Clamp length to available bytes (for reading headers from small files)
+    int availableBytes = (int) Math.min(length, this.length - position);
+    ByteBuffer buffer = ByteBuffer.allocate(availableBytes);
+    CompletableFuture<ByteBuffer> future = new CompletableFuture<>();
+    try {
+      channel.read(buffer, position, position, new ReadHandler(buffer, future));
+    } catch (RuntimeException e) {
+      future.completeExceptionally(new IOException("Failed to start read", e));
+    }
+    return future;
+  }
+
+  /**
+   * Continues a read until the buffer is full, since a single asynchronous read may return
+   * fewer bytes than requested.
+   */
+  private class ReadHandler implements CompletionHandler<Integer, Long> {
+    private final ByteBuffer buffer;
+    private final CompletableFuture<ByteBuffer> future;
+
+    ReadHandler(ByteBuffer buffer, CompletableFuture<ByteBuffer> future) {
+      this.buffer = buffer;
+      this.future = future;
+    }
+
+    @Override
+    public void completed(Integer bytesRead, Long position) {
+      if (bytesRead < 0) {
+        future.completeExceptionally(new EOFException(String.format(
+            "Unexpected end of file at position %d (file length %d)", position, length)));
+      } else if (buffer.hasRemaining()) {
+        long next = position + bytesRead;
+        try {
+          channel.read(buffer, next, next, this);
+        } catch (RuntimeException e) {
+          future.completeExceptionally(new IOException("Failed to continue read", e));
+        }
+      } else {
+        future.complete(buffer.flip());
+      }
+    }
+
+    @Override
+    public void failed(Throwable exc, Long position) {
+      future.completeExceptionally(exc instanceof IOException ? exc
+          : new IOException("Read failed at position " + position, exc));
+    }
+  }
+
+  /**
+   * Closes the underlying file channel. Reads still in flight fail.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
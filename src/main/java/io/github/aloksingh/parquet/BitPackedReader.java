@@ -39,11 +39,28 @@ public class BitPackedReader {
    * @param buffer    the ByteBuffer containing bit-packed boolean data
    * @param numValues the number of boolean values to read
    * @return an array of boolean values extracted from the buffer
-   * @throws ParquetException if the buffer does not contain enough data to read all requested values
+   * @throws ParquetException if the buffer does not contain enough data to read all requested
+   *                          values
    */
   public static boolean[] readBooleans(ByteBuffer buffer, int numValues) {
     boolean[] result = new boolean[numValues];
+    readBooleans(buffer, result, 0, numValues);
+    return result;
+  }
 
+  /**
+   * Reads bit-packed boolean values from a ByteBuffer into an array.
+   * <p>
+   * The buffer's position is advanced by {@code ceil(numValues / 8)} bytes.
+   *
+   * @param buffer    the ByteBuffer containing bit-packed boolean data
+   * @param dest      the array to read into
+   * @param offset    the index in {@code dest} of the first value
+   * @param numValues the number of boolean values to read
+   * @throws ParquetException if the buffer does not contain enough data to read all requested
+   *                          values
+   */
+  public static void readBooleans(ByteBuffer buffer, boolean[] dest, int offset, int numValues) {
     int currentByte = 0;
     int bitIndex = 0;
 
@@ -58,7 +75,7 @@ public class BitPackedReader {
       }
 
       // Extract the bit at the current position (LSB first)
-      result[i] = ((currentByte >> bitIndex) & 1) != 0;
+      dest[offset + i] = ((currentByte >> bitIndex) & 1) != 0;
 
       // Move to next bit
       bitIndex++;
@@ -66,8 +83,6 @@ public class BitPackedReader {
         bitIndex = 0;
       }
     }
-
-    return result;
   }
 
   /**
@@ -0,0 +1,515 @@
+package io.github.aloksingh.parquet;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Unpackers for groups of 8 bit-packed values, one per bit width from 1 to 32.
+ * <p>
+ * A group of 8 values of width {@code w} takes exactly {@code w} bytes, packed from the least
+ * significant bit up. Each unpacker loads the group as little-endian long words and extracts
+ * the 8 values with fixed shifts and masks, so there is no loop or branch per value.
+ * <p>
+ * The unpackers read whole words: {@code ceil(w / 8)} longs from the start of the group,
+ * which can extend past the group's last byte. Callers must make sure those bytes are
+ * readable, padding the last group of a buffer if needed, and must pass buffers in
+ * little-endian order.
+ */
+final class BitUnpackers {
+
+  private BitUnpackers() {
+    // Utility class
+  }
+
+  /**
+   * Returns the number of bytes the unpacker for a bit width reads, from the start of a group.
+   *
+   * @param bitWidth the bit width (0-32)
+   * @return the bytes covered by the long words the unpacker loads
+   */
+  static int wordBytes(int bitWidth) {
+    return (bitWidth + 7) >>> 3 << 3;
+  }
+
+  /**
+   * Unpacks a group of 8 values.
+   *
+   * @param bitWidth the bit width of the values (0-32)
+   * @param in the packed bytes, in little-endian order
+   * @param position the index in {@code in} of the first byte of the group
+   * @param out the array to unpack into
+   * @param outPos the index in {@code out} of the first value
+   * @throws IllegalArgumentException if the bit width is not between 0 and 32
+   */
+  static void unpackGroup(int bitWidth, ByteBuffer in, int position, int[] out, int outPos) {
+    switch (bitWidth) {
+      case 0 -> Arrays.fill(out, outPos, outPos + 8, 0);
+      case 1 -> unpack1(in, position, out, outPos);
+      case 2 -> unpack2(in, position, out, outPos);
+      case 3 -> unpack3(in, position, out, outPos);
+      case 4 -> unpack4(in, position, out, outPos);
+      case 5 -> unpack5(in, position, out, outPos);
+      case 6 -> unpack6(in, position, out, outPos);
+      case 7 -> unpack7(in, position, out, outPos);
+      case 8 -> unpack8(in, position, out, outPos);
+      case 9 -> unpack9(in, position, out, outPos);
+      case 10 -> unpack10(in, position, out, outPos);
+      case 11 -> unpack11(in, position, out, outPos);
+      case 12 -> unpack12(in, position, out, outPos);
+      case 13 -> unpack13(in, position, out, outPos);
+      case 14 -> unpack14(in, position, out, outPos);
+      case 15 -> unpack15(in, position, out, outPos);
+      case 16 -> unpack16(in, position, out, outPos);
+      case 17 -> unpack17(in, position, out, outPos);
+      case 18 -> unpack18(in, position, out, outPos);
+      case 19 -> unpack19(in, position, out, outPos);
+      case 20 -> unpack20(in, position, out, outPos);
+      case 21 -> unpack21(in, position, out, outPos);
+      case 22 -> unpack22(in, position, out, outPos);
+      case 23 -> unpack23(in, position, out, outPos);
+      case 24 -> unpack24(in, position, out, outPos);
+      case 25 -> unpack25(in, position, out, outPos);
+      case 26 -> unpack26(in, position, out, outPos);
+      case 27 -> unpack27(in, position, out, outPos);
+      case 28 -> unpack28(in, position, out, outPos);
+      case 29 -> unpack29(in, position, out, outPos);
+      case 30 -> unpack30(in, position, out, outPos);
+      case 31 -> unpack31(in, position, out, outPos);
+      case 32 -> unpack32(in, position, out, outPos);
+      default -> throw new IllegalArgumentException(
+          "Bit width must be between 0 and 32: " + bitWidth);
+    }
+  }
+
+  private static void unpack1(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    out[outPos] = (int) (w0 & 0x1L);
+    out[outPos + 1] = (int) ((w0 >>> 1) & 0x1L);
+    out[outPos + 2] = (int) ((w0 >>> 2) & 0x1L);
+    out[outPos + 3] = (int) ((w0 >>> 3) & 0x1L);
+    out[outPos + 4] = (int) ((w0 >>> 4) & 0x1L);
+    out[outPos + 5] = (int) ((w0 >>> 5) & 0x1L);
+    out[outPos + 6] = (int) ((w0 >>> 6) & 0x1L);
+    out[outPos + 7] = (int) ((w0 >>> 7) & 0x1L);
+  }
+
+  private static void unpack2(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    out[outPos] = (int) (w0 & 0x3L);
+    out[outPos + 1] = (int) ((w0 >>> 2) & 0x3L);
+    out[outPos + 2] = (int) ((w0 >>> 4) & 0x3L);
+    out[outPos + 3] = (int) ((w0 >>> 6) & 0x3L);
+    out[outPos + 4] = (int) ((w0 >>> 8) & 0x3L);
+    out[outPos + 5] = (int) ((w0 >>> 10) & 0x3L);
+    out[outPos + 6] = (int) ((w0 >>> 12) & 0x3L);
+    out[outPos + 7] = (int) ((w0 >>> 14) & 0x3L);
+  }
+
+  private static void unpack3(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    out[outPos] = (int) (w0 & 0x7L);
+    out[outPos + 1] = (int) ((w0 >>> 3) & 0x7L);
+    out[outPos + 2] = (int) ((w0 >>> 6) & 0x7L);
+    out[outPos + 3] = (int) ((w0 >>> 9) & 0x7L);
+    out[outPos + 4] = (int) ((w0 >>> 12) & 0x7L);
+    out[outPos + 5] = (int) ((w0 >>> 15) & 0x7L);
+    out[outPos + 6] = (int) ((w0 >>> 18) & 0x7L);
+    out[outPos + 7] = (int) ((w0 >>> 21) & 0x7L);
+  }
+
+  private static void unpack4(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    out[outPos] = (int) (w0 & 0xFL);
+    out[outPos + 1] = (int) ((w0 >>> 4) & 0xFL);
+    out[outPos + 2] = (int) ((w0 >>> 8) & 0xFL);
+    out[outPos + 3] = (int) ((w0 >>> 12) & 0xFL);
+    out[outPos + 4] = (int) ((w0 >>> 16) & 0xFL);
+    out[outPos + 5] = (int) ((w0 >>> 20) & 0xFL);
+    out[outPos + 6] = (int) ((w0 >>> 24) & 0xFL);
+    out[outPos + 7] = (int) ((w0 >>> 28) & 0xFL);
+  }
+
+  private static void unpack5(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    out[outPos] = (int) (w0 & 0x1FL);
+    out[outPos + 1] = (int) ((w0 >>> 5) & 0x1FL);
+    out[outPos + 2] = (int) ((w0 >>> 10) & 0x1FL);
+    out[outPos + 3] = (int) ((w0 >>> 15) & 0x1FL);
+    out[outPos + 4] = (int) ((w0 >>> 20) & 0x1FL);
+    out[outPos + 5] = (int) ((w0 >>> 25) & 0x1FL);
+    out[outPos + 6] = (int) ((w0 >>> 30) & 0x1FL);
+    out[outPos + 7] = (int) ((w0 >>> 35) & 0x1FL);
+  }
+
+  private static void unpack6(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    out[outPos] = (int) (w0 & 0x3FL);
+    out[outPos + 1] = (int) ((w0 >>> 6) & 0x3FL);
+    out[outPos + 2] = (int) ((w0 >>> 12) & 0x3FL);
+    out[outPos + 3] = (int) ((w0 >>> 18) & 0x3FL);
+    out[outPos + 4] = (int) ((w0 >>> 24) & 0x3FL);
+    out[outPos + 5] = (int) ((w0 >>> 30) & 0x3FL);
+    out[outPos + 6] = (int) ((w0 >>> 36) & 0x3FL);
+    out[outPos + 7] = (int) ((w0 >>> 42) & 0x3FL);
+  }
+
+  private static void unpack7(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    out[outPos] = (int) (w0 & 0x7FL);
+    out[outPos + 1] = (int) ((w0 >>> 7) & 0x7FL);
+    out[outPos + 2] = (int) ((w0 >>> 14) & 0x7FL);
+    out[outPos + 3] = (int) ((w0 >>> 21) & 0x7FL);
+    out[outPos + 4] = (int) ((w0 >>> 28) & 0x7FL);
+    out[outPos + 5] = (int) ((w0 >>> 35) & 0x7FL);
+    out[outPos + 6] = (int) ((w0 >>> 42) & 0x7FL);
+    out[outPos + 7] = (int) ((w0 >>> 49) & 0x7FL);
+  }
+
+  private static void unpack8(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    out[outPos] = (int) (w0 & 0xFFL);
+    out[outPos + 1] = (int) ((w0 >>> 8) & 0xFFL);
+    out[outPos + 2] = (int) ((w0 >>> 16) & 0xFFL);
+    out[outPos + 3] = (int) ((w0 >>> 24) & 0xFFL);
+    out[outPos + 4] = (int) ((w0 >>> 32) & 0xFFL);
+    out[outPos + 5] = (int) ((w0 >>> 40) & 0xFFL);
+    out[outPos + 6] = (int) ((w0 >>> 48) & 0xFFL);
+    out[outPos + 7] = (int) (w0 >>> 56);
+  }
+
+  private static void unpack9(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    out[outPos] = (int) (w0 & 0x1FFL);
+    out[outPos + 1] = (int) ((w0 >>> 9) & 0x1FFL);
+    out[outPos + 2] = (int) ((w0 >>> 18) & 0x1FFL);
+    out[outPos + 3] = (int) ((w0 >>> 27) & 0x1FFL);
+    out[outPos + 4] = (int) ((w0 >>> 36) & 0x1FFL);
+    out[outPos + 5] = (int) ((w0 >>> 45) & 0x1FFL);
+    out[outPos + 6] = (int) ((w0 >>> 54) & 0x1FFL);
+    out[outPos + 7] = (int) (((w0 >>> 63) | (w1 << 1)) & 0x1FFL);
+  }
+
+  private static void unpack10(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    out[outPos] = (int) (w0 & 0x3FFL);
+    out[outPos + 1] = (int) ((w0 >>> 10) & 0x3FFL);
+    out[outPos + 2] = (int) ((w0 >>> 20) & 0x3FFL);
+    out[outPos + 3] = (int) ((w0 >>> 30) & 0x3FFL);
+    out[outPos + 4] = (int) ((w0 >>> 40) & 0x3FFL);
+    out[outPos + 5] = (int) ((w0 >>> 50) & 0x3FFL);
+    out[outPos + 6] = (int) (((w0 >>> 60) | (w1 << 4)) & 0x3FFL);
+    out[outPos + 7] = (int) ((w1 >>> 6) & 0x3FFL);
+  }
+
+  private static void unpack11(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    out[outPos] = (int) (w0 & 0x7FFL);
+    out[outPos + 1] = (int) ((w0 >>> 11) & 0x7FFL);
+    out[outPos + 2] = (int) ((w0 >>> 22) & 0x7FFL);
+    out[outPos + 3] = (int) ((w0 >>> 33) & 0x7FFL);
+    out[outPos + 4] = (int) ((w0 >>> 44) & 0x7FFL);
+    out[outPos + 5] = (int) (((w0 >>> 55) | (w1 << 9)) & 0x7FFL);
+    out[outPos + 6] = (int) ((w1 >>> 2) & 0x7FFL);
+    out[outPos + 7] = (int) ((w1 >>> 13) & 0x7FFL);
+  }
+
+  private static void unpack12(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    out[outPos] = (int) (w0 & 0xFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 12) & 0xFFFL);
+    out[outPos + 2] = (int) ((w0 >>> 24) & 0xFFFL);
+    out[outPos + 3] = (int) ((w0 >>> 36) & 0xFFFL);
+    out[outPos + 4] = (int) ((w0 >>> 48) & 0xFFFL);
+    out[outPos + 5] = (int) (((w0 >>> 60) | (w1 << 4)) & 0xFFFL);
+    out[outPos + 6] = (int) ((w1 >>> 8) & 0xFFFL);
+    out[outPos + 7] = (int) ((w1 >>> 20) & 0xFFFL);
+  }
+
+  private static void unpack13(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    out[outPos] = (int) (w0 & 0x1FFFL);
+    out[outPos + 1] = (int) ((w0 >>> 13) & 0x1FFFL);
+    out[outPos + 2] = (int) ((w0 >>> 26) & 0x1FFFL);
+    out[outPos + 3] = (int) ((w0 >>> 39) & 0x1FFFL);
+    out[outPos + 4] = (int) (((w0 >>> 52) | (w1 << 12)) & 0x1FFFL);
+    out[outPos + 5] = (int) ((w1 >>> 1) & 0x1FFFL);
+    out[outPos + 6] = (int) ((w1 >>> 14) & 0x1FFFL);
+    out[outPos + 7] = (int) ((w1 >>> 27) & 0x1FFFL);
+  }
+
+  private static void unpack14(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    out[outPos] = (int) (w0 & 0x3FFFL);
+    out[outPos + 1] = (int) ((w0 >>> 14) & 0x3FFFL);
+    out[outPos + 2] = (int) ((w0 >>> 28) & 0x3FFFL);
+    out[outPos + 3] = (int) ((w0 >>> 42) & 0x3FFFL);
+    out[outPos + 4] = (int) (((w0 >>> 56) | (w1 << 8)) & 0x3FFFL);
+    out[outPos + 5] = (int) ((w1 >>> 6) & 0x3FFFL);
+    out[outPos + 6] = (int) ((w1 >>> 20) & 0x3FFFL);
+    out[outPos + 7] = (int) ((w1 >>> 34) & 0x3FFFL);
+  }
+
+  private static void unpack15(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    out[outPos] = (int) (w0 & 0x7FFFL);
+    out[outPos + 1] = (int) ((w0 >>> 15) & 0x7FFFL);
+    out[outPos + 2] = (int) ((w0 >>> 30) & 0x7FFFL);
+    out[outPos + 3] = (int) ((w0 >>> 45) & 0x7FFFL);
+    out[outPos + 4] = (int) (((w0 >>> 60) | (w1 << 4)) & 0x7FFFL);
+    out[outPos + 5] = (int) ((w1 >>> 11) & 0x7FFFL);
+    out[outPos + 6] = (int) ((w1 >>> 26) & 0x7FFFL);
+    out[outPos + 7] = (int) ((w1 >>> 41) & 0x7FFFL);
+  }
+
+  private static void unpack16(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    out[outPos] = (int) (w0 & 0xFFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 16) & 0xFFFFL);
+    out[outPos + 2] = (int) ((w0 >>> 32) & 0xFFFFL);
+    out[outPos + 3] = (int) (w0 >>> 48);
+    out[outPos + 4] = (int) (w1 & 0xFFFFL);
+    out[outPos + 5] = (int) ((w1 >>> 16) & 0xFFFFL);
+    out[outPos + 6] = (int) ((w1 >>> 32) & 0xFFFFL);
+    out[outPos + 7] = (int) (w1 >>> 48);
+  }
+
+  private static void unpack17(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    out[outPos] = (int) (w0 & 0x1FFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 17) & 0x1FFFFL);
+    out[outPos + 2] = (int) ((w0 >>> 34) & 0x1FFFFL);
+    out[outPos + 3] = (int) (((w0 >>> 51) | (w1 << 13)) & 0x1FFFFL);
+    out[outPos + 4] = (int) ((w1 >>> 4) & 0x1FFFFL);
+    out[outPos + 5] = (int) ((w1 >>> 21) & 0x1FFFFL);
+    out[outPos + 6] = (int) ((w1 >>> 38) & 0x1FFFFL);
+    out[outPos + 7] = (int) (((w1 >>> 55) | (w2 << 9)) & 0x1FFFFL);
+  }
+
+  private static void unpack18(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    out[outPos] = (int) (w0 & 0x3FFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 18) & 0x3FFFFL);
+    out[outPos + 2] = (int) ((w0 >>> 36) & 0x3FFFFL);
+    out[outPos + 3] = (int) (((w0 >>> 54) | (w1 << 10)) & 0x3FFFFL);
+    out[outPos + 4] = (int) ((w1 >>> 8) & 0x3FFFFL);
+    out[outPos + 5] = (int) ((w1 >>> 26) & 0x3FFFFL);
+    out[outPos + 6] = (int) ((w1 >>> 44) & 0x3FFFFL);
+    out[outPos + 7] = (int) (((w1 >>> 62) | (w2 << 2)) & 0x3FFFFL);
+  }
+
+  private static void unpack19(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    out[outPos] = (int) (w0 & 0x7FFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 19) & 0x7FFFFL);
+    out[outPos + 2] = (int) ((w0 >>> 38) & 0x7FFFFL);
+    out[outPos + 3] = (int) (((w0 >>> 57) | (w1 << 7)) & 0x7FFFFL);
+    out[outPos + 4] = (int) ((w1 >>> 12) & 0x7FFFFL);
+    out[outPos + 5] = (int) ((w1 >>> 31) & 0x7FFFFL);
+    out[outPos + 6] = (int) (((w1 >>> 50) | (w2 << 14)) & 0x7FFFFL);
+    out[outPos + 7] = (int) ((w2 >>> 5) & 0x7FFFFL);
+  }
+
+  private static void unpack20(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    out[outPos] = (int) (w0 & 0xFFFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 20) & 0xFFFFFL);
+    out[outPos + 2] = (int) ((w0 >>> 40) & 0xFFFFFL);
+    out[outPos + 3] = (int) (((w0 >>> 60) | (w1 << 4)) & 0xFFFFFL);
+    out[outPos + 4] = (int) ((w1 >>> 16) & 0xFFFFFL);
+    out[outPos + 5] = (int) ((w1 >>> 36) & 0xFFFFFL);
+    out[outPos + 6] = (int) (((w1 >>> 56) | (w2 << 8)) & 0xFFFFFL);
+    out[outPos + 7] = (int) ((w2 >>> 12) & 0xFFFFFL);
+  }
+
+  private static void unpack21(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    out[outPos] = (int) (w0 & 0x1FFFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 21) & 0x1FFFFFL);
+    out[outPos + 2] = (int) ((w0 >>> 42) & 0x1FFFFFL);
+    out[outPos + 3] = (int) (((w0 >>> 63) | (w1 << 1)) & 0x1FFFFFL);
+    out[outPos + 4] = (int) ((w1 >>> 20) & 0x1FFFFFL);
+    out[outPos + 5] = (int) ((w1 >>> 41) & 0x1FFFFFL);
+    out[outPos + 6] = (int) (((w1 >>> 62) | (w2 << 2)) & 0x1FFFFFL);
+    out[outPos + 7] = (int) ((w2 >>> 19) & 0x1FFFFFL);
+  }
+
+  private static void unpack22(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    out[outPos] = (int) (w0 & 0x3FFFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 22) & 0x3FFFFFL);
+    out[outPos + 2] = (int) (((w0 >>> 44) | (w1 << 20)) & 0x3FFFFFL);
+    out[outPos + 3] = (int) ((w1 >>> 2) & 0x3FFFFFL);
+    out[outPos + 4] = (int) ((w1 >>> 24) & 0x3FFFFFL);
+    out[outPos + 5] = (int) (((w1 >>> 46) | (w2 << 18)) & 0x3FFFFFL);
+    out[outPos + 6] = (int) ((w2 >>> 4) & 0x3FFFFFL);
+    out[outPos + 7] = (int) ((w2 >>> 26) & 0x3FFFFFL);
+  }
+
+  private static void unpack23(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    out[outPos] = (int) (w0 & 0x7FFFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 23) & 0x7FFFFFL);
+    out[outPos + 2] = (int) (((w0 >>> 46) | (w1 << 18)) & 0x7FFFFFL);
+    out[outPos + 3] = (int) ((w1 >>> 5) & 0x7FFFFFL);
+    out[outPos + 4] = (int) ((w1 >>> 28) & 0x7FFFFFL);
+    out[outPos + 5] = (int) (((w1 >>> 51) | (w2 << 13)) & 0x7FFFFFL);
+    out[outPos + 6] = (int) ((w2 >>> 10) & 0x7FFFFFL);
+    out[outPos + 7] = (int) ((w2 >>> 33) & 0x7FFFFFL);
+  }
+
+  private static void unpack24(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    out[outPos] = (int) (w0 & 0xFFFFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 24) & 0xFFFFFFL);
+    out[outPos + 2] = (int) (((w0 >>> 48) | (w1 << 16)) & 0xFFFFFFL);
+    out[outPos + 3] = (int) ((w1 >>> 8) & 0xFFFFFFL);
+    out[outPos + 4] = (int) ((w1 >>> 32) & 0xFFFFFFL);
+    out[outPos + 5] = (int) (((w1 >>> 56) | (w2 << 8)) & 0xFFFFFFL);
+    out[outPos + 6] = (int) ((w2 >>> 16) & 0xFFFFFFL);
+    out[outPos + 7] = (int) (w2 >>> 40);
+  }
+
+  private static void unpack25(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    long w3 = in.getLong(position + 24);
+    out[outPos] = (int) (w0 & 0x1FFFFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 25) & 0x1FFFFFFL);
+    out[outPos + 2] = (int) (((w0 >>> 50) | (w1 << 14)) & 0x1FFFFFFL);
+    out[outPos + 3] = (int) ((w1 >>> 11) & 0x1FFFFFFL);
+    out[outPos + 4] = (int) ((w1 >>> 36) & 0x1FFFFFFL);
+    out[outPos + 5] = (int) (((w1 >>> 61) | (w2 << 3)) & 0x1FFFFFFL);
+    out[outPos + 6] = (int) ((w2 >>> 22) & 0x1FFFFFFL);
+    out[outPos + 7] = (int) (((w2 >>> 47) | (w3 << 17)) & 0x1FFFFFFL);
+  }
+
+  private static void unpack26(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    long w3 = in.getLong(position + 24);
+    out[outPos] = (int) (w0 & 0x3FFFFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 26) & 0x3FFFFFFL);
+    out[outPos + 2] = (int) (((w0 >>> 52) | (w1 << 12)) & 0x3FFFFFFL);
+    out[outPos + 3] = (int) ((w1 >>> 14) & 0x3FFFFFFL);
+    out[outPos + 4] = (int) (((w1 >>> 40) | (w2 << 24)) & 0x3FFFFFFL);
+    out[outPos + 5] = (int) ((w2 >>> 2) & 0x3FFFFFFL);
+    out[outPos + 6] = (int) ((w2 >>> 28) & 0x3FFFFFFL);
+    out[outPos + 7] = (int) (((w2 >>> 54) | (w3 << 10)) & 0x3FFFFFFL);
+  }
+
+  private static void unpack27(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    long w3 = in.getLong(position + 24);
+    out[outPos] = (int) (w0 & 0x7FFFFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 27) & 0x7FFFFFFL);
+    out[outPos + 2] = (int) (((w0 >>> 54) | (w1 << 10)) & 0x7FFFFFFL);
+    out[outPos + 3] = (int) ((w1 >>> 17) & 0x7FFFFFFL);
+    out[outPos + 4] = (int) (((w1 >>> 44) | (w2 << 20)) & 0x7FFFFFFL);
+    out[outPos + 5] = (int) ((w2 >>> 7) & 0x7FFFFFFL);
+    out[outPos + 6] = (int) ((w2 >>> 34) & 0x7FFFFFFL);
+    out[outPos + 7] = (int) (((w2 >>> 61) | (w3 << 3)) & 0x7FFFFFFL);
+  }
+
+  private static void unpack28(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    long w3 = in.getLong(position + 24);
+    out[outPos] = (int) (w0 & 0xFFFFFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 28) & 0xFFFFFFFL);
+    out[outPos + 2] = (int) (((w0 >>> 56) | (w1 << 8)) & 0xFFFFFFFL);
+    out[outPos + 3] = (int) ((w1 >>> 20) & 0xFFFFFFFL);
+    out[outPos + 4] = (int) (((w1 >>> 48) | (w2 << 16)) & 0xFFFFFFFL);
+    out[outPos + 5] = (int) ((w2 >>> 12) & 0xFFFFFFFL);
+    out[outPos + 6] = (int) (((w2 >>> 40) | (w3 << 24)) & 0xFFFFFFFL);
+    out[outPos + 7] = (int) ((w3 >>> 4) & 0xFFFFFFFL);
+  }
+
+  private static void unpack29(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    long w3 = in.getLong(position + 24);
+    out[outPos] = (int) (w0 & 0x1FFFFFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 29) & 0x1FFFFFFFL);
+    out[outPos + 2] = (int) (((w0 >>> 58) | (w1 << 6)) & 0x1FFFFFFFL);
+    out[outPos + 3] = (int) ((w1 >>> 23) & 0x1FFFFFFFL);
+    out[outPos + 4] = (int) (((w1 >>> 52) | (w2 << 12)) & 0x1FFFFFFFL);
+    out[outPos + 5] = (int) ((w2 >>> 17) & 0x1FFFFFFFL);
+    out[outPos + 6] = (int) (((w2 >>> 46) | (w3 << 18)) & 0x1FFFFFFFL);
+    out[outPos + 7] = (int) ((w3 >>> 11) & 0x1FFFFFFFL);
+  }
+
+  private static void unpack30(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    long w3 = in.getLong(position + 24);
+    out[outPos] = (int) (w0 & 0x3FFFFFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 30) & 0x3FFFFFFFL);
+    out[outPos + 2] = (int) (((w0 >>> 60) | (w1 << 4)) & 0x3FFFFFFFL);
+    out[outPos + 3] = (int) ((w1 >>> 26) & 0x3FFFFFFFL);
+    out[outPos + 4] = (int) (((w1 >>> 56) | (w2 << 8)) & 0x3FFFFFFFL);
+    out[outPos + 5] = (int) ((w2 >>> 22) & 0x3FFFFFFFL);
+    out[outPos + 6] = (int) (((w2 >>> 52) | (w3 << 12)) & 0x3FFFFFFFL);
+    out[outPos + 7] = (int) ((w3 >>> 18) & 0x3FFFFFFFL);
+  }
+
+  private static void unpack31(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    long w3 = in.getLong(position + 24);
+    out[outPos] = (int) (w0 & 0x7FFFFFFFL);
+    out[outPos + 1] = (int) ((w0 >>> 31) & 0x7FFFFFFFL);
+    out[outPos + 2] = (int) (((w0 >>> 62) | (w1 << 2)) & 0x7FFFFFFFL);
+    out[outPos + 3] = (int) ((w1 >>> 29) & 0x7FFFFFFFL);
+    out[outPos + 4] = (int) (((w1 >>> 60) | (w2 << 4)) & 0x7FFFFFFFL);
+    out[outPos + 5] = (int) ((w2 >>> 27) & 0x7FFFFFFFL);
+    out[outPos + 6] = (int) (((w2 >>> 58) | (w3 << 6)) & 0x7FFFFFFFL);
+    out[outPos + 7] = (int) ((w3 >>> 25) & 0x7FFFFFFFL);
+  }
+
+  private static void unpack32(ByteBuffer in, int position, int[] out, int outPos) {
+    long w0 = in.getLong(position);
+    long w1 = in.getLong(position + 8);
+    long w2 = in.getLong(position + 16);
+    long w3 = in.getLong(position + 24);
+    out[outPos] = (int) w0;
+    out[outPos + 1] = (int) (w0 >>> 32);
+    out[outPos + 2] = (int) w1;
+    out[outPos + 3] = (int) (w1 >>> 32);
+    out[outPos + 4] = (int) w2;
+    out[outPos + 5] = (int) (w2 >>> 32);
+    out[outPos + 6] = (int) w3;
+    out[outPos + 7] = (int) (w3 >>> 32);
+  }
+}
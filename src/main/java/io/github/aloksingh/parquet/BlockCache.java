@@ -0,0 +1,244 @@
+package io.github.aloksingh.parquet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A byte-budgeted cache of fixed-size file blocks, shared by {@link CachingChunkReader}s.
+ *
+ * <p>Files are divided into aligned blocks of {@code blockSize} bytes. Each cached block is
+ * keyed by a file identity and its block index, so any number of readers, on any number of
+ * threads, opened on the same file share cached footers, dictionaries and data pages. When
+ * the total size of cached blocks exceeds the byte budget, the least recently used blocks
+ * are evicted.
+ *
+ * <p>Blocks can be kept on the heap or in direct (off-heap) memory. Off-heap storage keeps
+ * large caches out of the garbage collector's way.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * BlockCache cache = new BlockCache(256L << 20);  // shared, 256 MB
+ * try (CachingChunkReader chunkReader = new CachingChunkReader(path, cache);
+ *      ParquetFileReader reader = new ParquetFileReader(chunkReader)) {
+ *   ...
+ * }
+ * System.out.println(cache.stats());
+ * }</pre>
+ *
+ * @see CachingChunkReader
+ */
+public class BlockCache {
+
+  /**
+   * Default block size (1 MB).
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+
+  /**
+   * Identity of a file version: the same path with a different size or modification time is
+   * treated as a different file, so stale blocks are never served after a file is rewritten.
+   *
+   * @param path the absolute, normalized path of the file
+   * @param size the file size in bytes
+   * @param lastModifiedMillis the last modification time in milliseconds
+   * @param fileKey the file system's unique file key, or {@code null} if not available
+   */
+  public record FileIdentity(Path path, long size, long lastModifiedMillis, Object fileKey) {
+
+    /**
+     * Returns the identity of the current version of the given file.
+     *
+     * @param path the file
+     * @return the file identity
+     * @throws IOException if the file attributes cannot be read
+     */
+    public static FileIdentity of(Path path) throws IOException {
+      BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      return new FileIdentity(path.toAbsolutePath().normalize(), attributes.size(),
+          attributes.lastModifiedTime().toMillis(), attributes.fileKey());
+    }
+  }
+
+  /**
+   * A point-in-time snapshot of the cache counters.
+   *
+   * @param hits the number of block lookups served from the cache
+   * @param misses the number of block lookups that had to read from the file
+   * @param evictions the number of blocks evicted to stay within the byte budget
+   * @param blockCount the number of blocks currently cached
+   * @param sizeBytes the total size of the cached blocks in bytes
+   */
+  public record Stats(long hits, long misses, long evictions, int blockCount, long sizeBytes) {
+
+    /**
+     * Returns the fraction of lookups served from the cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 if there were no lookups
+     */
+    public double hitRate() {
+      long total = hits + misses;
+      return total == 0 ? 0 : (double) hits / total;
+    }
+  }
+
+  private record BlockKey(Object file, long blockIndex) {
+  }
+
+  private final long capacityBytes;
+  private final int blockSize;
+  private final boolean offHeap;
+  // Access-ordered, so iteration starts at the least recently used block
+  private final LinkedHashMap<BlockKey, ByteBuffer> blocks = new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeBytes;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a heap cache with the default block size.
+   *
+   * @param capacityBytes the byte budget for cached blocks
+   */
+  public BlockCache(long capacityBytes) {
+    this(capacityBytes, DEFAULT_BLOCK_SIZE, false);
+  }
+
+  /**
+   * Creates a cache.
+   *
+   * @param capacityBytes the byte budget for cached blocks
+   * @param blockSize the size of each block in bytes
+   * @param offHeap whether to store blocks in direct memory
+   * @throws IllegalArgumentException if the capacity is negative or the block size is not
+   *                                  positive
+   */
+  public BlockCache(long capacityBytes, int blockSize, boolean offHeap) {
+    if (capacityBytes < 0 || blockSize <= 0) {
+      throw new IllegalArgumentException(String.format(
+          "Invalid cache settings: capacityBytes=%d, blockSize=%d", capacityBytes, blockSize));
+    }
+    this.capacityBytes = capacityBytes;
+    this.blockSize = blockSize;
+    this.offHeap = offHeap;
+  }
+
+  /**
+   * Returns the size of each block in bytes.
+   *
+   * @return the block size
+   */
+  public int blockSize() {
+    return blockSize;
+  }
+
+  /**
+   * Returns the byte budget for cached blocks.
+   *
+   * @return the capacity in bytes
+   */
+  public long capacityBytes() {
+    return capacityBytes;
+  }
+
+  /**
+   * Returns a block of a file, reading it through the given reader on a miss.
+   *
+   * <p>The block is read outside the cache lock, so a slow read does not block lookups of
+   * other blocks. If two threads miss on the same block at the same time both read it and
+   * the first one to finish is kept.
+   *
+   * @param file the identity of the file, for example a {@link FileIdentity}
+   * @param blockIndex the index of the block within the file
+   * @param reader the reader to load the block from on a miss
+   * @return a read-only buffer positioned at 0 holding the block; the last block of a file
+   *         may be shorter than the block size
+   * @throws IOException if the block has to be read and the read fails
+   */
+  public ByteBuffer getBlock(Object file, long blockIndex, ChunkReader reader) throws IOException {
+    BlockKey key = new BlockKey(file, blockIndex);
+    synchronized (this) {
+      ByteBuffer block = blocks.get(key);
+      if (block != null) {
+        hits.increment();
+        return block.duplicate();
+      }
+    }
+
+    misses.increment();
+    ByteBuffer block = copyBlock(reader.readBytes(blockIndex * blockSize, blockSize));
+    if (block.capacity() > capacityBytes) {
+      return block;
+    }
+
+    synchronized (this) {
+      ByteBuffer existing = blocks.putIfAbsent(key, block);
+      if (existing != null) {
+        return existing.duplicate();
+      }
+      sizeBytes += block.capacity();
+      evictIfNeeded();
+    }
+    return block.duplicate();
+  }
+
+  /**
+   * Copies a block into storage owned by the cache, since the reader's buffer may be a view
+   * of memory it reuses.
+   */
+  private ByteBuffer copyBlock(ByteBuffer source) {
+    ByteBuffer copy = offHeap
+        ? ByteBuffer.allocateDirect(source.remaining())
+        : ByteBuffer.allocate(source.remaining());
+    copy.put(source.duplicate());
+    return copy.flip().asReadOnlyBuffer();
+  }
+
+  private void evictIfNeeded() {
+    Iterator<Map.Entry<BlockKey, ByteBuffer>> iterator = blocks.entrySet().iterator();
+    while (sizeBytes > capacityBytes && iterator.hasNext()) {
+      sizeBytes -= iterator.next().getValue().capacity();
+      iterator.remove();
+      evictions.increment();
+    }
+  }
+
+  /**
+   * Removes all cached blocks of a file.
+   *
+   * @param file the identity of the file
+   */
+  public synchronized void invalidate(Object file) {
+    Iterator<Map.Entry<BlockKey, ByteBuffer>> iterator = blocks.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<BlockKey, ByteBuffer> entry = iterator.next();
+      if (entry.getKey().file().equals(file)) {
+        sizeBytes -= entry.getValue().capacity();
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Removes all cached blocks. Counters are not reset.
+   */
+  public synchronized void clear() {
+    blocks.clear();
+    sizeBytes = 0;
+  }
+
+  /**
+   * Returns a snapshot of the cache counters.
+   *
+   * @return the current statistics
+   */
+  public synchronized Stats stats() {
+    return new Stats(hits.sum(), misses.sum(), evictions.sum(), blocks.size(), sizeBytes);
+  }
+}
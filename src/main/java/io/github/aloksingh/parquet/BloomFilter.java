@@ -0,0 +1,186 @@
+package io.github.aloksingh.parquet;
+
+import io.github.aloksingh.parquet.model.ParquetException;
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import io.github.aloksingh.parquet.model.Type;
+import io.github.aloksingh.parquet.util.filter.ColumnValueMembership;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import org.apache.parquet.format.BloomFilterHeader;
+import shaded.parquet.org.apache.thrift.TException;
+import shaded.parquet.org.apache.thrift.protocol.TCompactProtocol;
+import shaded.parquet.org.apache.thrift.transport.TIOStreamTransport;
+
+/**
+ * The split-block bloom filter of a column chunk.
+ *
+ * <p>A split-block bloom filter is an array of 256-bit blocks, each holding eight 32-bit
+ * words. A value is hashed with {@link XxHash64}; the upper 32 bits of the hash select a
+ * block, and the lower 32 bits, multiplied by eight salt constants, select one bit in each
+ * word of that block. A value may be present only if all eight bits are set, so a clear bit
+ * proves that no row of the column chunk holds the value.
+ *
+ * <p>Writers store the filter, a Thrift {@code BloomFilterHeader} followed by the bitset,
+ * at the {@code bloom_filter_offset} of the column chunk.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * BloomFilter bloomFilter = reader.getBloomFilter(rowGroup, column);
+ * if (bloomFilter != null && !bloomFilter.mightContain("some-id")) {
+ *   // no row of the column chunk has "some-id"
+ * }
+ * }</pre>
+ *
+ * @see <a href="https://github.com/apache/parquet-format/blob/master/BloomFilter.md">Parquet
+ *      bloom filter specification</a>
+ */
+public class BloomFilter implements ColumnValueMembership {
+
+  /**
+   * Number of bytes read ahead for the header, which takes about 15 bytes.
+   */
+  private static final int HEADER_READ_SIZE = 64;
+
+  private static final int BYTES_PER_BLOCK = 32;
+
+  private static final int[] SALT = {
+      0x47b6137b, 0x44974d91, 0x8824ad5b, 0xa2b7289d,
+      0x705495c7, 0x2df1424b, 0x9efc4947, 0x5c6bfb31
+  };
+
+  private final Type type;
+  private final int[] words;
+  private final int numBlocks;
+
+  /**
+   * Creates a bloom filter over a bitset.
+   *
+   * @param type the physical type of the column
+   * @param bitset the bitset, a whole number of 32-byte blocks of little-endian words
+   * @throws ParquetException if the bitset is not a whole number of blocks
+   */
+  public BloomFilter(Type type, ByteBuffer bitset) {
+    int numBytes = bitset.remaining();
+    if (numBytes == 0 || numBytes % BYTES_PER_BLOCK != 0) {
+      throw new ParquetException("Invalid bloom filter size: " + numBytes);
+    }
+    this.type = type;
+    this.numBlocks = numBytes / BYTES_PER_BLOCK;
+    this.words = new int[numBytes / 4];
+    bitset.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(words);
+  }
+
+  /**
+   * Reads the bloom filter of a column chunk.
+   *
+   * @param chunkReader the reader for the file
+   * @param columnMeta the metadata of the column chunk
+   * @return the bloom filter, or null if the column chunk has none or it uses an algorithm,
+   *         hash or compression other than split-block, xxHash and uncompressed
+   * @throws IOException if an I/O error occurs while reading the filter
+   * @throws ParquetException if the filter cannot be decoded
+   */
+  public static BloomFilter read(ChunkReader chunkReader,
+                                 ParquetMetadata.ColumnChunkMetadata columnMeta)
+      throws IOException {
+    if (!columnMeta.hasBloomFilter()) {
+      return null;
+    }
+    long offset = columnMeta.bloomFilterOffset();
+    int readSize = (int) Math.min(HEADER_READ_SIZE, chunkReader.length() - offset);
+    if (readSize <= 0) {
+      throw new ParquetException("Bloom filter offset beyond end of file: " + offset);
+    }
+    ByteBuffer buffer = chunkReader.readBytes(offset, readSize);
+
+    BloomFilterHeader header = new BloomFilterHeader();
+    ByteBufferInputStream in = new ByteBufferInputStream(buffer);
+    try {
+      header.read(new TCompactProtocol(new TIOStreamTransport(in)));
+    } catch (TException e) {
+      throw new ParquetException("Failed to parse bloom filter header", e);
+    }
+    if (!header.getAlgorithm().isSetBLOCK() || !header.getHash().isSetXXHASH()
+        || !header.getCompression().isSetUNCOMPRESSED()) {
+      return null;
+    }
+
+    int numBytes = header.getNumBytes();
+    int headerLength = in.position();
+    ByteBuffer bitset;
+    if (buffer.remaining() - headerLength >= numBytes) {
+      bitset = buffer.slice(buffer.position() + headerLength, numBytes);
+    } else {
+      bitset = chunkReader.readBytes(offset + headerLength, numBytes);
+    }
+    return new BloomFilter(columnMeta.type(), bitset);
+  }
+
+  /**
+   * Returns the size of the bitset.
+   *
+   * @return the number of bytes in the bitset
+   */
+  public int getNumBytes() {
+    return words.length * 4;
+  }
+
+  /**
+   * Checks whether a value with the given hash may be present.
+   *
+   * @param hash the {@link XxHash64} hash of the plain-encoded value
+   * @return false if the value is definitely absent
+   */
+  public boolean mightContainHash(long hash) {
+    int block = (int) (((hash >>> 32) * numBlocks) >>> 32);
+    int key = (int) hash;
+    int first = block * 8;
+    for (int i = 0; i < 8; i++) {
+      int bit = (key * SALT[i]) >>> 27;
+      if ((words[first + i] & (1 << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether a value may be present.
+   *
+   * <p>The value is expected as decoded by the row iterators: Integer for INT32, Long for
+   * INT64, Float for FLOAT, Double for DOUBLE and String or byte[] for BYTE_ARRAY. Values of
+   * other types, NaN, and strings whose UTF-8 encoding may differ from the stored bytes are
+   * reported as possibly present.
+   *
+   * @param value the value
+   * @return false if the value is definitely absent
+   */
+  @Override
+  public boolean mightContain(Object value) {
+    switch (type) {
+      case INT32:
+        return !(value instanceof Integer i) || mightContainHash(XxHash64.hash(i.intValue()));
+      case INT64:
+        return !(value instanceof Long l) || mightContainHash(XxHash64.hash(l.longValue()));
+      case FLOAT:
+        return !(value instanceof Float f) || f.isNaN()
+            || mightContainHash(XxHash64.hash(Float.floatToRawIntBits(f)));
+      case DOUBLE:
+        return !(value instanceof Double d) || d.isNaN()
+            || mightContainHash(XxHash64.hash(Double.doubleToRawLongBits(d)));
+      case BYTE_ARRAY:
+        if (value instanceof String s) {
+          // Invalid UTF-8 is decoded to U+FFFD, which does not encode back to the stored bytes
+          return s.indexOf('\uFFFD') >= 0
+              || mightContainHash(XxHash64.hash(s.getBytes(StandardCharsets.UTF_8)));
+        }
+        return !(value instanceof byte[] b) || mightContainHash(XxHash64.hash(b));
+      case FIXED_LEN_BYTE_ARRAY:
+        return !(value instanceof byte[] b) || mightContainHash(XxHash64.hash(b));
+      default:
+        return true;
+    }
+  }
+}
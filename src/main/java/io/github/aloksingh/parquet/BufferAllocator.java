@@ -0,0 +1,51 @@
+package io.github.aloksingh.parquet;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Source of the buffers used on the read path.
+ *
+ * <p>Chunk readers, page readers and decompressors obtain page and decompression buffers
+ * from an allocator instead of allocating them directly. A pooling allocator such as
+ * {@link PooledBufferAllocator} recycles the buffers once a page has been decoded, which
+ * removes most of the per-page allocation churn under load.
+ *
+ * <p>Buffers must be released at most once, only to the allocator they came from, and must
+ * not be used after they have been released. Releasing is optional: a buffer that is never
+ * released is reclaimed by the garbage collector like any other.
+ *
+ * <p>Implementations must be thread-safe.
+ *
+ * @see ParquetFileReader#ParquetFileReader(java.nio.file.Path, BufferAllocator)
+ */
+public interface BufferAllocator {
+
+  /**
+   * Returns a buffer with at least {@code size} bytes of capacity, positioned at 0 with its
+   * limit set to {@code size}.
+   *
+   * <p>The contents of the buffer are undefined, and its byte order is big-endian.
+   *
+   * @param size the number of bytes needed
+   * @return a buffer with {@code size} bytes remaining
+   */
+  ByteBuffer allocate(int size);
+
+  /**
+   * Returns a buffer obtained from {@link #allocate(int)} for reuse.
+   *
+   * @param buffer the buffer to release; the caller must not use it, or any view of it,
+   *               afterwards
+   */
+  void release(ByteBuffer buffer);
+
+  /**
+   * Returns an allocator that allocates a new heap buffer for every request and ignores
+   * releases. This is the default allocator.
+   *
+   * @return the heap allocator
+   */
+  static BufferAllocator heap() {
+    return HeapBufferAllocator.INSTANCE;
+  }
+}
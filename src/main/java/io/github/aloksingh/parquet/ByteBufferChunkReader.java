@@ -0,0 +1,69 @@
+package io.github.aloksingh.parquet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * ChunkReader that serves reads from a buffer holding a window of a file.
+ *
+ * <p>The buffer holds the file bytes starting at {@code baseOffset}, so callers keep using
+ * absolute file positions. This lets a {@link PageReader} decode a column chunk that was
+ * fetched up front, for example by {@link ChunkReader#readRanges(java.util.List)}, without
+ * issuing further reads. Reads return slices of the buffer and never copy.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * ByteBuffer chunk = fileReader.readBytes(offset, size);
+ * PageReader pages = new PageReader(new ByteBufferChunkReader(chunk, offset), meta, column);
+ * }</pre>
+ *
+ * @see ChunkReader
+ */
+public class ByteBufferChunkReader implements ChunkReader {
+  private final ByteBuffer buffer;
+  private final long baseOffset;
+
+  /**
+   * Creates a reader over a buffer holding the file bytes starting at {@code baseOffset}.
+   *
+   * @param buffer the buffer; bytes from its position to its limit are served
+   * @param baseOffset the file offset of the buffer's first byte
+   */
+  public ByteBufferChunkReader(ByteBuffer buffer, long baseOffset) {
+    this.buffer = buffer.slice();
+    this.baseOffset = baseOffset;
+  }
+
+  /**
+   * Returns the file offset one past the last byte held in the buffer.
+   *
+   * @return the end offset of the window
+   */
+  @Override
+  public long length() {
+    return baseOffset + buffer.limit();
+  }
+
+  /**
+   * Returns a slice of the buffer for the given file position.
+   *
+   * <p>If the requested length exceeds the bytes held from the position onwards, only the
+   * available bytes are returned. Reading at the end of the window returns an empty buffer,
+   * since the window usually ends at a column chunk boundary rather than at end of file.
+   *
+   * @param position the file position to start reading from
+   * @param length the number of bytes to read
+   * @return a ByteBuffer positioned at 0 sharing memory with the underlying buffer
+   * @throws IOException if the position is outside the window held by this reader
+   */
+  @Override
+  public ByteBuffer readBytes(long position, int length) throws IOException {
+    if (position < baseOffset || position > length()) {
+      throw new IOException(String.format(
+          "Position %d is outside buffered range [%d, %d]", position, baseOffset, length()));
+    }
+    int offset = (int) (position - baseOffset);
+    int available = Math.min(length, buffer.limit() - offset);
+    return buffer.slice(offset, available);
+  }
+}
@@ -0,0 +1,75 @@
+package io.github.aloksingh.parquet;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link InputStream} that reads directly from a {@link ByteBuffer}.
+ *
+ * <p>This allows stream based parsers (Thrift page headers, GZIP) to consume page bytes
+ * in place, whether the buffer is heap backed, direct, or a slice of a memory-mapped file,
+ * without first copying them into a {@code byte[]}.
+ *
+ * <p>The stream reads from a duplicate of the supplied buffer, so the position of the
+ * caller's buffer is not modified. Use {@link #position()} to find out how many bytes
+ * were consumed.
+ */
+public class ByteBufferInputStream extends InputStream {
+  private final ByteBuffer buffer;
+  private final int start;
+
+  /**
+   * Creates a stream over the remaining bytes of the given buffer.
+   *
+   * @param buffer the buffer to read from; its position and limit are not modified
+   */
+  public ByteBufferInputStream(ByteBuffer buffer) {
+    this.buffer = buffer.duplicate();
+    this.start = this.buffer.position();
+  }
+
+  /**
+   * Returns the number of bytes consumed from the buffer so far.
+   *
+   * @return the number of bytes read (or skipped) since the stream was created
+   */
+  public int position() {
+    return buffer.position() - start;
+  }
+
+  @Override
+  public int read() {
+    if (!buffer.hasRemaining()) {
+      return -1;
+    }
+    return buffer.get() & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) {
+    if (len == 0) {
+      return 0;
+    }
+    if (!buffer.hasRemaining()) {
+      return -1;
+    }
+    int n = Math.min(len, buffer.remaining());
+    buffer.get(b, off, n);
+    return n;
+  }
+
+  @Override
+  public long skip(long n) {
+    if (n <= 0) {
+      return 0;
+    }
+    int skipped = (int) Math.min(n, buffer.remaining());
+    buffer.position(buffer.position() + skipped);
+    return skipped;
+  }
+
+  @Override
+  public int available() {
+    return buffer.remaining();
+  }
+}
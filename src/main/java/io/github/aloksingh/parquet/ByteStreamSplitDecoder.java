@@ -1,7 +1,6 @@
 package io.github.aloksingh.parquet;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 
 /**
  * Decoder for BYTE_STREAM_SPLIT encoding.
@@ -45,30 +44,39 @@ public class ByteStreamSplitDecoder {
    * @throws IllegalArgumentException if bytesPerValue is not 4
    */
   public float[] decodeFloat() {
+    float[] result = new float[numValues];
+    decodeFloat(result, 0);
+    return result;
+  }
+
+  /**
+   * Decodes BYTE_STREAM_SPLIT encoded data into float values stored in an array.
+   * <p>
+   * The buffer position is advanced by {@code 4 * numValues} bytes after decoding.
+   *
+   * @param dest   the array to decode into
+   * @param offset the index in {@code dest} of the first decoded value
+   * @throws IllegalArgumentException if bytesPerValue is not 4
+   */
+  public void decodeFloat(float[] dest, int offset) {
     if (bytesPerValue != 4) {
       throw new IllegalArgumentException(
           "Expected 4 bytes per value for FLOAT, got: " + bytesPerValue);
     }
 
-    float[] result = new float[numValues];
     int startPos = buffer.position();
 
     for (int valueIdx = 0; valueIdx < numValues; valueIdx++) {
-      // Collect bytes for this value from each stream
-      byte[] valueBytes = new byte[4];
+      // Collect the bytes of this value from each stream, least significant first
+      int bits = 0;
       for (int byteIdx = 0; byteIdx < 4; byteIdx++) {
-        valueBytes[byteIdx] = buffer.get(startPos + byteIdx * numValues + valueIdx);
+        bits |= (buffer.get(startPos + byteIdx * numValues + valueIdx) & 0xFF) << (byteIdx * 8);
       }
-      // Convert bytes to float (little-endian)
-      ByteBuffer bb = ByteBuffer.wrap(valueBytes);
-      bb.order(ByteOrder.LITTLE_ENDIAN);
-      result[valueIdx] = bb.getFloat();
+      dest[offset + valueIdx] = Float.intBitsToFloat(bits);
     }
 
     // Advance buffer position past all consumed data
     buffer.position(startPos + 4 * numValues);
-
-    return result;
   }
 
   /**
@@ -82,29 +90,38 @@ public class ByteStreamSplitDecoder {
    * @throws IllegalArgumentException if bytesPerValue is not 8
    */
   public double[] decodeDouble() {
+    double[] result = new double[numValues];
+    decodeDouble(result, 0);
+    return result;
+  }
+
+  /**
+   * Decodes BYTE_STREAM_SPLIT encoded data into double values stored in an array.
+   * <p>
+   * The buffer position is advanced by {@code 8 * numValues} bytes after decoding.
+   *
+   * @param dest   the array to decode into
+   * @param offset the index in {@code dest} of the first decoded value
+   * @throws IllegalArgumentException if bytesPerValue is not 8
+   */
+  public void decodeDouble(double[] dest, int offset) {
     if (bytesPerValue != 8) {
       throw new IllegalArgumentException(
           "Expected 8 bytes per value for DOUBLE, got: " + bytesPerValue);
     }
 
-    double[] result = new double[numValues];
     int startPos = buffer.position();
 
     for (int valueIdx = 0; valueIdx < numValues; valueIdx++) {
-      // Collect bytes for this value from each stream
-      byte[] valueBytes = new byte[8];
+      // Collect the bytes of this value from each stream, least significant first
+      long bits = 0;
       for (int byteIdx = 0; byteIdx < 8; byteIdx++) {
-        valueBytes[byteIdx] = buffer.get(startPos + byteIdx * numValues + valueIdx);
+        bits |= (buffer.get(startPos + byteIdx * numValues + valueIdx) & 0xFFL) << (byteIdx * 8);
       }
-      // Convert bytes to double (little-endian)
-      ByteBuffer bb = ByteBuffer.wrap(valueBytes);
-      bb.order(ByteOrder.LITTLE_ENDIAN);
-      result[valueIdx] = bb.getDouble();
+      dest[offset + valueIdx] = Double.longBitsToDouble(bits);
     }
 
     // Advance buffer position past all consumed data
     buffer.position(startPos + 8 * numValues);
-
-    return result;
   }
 }
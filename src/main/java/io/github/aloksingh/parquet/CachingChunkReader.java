@@ -0,0 +1,165 @@
+package io.github.aloksingh.parquet;
+
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * ChunkReader decorator that serves reads from a shared {@link BlockCache}.
+ *
+ * <p>Each read is mapped onto the aligned cache blocks it covers. Missing blocks are read
+ * whole from the underlying reader and cached, so repeated scans of a hot file, and reopening
+ * it with a new {@link ParquetFileReader}, do not go back to disk for the footer, dictionaries
+ * or data pages. A read that falls within one block is returned as a read-only view of the
+ * cached block; a read spanning blocks is assembled into a new heap buffer.
+ *
+ * <p>This class is thread-safe if the underlying reader is.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * try (CachingChunkReader chunkReader = new CachingChunkReader(path, sharedCache);
+ *      ParquetFileReader reader = new ParquetFileReader(chunkReader)) {
+ *   RowColumnGroupIterator rows = reader.rowIterator();
+ * }
+ * }</pre>
+ *
+ * @see BlockCache
+ */
+public class CachingChunkReader implements ChunkReader, AutoCloseable {
+  private final ChunkReader delegate;
+  private final BlockCache cache;
+  private final Object fileIdentity;
+  private final long length;
+  private final boolean ownsDelegate;
+
+  /**
+   * Opens a file and caches its blocks in the given cache.
+   *
+   * <p>The file is identified by {@link BlockCache.FileIdentity#of(Path)}, so cached blocks
+   * of an earlier version of a rewritten file are not reused.
+   *
+   * @param path the path to the file to read
+   * @param cache the cache to share
+   * @throws IOException if the file cannot be opened
+   */
+  public CachingChunkReader(Path path, BlockCache cache) throws IOException {
+    // Identify the file before opening it, so that a failure there leaves nothing open
+    this(path, cache, BlockCache.FileIdentity.of(path));
+  }
+
+  private CachingChunkReader(Path path, BlockCache cache, BlockCache.FileIdentity fileIdentity)
+      throws IOException {
+    this(new FileChannelChunkReader(path), cache, fileIdentity, true);
+  }
+
+  /**
+   * Wraps an existing reader. The wrapped reader is not closed by {@link #close()}.
+   *
+   * @param delegate the reader to load blocks from
+   * @param cache the cache to share
+   * @param fileIdentity a key identifying the data behind {@code delegate}; readers with equal
+   *                     keys share cached blocks
+   * @throws IOException if the length of the underlying reader cannot be determined
+   */
+  public CachingChunkReader(ChunkReader delegate, BlockCache cache, Object fileIdentity)
+      throws IOException {
+    this(delegate, cache, fileIdentity, false);
+  }
+
+  private CachingChunkReader(ChunkReader delegate, BlockCache cache, Object fileIdentity,
+                             boolean ownsDelegate) throws IOException {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.fileIdentity = fileIdentity;
+    this.ownsDelegate = ownsDelegate;
+    try {
+      this.length = delegate.length();
+    } catch (IOException | RuntimeException e) {
+      if (ownsDelegate && delegate instanceof AutoCloseable closeable) {
+        try {
+          closeable.close();
+        } catch (Exception suppressed) {
+          e.addSuppressed(suppressed);
+        }
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the total length of the underlying data in bytes.
+   *
+   * @return the length in bytes
+   */
+  @Override
+  public long length() {
+    return length;
+  }
+
+  @Override
+  public void onMetadata(ParquetMetadata metadata) {
+    delegate.onMetadata(metadata);
+  }
+
+  /**
+   * Reads bytes through the block cache.
+   *
+   * <p>If the requested length exceeds the available bytes from the position to the end of
+   * file, it will read only the available bytes.
+   *
+   * @param position the byte position to start reading from (0-based)
+   * @param length the number of bytes to read
+   * @return a ByteBuffer positioned at 0 containing the read bytes
+   * @throws IOException if position is negative, beyond file length,
+   *                     or if an I/O error occurs while loading a block
+   */
+  @Override
+  public ByteBuffer readBytes(long position, int length) throws IOException {
+    if (position < 0) {
+      throw new IOException(String.format(
+          "Invalid position: %d", position));
+    }
+    if (position >= this.length) {
+      throw new IOException(String.format(
+          "Position %d is beyond file length %d", position, this.length));
+    }
+
+    int available = (int) Math.min(length, this.length - position);
+    int blockSize = cache.blockSize();
+    long blockIndex = position / blockSize;
+    int offset = (int) (position - blockIndex * blockSize);
+
+    ByteBuffer first = cache.getBlock(fileIdentity, blockIndex, delegate);
+    if (offset + available <= first.limit()) {
+      return first.slice(offset, available);
+    }
+
+    ByteBuffer result = ByteBuffer.allocate(available);
+    result.put(first.slice(offset, first.limit() - offset));
+    while (result.hasRemaining()) {
+      ByteBuffer block = cache.getBlock(fileIdentity, ++blockIndex, delegate);
+      result.put(block.slice(0, Math.min(result.remaining(), block.limit())));
+    }
+    return result.flip();
+  }
+
+  /**
+   * Closes the underlying reader if it was opened by this reader. Cached blocks remain in
+   * the cache.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  @Override
+  public void close() throws IOException {
+    if (ownsDelegate && delegate instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (IOException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IOException("Failed to close chunk reader", e);
+      }
+    }
+  }
+}
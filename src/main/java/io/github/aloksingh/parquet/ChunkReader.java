@@ -1,7 +1,11 @@
 package io.github.aloksingh.parquet;
 
+import io.github.aloksingh.parquet.model.ParquetMetadata;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface for reading chunks of Parquet data.
@@ -16,6 +20,17 @@ import java.nio.ByteBuffer;
  * </p>
  */
 public interface ChunkReader {
+  /**
+   * Default largest gap between two ranges that {@link #readRanges(List)} reads through to
+   * merge them into one read (64 KB).
+   */
+  int DEFAULT_MAX_MERGE_GAP = 64 * 1024;
+
+  /**
+   * Default largest size of a single read issued by {@link #readRanges(List)} (8 MB).
+   */
+  int DEFAULT_MAX_MERGED_SIZE = 8 * 1024 * 1024;
+
   /**
    * Returns the total length of the data source in bytes.
    *
@@ -40,4 +55,101 @@ public interface ChunkReader {
    * @throws IllegalArgumentException if position is negative or length is invalid
    */
   ByteBuffer readBytes(long position, int length) throws IOException;
+
+  /**
+   * Reads several ranges of the data source, coalescing nearby ranges into fewer reads.
+   * <p>
+   * Uses {@link #DEFAULT_MAX_MERGE_GAP} and {@link #DEFAULT_MAX_MERGED_SIZE}.
+   * </p>
+   *
+   * @param ranges the ranges to read, in any order
+   * @return one buffer per range, in the order of {@code ranges}, each positioned at 0
+   * @throws IOException if an I/O error occurs during reading
+   * @see #readRanges(List, int, int)
+   */
+  default List<ByteBuffer> readRanges(List<FileRange> ranges) throws IOException {
+    return readRanges(ranges, DEFAULT_MAX_MERGE_GAP, DEFAULT_MAX_MERGED_SIZE);
+  }
+
+  /**
+   * Reads several ranges of the data source, coalescing nearby ranges into fewer reads.
+   * <p>
+   * Ranges separated by at most {@code maxMergeGap} bytes are served by a single read of at
+   * most {@code maxMergedSize} bytes, and ranges larger than {@code maxMergedSize} are split
+   * into several reads (see {@link CoalescedReads}). The default implementation issues the
+   * planned reads one after another through {@link #readBytes(long, int)}; implementations
+   * backed by remote storage may override it to issue them in parallel.
+   * </p>
+   * <p>
+   * Buffers for ranges served by the same read share its memory. Each buffer may be passed
+   * to {@link #release(ByteBuffer)} once it is no longer needed; readers that hand out shared
+   * memory must ignore such releases, or read each range into a buffer of its own.
+   * </p>
+   *
+   * @param ranges the ranges to read, in any order
+   * @param maxMergeGap the largest gap between two ranges that is read through to merge them
+   * @param maxMergedSize the largest size of a single read
+   * @return one buffer per range, in the order of {@code ranges}, each positioned at 0
+   * @throws IOException if an I/O error occurs during reading
+   */
+  default List<ByteBuffer> readRanges(List<FileRange> ranges, int maxMergeGap, int maxMergedSize)
+      throws IOException {
+    CoalescedReads plan = CoalescedReads.plan(ranges, maxMergeGap, maxMergedSize);
+    List<ByteBuffer> results = new ArrayList<>(plan.reads().size());
+    for (FileRange read : plan.reads()) {
+      results.add(readBytes(read.offset(), read.length()));
+    }
+    return plan.assemble(results);
+  }
+
+  /**
+   * Reads bytes from the specified position without blocking the caller.
+   * <p>
+   * The default implementation performs {@link #readBytes(long, int)} on the calling thread
+   * and returns an already completed future. Implementations with truly asynchronous I/O,
+   * such as {@link AsyncFileChunkReader}, return before the read completes so that several
+   * reads can be in flight while the caller decodes.
+   * </p>
+   *
+   * @param position the starting position to read from (0-based offset)
+   * @param length the number of bytes to read
+   * @return a future completed with a {@link ByteBuffer} positioned at 0 containing the read
+   *         data, or completed exceptionally with an {@link IOException}
+   */
+  default CompletableFuture<ByteBuffer> readBytesAsync(long position, int length) {
+    try {
+      return CompletableFuture.completedFuture(readBytes(position, length));
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Returns a buffer obtained from {@link #readBytes(long, int)} or
+   * {@link #readRanges(List, int, int)} once it is no longer needed.
+   * <p>
+   * Readers that take their buffers from a {@link BufferAllocator} hand the buffer back to
+   * it for reuse. The default implementation does nothing, leaving the buffer to the garbage
+   * collector. The buffer, and any view of it, must not be used afterwards.
+   * </p>
+   *
+   * @param buffer a buffer returned by {@link #readBytes(long, int)} or
+   *               {@link #readRanges(List, int, int)} of this reader
+   */
+  default void release(ByteBuffer buffer) {
+  }
+
+  /**
+   * Tells the reader the metadata of the file it reads, once {@link ParquetFileReader} has
+   * loaded or been given it.
+   * <p>
+   * The default implementation does nothing. {@link InstrumentedChunkReader} uses it to
+   * attribute reads to column chunks; readers that wrap another reader forward it to the
+   * wrapped reader.
+   * </p>
+   *
+   * @param metadata the file metadata
+   */
+  default void onMetadata(ParquetMetadata metadata) {
+  }
 }
@@ -0,0 +1,171 @@
+package io.github.aloksingh.parquet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Plans the physical reads needed to serve a list of requested {@link FileRange}s.
+ *
+ * <p>Requested ranges are sorted by offset and neighbouring ranges whose gap is at most
+ * {@code maxMergeGap} bytes are merged into a single read, as long as the merged read does not
+ * exceed {@code maxMergedSize} bytes. The bytes in a gap are read and discarded, which is much
+ * cheaper than an extra seek or request. A single range larger than {@code maxMergedSize} is
+ * split into several reads of at most that size.
+ *
+ * <p>Once the reads have been performed, {@link #assemble(List)} maps their results back onto
+ * the requested ranges. Ranges served by a merged read are slices of that read's buffer; ranges
+ * that were split are copied into one buffer.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * CoalescedReads plan = CoalescedReads.plan(ranges, 64 * 1024, 8 * 1024 * 1024);
+ * List<ByteBuffer> results = new ArrayList<>();
+ * for (FileRange read : plan.reads()) {
+ *   results.add(chunkReader.readBytes(read.offset(), read.length()));
+ * }
+ * List<ByteBuffer> buffers = plan.assemble(results);
+ * }</pre>
+ *
+ * @see ChunkReader#readRanges(List, int, int)
+ */
+public final class CoalescedReads {
+  private final List<FileRange> ranges;
+  private final List<FileRange> reads;
+  // For each requested range: index of its first read and the number of reads covering it.
+  // A count greater than one means the range was split.
+  private final int[] firstRead;
+  private final int[] readCount;
+
+  private CoalescedReads(List<FileRange> ranges, List<FileRange> reads,
+                         int[] firstRead, int[] readCount) {
+    this.ranges = ranges;
+    this.reads = reads;
+    this.firstRead = firstRead;
+    this.readCount = readCount;
+  }
+
+  /**
+   * Plans the reads for the given ranges.
+   *
+   * @param ranges the requested ranges, in any order; ranges may overlap
+   * @param maxMergeGap the largest gap between two ranges that is read through to merge them
+   * @param maxMergedSize the largest size of a single read
+   * @return the read plan
+   * @throws IllegalArgumentException if {@code maxMergeGap} is negative or
+   *                                  {@code maxMergedSize} is not positive
+   */
+  public static CoalescedReads plan(List<FileRange> ranges, int maxMergeGap, int maxMergedSize) {
+    if (maxMergeGap < 0 || maxMergedSize <= 0) {
+      throw new IllegalArgumentException(String.format(
+          "Invalid merge settings: maxMergeGap=%d, maxMergedSize=%d",
+          maxMergeGap, maxMergedSize));
+    }
+
+    Integer[] order = new Integer[ranges.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, Comparator.comparingLong(i -> ranges.get(i).offset()));
+
+    List<FileRange> reads = new ArrayList<>();
+    int[] firstRead = new int[order.length];
+    int[] readCount = new int[order.length];
+    long groupStart = -1;
+    long groupEnd = -1;
+
+    for (int index : order) {
+      FileRange range = ranges.get(index);
+      if (range.length() == 0) {
+        // Served by an empty buffer, no read required
+        continue;
+      }
+
+      if (range.length() > maxMergedSize) {
+        if (groupStart >= 0) {
+          reads.add(new FileRange(groupStart, (int) (groupEnd - groupStart)));
+          groupStart = -1;
+        }
+        firstRead[index] = reads.size();
+        for (long offset = range.offset(); offset < range.end(); offset += maxMergedSize) {
+          reads.add(new FileRange(offset, (int) Math.min(maxMergedSize, range.end() - offset)));
+        }
+        readCount[index] = reads.size() - firstRead[index];
+        continue;
+      }
+
+      long mergedEnd = Math.max(groupEnd, range.end());
+      if (groupStart >= 0
+          && range.offset() <= groupEnd + maxMergeGap
+          && mergedEnd - groupStart <= maxMergedSize) {
+        groupEnd = mergedEnd;
+      } else {
+        if (groupStart >= 0) {
+          reads.add(new FileRange(groupStart, (int) (groupEnd - groupStart)));
+        }
+        groupStart = range.offset();
+        groupEnd = range.end();
+      }
+      firstRead[index] = reads.size();
+      readCount[index] = 1;
+    }
+    if (groupStart >= 0) {
+      reads.add(new FileRange(groupStart, (int) (groupEnd - groupStart)));
+    }
+
+    return new CoalescedReads(List.copyOf(ranges), Collections.unmodifiableList(reads),
+        firstRead, readCount);
+  }
+
+  /**
+   * Returns the physical reads to perform, sorted by offset.
+   *
+   * @return the reads in this plan
+   */
+  public List<FileRange> reads() {
+    return reads;
+  }
+
+  /**
+   * Maps the results of the planned reads back onto the requested ranges.
+   *
+   * <p>As with {@link ChunkReader#readBytes(long, int)}, a read that was clamped at the end of
+   * the data source yields correspondingly shorter buffers for the ranges it covers.
+   *
+   * @param results one buffer per entry of {@link #reads()}, in the same order, each
+   *                positioned at 0
+   * @return one buffer per requested range, in request order, each positioned at 0
+   * @throws IOException if the number of results does not match the number of reads
+   */
+  public List<ByteBuffer> assemble(List<ByteBuffer> results) throws IOException {
+    if (results.size() != reads.size()) {
+      throw new IOException(String.format(
+          "Expected %d read results but got %d", reads.size(), results.size()));
+    }
+
+    List<ByteBuffer> buffers = new ArrayList<>(ranges.size());
+    for (int i = 0; i < ranges.size(); i++) {
+      FileRange range = ranges.get(i);
+      if (readCount[i] == 0) {
+        buffers.add(ByteBuffer.allocate(0));
+      } else if (readCount[i] == 1) {
+        FileRange read = reads.get(firstRead[i]);
+        ByteBuffer result = results.get(firstRead[i]);
+        int start = (int) (range.offset() - read.offset());
+        int length = Math.max(0, Math.min(range.length(), result.limit() - start));
+        buffers.add(result.slice(Math.min(start, result.limit()), length));
+      } else {
+        ByteBuffer combined = ByteBuffer.allocate(range.length());
+        for (int r = firstRead[i]; r < firstRead[i] + readCount[i]; r++) {
+          combined.put(results.get(r).duplicate().rewind());
+        }
+        buffers.add(combined.flip());
+      }
+    }
+    return buffers;
+  }
+}
@@ -0,0 +1,132 @@
+package io.github.aloksingh.parquet;
+
+import io.github.aloksingh.parquet.model.ColumnDescriptor;
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import io.github.aloksingh.parquet.model.SortOrder;
+import io.github.aloksingh.parquet.util.filter.ColumnValueStatistics;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes Parquet min/max statistics into {@link ColumnValueStatistics}, with bounds of the
+ * same Java types as the values produced by the row iterators.
+ * <p>
+ * Bounds are only decoded where comparing them with decoded values is sound:
+ * <ul>
+ *   <li>INT32 and INT64 bounds become Integer and Long if the column sorts signed; unsigned
+ *       integers are decoded to negative values for large numbers, so their bounds are
+ *       unknown.</li>
+ *   <li>FLOAT and DOUBLE bounds become Float and Double. A NaN bound is unknown. NaN values
+ *       are not reflected in min/max but compare above all others, so the upper bound is NaN;
+ *       a zero lower bound becomes -0.0, which compares below +0.0.</li>
+ *   <li>BYTE_ARRAY bounds become Strings if the column sorts unsigned and both bounds are
+ *       ASCII. Byte order and String order agree for any value between ASCII bounds, even a
+ *       value that is not valid UTF-8. Writers may truncate binary bounds, to a shorter min
+ *       and a shorter, incremented max; truncated bounds are still bounds.</li>
+ *   <li>Deprecated {@code min}/{@code max} statistics were computed with signed comparison, and
+ *       are only used for columns that sort signed.</li>
+ *   <li>BOOLEAN bounds become Booleans. INT96, FIXED_LEN_BYTE_ARRAY and DECIMAL byte arrays
+ *       have unknown bounds.</li>
+ * </ul>
+ */
+public class ColumnStatisticsDecoder {
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private ColumnStatisticsDecoder() {
+    // Utility class
+  }
+
+  /**
+   * Decodes the statistics of a column chunk.
+   *
+   * @param column the descriptor of the column
+   * @param columnMeta the metadata of the column chunk
+   * @return the statistics, or {@link ColumnValueStatistics#UNKNOWN} if the chunk has none
+   */
+  public static ColumnValueStatistics decode(ColumnDescriptor column,
+                                             ParquetMetadata.ColumnChunkMetadata columnMeta) {
+    ParquetMetadata.ColumnStatistics stats = columnMeta.statistics();
+    if (stats == null) {
+      return ColumnValueStatistics.UNKNOWN;
+    }
+    boolean mayContainNulls = column.maxDefinitionLevel() > 0
+        && (!stats.hasNullCount() || stats.nullCount() > 0);
+    boolean allNull = stats.hasNullCount() && columnMeta.numValues() > 0
+        && stats.nullCount() == columnMeta.numValues();
+    if (allNull) {
+      return new ColumnValueStatistics(null, null, true, true);
+    }
+    if (!stats.hasMin() || !stats.hasMax()
+        || (stats.legacyMinMax() && column.sortOrder() != SortOrder.SIGNED)) {
+      return new ColumnValueStatistics(null, null, mayContainNulls, false);
+    }
+    Object min = decodeBound(column, ByteBuffer.wrap(stats.min()), true);
+    Object max = decodeBound(column, ByteBuffer.wrap(stats.max()), false);
+    if (min == null || max == null) {
+      return new ColumnValueStatistics(null, null, mayContainNulls, false);
+    }
+    return new ColumnValueStatistics(min, max, mayContainNulls, false);
+  }
+
+  /**
+   * Decodes a plain-encoded min or max value.
+   *
+   * @param column the descriptor of the column
+   * @param value the plain-encoded value; its position is not modified
+   * @param lower true for a lower bound (min), false for an upper bound (max)
+   * @return the bound, or null if it is unknown
+   */
+  public static Object decodeBound(ColumnDescriptor column, ByteBuffer value, boolean lower) {
+    ByteBuffer bytes = value.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    int length = bytes.remaining();
+    switch (column.physicalType()) {
+      case BOOLEAN:
+        return length == 1 ? bytes.get(bytes.position()) != 0 : null;
+      case INT32:
+        return column.sortOrder() == SortOrder.SIGNED && length == 4
+            ? bytes.getInt(bytes.position()) : null;
+      case INT64:
+        return column.sortOrder() == SortOrder.SIGNED && length == 8
+            ? bytes.getLong(bytes.position()) : null;
+      case FLOAT:
+        if (length != 4) {
+          return null;
+        }
+        float f = bytes.getFloat(bytes.position());
+        if (Float.isNaN(f)) {
+          return null;
+        }
+        if (!lower) {
+          return Float.NaN;
+        }
+        return f == 0.0f ? -0.0f : f;
+      case DOUBLE:
+        if (length != 8) {
+          return null;
+        }
+        double d = bytes.getDouble(bytes.position());
+        if (Double.isNaN(d)) {
+          return null;
+        }
+        if (!lower) {
+          return Double.NaN;
+        }
+        return d == 0.0 ? -0.0 : d;
+      case BYTE_ARRAY:
+        if (column.sortOrder() != SortOrder.UNSIGNED) {
+          return null;
+        }
+        for (int i = bytes.position(); i < bytes.limit(); i++) {
+          if (bytes.get(i) < 0) {
+            return null;
+          }
+        }
+        return StandardCharsets.US_ASCII.decode(bytes).toString();
+      default:
+        return null;
+    }
+  }
+}
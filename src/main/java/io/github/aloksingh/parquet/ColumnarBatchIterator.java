@@ -0,0 +1,237 @@
+package io.github.aloksingh.parquet;
+
+import io.github.aloksingh.parquet.model.ColumnDescriptor;
+import io.github.aloksingh.parquet.model.ColumnValues;
+import io.github.aloksingh.parquet.model.ParquetException;
+import io.github.aloksingh.parquet.model.SchemaDescriptor;
+import io.github.aloksingh.parquet.vector.BinaryVector;
+import io.github.aloksingh.parquet.vector.BooleanVector;
+import io.github.aloksingh.parquet.vector.ColumnVector;
+import io.github.aloksingh.parquet.vector.ColumnarBatch;
+import io.github.aloksingh.parquet.vector.DoubleVector;
+import io.github.aloksingh.parquet.vector.FloatVector;
+import io.github.aloksingh.parquet.vector.IntVector;
+import io.github.aloksingh.parquet.vector.LongVector;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over a Parquet file that returns fixed-size batches of rows, held column by column
+ * in primitive {@link ColumnVector}s.
+ *
+ * <p>The projected column chunks of a row group are fetched together when the first batch
+ * reaches it, but each column is decoded one data page at a time, as batches consume its
+ * values (see {@link ColumnValues#vectorReader()}). Every batch has vectors of its own,
+ * holding exactly its rows from position 0, so batches may be kept after the iterator has
+ * moved on, and a batch straddling pages or row groups needs no more than one decoded page
+ * per column.
+ *
+ * <p>Only flat (non-repeated) INT32, INT64, FLOAT, DOUBLE, BOOLEAN and BYTE_ARRAY columns
+ * can be projected.
+ *
+ * <p>Usage example:
+ * <pre>{@code
+ * try (ColumnarBatchIterator batches = fileReader.columnarBatchIterator(4096, "id", "price")) {
+ *   while (batches.hasNext()) {
+ *     ColumnarBatch batch = batches.next();
+ *     LongVector ids = (LongVector) batch.getColumn("id");
+ *     DoubleVector prices = (DoubleVector) batch.getColumn("price");
+ *     for (int i = 0; i < batch.getNumRows(); i++) {
+ *       // Process ids.get(i), prices.get(i)...
+ *     }
+ *   }
+ * }
+ * }</pre>
+ *
+ * @see ParquetFileReader#columnarBatchIterator(int, String...)
+ */
+public class ColumnarBatchIterator implements Iterator<ColumnarBatch>, AutoCloseable {
+  private final ParquetFileReader fileReader;
+  private final boolean closeFileReader;
+  private final int batchSize;
+  private final int[] columnIndexes;
+  private final List<String> columnNames;
+
+  private int nextRowGroupIndex;
+  private List<ColumnValues> rowGroupColumns;
+  private ColumnValues.VectorReader[] columnReaders;
+  private long rowGroupRowsRemaining;
+  private long rowsRemaining;
+
+  /**
+   * Create an iterator over the given columns of a Parquet file.
+   *
+   * @param fileReader      The file reader to iterate over
+   * @param closeFileReader Whether to close the file reader when done
+   * @param batchSize       The number of rows in each batch but the last
+   * @param columnIndexes   The physical indexes of the projected columns
+   * @throws IllegalArgumentException If the batch size is not positive, no column is
+   *                                  projected, or a column is repeated or of a type that has
+   *                                  no vector
+   */
+  public ColumnarBatchIterator(ParquetFileReader fileReader, boolean closeFileReader,
+                               int batchSize, int[] columnIndexes) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+    }
+    if (columnIndexes.length == 0) {
+      throw new IllegalArgumentException("No columns projected");
+    }
+    SchemaDescriptor schema = fileReader.getSchema();
+    List<String> names = new ArrayList<>(columnIndexes.length);
+    for (int columnIndex : columnIndexes) {
+      ColumnDescriptor column = schema.getColumn(columnIndex);
+      if (column.maxRepetitionLevel() > 0 || newVector(column, 0) == null) {
+        throw new IllegalArgumentException("Column " + String.join(".", column.path())
+            + " of type " + column.physicalType() + " cannot be read into a vector");
+      }
+      names.add(String.join(".", column.path()));
+    }
+
+    this.fileReader = fileReader;
+    this.closeFileReader = closeFileReader;
+    this.batchSize = batchSize;
+    this.columnIndexes = columnIndexes.clone();
+    this.columnNames = List.copyOf(names);
+    this.rowsRemaining = fileReader.getTotalRowCount();
+  }
+
+  /**
+   * Get the names of the projected columns, in batch column order.
+   *
+   * @return The dot-separated paths of the projected columns
+   */
+  public List<String> getColumnNames() {
+    return columnNames;
+  }
+
+  /**
+   * Check if there are more rows to read.
+   *
+   * @return true if another batch is available
+   */
+  @Override
+  public boolean hasNext() {
+    return rowsRemaining > 0;
+  }
+
+  /**
+   * Get the next batch of rows. Row groups are fetched, and pages decoded, as the batch
+   * reaches them.
+   *
+   * @return A batch of {@code batchSize} rows, or fewer for the last batch
+   * @throws NoSuchElementException If there are no more rows to read
+   * @throws ParquetException If reading a row group fails
+   */
+  @Override
+  public ColumnarBatch next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more rows");
+    }
+
+    int rows = (int) Math.min(batchSize, rowsRemaining);
+    ColumnVector[] batchColumns = new ColumnVector[columnIndexes.length];
+    for (int i = 0; i < columnIndexes.length; i++) {
+      batchColumns[i] = newVector(fileReader.getSchema().getColumn(columnIndexes[i]), rows);
+    }
+
+    int filled = 0;
+    while (filled < rows) {
+      if (rowGroupColumns == null) {
+        if (nextRowGroupIndex >= fileReader.getNumRowGroups()) {
+          break;
+        }
+        loadRowGroup(nextRowGroupIndex++);
+        continue;
+      }
+      int count = (int) Math.min(rows - filled, rowGroupRowsRemaining);
+      for (int i = 0; i < batchColumns.length; i++) {
+        columnReaders[i].read(batchColumns[i], count);
+      }
+      filled += count;
+      rowGroupRowsRemaining -= count;
+      if (rowGroupRowsRemaining == 0) {
+        releaseRowGroup();
+      }
+    }
+    // Stop once the row groups run out, even if the footer promised more rows
+    rowsRemaining = filled < rows ? 0 : rowsRemaining - filled;
+    return new ColumnarBatch(columnNames, batchColumns);
+  }
+
+  /**
+   * Close the underlying file reader if this iterator owns it.
+   *
+   * @throws IOException If closing the file reader fails
+   */
+  @Override
+  public void close() throws IOException {
+    releaseRowGroup();
+    if (closeFileReader) {
+      fileReader.close();
+    }
+  }
+
+  /**
+   * Read the projected column chunks of a row group, to be decoded as batches reach them.
+   *
+   * @param rowGroupIndex The index of the row group to load
+   * @throws ParquetException If reading the row group fails, or a column does not have one
+   *                          value per row
+   */
+  private void loadRowGroup(int rowGroupIndex) {
+    try {
+      ParquetFileReader.RowGroupReader rowGroupReader = fileReader.getRowGroup(rowGroupIndex);
+      rowGroupColumns = rowGroupReader.readColumns(columnIndexes);
+      columnReaders = new ColumnValues.VectorReader[columnIndexes.length];
+      for (int i = 0; i < columnReaders.length; i++) {
+        columnReaders[i] = rowGroupColumns.get(i).vectorReader();
+        if (columnReaders[i].remaining() != rowGroupReader.getNumRows()) {
+          int values = columnReaders[i].remaining();
+          releaseRowGroup();
+          throw new ParquetException("Column " + columnNames.get(i) + " has " + values
+              + " values in a row group of " + rowGroupReader.getNumRows() + " rows");
+        }
+      }
+      rowGroupRowsRemaining = rowGroupReader.getNumRows();
+    } catch (IOException e) {
+      throw new ParquetException("Failed to read row group " + rowGroupIndex, e);
+    }
+  }
+
+  /**
+   * Hand the page buffers of the current row group back to the allocator, once all its rows
+   * have been copied into batches.
+   */
+  private void releaseRowGroup() {
+    if (rowGroupColumns != null) {
+      for (ColumnValues column : rowGroupColumns) {
+        column.release();
+      }
+    }
+    rowGroupColumns = null;
+    columnReaders = null;
+  }
+
+  /**
+   * Create an empty vector for the values of a column.
+   *
+   * @param column   The column
+   * @param capacity The number of values to make room for
+   * @return The vector, or null if the column type has no vector
+   */
+  private static ColumnVector newVector(ColumnDescriptor column, int capacity) {
+    return switch (column.physicalType()) {
+      case INT32 -> new IntVector(capacity);
+      case INT64 -> new LongVector(capacity);
+      case FLOAT -> new FloatVector(capacity);
+      case DOUBLE -> new DoubleVector(capacity);
+      case BOOLEAN -> new BooleanVector(capacity);
+      case BYTE_ARRAY -> new BinaryVector(capacity, 0);
+      default -> null;
+    };
+  }
+}
@@ -31,6 +31,23 @@ public interface Decompressor {
    */
   ByteBuffer decompress(ByteBuffer compressed, int uncompressedSize) throws IOException;
 
+  /**
+   * Decompresses the given compressed data into a caller-supplied buffer.
+   *
+   * <p>The uncompressed size is the number of bytes remaining in {@code output}. On return
+   * the output position has advanced past the decompressed bytes. This lets the caller
+   * decompress into a pooled buffer from a {@link BufferAllocator}. The default
+   * implementation decompresses into a new buffer and copies it into {@code output};
+   * codecs override it to write into the output directly.
+   *
+   * @param compressed the ByteBuffer containing compressed data
+   * @param output the buffer to write the decompressed data to
+   * @throws IOException if an I/O error occurs during decompression
+   */
+  default void decompress(ByteBuffer compressed, ByteBuffer output) throws IOException {
+    output.put(decompress(compressed, output.remaining()));
+  }
+
   /**
    * Creates a decompressor instance for the specified compression codec.
    *
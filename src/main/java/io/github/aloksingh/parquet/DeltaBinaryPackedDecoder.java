@@ -1,5 +1,6 @@
 package io.github.aloksingh.parquet;
 
+import io.github.aloksingh.parquet.model.ParquetException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
@@ -39,6 +40,10 @@ public class DeltaBinaryPackedDecoder {
   private boolean firstValueConsumed;
   private int blockEndOffset;
 
+  // Scratch space for unpacking a mini-block, reused across mini-blocks
+  private long[] deltas;
+  private byte[] packedBytes;
+
   /**
    * Constructs a new DELTA_BINARY_PACKED decoder for the given buffer.
    *
@@ -105,17 +110,32 @@ public class DeltaBinaryPackedDecoder {
    * @return an array of decoded 32-bit integer values
    */
   public int[] decodeInt32(int expectedValues) {
+    int[] result = new int[expectedValues];
+    decodeInt32(result, 0, expectedValues);
+    return result;
+  }
+
+  /**
+   * Decode values as 32-bit integers into an array.
+   * <p>
+   * Like {@link #decodeInt32(int)}, all encoded blocks are consumed from the buffer.
+   *
+   * @param dest the array to decode into
+   * @param offset the index in {@code dest} of the first decoded value
+   * @param expectedValues the number of values to decode
+   * @return the number of values decoded, at most {@code expectedValues}
+   */
+  public int decodeInt32(int[] dest, int offset, int expectedValues) {
     // Guard against zero expectedValues to avoid division by zero in header initialization
     if (expectedValues == 0) {
-      return new int[0];
+      return 0;
     }
 
-    int[] result = new int[expectedValues];
     int index = 0;
 
     // Consume first value
     if (index < expectedValues && index < totalValueCount) {
-      result[index++] = (int) firstValue;
+      dest[offset + index++] = (int) firstValue;
       lastValue = firstValue;
       firstValueConsumed = true;
     }
@@ -149,7 +169,7 @@ public class DeltaBinaryPackedDecoder {
           // All deltas are min_delta - no bytes to consume from buffer
           for (int i = 0; i < valuesToUse; i++) {
             lastValue += minDelta;
-            result[index++] = (int) lastValue;
+            dest[offset + index++] = (int) lastValue;
           }
           valuesProcessed += valuesInThisMiniBlock;
         } else {
@@ -160,7 +180,7 @@ public class DeltaBinaryPackedDecoder {
           // But only use the values we actually need
           for (int i = 0; i < valuesToUse && i < valuesInThisMiniBlock; i++) {
             lastValue += minDelta + deltas[i];
-            result[index++] = (int) lastValue;
+            dest[offset + index++] = (int) lastValue;
           }
           valuesProcessed += valuesInThisMiniBlock;
         }
@@ -171,7 +191,7 @@ public class DeltaBinaryPackedDecoder {
     // The decoder should leave the buffer exactly where it stopped reading
     // This is important for DELTA_BYTE_ARRAY which has TWO consecutive DELTA_BINARY_PACKED streams
 
-    return result;
+    return index;
   }
 
   /**
@@ -191,17 +211,32 @@ public class DeltaBinaryPackedDecoder {
    * @return an array of decoded 64-bit integer values
    */
   public long[] decodeInt64(int expectedValues) {
+    long[] result = new long[expectedValues];
+    decodeInt64(result, 0, expectedValues);
+    return result;
+  }
+
+  /**
+   * Decode values as 64-bit integers into an array.
+   * <p>
+   * Like {@link #decodeInt64(int)}, all encoded blocks are consumed from the buffer.
+   *
+   * @param dest the array to decode into
+   * @param offset the index in {@code dest} of the first decoded value
+   * @param expectedValues the number of values to decode
+   * @return the number of values decoded, at most {@code expectedValues}
+   */
+  public int decodeInt64(long[] dest, int offset, int expectedValues) {
     // Guard against zero expectedValues to avoid division by zero in header initialization
     if (expectedValues == 0) {
-      return new long[0];
+      return 0;
     }
 
-    long[] result = new long[expectedValues];
     int index = 0;
 
     // Consume first value
     if (index < expectedValues && index < totalValueCount) {
-      result[index++] = firstValue;
+      dest[offset + index++] = firstValue;
       lastValue = firstValue;
       firstValueConsumed = true;
     }
@@ -235,7 +270,7 @@ public class DeltaBinaryPackedDecoder {
           // All deltas are min_delta - no bytes to consume from buffer
           for (int i = 0; i < valuesToUse; i++) {
             lastValue += minDelta;
-            result[index++] = lastValue;
+            dest[offset + index++] = lastValue;
           }
           valuesProcessed += valuesInThisMiniBlock;
         } else {
@@ -246,7 +281,7 @@ public class DeltaBinaryPackedDecoder {
           // But only use the values we actually need
           for (int i = 0; i < valuesToUse && i < valuesInThisMiniBlock; i++) {
             lastValue += minDelta + deltas[i];
-            result[index++] = lastValue;
+            dest[offset + index++] = lastValue;
           }
           valuesProcessed += valuesInThisMiniBlock;
         }
@@ -257,7 +292,7 @@ public class DeltaBinaryPackedDecoder {
     // The decoder should leave the buffer exactly where it stopped reading
     // This is important for DELTA_BYTE_ARRAY which has TWO consecutive DELTA_BINARY_PACKED streams
 
-    return result;
+    return index;
   }
 
   /**
@@ -342,10 +377,14 @@ public class DeltaBinaryPackedDecoder {
    *
    * @param bitWidth the number of bits used to encode each value
    * @param numValues the number of values to unpack
-   * @return an array of unpacked long values
+   * @return the unpacked values, at the start of an array that is reused by the next call
+   * @throws ParquetException if the buffer ends before the mini-block does
    */
   private long[] readBitPackedInt64Values(int bitWidth, int numValues) {
-    long[] result = new long[numValues];
+    if (deltas == null || deltas.length < numValues) {
+      deltas = new long[numValues];
+    }
+    long[] result = deltas;
 
     // Bit-packed data is read in chunks of 8 values (BytePacker.unpack8Values)
     // Pad to 8-value boundaries like parquet-java does
@@ -353,9 +392,16 @@ public class DeltaBinaryPackedDecoder {
     int totalBits = valuesWithPadding * bitWidth;
     int numBytes = totalBits / 8;
 
-    // Read bytes
-    byte[] bytes = new byte[numBytes];
-    buffer.get(bytes);
+    // Read bytes; a truncated mini-block would leave deltas of an earlier one in place
+    if (buffer.remaining() < numBytes) {
+      throw new ParquetException("Truncated DELTA_BINARY_PACKED mini-block: need " + numBytes
+          + " bytes, " + buffer.remaining() + " remaining");
+    }
+    if (packedBytes == null || packedBytes.length < numBytes) {
+      packedBytes = new byte[numBytes];
+    }
+    byte[] bytes = packedBytes;
+    buffer.get(bytes, 0, numBytes);
 
     // Unpack values
     int bitOffset = 0;
@@ -367,10 +413,6 @@ public class DeltaBinaryPackedDecoder {
         int byteIndex = bitOffset / 8;
         int bitIndex = bitOffset % 8;
 
-        if (byteIndex >= bytes.length) {
-          break;
-        }
-
         int currentByte = bytes[byteIndex] & 0xFF;
         int bitsAvailable = 8 - bitIndex;
         int bitsToRead = Math.min(bitsRemaining, bitsAvailable);
@@ -0,0 +1,283 @@
+package io.github.aloksingh.parquet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * ChunkReader implementation that bypasses the OS page cache using direct I/O.
+ *
+ * <p>The file is opened with {@code ExtendedOpenOption.DIRECT} ({@code O_DIRECT} on Linux).
+ * Large one-shot scans then neither evict other data from the page cache nor leave their own
+ * data behind in it. Direct I/O requires the file offset, the read size and the memory
+ * address of every read to be aligned to the file system block size. This reader widens each
+ * {@code (position, length)} request to block boundaries, reads the aligned blocks into
+ * block-aligned direct bounce buffers, and copies the requested bytes into the returned heap
+ * buffer.
+ *
+ * <p>Memory use is predictable: a request larger than one bounce buffer is read in several
+ * steps through the same buffer, and at most {@code maxPooledBuffers} bounce buffers are
+ * retained for reuse between reads. Reads never take a lock.
+ *
+ * <p>Direct I/O is not available on every platform and file system (for example tmpfs on
+ * Linux), and opening a file with it then fails. Use {@link #isSupported(Path)} to check
+ * first.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * try (DirectIOChunkReader chunkReader = new DirectIOChunkReader(path);
+ *      ParquetFileReader reader = new ParquetFileReader(chunkReader)) {
+ *   RowColumnGroupIterator rows = reader.rowIterator();
+ * }
+ * }</pre>
+ *
+ * @see ChunkReader
+ */
+public class DirectIOChunkReader implements ChunkReader, AutoCloseable {
+
+  /**
+   * Default size of each bounce buffer (1 MB).
+   */
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+  /**
+   * Default number of bounce buffers retained for reuse.
+   */
+  public static final int DEFAULT_MAX_POOLED_BUFFERS = 4;
+
+  private static final int FALLBACK_BLOCK_SIZE = 4096;
+  private static final OpenOption DIRECT = findDirectOption();
+
+  private final FileChannel channel;
+  private final long length;
+  private final int blockSize;
+  private final int bufferSize;
+  private final int maxPooledBuffers;
+  private final Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Creates a new DirectIOChunkReader using default buffer settings.
+   *
+   * @param path the path to the file to read
+   * @throws IOException if the file cannot be opened, or direct I/O is not supported for it
+   */
+  public DirectIOChunkReader(Path path) throws IOException {
+    this(path, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_POOLED_BUFFERS);
+  }
+
+  /**
+   * Creates a new DirectIOChunkReader for the specified path string.
+   *
+   * @param path the path string to the file to read
+   * @throws IOException if the file cannot be opened, or direct I/O is not supported for it
+   */
+  public DirectIOChunkReader(String path) throws IOException {
+    this(Path.of(path));
+  }
+
+  /**
+   * Creates a new DirectIOChunkReader with explicit buffer settings.
+   *
+   * @param path the path to the file to read
+   * @param bufferSize the size of each bounce buffer; rounded up to a multiple of the file
+   *                   system block size
+   * @param maxPooledBuffers the number of bounce buffers retained for reuse; concurrent reads
+   *                         beyond this allocate temporary buffers
+   * @throws IOException if the file cannot be opened, or direct I/O is not supported for it
+   * @throws IllegalArgumentException if bufferSize is not positive or maxPooledBuffers is
+   *                                  negative
+   */
+  public DirectIOChunkReader(Path path, int bufferSize, int maxPooledBuffers)
+      throws IOException {
+    if (bufferSize <= 0 || maxPooledBuffers < 0) {
+      throw new IllegalArgumentException(String.format(
+          "Invalid buffer settings: bufferSize=%d, maxPooledBuffers=%d",
+          bufferSize, maxPooledBuffers));
+    }
+    if (DIRECT == null) {
+      throw new IOException("Direct I/O is not supported by this JVM");
+    }
+    this.blockSize = blockSize(path);
+    this.bufferSize = (int) alignUp(bufferSize, blockSize);
+    this.maxPooledBuffers = maxPooledBuffers;
+    this.channel = FileChannel.open(path, StandardOpenOption.READ, DIRECT);
+    this.length = channel.size();
+  }
+
+  /**
+   * Checks whether a file can be read with direct I/O.
+   *
+   * <p>This opens the file with direct I/O and reads its first block.
+   *
+   * @param path the file to check
+   * @return true if direct I/O reads of the file succeed
+   */
+  public static boolean isSupported(Path path) {
+    if (DIRECT == null) {
+      return false;
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, DIRECT)) {
+      int blockSize = blockSize(path);
+      ByteBuffer buffer = ByteBuffer.allocateDirect(2 * blockSize).alignedSlice(blockSize);
+      buffer.limit(blockSize);
+      channel.read(buffer, 0);
+      return true;
+    } catch (IOException | UnsupportedOperationException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns the total length of the file in bytes.
+   *
+   * @return the file length in bytes
+   */
+  @Override
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Returns the alignment used for direct reads.
+   *
+   * @return the file system block size in bytes
+   */
+  public int blockSize() {
+    return blockSize;
+  }
+
+  /**
+   * Reads a chunk of bytes from the file at the specified position, bypassing the page cache.
+   *
+   * <p>This method is thread-safe. If the requested length exceeds the available bytes from
+   * the position to the end of file, it will read only the available bytes.
+   *
+   * @param position the byte position to start reading from (0-based)
+   * @param length the number of bytes to read
+   * @return a heap ByteBuffer positioned at 0 containing the read bytes
+   * @throws IOException if position is negative, beyond file length,
+   *                     or if an I/O error occurs during reading
+   */
+  @Override
+  public ByteBuffer readBytes(long position, int length) throws IOException {
+    if (position < 0) {
+      throw new IOException(String.format(
+          "Invalid position: %d", position));
+    }
+    if (position >= this.length) {
+      throw new IOException(String.format(
+          "Position %d is beyond file length %d", position, this.length));
+    }
+
+    int available = (int) Math.min(length, this.length - position);
+    ByteBuffer result = ByteBuffer.allocate(available);
+    ByteBuffer bounce = acquireBuffer();
+    try {
+      long current = position;
+      while (result.hasRemaining()) {
+        long alignedStart = current - current % blockSize;
+        long alignedEnd = Math.min(alignUp(current + result.remaining(), blockSize),
+            alignedStart + bufferSize);
+        bounce.clear().limit((int) (alignedEnd - alignedStart));
+        fill(bounce, alignedStart);
+
+        int offset = (int) (current - alignedStart);
+        int count = Math.min(result.remaining(), bounce.position() - offset);
+        if (count <= 0) {
+          throw new IOException(String.format(
+              "Unexpected end of file at position %d (file length %d)", current, this.length));
+        }
+        result.put(bounce.flip().position(offset).limit(offset + count));
+        current += count;
+      }
+    } finally {
+      releaseBuffer(bounce);
+    }
+    return result.flip();
+  }
+
+  /**
+   * Reads aligned blocks until the buffer is full or the end of file is reached. The last
+   * block of a file may be partial, which direct I/O permits.
+   */
+  private void fill(ByteBuffer buffer, long position) throws IOException {
+    long current = position;
+    while (buffer.hasRemaining()) {
+      int bytesRead = channel.read(buffer, current);
+      if (bytesRead <= 0) {
+        return;
+      }
+      current += bytesRead;
+      if (current >= length) {
+        return;
+      }
+    }
+  }
+
+  private ByteBuffer acquireBuffer() {
+    ByteBuffer buffer = pool.poll();
+    if (buffer != null) {
+      return buffer;
+    }
+    return ByteBuffer.allocateDirect(bufferSize + blockSize).alignedSlice(blockSize)
+        .limit(bufferSize).slice();
+  }
+
+  private void releaseBuffer(ByteBuffer buffer) {
+    // The size check is racy; the pool may briefly exceed its bound by a few buffers
+    if (pool.size() < maxPooledBuffers) {
+      pool.offer(buffer);
+    }
+  }
+
+  private static long alignUp(long value, int alignment) {
+    return (value + alignment - 1) / alignment * alignment;
+  }
+
+  private static int blockSize(Path path) {
+    try {
+      long size = Files.getFileStore(path).getBlockSize();
+      if (size > 0 && size <= (1 << 20)) {
+        return (int) size;
+      }
+    } catch (IOException | UnsupportedOperationException e) {
+      // Fall back to the most common block size
+    }
+    return FALLBACK_BLOCK_SIZE;
+  }
+
+  /**
+   * Looks up {@code com.sun.nio.file.ExtendedOpenOption.DIRECT}, which is not part of the
+   * standard API and may be absent on some JVMs.
+   */
+  private static OpenOption findDirectOption() {
+    try {
+      Class<?> options = Class.forName("com.sun.nio.file.ExtendedOpenOption");
+      for (Object option : options.getEnumConstants()) {
+        if ("DIRECT".equals(((Enum<?>) option).name())) {
+          return (OpenOption) option;
+        }
+      }
+    } catch (ClassNotFoundException e) {
+      // Not available on this JVM
+    }
+    return null;
+  }
+
+  /**
+   * Closes the underlying file channel.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  @Override
+  public void close() throws IOException {
+    pool.clear();
+    channel.close();
+  }
+}
@@ -0,0 +1,578 @@
+package io.github.aloksingh.parquet;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+/**
+ * A persistent, disk-budgeted cache of fixed-size file blocks, shared by
+ * {@link DiskCacheChunkReader}s.
+ *
+ * <p>This is a local-disk tier for data behind slow or remote {@link ChunkReader}s. Each
+ * cached file is stored in a sparse cache file, with every block at its own offset, and an
+ * append-only index file recording which blocks are present. Both live in the cache
+ * directory and survive restarts: a new cache opened on the same directory picks up the
+ * index files, so reopening a file, or re-reading its hot column chunks, hits local disk
+ * instead of the remote source.
+ *
+ * <p>Cache files are keyed by a file id, such as a URI, and a version, such as an ETag or a
+ * modification time. Opening a file id with a different version or length discards the
+ * blocks cached for the old one. When the bytes of cached blocks exceed the disk budget, the
+ * least recently used cache files are deleted. The JDK cannot release individual blocks of
+ * a sparse file, so eviction works on whole cache files; blocks of a single file that would
+ * by themselves exceed the budget are served but not cached.
+ *
+ * <p>Block data is forced to disk before the index entry that refers to it is appended, and
+ * each index entry carries a CRC32C checksum of its block that is checked whenever the block
+ * is served, so a crash can at worst lose recently added blocks. Blocks that fail the
+ * checksum, and reads that fail on the cache files, fall back to the source.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * DiskBlockCache diskCache = new DiskBlockCache(Path.of("/mnt/ssd/parquet-cache"), 100L << 30);
+ * ChunkReader remote = new HttpRangeChunkReader(uri);
+ * try (ParquetFileReader reader = new ParquetFileReader(
+ *     new DiskCacheChunkReader(remote, diskCache, uri.toString(), etag))) {
+ *   ...
+ * }
+ * }</pre>
+ *
+ * @see DiskCacheChunkReader
+ * @see BlockCache
+ */
+public class DiskBlockCache implements AutoCloseable {
+
+  /**
+   * Default block size (1 MB).
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+
+  private static final int INDEX_MAGIC = 0x50514443;
+  private static final int INDEX_FORMAT_VERSION = 2;
+  private static final String INDEX_SUFFIX = ".index";
+  private static final String DATA_SUFFIX = ".blocks";
+
+  /**
+   * A point-in-time snapshot of the cache counters.
+   *
+   * @param hits the number of block lookups served from disk
+   * @param misses the number of block lookups that had to read the source
+   * @param evictions the number of cache files deleted to stay within the budget
+   * @param fileCount the number of files with cached blocks
+   * @param sizeBytes the total size of all cached blocks
+   */
+  public record Stats(long hits, long misses, long evictions, int fileCount, long sizeBytes) {
+
+    /**
+     * Returns the fraction of lookups that were hits.
+     *
+     * @return the hit rate between 0 and 1, or 0 if there were no lookups
+     */
+    public double hitRate() {
+      long total = hits + misses;
+      return total == 0 ? 0 : (double) hits / total;
+    }
+  }
+
+  /**
+   * The cached blocks of one file version, and the open channels to its cache files.
+   */
+  private static final class CacheFile {
+    final String fileId;
+    final String version;
+    final long fileLength;
+    final Path dataPath;
+    final Path indexPath;
+    // Block index to the CRC32C checksum of the block
+    final Map<Long, Integer> blocks = new HashMap<>();
+    long sizeBytes;
+    FileChannel data;
+    DataOutputStream index;
+
+    CacheFile(String fileId, String version, long fileLength, Path dataPath, Path indexPath) {
+      this.fileId = fileId;
+      this.version = version;
+      this.fileLength = fileLength;
+      this.dataPath = dataPath;
+      this.indexPath = indexPath;
+    }
+  }
+
+  private final Path directory;
+  private final long capacityBytes;
+  private final int blockSize;
+  // Access-ordered: iteration starts at the least recently used file
+  private final LinkedHashMap<String, CacheFile> files = new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeBytes;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Opens a cache in the given directory with the default block size.
+   *
+   * @param directory the cache directory; created if it does not exist
+   * @param capacityBytes the largest total size of cached blocks
+   * @throws IOException if the directory cannot be created or read
+   */
+  public DiskBlockCache(Path directory, long capacityBytes) throws IOException {
+    this(directory, capacityBytes, DEFAULT_BLOCK_SIZE);
+  }
+
+  /**
+   * Opens a cache in the given directory.
+   *
+   * <p>Index files left by an earlier cache on the same directory are loaded, least recently
+   * used first. Cache files with a different block size, or that cannot be read, are deleted.
+   *
+   * @param directory the cache directory; created if it does not exist
+   * @param capacityBytes the largest total size of cached blocks
+   * @param blockSize the size of each cached block
+   * @throws IOException if the directory cannot be created or read
+   * @throws IllegalArgumentException if {@code capacityBytes} or {@code blockSize} is not
+   *                                  positive
+   */
+  public DiskBlockCache(Path directory, long capacityBytes, int blockSize) throws IOException {
+    if (capacityBytes <= 0 || blockSize <= 0) {
+      throw new IllegalArgumentException(String.format(
+          "Invalid capacity %d or block size %d", capacityBytes, blockSize));
+    }
+    this.directory = Files.createDirectories(directory);
+    this.capacityBytes = capacityBytes;
+    this.blockSize = blockSize;
+    loadIndexes();
+  }
+
+  /**
+   * Returns the size of each cached block.
+   *
+   * @return the block size in bytes
+   */
+  public int blockSize() {
+    return blockSize;
+  }
+
+  /**
+   * Returns the disk budget of this cache.
+   *
+   * @return the largest total size of cached blocks
+   */
+  public long capacityBytes() {
+    return capacityBytes;
+  }
+
+  /**
+   * Returns a block of a file, reading it through the given reader on a miss.
+   *
+   * <p>Disk reads and writes happen outside the cache lock. If two threads miss on the same
+   * block at the same time both read it from the source.
+   *
+   * @param fileId a stable identifier of the file, for example its URI
+   * @param version the version of the file, for example an ETag; blocks cached for another
+   *                version are discarded
+   * @param fileLength the length of the file
+   * @param blockIndex the index of the block within the file
+   * @param reader the reader to load the block from on a miss
+   * @return a buffer positioned at 0 holding the block; the last block of a file may be
+   *         shorter than the block size
+   * @throws IOException if the block has to be read from the source and the read fails
+   */
+  public ByteBuffer getBlock(String fileId, String version, long fileLength, long blockIndex,
+                             ChunkReader reader) throws IOException {
+    ByteBuffer block = getCachedBlock(fileId, version, fileLength, blockIndex);
+    if (block == null) {
+      block = reader.readBytes(blockIndex * blockSize, blockLength(fileLength, blockIndex));
+      putBlock(fileId, version, fileLength, blockIndex, block);
+    }
+    return block;
+  }
+
+  /**
+   * Returns a block of a file if it is cached.
+   *
+   * <p>A miss is counted in the statistics; the caller is expected to read the block from
+   * the source and hand it to {@link #putBlock}. Callers that need several blocks use this
+   * to find the missing ones first, so that they can read them from the source together.
+   *
+   * @param fileId a stable identifier of the file, for example its URI
+   * @param version the version of the file, for example an ETag; blocks cached for another
+   *                version are discarded
+   * @param fileLength the length of the file
+   * @param blockIndex the index of the block within the file
+   * @return a buffer positioned at 0 holding the block, or null if it is not cached
+   * @throws IOException if the cache files of the file cannot be opened
+   */
+  public ByteBuffer getCachedBlock(String fileId, String version, long fileLength,
+                                   long blockIndex) throws IOException {
+    long position = blockIndex * blockSize;
+    int length = blockLength(fileLength, blockIndex);
+
+    FileChannel data;
+    Integer checksum;
+    synchronized (this) {
+      CacheFile file = open(fileId, version, fileLength);
+      checksum = file.blocks.get(blockIndex);
+      data = checksum != null ? file.data : null;
+    }
+    if (data != null) {
+      ByteBuffer block = readCached(data, position, length);
+      if (block != null && checksum(block) == checksum) {
+        hits.increment();
+        return block;
+      }
+      if (block != null) {
+        // Damaged on disk; drop it so the copy read from the source replaces it
+        dropBlock(fileId, data, blockIndex, length);
+      }
+    }
+    misses.increment();
+    return null;
+  }
+
+  /**
+   * Caches a block of a file read from the source.
+   *
+   * <p>A block shorter than expected, such as one cut short by a failed read, is not cached.
+   * The buffer itself is not modified.
+   *
+   * @param fileId a stable identifier of the file, for example its URI
+   * @param version the version of the file, for example an ETag
+   * @param fileLength the length of the file
+   * @param blockIndex the index of the block within the file
+   * @param block the bytes of the block, from its position to its limit
+   */
+  public void putBlock(String fileId, String version, long fileLength, long blockIndex,
+                       ByteBuffer block) {
+    if (block.remaining() == blockLength(fileLength, blockIndex)) {
+      store(fileId, version, fileLength, blockIndex, block.duplicate());
+    }
+  }
+
+  /**
+   * Returns the length of a block; the last block of a file may be shorter than the block
+   * size.
+   */
+  private int blockLength(long fileLength, long blockIndex) {
+    return (int) Math.min(blockSize, fileLength - blockIndex * blockSize);
+  }
+
+  /**
+   * Deletes the cached blocks of a file.
+   *
+   * @param fileId the identifier of the file
+   */
+  public synchronized void invalidate(String fileId) {
+    CacheFile file = files.remove(fileId);
+    if (file != null) {
+      delete(file);
+    }
+  }
+
+  /**
+   * Deletes all cached blocks. Counters are not reset.
+   */
+  public synchronized void clear() {
+    for (CacheFile file : files.values()) {
+      delete(file);
+    }
+    files.clear();
+  }
+
+  /**
+   * Returns a snapshot of the cache counters.
+   *
+   * @return the current statistics
+   */
+  public synchronized Stats stats() {
+    return new Stats(hits.sum(), misses.sum(), evictions.sum(), files.size(), sizeBytes);
+  }
+
+  /**
+   * Closes the open cache files. Cached blocks stay on disk for the next cache opened on
+   * the same directory.
+   *
+   * <p>The modification times of the index files are updated to reflect the recency order of
+   * this cache, which the next cache uses to decide what to evict first.
+   */
+  @Override
+  public synchronized void close() {
+    long time = System.currentTimeMillis() - files.size();
+    for (CacheFile file : files.values()) {
+      closeQuietly(file);
+      try {
+        Files.setLastModifiedTime(file.indexPath, FileTime.fromMillis(time++));
+      } catch (IOException e) {
+        // Only affects eviction order after a restart
+      }
+    }
+  }
+
+  /**
+   * Returns the cache file for a file version, discarding one cached for another version.
+   */
+  private CacheFile open(String fileId, String version, long fileLength) throws IOException {
+    CacheFile file = files.get(fileId);
+    if (file != null && (!file.version.equals(version) || file.fileLength != fileLength)) {
+      files.remove(fileId);
+      delete(file);
+      file = null;
+    }
+    if (file == null) {
+      String name = hash(fileId);
+      file = new CacheFile(fileId, version, fileLength,
+          directory.resolve(name + DATA_SUFFIX), directory.resolve(name + INDEX_SUFFIX));
+      Files.deleteIfExists(file.dataPath);
+      Files.deleteIfExists(file.indexPath);
+      files.put(fileId, file);
+    }
+    if (file.data == null) {
+      openChannels(file, !Files.exists(file.indexPath));
+    }
+    return file;
+  }
+
+  private void openChannels(CacheFile file, boolean writeHeader) throws IOException {
+    file.data = FileChannel.open(file.dataPath, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    file.index = new DataOutputStream(Files.newOutputStream(file.indexPath,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    if (writeHeader) {
+      file.index.writeInt(INDEX_MAGIC);
+      file.index.writeInt(INDEX_FORMAT_VERSION);
+      file.index.writeInt(blockSize);
+      file.index.writeLong(file.fileLength);
+      file.index.writeUTF(file.fileId);
+      file.index.writeUTF(file.version);
+      file.index.flush();
+    }
+  }
+
+  /**
+   * Forgets a cached block whose bytes did not match their checksum.
+   */
+  private synchronized void dropBlock(String fileId, FileChannel data, long blockIndex,
+                                      int length) {
+    CacheFile file = files.get(fileId);
+    if (file != null && file.data == data && file.blocks.remove(blockIndex) != null) {
+      file.sizeBytes -= length;
+      sizeBytes -= length;
+    }
+  }
+
+  private static int checksum(ByteBuffer block) {
+    CRC32C crc = new CRC32C();
+    crc.update(block.duplicate());
+    return (int) crc.getValue();
+  }
+
+  private ByteBuffer readCached(FileChannel data, long position, int length) {
+    ByteBuffer block = ByteBuffer.allocate(length);
+    try {
+      while (block.hasRemaining()) {
+        if (data.read(block, position + block.position()) < 0) {
+          return null;
+        }
+      }
+    } catch (IOException e) {
+      // Evicted or damaged; fall back to the source
+      return null;
+    }
+    return block.flip();
+  }
+
+  /**
+   * Writes a block read from the source to the cache file and records it in the index.
+   */
+  private void store(String fileId, String version, long fileLength, long blockIndex,
+                     ByteBuffer block) {
+    int length = block.remaining();
+    int checksum = checksum(block);
+    FileChannel data;
+    synchronized (this) {
+      CacheFile file = files.get(fileId);
+      if (file == null || !file.version.equals(version) || file.fileLength != fileLength
+          || file.data == null || file.blocks.containsKey(blockIndex)) {
+        return;
+      }
+      evictOthers(file, length);
+      if (file.sizeBytes + length > capacityBytes) {
+        return;
+      }
+      data = file.data;
+    }
+
+    try {
+      long position = blockIndex * blockSize;
+      while (block.hasRemaining()) {
+        data.write(block, position + length - block.remaining());
+      }
+      // The block must be on disk before an index entry can point at it
+      data.force(false);
+    } catch (IOException e) {
+      return;
+    }
+
+    synchronized (this) {
+      CacheFile file = files.get(fileId);
+      if (file == null || file.data != data
+          || file.blocks.putIfAbsent(blockIndex, checksum) != null) {
+        return;
+      }
+      try {
+        file.index.writeLong(blockIndex);
+        file.index.writeInt(checksum);
+        file.index.flush();
+      } catch (IOException e) {
+        file.blocks.remove(blockIndex);
+        return;
+      }
+      file.sizeBytes += length;
+      sizeBytes += length;
+    }
+  }
+
+  /**
+   * Deletes least recently used cache files, other than {@code keep}, until {@code incoming}
+   * more bytes fit in the budget.
+   */
+  private void evictOthers(CacheFile keep, long incoming) {
+    Iterator<CacheFile> iterator = files.values().iterator();
+    while (sizeBytes + incoming > capacityBytes && iterator.hasNext()) {
+      CacheFile file = iterator.next();
+      if (file != keep) {
+        iterator.remove();
+        delete(file);
+        evictions.increment();
+      }
+    }
+  }
+
+  private void delete(CacheFile file) {
+    closeQuietly(file);
+    sizeBytes -= file.sizeBytes;
+    try {
+      Files.deleteIfExists(file.indexPath);
+      Files.deleteIfExists(file.dataPath);
+    } catch (IOException e) {
+      // Left behind; overwritten when the file id is cached again
+    }
+  }
+
+  private static void closeQuietly(CacheFile file) {
+    try {
+      if (file.index != null) {
+        file.index.close();
+      }
+      if (file.data != null) {
+        file.data.close();
+      }
+    } catch (IOException e) {
+      // Nothing more to release
+    }
+    file.index = null;
+    file.data = null;
+  }
+
+  /**
+   * Loads the index files in the cache directory, least recently modified first.
+   */
+  private void loadIndexes() throws IOException {
+    List<Path> indexes = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + INDEX_SUFFIX)) {
+      stream.forEach(indexes::add);
+    }
+    Map<Path, Long> modified = new LinkedHashMap<>();
+    for (Path index : indexes) {
+      modified.put(index, Files.getLastModifiedTime(index).toMillis());
+    }
+    indexes.sort(Comparator.comparing(modified::get));
+
+    for (Path indexPath : indexes) {
+      String name = indexPath.getFileName().toString();
+      Path dataPath = directory.resolve(
+          name.substring(0, name.length() - INDEX_SUFFIX.length()) + DATA_SUFFIX);
+      CacheFile file = readIndex(indexPath, dataPath);
+      if (file == null) {
+        Files.deleteIfExists(indexPath);
+        Files.deleteIfExists(dataPath);
+        continue;
+      }
+      files.put(file.fileId, file);
+      sizeBytes += file.sizeBytes;
+    }
+    evictOthers(null, 0);
+  }
+
+  /**
+   * Reads an index file, or returns null if it is not a usable index for this cache.
+   */
+  private CacheFile readIndex(Path indexPath, Path dataPath) {
+    try (InputStream input = Files.newInputStream(indexPath);
+         DataInputStream in = new DataInputStream(input)) {
+      if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_FORMAT_VERSION
+          || in.readInt() != blockSize) {
+        return null;
+      }
+      long fileLength = in.readLong();
+      String fileId = in.readUTF();
+      String version = in.readUTF();
+      CacheFile file = new CacheFile(fileId, version, fileLength, dataPath, indexPath);
+
+      long dataSize = Files.exists(dataPath) ? Files.size(dataPath) : 0;
+      while (true) {
+        long blockIndex;
+        int checksum;
+        try {
+          blockIndex = in.readLong();
+          checksum = in.readInt();
+        } catch (EOFException e) {
+          // A torn last entry is dropped
+          break;
+        }
+        long position = blockIndex * blockSize;
+        long length = Math.min(blockSize, fileLength - position);
+        if (blockIndex >= 0 && length > 0 && position + length <= dataSize) {
+          // A block stored again after failing its checksum has a later entry
+          if (file.blocks.put(blockIndex, checksum) == null) {
+            file.sizeBytes += length;
+          }
+        }
+      }
+      return file;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static String hash(String fileId) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(fileId.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest, 0, 16);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
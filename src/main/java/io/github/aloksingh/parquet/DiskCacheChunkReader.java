@@ -0,0 +1,260 @@
+package io.github.aloksingh.parquet;
+
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * ChunkReader decorator that serves reads from a persistent {@link DiskBlockCache}.
+ *
+ * <p>Each read is mapped onto the aligned cache blocks it covers. Missing blocks are read
+ * whole from the underlying reader, typically a remote one such as
+ * {@link HttpRangeChunkReader}, and written to local disk, so later reads of the same
+ * blocks, including after a restart, do not go back to the source. The missing blocks of a
+ * read, or of all ranges of a {@link #readRanges(List, int, int)} call, are fetched with a
+ * single {@link ChunkReader#readRanges(List, int, int)} call on the underlying reader, so
+ * they are coalesced and, for remote readers, fetched in parallel. A read that falls within
+ * one block is returned as a view of that block; a read spanning blocks is assembled into a
+ * new heap buffer.
+ *
+ * <p>For hot data, stack a {@link CachingChunkReader} on top to add a memory tier in front
+ * of the disk tier.
+ *
+ * <p>This class is thread-safe if the underlying reader is. The underlying reader is not
+ * closed by this reader.
+ *
+ * @see DiskBlockCache
+ */
+public class DiskCacheChunkReader implements ChunkReader {
+  private final ChunkReader delegate;
+  private final DiskBlockCache cache;
+  private final String fileId;
+  private final String version;
+  private final long length;
+
+  /**
+   * Wraps a reader with a disk cache tier.
+   *
+   * @param delegate the reader to load blocks from
+   * @param cache the cache to share
+   * @param fileId a stable identifier of the data behind {@code delegate}, for example its
+   *               URI; readers with equal ids share cached blocks
+   * @param version the version of the data, for example an ETag or modification time;
+   *               blocks cached for another version are discarded
+   * @throws IOException if the length of the underlying reader cannot be determined
+   */
+  public DiskCacheChunkReader(ChunkReader delegate, DiskBlockCache cache, String fileId,
+                              String version) throws IOException {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.fileId = fileId;
+    this.version = version;
+    this.length = delegate.length();
+  }
+
+  /**
+   * Returns the total length of the underlying data in bytes.
+   *
+   * @return the length in bytes
+   */
+  @Override
+  public long length() {
+    return length;
+  }
+
+  @Override
+  public void onMetadata(ParquetMetadata metadata) {
+    delegate.onMetadata(metadata);
+  }
+
+  /**
+   * Reads bytes through the disk cache.
+   *
+   * <p>If the requested length exceeds the available bytes from the position to the end of
+   * file, it will read only the available bytes.
+   *
+   * @param position the byte position to start reading from (0-based)
+   * @param length the number of bytes to read
+   * @return a ByteBuffer positioned at 0 containing the read bytes
+   * @throws IOException if position is negative, beyond file length,
+   *                     or if an I/O error occurs while loading a block
+   */
+  @Override
+  public ByteBuffer readBytes(long position, int length) throws IOException {
+    FileRange range = clamp(position, length);
+    Map<Long, ByteBuffer> blocks = new HashMap<>();
+    List<FileRange> missing = lookup(List.of(range), blocks);
+    if (!missing.isEmpty()) {
+      fill(missing, delegate.readRanges(missing), blocks);
+    }
+    return extract(range, blocks);
+  }
+
+  /**
+   * Reads several ranges through the disk cache.
+   *
+   * <p>The blocks missing for any of the ranges are fetched with one call to the underlying
+   * reader, which coalesces them with the given settings.
+   *
+   * @param ranges the ranges to read, in any order
+   * @param maxMergeGap the largest gap between two missing blocks that is read through to
+   *                    merge them
+   * @param maxMergedSize the largest size of a single read of the underlying reader
+   * @return one buffer per range, in the order of {@code ranges}, each positioned at 0
+   * @throws IOException if a range starts beyond the file length, or if an I/O error occurs
+   *                     while loading a block
+   */
+  @Override
+  public List<ByteBuffer> readRanges(List<FileRange> ranges, int maxMergeGap, int maxMergedSize)
+      throws IOException {
+    List<FileRange> clamped = new ArrayList<>(ranges.size());
+    for (FileRange range : ranges) {
+      clamped.add(range.length() == 0 ? range : clamp(range.offset(), range.length()));
+    }
+    Map<Long, ByteBuffer> blocks = new HashMap<>();
+    List<FileRange> missing = lookup(clamped, blocks);
+    if (!missing.isEmpty()) {
+      fill(missing, delegate.readRanges(missing, maxMergeGap, maxMergedSize), blocks);
+    }
+    List<ByteBuffer> buffers = new ArrayList<>(clamped.size());
+    for (FileRange range : clamped) {
+      buffers.add(extract(range, blocks));
+    }
+    return buffers;
+  }
+
+  /**
+   * Reads bytes through the disk cache without waiting for the underlying reader.
+   *
+   * <p>Cached blocks are read from local disk on the calling thread. Each run of adjacent
+   * missing blocks is fetched with {@link ChunkReader#readBytesAsync(long, int)} of the
+   * underlying reader, and the missing blocks are cached when the reads complete.
+   *
+   * @param position the byte position to start reading from (0-based)
+   * @param length the number of bytes to read
+   * @return a future completed with a ByteBuffer positioned at 0 containing the read bytes
+   */
+  @Override
+  public CompletableFuture<ByteBuffer> readBytesAsync(long position, int length) {
+    FileRange range;
+    Map<Long, ByteBuffer> blocks = new HashMap<>();
+    List<FileRange> missing;
+    try {
+      range = clamp(position, length);
+      missing = lookup(List.of(range), blocks);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    if (missing.isEmpty()) {
+      return CompletableFuture.completedFuture(extract(range, blocks));
+    }
+
+    // Cached blocks between missing ones are not read again
+    CoalescedReads plan = CoalescedReads.plan(missing, 0, DEFAULT_MAX_MERGED_SIZE);
+    List<CompletableFuture<ByteBuffer>> futures = new ArrayList<>(plan.reads().size());
+    for (FileRange read : plan.reads()) {
+      futures.add(delegate.readBytesAsync(read.offset(), read.length()));
+    }
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+        .thenCompose(ignored -> {
+          List<ByteBuffer> results = new ArrayList<>(futures.size());
+          for (CompletableFuture<ByteBuffer> future : futures) {
+            results.add(future.join());
+          }
+          try {
+            fill(missing, plan.assemble(results), blocks);
+          } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+          }
+          return CompletableFuture.completedFuture(extract(range, blocks));
+        });
+  }
+
+  /**
+   * Checks a read against the file length and cuts it off at the end of the file.
+   */
+  private FileRange clamp(long position, int length) throws IOException {
+    if (position < 0) {
+      throw new IOException(String.format(
+          "Invalid position: %d", position));
+    }
+    if (position >= this.length) {
+      throw new IOException(String.format(
+          "Position %d is beyond file length %d", position, this.length));
+    }
+    return new FileRange(position, (int) Math.min(length, this.length - position));
+  }
+
+  /**
+   * Collects the cached blocks covering the given ranges into {@code blocks}, and returns the
+   * ranges of the missing blocks, in file order.
+   */
+  private List<FileRange> lookup(List<FileRange> ranges, Map<Long, ByteBuffer> blocks)
+      throws IOException {
+    int blockSize = cache.blockSize();
+    TreeSet<Long> blockIndexes = new TreeSet<>();
+    for (FileRange range : ranges) {
+      if (range.length() > 0) {
+        for (long b = range.offset() / blockSize; b <= (range.end() - 1) / blockSize; b++) {
+          blockIndexes.add(b);
+        }
+      }
+    }
+
+    List<FileRange> missing = new ArrayList<>();
+    for (long blockIndex : blockIndexes) {
+      ByteBuffer block = cache.getCachedBlock(fileId, version, length, blockIndex);
+      if (block != null) {
+        blocks.put(blockIndex, block);
+      } else {
+        long position = blockIndex * blockSize;
+        missing.add(new FileRange(position, (int) Math.min(blockSize, length - position)));
+      }
+    }
+    return missing;
+  }
+
+  /**
+   * Caches the blocks read from the underlying reader and adds them to {@code blocks}.
+   */
+  private void fill(List<FileRange> missing, List<ByteBuffer> results,
+                    Map<Long, ByteBuffer> blocks) {
+    for (int i = 0; i < missing.size(); i++) {
+      long blockIndex = missing.get(i).offset() / cache.blockSize();
+      cache.putBlock(fileId, version, length, blockIndex, results.get(i));
+      blocks.put(blockIndex, results.get(i));
+    }
+  }
+
+  /**
+   * Returns the bytes of a range from the blocks covering it, as a view of a single block or
+   * a copy spanning several.
+   */
+  private ByteBuffer extract(FileRange range, Map<Long, ByteBuffer> blocks) {
+    if (range.length() == 0) {
+      return ByteBuffer.allocate(0);
+    }
+    int blockSize = cache.blockSize();
+    long blockIndex = range.offset() / blockSize;
+    int offset = (int) (range.offset() - blockIndex * blockSize);
+
+    ByteBuffer first = blocks.get(blockIndex);
+    if (offset + range.length() <= first.limit()) {
+      return first.slice(offset, range.length());
+    }
+
+    ByteBuffer result = ByteBuffer.allocate(range.length());
+    result.put(first.slice(offset, first.limit() - offset));
+    while (result.hasRemaining() && blocks.containsKey(blockIndex + 1)) {
+      ByteBuffer block = blocks.get(++blockIndex);
+      result.put(block.slice(0, Math.min(result.remaining(), block.limit())));
+    }
+    return result.flip();
+  }
+}
@@ -0,0 +1,221 @@
+package io.github.aloksingh.parquet;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * ChunkReader implementation that uses positional {@link FileChannel} reads.
+ *
+ * <p>{@link FileChannel#read(ByteBuffer, long)} does not use or modify the channel position,
+ * so reads need no shared lock: concurrent {@link ParquetFileReader.RowGroupReader}s decoding
+ * different column chunks of the same file proceed in parallel instead of queuing on a single
+ * {@code RandomAccessFile}, as they do with {@link FileChunkReader}.
+ *
+ * <p>Buffers for {@link #readBytes(long, int)} are obtained from a buffer factory, which
+ * defaults to heap buffers. Passing {@code ByteBuffer::allocateDirect} or a
+ * {@link BufferAllocator} lets the caller control where the bytes land; with an allocator,
+ * {@link #release(ByteBuffer)} returns buffers to it. Alternatively,
+ * {@link #readFully(long, ByteBuffer)} fills a caller-supplied buffer.
+ *
+ * <p>Note that a {@link FileChannel} is closed if a thread blocked in a read is interrupted,
+ * which affects all users of this reader. Cancel background reads without interrupting.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * try (FileChannelChunkReader reader = new FileChannelChunkReader(path)) {
+ *   ByteBuffer chunk = reader.readBytes(0, 1024);
+ * }
+ * }</pre>
+ *
+ * @see ChunkReader
+ */
+public class FileChannelChunkReader implements ChunkReader, AutoCloseable {
+  private final FileChannel channel;
+  private final long length;
+  private final IntFunction<ByteBuffer> bufferFactory;
+  private final BufferAllocator allocator;
+
+  /**
+   * Creates a new FileChannelChunkReader that reads into heap buffers.
+   *
+   * @param path the path to the file to read
+   * @throws IOException if the file cannot be opened
+   */
+  public FileChannelChunkReader(Path path) throws IOException {
+    this(path, ByteBuffer::allocate);
+  }
+
+  /**
+   * Creates a new FileChannelChunkReader for the specified path string.
+   *
+   * @param path the path string to the file to read
+   * @throws IOException if the file cannot be opened
+   */
+  public FileChannelChunkReader(String path) throws IOException {
+    this(Path.of(path));
+  }
+
+  /**
+   * Creates a new FileChannelChunkReader that obtains its buffers from the given factory.
+   *
+   * @param path the path to the file to read
+   * @param bufferFactory returns a buffer with at least the requested capacity, for example
+   *                      {@code ByteBuffer::allocateDirect} or a pooled allocator
+   * @throws IOException if the file cannot be opened
+   */
+  public FileChannelChunkReader(Path path, IntFunction<ByteBuffer> bufferFactory)
+      throws IOException {
+    this(path, bufferFactory, null);
+  }
+
+  /**
+   * Creates a new FileChannelChunkReader that obtains its buffers from an allocator.
+   *
+   * <p>Buffers passed to {@link #release(ByteBuffer)} are returned to the allocator.
+   *
+   * @param path the path to the file to read
+   * @param allocator the allocator to obtain buffers from
+   * @throws IOException if the file cannot be opened
+   */
+  public FileChannelChunkReader(Path path, BufferAllocator allocator) throws IOException {
+    this(path, allocator::allocate, allocator);
+  }
+
+  private FileChannelChunkReader(Path path, IntFunction<ByteBuffer> bufferFactory,
+                                 BufferAllocator allocator) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.length = channel.size();
+    this.bufferFactory = bufferFactory;
+    this.allocator = allocator;
+  }
+
+  /**
+   * Returns the total length of the file in bytes.
+   *
+   * @return the file length in bytes
+   */
+  @Override
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Reads a chunk of bytes from the file at the specified position.
+   *
+   * <p>This method is thread-safe and lock-free. If the requested length exceeds the
+   * available bytes from the position to the end of file, it will read only the
+   * available bytes.
+   *
+   * @param position the byte position to start reading from (0-based)
+   * @param length the number of bytes to read
+   * @return a ByteBuffer positioned at 0 containing the read bytes
+   * @throws IOException if position is negative, beyond file length,
+   *                     or if an I/O error occurs during reading
+   */
+  @Override
+  public ByteBuffer readBytes(long position, int length) throws IOException {
+    checkPosition(position);
+
+    // Clamp length to available bytes (for reading headers from small files)
+    int availableBytes = (int) Math.min(length, this.length - position);
+    ByteBuffer buffer = bufferFactory.apply(availableBytes);
+    buffer.clear().limit(availableBytes);
+    readFully(position, buffer);
+    return buffer.flip();
+  }
+
+  /**
+   * Fills the remaining space of a caller-supplied buffer with bytes starting at the
+   * given file position.
+   *
+   * <p>On return the buffer's position has advanced by the number of bytes read, which is
+   * its previous {@code remaining()} count.
+   *
+   * @param position the byte position to start reading from (0-based)
+   * @param target the buffer to fill
+   * @throws IOException if position is invalid, the file ends before the buffer is full,
+   *                     or an I/O error occurs
+   */
+  public void readFully(long position, ByteBuffer target) throws IOException {
+    checkPosition(position);
+    long current = position;
+    while (target.hasRemaining()) {
+      int bytesRead = channel.read(target, current);
+      if (bytesRead < 0) {
+        throw new EOFException(String.format(
+            "Unexpected end of file at position %d (file length %d)", current, length));
+      }
+      current += bytesRead;
+    }
+  }
+
+  /**
+   * Reads several ranges of the file.
+   *
+   * <p>With an allocator, each range is read into an allocator buffer of its own, so that
+   * every buffer can be handed back with {@link #release(ByteBuffer)}; positional reads of a
+   * local file gain little from merging. Without one, nearby ranges are coalesced as
+   * described in {@link ChunkReader#readRanges(List, int, int)}.
+   *
+   * @param ranges the ranges to read, in any order
+   * @param maxMergeGap the largest gap between two ranges that is read through to merge them
+   * @param maxMergedSize the largest size of a single read
+   * @return one buffer per range, in the order of {@code ranges}, each positioned at 0
+   * @throws IOException if an I/O error occurs during reading
+   */
+  @Override
+  public List<ByteBuffer> readRanges(List<FileRange> ranges, int maxMergeGap, int maxMergedSize)
+      throws IOException {
+    if (allocator == null) {
+      return ChunkReader.super.readRanges(ranges, maxMergeGap, maxMergedSize);
+    }
+    List<ByteBuffer> buffers = new ArrayList<>(ranges.size());
+    for (FileRange range : ranges) {
+      buffers.add(range.length() == 0
+          ? ByteBuffer.allocate(0) : readBytes(range.offset(), range.length()));
+    }
+    return buffers;
+  }
+
+  /**
+   * Returns a buffer to the allocator this reader was created with, if any.
+   *
+   * @param buffer a buffer returned by {@link #readBytes(long, int)} or
+   *               {@link #readRanges(List, int, int)} of this reader
+   */
+  @Override
+  public void release(ByteBuffer buffer) {
+    if (allocator != null) {
+      allocator.release(buffer);
+    }
+  }
+
+  private void checkPosition(long position) throws IOException {
+    if (position < 0) {
+      throw new IOException(String.format(
+          "Invalid position: %d", position));
+    }
+
+    if (position >= this.length) {
+      throw new IOException(String.format(
+          "Position %d is beyond file length %d", position, this.length));
+    }
+  }
+
+  /**
+   * Closes the underlying file channel.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
@@ -3,6 +3,7 @@ package io.github.aloksingh.parquet;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 
 /**
@@ -24,6 +25,7 @@ import java.nio.file.Path;
 public class FileChunkReader implements ChunkReader, AutoCloseable {
   private final RandomAccessFile file;
   private final long length;
+  private final BufferAllocator allocator;
 
   /**
    * Creates a new FileChunkReader for the specified path.
@@ -32,8 +34,7 @@ public class FileChunkReader implements ChunkReader, AutoCloseable {
    * @throws IOException if the file cannot be opened or read
    */
   public FileChunkReader(Path path) throws IOException {
-    this.file = new RandomAccessFile(path.toFile(), "r");
-    this.length = file.length();
+    this(path, BufferAllocator.heap());
   }
 
   /**
@@ -46,6 +47,21 @@ public class FileChunkReader implements ChunkReader, AutoCloseable {
     this(Path.of(path));
   }
 
+  /**
+   * Creates a new FileChunkReader that obtains its buffers from an allocator.
+   *
+   * <p>Buffers passed to {@link #release(ByteBuffer)} are returned to the allocator.
+   *
+   * @param path the path to the file to read
+   * @param allocator the allocator to obtain buffers from
+   * @throws IOException if the file cannot be opened or read
+   */
+  public FileChunkReader(Path path, BufferAllocator allocator) throws IOException {
+    this.file = new RandomAccessFile(path.toFile(), "r");
+    this.length = file.length();
+    this.allocator = allocator;
+  }
+
   /**
    * Returns the total length of the file in bytes.
    *
@@ -83,18 +99,30 @@ public class FileChunkReader implements ChunkReader, AutoCloseable {
 
     // Clamp length to available bytes (for reading headers from small files)
     int availableBytes = (int) Math.min(length, this.length - position);
-    byte[] buffer = new byte[availableBytes];
+    ByteBuffer buffer = allocator.allocate(availableBytes);
 
     synchronized (file) {
-      file.seek(position);
-      int bytesRead = file.read(buffer);
-      if (bytesRead != availableBytes) {
-        throw new IOException(String.format(
-            "Expected to read %d bytes, but only read %d bytes",
-            availableBytes, bytesRead));
+      FileChannel channel = file.getChannel();
+      while (buffer.hasRemaining()) {
+        int bytesRead = channel.read(buffer, position + buffer.position());
+        if (bytesRead < 0) {
+          throw new IOException(String.format(
+              "Expected to read %d bytes, but only read %d bytes",
+              availableBytes, buffer.position()));
+        }
       }
     }
-    return ByteBuffer.wrap(buffer);
+    return buffer.flip();
+  }
+
+  /**
+   * Returns a buffer to the allocator this reader was created with.
+   *
+   * @param buffer a buffer returned by {@link #readBytes(long, int)} of this reader
+   */
+  @Override
+  public void release(ByteBuffer buffer) {
+    allocator.release(buffer);
   }
 
   /**
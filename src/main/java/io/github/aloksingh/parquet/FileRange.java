@@ -0,0 +1,32 @@
+package io.github.aloksingh.parquet;
+
+/**
+ * A contiguous range of bytes within a file, used for vectored reads.
+ *
+ * @param offset the file offset of the first byte of the range
+ * @param length the number of bytes in the range
+ * @see ChunkReader#readRanges(java.util.List)
+ */
+public record FileRange(long offset, int length) {
+
+  /**
+   * Validates the range.
+   *
+   * @throws IllegalArgumentException if the offset or length is negative
+   */
+  public FileRange {
+    if (offset < 0 || length < 0) {
+      throw new IllegalArgumentException(String.format(
+          "Invalid range: offset=%d, length=%d", offset, length));
+    }
+  }
+
+  /**
+   * Returns the file offset one past the last byte of the range.
+   *
+   * @return {@code offset + length}
+   */
+  public long end() {
+    return offset + length;
+  }
+}
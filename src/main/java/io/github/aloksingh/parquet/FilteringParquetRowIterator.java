@@ -71,6 +71,21 @@ public class FilteringParquetRowIterator implements RowColumnGroupIterator, Auto
     this.hasSearchedForNext = false;
   }
 
+  /**
+   * Create a filtering iterator over a file that skips the row groups and data pages which,
+   * according to column chunk statistics, bloom filters and the page index, cannot hold
+   * matching rows.
+   * A row must match ALL filters to be included in the results.
+   * The file reader will be closed automatically when {@link #close()} is called.
+   *
+   * @param fileReader The file reader to iterate over
+   * @param filters    The column filters to apply (AND semantics)
+   * @see ParquetRowIterator#ParquetRowIterator(ParquetFileReader, boolean, ColumnFilter[])
+   */
+  public FilteringParquetRowIterator(ParquetFileReader fileReader, ColumnFilter... filters) {
+    this(new ParquetRowIterator(fileReader, true, filters), filters);
+  }
+
   /**
    * Check if a row matches all filters.
    *
@@ -0,0 +1,27 @@
+package io.github.aloksingh.parquet;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link BufferAllocator} that allocates a new heap buffer for every request.
+ *
+ * <p>Released buffers are left to the garbage collector.
+ *
+ * @see BufferAllocator#heap()
+ */
+final class HeapBufferAllocator implements BufferAllocator {
+
+  static final HeapBufferAllocator INSTANCE = new HeapBufferAllocator();
+
+  private HeapBufferAllocator() {
+  }
+
+  @Override
+  public ByteBuffer allocate(int size) {
+    return ByteBuffer.allocate(size);
+  }
+
+  @Override
+  public void release(ByteBuffer buffer) {
+  }
+}
@@ -0,0 +1,252 @@
+package io.github.aloksingh.parquet;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * ChunkReader implementation that reads a remote file with HTTP range requests.
+ *
+ * <p>The file length is taken from the {@code Content-Length} of a HEAD request, and each
+ * read is a GET with a {@code Range} header that the server must answer with
+ * {@code 206 Partial Content}. This lets a {@link ParquetFileReader} open a file behind an
+ * HTTP object gateway and fetch only the footer and the column chunks it needs, instead of
+ * downloading the whole file first.
+ *
+ * <p>When the reader is opened, the last {@code footerPrefetchSize} bytes of the file are
+ * fetched speculatively. Parquet metadata lives at the end of the file, so the footer length
+ * and the footer itself are usually served from this tail without further requests.
+ *
+ * <p>{@link #readRanges(List, int, int)} issues one request per coalesced range and sends
+ * them all concurrently. Requests go through a single {@link HttpClient}, which keeps
+ * connections alive and reuses them across requests.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * try (HttpRangeChunkReader chunkReader =
+ *          new HttpRangeChunkReader(URI.create("http://gateway/data.parquet"));
+ *      ParquetFileReader reader = new ParquetFileReader(chunkReader)) {
+ *   RowColumnGroupIterator rows = reader.rowIterator();
+ * }
+ * }</pre>
+ *
+ * @see ChunkReader
+ */
+public class HttpRangeChunkReader implements ChunkReader, AutoCloseable {
+
+  /**
+   * Default number of bytes fetched from the end of the file when the reader is opened
+   * (64 KB).
+   */
+  public static final int DEFAULT_FOOTER_PREFETCH_SIZE = 64 * 1024;
+
+  private final URI uri;
+  private final HttpClient client;
+  private final boolean ownsClient;
+  private final long length;
+  private final long tailStart;
+  private final ByteBuffer tail;
+
+  /**
+   * Creates a reader for the given URI using its own HTTP client.
+   *
+   * @param uri the location of the file
+   * @throws IOException if the file length cannot be determined or the footer cannot be read
+   */
+  public HttpRangeChunkReader(URI uri) throws IOException {
+    this(uri, HttpClient.newHttpClient(), true, DEFAULT_FOOTER_PREFETCH_SIZE);
+  }
+
+  /**
+   * Creates a reader for the given URI using a shared HTTP client.
+   *
+   * <p>The client is not closed by {@link #close()}.
+   *
+   * @param uri the location of the file
+   * @param client the client to send requests with
+   * @param footerPrefetchSize the number of bytes to fetch from the end of the file when
+   *                           the reader is opened, or 0 to disable the speculative read
+   * @throws IOException if the file length cannot be determined or the footer cannot be read
+   */
+  public HttpRangeChunkReader(URI uri, HttpClient client, int footerPrefetchSize)
+      throws IOException {
+    this(uri, client, false, footerPrefetchSize);
+  }
+
+  private HttpRangeChunkReader(URI uri, HttpClient client, boolean ownsClient,
+                               int footerPrefetchSize) throws IOException {
+    if (footerPrefetchSize < 0) {
+      throw new IllegalArgumentException("Invalid footer prefetch size: " + footerPrefetchSize);
+    }
+    this.uri = uri;
+    this.client = client;
+    this.ownsClient = ownsClient;
+    try {
+      this.length = fetchLength();
+
+      int tailSize = (int) Math.min(footerPrefetchSize, length);
+      this.tailStart = length - tailSize;
+      this.tail = tailSize > 0 ? join(fetchRange(tailStart, tailSize)) : ByteBuffer.allocate(0);
+    } catch (IOException | RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  private long fetchLength() throws IOException {
+    HttpRequest request = HttpRequest.newBuilder(uri)
+        .method("HEAD", HttpRequest.BodyPublishers.noBody())
+        .build();
+    HttpResponse<Void> response = send(request, HttpResponse.BodyHandlers.discarding());
+    if (response.statusCode() != 200) {
+      throw new IOException(String.format(
+          "HEAD %s returned status %d", uri, response.statusCode()));
+    }
+    return response.headers().firstValueAsLong("Content-Length")
+        .orElseThrow(() -> new IOException("HEAD " + uri + " returned no Content-Length"));
+  }
+
+  /**
+   * Returns the total length of the remote file in bytes.
+   *
+   * @return the file length in bytes
+   */
+  @Override
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Reads a range of the remote file, waiting for the response.
+   *
+   * <p>If the requested length exceeds the available bytes from the position to the end of
+   * file, it will read only the available bytes. Ranges within the speculatively fetched
+   * tail are served without a request.
+   *
+   * @param position the byte position to start reading from (0-based)
+   * @param length the number of bytes to read
+   * @return a ByteBuffer positioned at 0 containing the read bytes
+   * @throws IOException if position is invalid, the server does not answer with the
+   *                     requested range, or the request fails
+   */
+  @Override
+  public ByteBuffer readBytes(long position, int length) throws IOException {
+    return join(readBytesAsync(position, length));
+  }
+
+  /**
+   * Starts reading a range of the remote file and returns without waiting.
+   *
+   * @param position the byte position to start reading from (0-based)
+   * @param length the number of bytes to read
+   * @return a future completed with a ByteBuffer positioned at 0 containing the read bytes,
+   *         or completed exceptionally with an {@link IOException}
+   */
+  @Override
+  public CompletableFuture<ByteBuffer> readBytesAsync(long position, int length) {
+    if (position < 0) {
+      return CompletableFuture.failedFuture(new IOException(String.format(
+          "Invalid position: %d", position)));
+    }
+    if (position >= this.length) {
+      return CompletableFuture.failedFuture(new IOException(String.format(
+          "Position %d is beyond file length %d", position, this.length)));
+    }
+
+    int available = (int) Math.min(length, this.length - position);
+    if (position >= tailStart && tail.limit() > 0) {
+      return CompletableFuture.completedFuture(
+          tail.slice((int) (position - tailStart), available));
+    }
+    return fetchRange(position, available);
+  }
+
+  /**
+   * Reads several ranges, sending one request per coalesced range concurrently.
+   *
+   * @param ranges the ranges to read, in any order
+   * @param maxMergeGap the largest gap between two ranges that is read through to merge them
+   * @param maxMergedSize the largest size of a single request
+   * @return one buffer per range, in the order of {@code ranges}, each positioned at 0
+   * @throws IOException if any request fails
+   */
+  @Override
+  public List<ByteBuffer> readRanges(List<FileRange> ranges, int maxMergeGap, int maxMergedSize)
+      throws IOException {
+    CoalescedReads plan = CoalescedReads.plan(ranges, maxMergeGap, maxMergedSize);
+    List<CompletableFuture<ByteBuffer>> futures = new ArrayList<>(plan.reads().size());
+    for (FileRange read : plan.reads()) {
+      futures.add(readBytesAsync(read.offset(), read.length()));
+    }
+    List<ByteBuffer> results = new ArrayList<>(futures.size());
+    for (CompletableFuture<ByteBuffer> future : futures) {
+      results.add(join(future));
+    }
+    return plan.assemble(results);
+  }
+
+  private CompletableFuture<ByteBuffer> fetchRange(long position, int length) {
+    long last = position + length - 1;
+    HttpRequest request = HttpRequest.newBuilder(uri)
+        .header("Range", "bytes=" + position + "-" + last)
+        .GET()
+        .build();
+    return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+        .thenApply(response -> {
+          if (response.statusCode() != 206) {
+            throw new CompletionException(new IOException(String.format(
+                "GET %s for bytes %d-%d returned status %d, expected 206 Partial Content",
+                uri, position, last, response.statusCode())));
+          }
+          byte[] body = response.body();
+          if (body.length != length) {
+            throw new CompletionException(new IOException(String.format(
+                "GET %s for bytes %d-%d returned %d bytes", uri, position, last, body.length)));
+          }
+          return ByteBuffer.wrap(body);
+        });
+  }
+
+  private <T> HttpResponse<T> send(HttpRequest request,
+                                   HttpResponse.BodyHandler<T> handler) throws IOException {
+    try {
+      return client.send(request, handler);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while requesting " + uri);
+    }
+  }
+
+  private ByteBuffer join(CompletableFuture<ByteBuffer> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while reading " + uri);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Failed to read " + uri, e.getCause());
+    }
+  }
+
+  /**
+   * Closes the HTTP client if it was created by this reader.
+   */
+  @Override
+  public void close() {
+    if (ownsClient) {
+      client.close();
+    }
+  }
+}
@@ -0,0 +1,292 @@
+package io.github.aloksingh.parquet;
+
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntToLongFunction;
+
+/**
+ * ChunkReader wrapper that records {@link IoStatistics} for every read.
+ *
+ * <p>Statistics are kept for the file as a whole and, once the column chunk layout is known,
+ * for each column chunk. {@link ParquetFileReader} registers the layout automatically when it
+ * is given an instrumented reader, so reads are attributed without further setup. Reads that
+ * fall outside every column chunk, such as the footer, only count towards the file.
+ *
+ * <p>For the file, a read is sequential when it starts where the previous read of the same
+ * thread ended, so that concurrent readers do not break up each other's runs. For a column
+ * chunk, a read is sequential when it starts where the previous read of that chunk ended,
+ * or at the start of the chunk. A read that spans several column chunks counts as one read
+ * for each chunk it touches, with the bytes split by overlap. Each range of a
+ * {@link #readRanges(List, int, int)} call is recorded as a read of its own.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * try (InstrumentedChunkReader chunkReader =
+ *          new InstrumentedChunkReader(new FileChannelChunkReader(path));
+ *      ParquetFileReader reader = new ParquetFileReader(chunkReader)) {
+ *   reader.rowIterator().forEachRemaining(row -> { });
+ *   IoStatistics.Snapshot stats = chunkReader.fileStatistics();
+ * }
+ * }</pre>
+ *
+ * <p>Closing this reader closes the wrapped reader if it is {@link AutoCloseable}.
+ */
+public class InstrumentedChunkReader implements ChunkReader, AutoCloseable {
+
+  /**
+   * Identifies a column chunk within a file.
+   *
+   * @param rowGroup the row group index
+   * @param column the physical column index within the row group
+   */
+  public record ColumnChunkId(int rowGroup, int column) {
+  }
+
+  /**
+   * The statistics of a column chunk, and where its last read ended.
+   */
+  private static final class ChunkStatistics {
+    final IoStatistics statistics = new IoStatistics();
+    final AtomicLong lastReadEnd;
+
+    ChunkStatistics(long start) {
+      this.lastReadEnd = new AtomicLong(start);
+    }
+  }
+
+  private static final Comparator<ColumnChunkId> FILE_ORDER =
+      Comparator.comparingInt(ColumnChunkId::rowGroup).thenComparingInt(ColumnChunkId::column);
+
+  private final ChunkReader delegate;
+  private final IoStatistics fileStatistics = new IoStatistics();
+  private final ThreadLocal<long[]> lastReadEnd = ThreadLocal.withInitial(() -> new long[] {-1});
+  private volatile ParquetMetadata metadata;
+  private volatile ConcurrentNavigableMap<ColumnChunkId, ChunkStatistics> columnChunks =
+      new ConcurrentSkipListMap<>(FILE_ORDER);
+
+  /**
+   * Creates an instrumented view of the given reader.
+   *
+   * @param delegate the reader that performs the actual reads
+   */
+  public InstrumentedChunkReader(ChunkReader delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Registers the column chunk layout of the file, so that subsequent reads are attributed to
+   * the column chunks they fall in. Previously recorded column chunk statistics are discarded.
+   *
+   * <p>The layout is looked up as reads arrive: row groups, and the column chunks within
+   * each, are laid out in file order, so the chunks a read touches are found by binary
+   * search. Only the column chunk metadata met on the way is used, which keeps metadata
+   * read with {@link ParquetMetadataReader#readMetadataLazily(ChunkReader)} mostly
+   * undecoded.
+   *
+   * @param metadata the file metadata
+   */
+  public void attributeColumnChunks(ParquetMetadata metadata) {
+    this.columnChunks = new ConcurrentSkipListMap<>(FILE_ORDER);
+    this.metadata = metadata;
+  }
+
+  /**
+   * Registers the column chunk layout of the file with {@link #attributeColumnChunks}, then
+   * forwards the metadata to the wrapped reader.
+   *
+   * @param metadata the file metadata
+   */
+  @Override
+  public void onMetadata(ParquetMetadata metadata) {
+    attributeColumnChunks(metadata);
+    delegate.onMetadata(metadata);
+  }
+
+  @Override
+  public long length() throws IOException {
+    return delegate.length();
+  }
+
+  @Override
+  public ByteBuffer readBytes(long position, int length) throws IOException {
+    boolean sequential = continuesCallerRead(position, length);
+    long start = System.nanoTime();
+    ByteBuffer buffer = delegate.readBytes(position, length);
+    record(position, length, buffer.remaining(), sequential, System.nanoTime() - start);
+    return buffer;
+  }
+
+  /**
+   * Reads several ranges through the wrapped reader, which may coalesce them or read them in
+   * parallel, and records each range as a read taking as long as the whole call.
+   */
+  @Override
+  public List<ByteBuffer> readRanges(List<FileRange> ranges, int maxMergeGap, int maxMergedSize)
+      throws IOException {
+    boolean[] sequential = new boolean[ranges.size()];
+    for (int i = 0; i < sequential.length; i++) {
+      sequential[i] = continuesCallerRead(ranges.get(i).offset(), ranges.get(i).length());
+    }
+    long start = System.nanoTime();
+    List<ByteBuffer> buffers = delegate.readRanges(ranges, maxMergeGap, maxMergedSize);
+    long nanos = System.nanoTime() - start;
+    for (int i = 0; i < sequential.length; i++) {
+      FileRange range = ranges.get(i);
+      if (range.length() > 0) {
+        record(range.offset(), range.length(), buffers.get(i).remaining(), sequential[i],
+            nanos);
+      }
+    }
+    return buffers;
+  }
+
+  @Override
+  public CompletableFuture<ByteBuffer> readBytesAsync(long position, int length) {
+    // Decided on the calling thread; the read may complete on another one
+    boolean sequential = continuesCallerRead(position, length);
+    long start = System.nanoTime();
+    return delegate.readBytesAsync(position, length).thenApply(buffer -> {
+      record(position, length, buffer.remaining(), sequential, System.nanoTime() - start);
+      return buffer;
+    });
+  }
+
+  @Override
+  public void release(ByteBuffer buffer) {
+    delegate.release(buffer);
+  }
+
+  /**
+   * Returns a snapshot of the statistics for all reads on this reader.
+   *
+   * @return the file statistics
+   */
+  public IoStatistics.Snapshot fileStatistics() {
+    return fileStatistics.snapshot();
+  }
+
+  /**
+   * Returns a snapshot of the statistics of every column chunk that has been read, in file
+   * order.
+   *
+   * @return the statistics per column chunk
+   */
+  public Map<ColumnChunkId, IoStatistics.Snapshot> columnChunkStatistics() {
+    Map<ColumnChunkId, IoStatistics.Snapshot> result = new LinkedHashMap<>();
+    for (Map.Entry<ColumnChunkId, ChunkStatistics> chunk : columnChunks.entrySet()) {
+      result.put(chunk.getKey(), chunk.getValue().statistics.snapshot());
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * Returns whether a read continues the previous read of the calling thread, and remembers
+   * where it ends.
+   */
+  private boolean continuesCallerRead(long position, int length) {
+    long[] last = lastReadEnd.get();
+    boolean sequential = last[0] == position;
+    last[0] = position + length;
+    return sequential;
+  }
+
+  private void record(long position, int requested, int read, boolean sequential,
+                      long nanos) {
+    fileStatistics.record(requested, read, sequential, nanos);
+
+    ParquetMetadata metadata = this.metadata;
+    if (metadata == null || metadata.getNumRowGroups() == 0) {
+      return;
+    }
+    ConcurrentNavigableMap<ColumnChunkId, ChunkStatistics> chunks = columnChunks;
+    List<ParquetMetadata.RowGroupMetadata> rowGroups = metadata.rowGroups();
+    long requestedEnd = position + requested;
+    long end = position + read;
+
+    // Start at the last chunk starting at or before the read, and walk forward
+    int rowGroup = Math.max(0, floor(rowGroups.size(), i -> chunkStart(rowGroups, i, 0),
+        position));
+    List<ParquetMetadata.ColumnChunkMetadata> columns = rowGroups.get(rowGroup).columns();
+    int column = Math.max(0, floor(columns.size(),
+        i -> columns.get(i).getFirstDataPageOffset(), position));
+    while (rowGroup < rowGroups.size()) {
+      if (column >= rowGroups.get(rowGroup).getNumColumns()) {
+        rowGroup++;
+        column = 0;
+        continue;
+      }
+      ParquetMetadata.ColumnChunkMetadata chunk =
+          rowGroups.get(rowGroup).columns().get(column);
+      long chunkStart = chunk.getFirstDataPageOffset();
+      if (chunkStart >= requestedEnd) {
+        break;
+      }
+      long chunkEnd = chunkStart + chunk.totalCompressedSize();
+      long overlapStart = Math.max(position, chunkStart);
+      long overlapRequested = Math.min(requestedEnd, chunkEnd) - overlapStart;
+      if (overlapRequested > 0) {
+        long overlapRead = Math.max(0, Math.min(end, chunkEnd) - overlapStart);
+        ChunkStatistics statistics = chunks.computeIfAbsent(
+            new ColumnChunkId(rowGroup, column), id -> new ChunkStatistics(chunkStart));
+        boolean chunkSequential = statistics.lastReadEnd.getAndSet(overlapStart
+            + overlapRequested) == overlapStart;
+        statistics.statistics.record(overlapRequested, overlapRead, chunkSequential, nanos);
+      }
+      column++;
+    }
+  }
+
+  private static long chunkStart(List<ParquetMetadata.RowGroupMetadata> rowGroups,
+                                 int rowGroup, int column) {
+    List<ParquetMetadata.ColumnChunkMetadata> columns = rowGroups.get(rowGroup).columns();
+    return columns.isEmpty() ? Long.MAX_VALUE : columns.get(column).getFirstDataPageOffset();
+  }
+
+  /**
+   * Returns the last index whose start is at or before a position, or -1 if there is none,
+   * for starts that increase with the index.
+   */
+  private static int floor(int size, IntToLongFunction start, long position) {
+    int low = 0;
+    int high = size - 1;
+    int result = -1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (start.applyAsLong(mid) <= position) {
+        result = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Closes the wrapped reader if it is closeable.
+   *
+   * @throws IOException if the wrapped reader fails to close
+   */
+  @Override
+  public void close() throws IOException {
+    if (delegate instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (IOException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IOException("Failed to close chunk reader", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package io.github.aloksingh.parquet;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counters describing the reads issued against a file or a column chunk.
+ *
+ * <p>Each read records the bytes requested and returned, whether it continued where the
+ * previous read ended (sequential) or jumped elsewhere (random), and its latency. Latencies
+ * are kept in a histogram with power-of-two microsecond buckets, which is cheap to update
+ * and precise enough to tell page cache hits from disk or network round trips.
+ *
+ * <p>{@link #snapshot()} returns an immutable copy suitable for exporting to a metrics
+ * system.
+ *
+ * @see InstrumentedChunkReader
+ */
+public final class IoStatistics {
+
+  /**
+   * Number of latency histogram buckets. Bucket 0 counts reads faster than 1 microsecond,
+   * bucket {@code i} counts reads taking {@code [2^(i-1), 2^i)} microseconds, and the last
+   * bucket also counts everything slower.
+   */
+  public static final int LATENCY_BUCKETS = 32;
+
+  private final LongAdder readCalls = new LongAdder();
+  private final LongAdder bytesRequested = new LongAdder();
+  private final LongAdder bytesRead = new LongAdder();
+  private final LongAdder sequentialReads = new LongAdder();
+  private final LongAdder randomReads = new LongAdder();
+  private final LongAdder readNanos = new LongAdder();
+  private final AtomicLongArray latencyHistogram = new AtomicLongArray(LATENCY_BUCKETS);
+
+  /**
+   * A point-in-time copy of the counters.
+   *
+   * @param readCalls the number of reads
+   * @param bytesRequested the total number of bytes asked for
+   * @param bytesRead the total number of bytes returned; less than requested at end of file
+   * @param sequentialReads the number of reads starting where the previous read ended
+   * @param randomReads the number of reads starting anywhere else
+   * @param readNanos the total time spent in reads, in nanoseconds
+   * @param latencyHistogram read counts per latency bucket, see {@link #LATENCY_BUCKETS}
+   */
+  public record Snapshot(long readCalls, long bytesRequested, long bytesRead,
+                         long sequentialReads, long randomReads, long readNanos,
+                         long[] latencyHistogram) {
+
+    /**
+     * Returns the mean read latency.
+     *
+     * @return the mean latency in nanoseconds, or 0 if there were no reads
+     */
+    public double meanLatencyNanos() {
+      return readCalls == 0 ? 0 : (double) readNanos / readCalls;
+    }
+
+    /**
+     * Returns an upper bound for the given latency percentile, taken from the histogram.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound of the bucket containing the percentile, in microseconds, or 0
+     *         if there were no reads
+     */
+    public long latencyPercentileMicros(double percentile) {
+      long total = 0;
+      for (long count : latencyHistogram) {
+        total += count;
+      }
+      if (total == 0) {
+        return 0;
+      }
+      long rank = (long) Math.ceil(total * percentile / 100.0);
+      long seen = 0;
+      for (int i = 0; i < latencyHistogram.length; i++) {
+        seen += latencyHistogram[i];
+        if (seen >= rank && seen > 0) {
+          return 1L << i;
+        }
+      }
+      return 1L << (latencyHistogram.length - 1);
+    }
+  }
+
+  /**
+   * Records a completed read.
+   *
+   * @param bytesRequested the number of bytes asked for
+   * @param bytesRead the number of bytes returned
+   * @param sequential whether the read started where the previous read ended
+   * @param nanos the time the read took, in nanoseconds
+   */
+  public void record(long bytesRequested, long bytesRead, boolean sequential, long nanos) {
+    readCalls.increment();
+    this.bytesRequested.add(bytesRequested);
+    this.bytesRead.add(bytesRead);
+    (sequential ? sequentialReads : randomReads).increment();
+    readNanos.add(nanos);
+    latencyHistogram.incrementAndGet(bucket(nanos));
+  }
+
+  /**
+   * Returns a copy of the current counters.
+   *
+   * @return the snapshot
+   */
+  public Snapshot snapshot() {
+    long[] histogram = new long[LATENCY_BUCKETS];
+    for (int i = 0; i < LATENCY_BUCKETS; i++) {
+      histogram[i] = latencyHistogram.get(i);
+    }
+    return new Snapshot(readCalls.sum(), bytesRequested.sum(), bytesRead.sum(),
+        sequentialReads.sum(), randomReads.sum(), readNanos.sum(), histogram);
+  }
+
+  private static int bucket(long nanos) {
+    long micros = nanos / 1000;
+    return Math.min(LATENCY_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+  }
+}
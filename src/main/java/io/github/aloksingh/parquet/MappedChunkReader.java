@@ -0,0 +1,278 @@
+package io.github.aloksingh.parquet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ChunkReader implementation that memory-maps a local file.
+ *
+ * <p>Unlike {@link FileChunkReader}, reads do not allocate or copy: {@link #readBytes(long, int)}
+ * returns a read-only slice of the mapping, so page headers and page bodies are handed to
+ * {@link PageReader} and the decompressors straight from the OS page cache. Reads never take a
+ * lock, so any number of threads can read concurrently.
+ *
+ * <p>A single {@link MappedByteBuffer} is limited to 2 GB, so the file is mapped as a series of
+ * segments. Each segment covers {@code segmentSize} bytes of the file plus an {@code overlap}
+ * region that extends into the next segment. Any read that starts in a segment and is no longer
+ * than the overlap is therefore served from one mapping. The rare read that crosses the end of a
+ * segment mapping is assembled into a heap buffer.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * try (MappedChunkReader chunkReader = new MappedChunkReader(path, AccessHint.SEQUENTIAL);
+ *      ParquetFileReader reader = new ParquetFileReader(chunkReader)) {
+ *   ColumnValues column = reader.getRowGroup(0).readColumn(0);
+ * }
+ * }</pre>
+ *
+ * <p>The mapped memory is released by the JVM once the reader and all buffers returned from
+ * it become unreachable. Buffers must not be used after the reader is closed.
+ *
+ * @see ChunkReader
+ * @see FileChunkReader
+ */
+public class MappedChunkReader implements ChunkReader, AutoCloseable {
+
+  /**
+   * Default number of file bytes covered by each mapped segment (1 GB).
+   */
+  public static final long DEFAULT_SEGMENT_SIZE = 1L << 30;
+
+  /**
+   * Default number of bytes each segment mapping extends into the next segment (64 MB).
+   */
+  public static final int DEFAULT_OVERLAP = 64 << 20;
+
+  /**
+   * Default number of bytes loaded ahead of a read when using {@link AccessHint#SEQUENTIAL}.
+   */
+  public static final int DEFAULT_READ_AHEAD = 8 << 20;
+
+  /**
+   * Access pattern hints, modelled after {@code madvise(2)}.
+   *
+   * <p>Java does not expose {@code madvise} for mapped buffers, so the hints are implemented
+   * with {@link MappedByteBuffer#load()}, which faults the requested pages into memory.
+   */
+  public enum AccessHint {
+    /** No special treatment; pages are faulted in on first access. */
+    NORMAL,
+    /** The file is read front to back; pages ahead of each read are loaded in batches. */
+    SEQUENTIAL,
+    /** The whole file will be needed; all segments are loaded when the reader is opened. */
+    WILLNEED
+  }
+
+  private final FileChannel channel;
+  private final long length;
+  private final long segmentSize;
+  private final MappedByteBuffer[] segments;
+  private final AccessHint accessHint;
+  private final AtomicLong loadedUpTo = new AtomicLong();
+  private volatile boolean closed;
+
+  /**
+   * Creates a new MappedChunkReader for the specified path using default settings.
+   *
+   * @param path the path to the file to map
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public MappedChunkReader(Path path) throws IOException {
+    this(path, AccessHint.NORMAL);
+  }
+
+  /**
+   * Creates a new MappedChunkReader for the specified path string using default settings.
+   *
+   * @param path the path string to the file to map
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public MappedChunkReader(String path) throws IOException {
+    this(Path.of(path));
+  }
+
+  /**
+   * Creates a new MappedChunkReader with the given access hint.
+   *
+   * @param path the path to the file to map
+   * @param accessHint how the file is expected to be accessed
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public MappedChunkReader(Path path, AccessHint accessHint) throws IOException {
+    this(path, accessHint, DEFAULT_SEGMENT_SIZE, DEFAULT_OVERLAP);
+  }
+
+  /**
+   * Creates a new MappedChunkReader with explicit segment settings.
+   *
+   * @param path the path to the file to map
+   * @param accessHint how the file is expected to be accessed
+   * @param segmentSize the number of file bytes covered by each segment
+   * @param overlap the number of bytes each segment mapping extends into the next segment;
+   *                reads up to this size never need to be copied
+   * @throws IOException if the file cannot be opened or mapped
+   * @throws IllegalArgumentException if {@code segmentSize + overlap} exceeds 2 GB
+   */
+  public MappedChunkReader(Path path, AccessHint accessHint, long segmentSize, int overlap)
+      throws IOException {
+    if (segmentSize <= 0 || overlap < 0 || segmentSize + overlap > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(String.format(
+          "Invalid segment size %d and overlap %d", segmentSize, overlap));
+    }
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      this.length = channel.size();
+      this.segmentSize = segmentSize;
+      this.accessHint = accessHint;
+
+      int numSegments = (int) ((length + segmentSize - 1) / segmentSize);
+      this.segments = new MappedByteBuffer[numSegments];
+      for (int i = 0; i < numSegments; i++) {
+        long start = i * segmentSize;
+        long size = Math.min(segmentSize + overlap, length - start);
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+      }
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+
+    if (accessHint == AccessHint.WILLNEED) {
+      for (MappedByteBuffer segment : segments) {
+        segment.load();
+      }
+    }
+  }
+
+  /**
+   * Returns the total length of the file in bytes.
+   *
+   * @return the file length in bytes
+   */
+  @Override
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Returns a read-only view of the file at the specified position.
+   *
+   * <p>If the requested length exceeds the available bytes from the position to the end of
+   * file, only the available bytes are returned. The returned buffer shares memory with the
+   * mapping unless the range crosses the end of a segment mapping.
+   *
+   * @param position the byte position to start reading from (0-based)
+   * @param length the number of bytes to read
+   * @return a read-only ByteBuffer positioned at 0 containing the requested bytes
+   * @throws IOException if the reader is closed, or position is negative or beyond file length
+   */
+  @Override
+  public ByteBuffer readBytes(long position, int length) throws IOException {
+    if (closed) {
+      throw new IOException("MappedChunkReader is closed");
+    }
+    if (position < 0) {
+      throw new IOException(String.format(
+          "Invalid position: %d", position));
+    }
+    if (position >= this.length) {
+      throw new IOException(String.format(
+          "Position %d is beyond file length %d", position, this.length));
+    }
+
+    int available = (int) Math.min(length, this.length - position);
+    int index = (int) (position / segmentSize);
+    MappedByteBuffer segment = segments[index];
+    int offset = (int) (position - index * segmentSize);
+
+    ByteBuffer result;
+    if (offset + available <= segment.capacity()) {
+      result = segment.slice(offset, available);
+    } else {
+      result = copyAcrossSegments(position, available);
+    }
+
+    if (accessHint == AccessHint.SEQUENTIAL) {
+      readAhead(position + available);
+    }
+    return result;
+  }
+
+  /**
+   * Faults the given range of the file into memory.
+   *
+   * <p>This is the equivalent of {@code madvise(MADV_WILLNEED)} for a single region, for
+   * example a column chunk that is about to be decoded. It blocks until the pages are loaded.
+   *
+   * @param position the start of the range
+   * @param length the number of bytes to load
+   */
+  public void willNeed(long position, long length) {
+    long end = Math.min(this.length, position + length);
+    long current = Math.max(0, position);
+    while (current < end) {
+      int index = (int) (current / segmentSize);
+      int offset = (int) (current - index * segmentSize);
+      int size = (int) Math.min(end - current, segmentSize - offset);
+      segments[index].slice(offset, size).load();
+      current += size;
+    }
+  }
+
+  /**
+   * Loads the next read-ahead window once a sequential reader gets close to the end of the
+   * previously loaded region.
+   *
+   * @param readEnd the end position of the read that just completed
+   */
+  private void readAhead(long readEnd) {
+    long loaded = loadedUpTo.get();
+    if (readEnd + DEFAULT_READ_AHEAD / 2 <= loaded || readEnd >= length) {
+      return;
+    }
+    long from = Math.max(readEnd, loaded);
+    long to = Math.min(length, readEnd + DEFAULT_READ_AHEAD);
+    if (from < to && loadedUpTo.compareAndSet(loaded, to)) {
+      willNeed(from, to - from);
+    }
+  }
+
+  /**
+   * Copies a range that is not contained in a single segment mapping into a heap buffer.
+   *
+   * @param position the start of the range
+   * @param length the number of bytes to copy
+   * @return a read-only buffer containing the requested bytes
+   */
+  private ByteBuffer copyAcrossSegments(long position, int length) {
+    ByteBuffer result = ByteBuffer.allocate(length);
+    long current = position;
+    while (result.hasRemaining()) {
+      int index = (int) (current / segmentSize);
+      MappedByteBuffer segment = segments[index];
+      int offset = (int) (current - index * segmentSize);
+      int size = Math.min(result.remaining(), segment.capacity() - offset);
+      result.put(segment.slice(offset, size));
+      current += size;
+    }
+    return result.flip().asReadOnlyBuffer();
+  }
+
+  /**
+   * Closes the underlying file channel.
+   *
+   * <p>Buffers previously returned by this reader must no longer be used.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    channel.close();
+  }
+}
@@ -0,0 +1,154 @@
+package io.github.aloksingh.parquet;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * ChunkReader implementation backed by a {@link MemorySegment}.
+ *
+ * <p>A file is mapped as a single segment owned by an {@link Arena}, so unlike
+ * {@link MappedChunkReader} there is no 2 GB limit per mapping and no segment boundaries to
+ * copy across. {@link #readBytes(long, int)} returns read-only {@link ByteBuffer} views of the
+ * segment and {@link #readSegment(long, long)} returns segment slices of any size. Reads do not
+ * allocate, copy or lock.
+ *
+ * <p>The mapping is unmapped deterministically when the reader is closed, rather than when the
+ * garbage collector gets around to it. Any buffer or segment obtained from the reader is
+ * invalid afterwards: accessing one throws {@link IllegalStateException} instead of reading
+ * unmapped memory.
+ *
+ * <p>The reader can also wrap an existing segment, for example file bytes loaded into
+ * off-heap memory, in which case the caller keeps ownership of the segment's arena.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * try (MemorySegmentChunkReader chunkReader = new MemorySegmentChunkReader(path);
+ *      ParquetFileReader reader = new ParquetFileReader(chunkReader);
+ *      ParquetFileReader.RowGroupReader rowGroup = reader.openRowGroup(0)) {
+ *   ColumnValues column = rowGroup.readColumn(0);
+ * }
+ * }</pre>
+ *
+ * @see ChunkReader
+ * @see ArenaBufferAllocator
+ */
+public class MemorySegmentChunkReader implements ChunkReader, AutoCloseable {
+  private final MemorySegment segment;
+  private final Arena arena;
+  private volatile boolean closed;
+
+  /**
+   * Maps the file at the given path into a segment owned by this reader.
+   *
+   * @param path the path to the file to map
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public MemorySegmentChunkReader(Path path) throws IOException {
+    this.arena = Arena.ofShared();
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      this.segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+    } catch (IOException | RuntimeException e) {
+      arena.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Maps the file at the given path string into a segment owned by this reader.
+   *
+   * @param path the path string to the file to map
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public MemorySegmentChunkReader(String path) throws IOException {
+    this(Path.of(path));
+  }
+
+  /**
+   * Creates a reader over the bytes of an existing segment.
+   *
+   * <p>The segment is not released when this reader is closed; its lifetime is controlled by
+   * the arena that allocated it.
+   *
+   * @param segment the segment holding the complete Parquet file
+   */
+  public MemorySegmentChunkReader(MemorySegment segment) {
+    this.segment = segment.asReadOnly();
+    this.arena = null;
+  }
+
+  /**
+   * Returns the total length of the file in bytes.
+   *
+   * @return the file length in bytes
+   */
+  @Override
+  public long length() {
+    return segment.byteSize();
+  }
+
+  /**
+   * Returns a read-only view of the file at the specified position.
+   *
+   * <p>If the requested length exceeds the available bytes from the position to the end of
+   * file, only the available bytes are returned.
+   *
+   * @param position the byte position to start reading from (0-based)
+   * @param length the number of bytes to read
+   * @return a read-only ByteBuffer positioned at 0 containing the requested bytes
+   * @throws IOException if the reader is closed, or position is negative or beyond file length
+   */
+  @Override
+  public ByteBuffer readBytes(long position, int length) throws IOException {
+    checkPosition(position);
+    long available = Math.min(length, segment.byteSize() - position);
+    return segment.asSlice(position, available).asByteBuffer().asReadOnlyBuffer();
+  }
+
+  /**
+   * Returns a read-only slice of the file, which may be larger than 2 GB.
+   *
+   * <p>If the requested length exceeds the available bytes from the position to the end of
+   * file, only the available bytes are returned.
+   *
+   * @param position the byte position to start reading from (0-based)
+   * @param length the number of bytes to read
+   * @return a segment covering the requested bytes
+   * @throws IOException if the reader is closed, or position is negative or beyond file length
+   */
+  public MemorySegment readSegment(long position, long length) throws IOException {
+    checkPosition(position);
+    return segment.asSlice(position, Math.min(length, segment.byteSize() - position));
+  }
+
+  private void checkPosition(long position) throws IOException {
+    if (closed) {
+      throw new IOException("MemorySegmentChunkReader is closed");
+    }
+    if (position < 0) {
+      throw new IOException(String.format(
+          "Invalid position: %d", position));
+    }
+    if (position >= segment.byteSize()) {
+      throw new IOException(String.format(
+          "Position %d is beyond file length %d", position, segment.byteSize()));
+    }
+  }
+
+  /**
+   * Unmaps the file if this reader mapped it.
+   *
+   * <p>Buffers and segments previously returned by this reader must no longer be used.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    if (arena != null) {
+      arena.close();
+    }
+  }
+}
@@ -0,0 +1,243 @@
+package io.github.aloksingh.parquet;
+
+import io.github.aloksingh.parquet.model.ColumnDescriptor;
+import io.github.aloksingh.parquet.model.LogicalColumnDescriptor;
+import io.github.aloksingh.parquet.model.ParquetException;
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import io.github.aloksingh.parquet.util.filter.ColumnFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnValueStatistics;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.parquet.format.ColumnIndex;
+import org.apache.parquet.format.OffsetIndex;
+import org.apache.parquet.format.PageLocation;
+import shaded.parquet.org.apache.thrift.TBase;
+import shaded.parquet.org.apache.thrift.TException;
+import shaded.parquet.org.apache.thrift.protocol.TCompactProtocol;
+import shaded.parquet.org.apache.thrift.transport.TIOStreamTransport;
+
+/**
+ * The page index of a column chunk: where each data page is, which rows it holds, and,
+ * if the file has a ColumnIndex, the min/max statistics and null information of each page.
+ *
+ * <p>Writers that support it store the page index after the row groups, outside the column
+ * chunks. The OffsetIndex lists the location and {@code first_row_index} of every data page;
+ * the optional ColumnIndex lists per-page min/max values, null counts and whether a page
+ * holds only nulls. Together they let a reader find the pages whose values can satisfy a
+ * {@link ColumnFilter}, and read only those, with {@link RowRanges} keeping the selected rows
+ * aligned across columns.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * PageIndex index = rowGroup.readPageIndex(column);
+ * if (index != null) {
+ *   RowRanges rows = index.rowsMightMatch(filter, logicalColumn);
+ *   ColumnValues values = rowGroup.readColumn(column, index, rows);
+ *   // values hold the rows index.pageRows(rows)
+ * }
+ * }</pre>
+ */
+public class PageIndex {
+  private final ColumnDescriptor column;
+  private final long[] offsets;
+  private final int[] compressedSizes;
+  private final long[] firstRowIndexes;
+  private final long rowCount;
+  private final ColumnIndex columnIndex;
+
+  private PageIndex(ColumnDescriptor column, OffsetIndex offsetIndex, ColumnIndex columnIndex,
+                    long rowCount) {
+    List<PageLocation> locations = offsetIndex.getPage_locations();
+    this.column = column;
+    this.offsets = new long[locations.size()];
+    this.compressedSizes = new int[locations.size()];
+    this.firstRowIndexes = new long[locations.size()];
+    for (int i = 0; i < locations.size(); i++) {
+      PageLocation location = locations.get(i);
+      offsets[i] = location.getOffset();
+      compressedSizes[i] = location.getCompressed_page_size();
+      firstRowIndexes[i] = location.getFirst_row_index();
+    }
+    this.rowCount = rowCount;
+    this.columnIndex = columnIndex != null
+        && columnIndex.getNull_pages().size() == locations.size() ? columnIndex : null;
+  }
+
+  /**
+   * Reads the page index of a column chunk.
+   *
+   * @param chunkReader the reader for the file
+   * @param columnMeta the metadata of the column chunk
+   * @param column the descriptor of the column
+   * @param rowCount the number of rows in the row group
+   * @param withStatistics whether to read the ColumnIndex as well as the OffsetIndex
+   * @return the page index, or null if the column chunk has no OffsetIndex
+   * @throws IOException if an I/O error occurs while reading the index
+   * @throws ParquetException if the index cannot be decoded
+   */
+  public static PageIndex read(ChunkReader chunkReader,
+                               ParquetMetadata.ColumnChunkMetadata columnMeta,
+                               ColumnDescriptor column, long rowCount,
+                               boolean withStatistics) throws IOException {
+    if (!columnMeta.hasOffsetIndex()) {
+      return null;
+    }
+    OffsetIndex offsetIndex = decode(new OffsetIndex(), chunkReader.readBytes(
+        columnMeta.offsetIndexOffset(), columnMeta.offsetIndexLength()));
+    ColumnIndex columnIndex = null;
+    if (withStatistics && columnMeta.hasColumnIndex()) {
+      columnIndex = decode(new ColumnIndex(), chunkReader.readBytes(
+          columnMeta.columnIndexOffset(), columnMeta.columnIndexLength()));
+    }
+    return new PageIndex(column, offsetIndex, columnIndex, rowCount);
+  }
+
+  private static <T extends TBase<?, ?>> T decode(T struct, ByteBuffer buffer) {
+    try {
+      struct.read(new TCompactProtocol(new TIOStreamTransport(new ByteBufferInputStream(buffer))));
+      return struct;
+    } catch (TException e) {
+      throw new ParquetException("Failed to parse page index", e);
+    }
+  }
+
+  /**
+   * Returns the number of data pages.
+   *
+   * @return the page count
+   */
+  public int getPageCount() {
+    return offsets.length;
+  }
+
+  /**
+   * Returns the file offset of a data page, including its header.
+   *
+   * @param page the page index
+   * @return the byte offset in the file
+   */
+  public long pageOffset(int page) {
+    return offsets[page];
+  }
+
+  /**
+   * Returns the size of a data page, including its header.
+   *
+   * @param page the page index
+   * @return the compressed size in bytes
+   */
+  public int pageCompressedSize(int page) {
+    return compressedSizes[page];
+  }
+
+  /**
+   * Returns the first row of a data page, relative to the row group.
+   *
+   * @param page the page index
+   * @return the first row index
+   */
+  public long pageFirstRowIndex(int page) {
+    return firstRowIndexes[page];
+  }
+
+  /**
+   * Returns the row after the last row of a data page, relative to the row group.
+   *
+   * @param page the page index
+   * @return the end row index (exclusive)
+   */
+  public long pageEndRowIndex(int page) {
+    return page + 1 < firstRowIndexes.length ? firstRowIndexes[page + 1] : rowCount;
+  }
+
+  /**
+   * Checks whether the page index has per-page statistics.
+   *
+   * @return true if the ColumnIndex of the column chunk was read
+   */
+  public boolean hasColumnIndex() {
+    return columnIndex != null;
+  }
+
+  /**
+   * Returns the statistics of a data page, with bounds decoded to the Java types of the
+   * column's values.
+   *
+   * <p>Bounds are decoded as described in {@link ColumnStatisticsDecoder}.
+   *
+   * @param page the page index
+   * @return the page statistics, or {@link ColumnValueStatistics#UNKNOWN} without a
+   *         ColumnIndex
+   */
+  public ColumnValueStatistics pageStatistics(int page) {
+    if (columnIndex == null) {
+      return ColumnValueStatistics.UNKNOWN;
+    }
+    boolean allNull = columnIndex.getNull_pages().get(page);
+    boolean mayContainNulls;
+    if (column.maxDefinitionLevel() == 0) {
+      mayContainNulls = false;
+    } else if (columnIndex.isSetNull_counts()) {
+      mayContainNulls = columnIndex.getNull_counts().get(page) > 0;
+    } else {
+      mayContainNulls = true;
+    }
+    if (allNull) {
+      return new ColumnValueStatistics(null, null, true, true);
+    }
+    Object min = ColumnStatisticsDecoder.decodeBound(column,
+        columnIndex.getMin_values().get(page), true);
+    Object max = ColumnStatisticsDecoder.decodeBound(column,
+        columnIndex.getMax_values().get(page), false);
+    if (min == null || max == null) {
+      return new ColumnValueStatistics(null, null, mayContainNulls, false);
+    }
+    return new ColumnValueStatistics(min, max, mayContainNulls, false);
+  }
+
+  /**
+   * Returns the rows of the pages whose values may satisfy a filter.
+   *
+   * @param filter the filter
+   * @param logicalColumn the logical column the filter is evaluated against
+   * @return the rows of the pages for which {@link ColumnFilter#mightMatch} is true
+   */
+  public RowRanges rowsMightMatch(ColumnFilter filter, LogicalColumnDescriptor logicalColumn) {
+    RowRanges.Builder builder = new RowRanges.Builder();
+    for (int page = 0; page < offsets.length; page++) {
+      if (filter.mightMatch(logicalColumn, pageStatistics(page))) {
+        builder.add(pageFirstRowIndex(page), pageEndRowIndex(page));
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Checks whether a data page holds any of the given rows.
+   *
+   * @param page the page index
+   * @param rows the rows
+   * @return true if the page overlaps {@code rows}
+   */
+  public boolean isPageSelected(int page, RowRanges rows) {
+    return rows.overlaps(pageFirstRowIndex(page), pageEndRowIndex(page));
+  }
+
+  /**
+   * Returns all rows of the pages holding any of the given rows. These are the rows whose
+   * values are decoded when reading those pages.
+   *
+   * @param rows the rows to read
+   * @return the rows of the pages overlapping {@code rows}, a superset of {@code rows}
+   */
+  public RowRanges pageRows(RowRanges rows) {
+    RowRanges.Builder builder = new RowRanges.Builder();
+    for (int page = 0; page < offsets.length; page++) {
+      if (isPageSelected(page, rows)) {
+        builder.add(pageFirstRowIndex(page), pageEndRowIndex(page));
+      }
+    }
+    return builder.build();
+  }
+}
@@ -1,6 +1,5 @@
 package io.github.aloksingh.parquet;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -8,6 +7,7 @@ import java.util.List;
 import org.apache.parquet.format.PageHeader;
 import org.apache.parquet.format.PageType;
 import io.github.aloksingh.parquet.model.ColumnDescriptor;
+import io.github.aloksingh.parquet.model.CompressionCodec;
 import io.github.aloksingh.parquet.model.Encoding;
 import io.github.aloksingh.parquet.model.Page;
 import io.github.aloksingh.parquet.model.ParquetException;
@@ -27,14 +27,65 @@ import shaded.parquet.org.apache.thrift.transport.TIOStreamTransport;
  * <p>The reader maintains an internal offset to track the current position within
  * the column chunk and supports sequential reading of pages via {@link #readNextPage()}
  * or batch reading via {@link #readAllPages()}.</p>
+ *
+ * <p>Column chunks up to a configurable size are fetched with a single read, and page
+ * headers and page bodies are slices of that buffer. Larger chunks are streamed through a
+ * window of bounded size, so memory use stays predictable. Either way, most pages need no
+ * read of their own, which matters for files with many tiny pages.</p>
+ *
+ * <p>Chunks larger than 2 GB, which cannot be held in a single buffer, are always streamed.
+ * {@link #forEachPage(PageConsumer)} hands pages to a callback one at a time and recycles
+ * each page's buffers once the callback returns, so memory use is bounded by the window and
+ * the largest page, however large the chunk.</p>
+ *
+ * <p>Decompressed page data is written into buffers obtained from a {@link BufferAllocator}.
+ * Once the pages have been decoded, {@link #release()} hands those buffers, and the chunk
+ * buffers read from the {@link ChunkReader}, back for reuse.</p>
  */
 public class PageReader {
+
+  /**
+   * Callback receiving pages from {@link #forEachPage(PageConsumer)}.
+   */
+  @FunctionalInterface
+  public interface PageConsumer {
+    /**
+     * Processes a page. Data pages are only valid until this method returns.
+     *
+     * @param page the page
+     * @throws IOException if processing the page fails
+     */
+    void accept(Page page) throws IOException;
+  }
+
+  /**
+   * Default largest column chunk that is fetched with a single read (32 MB).
+   */
+  public static final long DEFAULT_MAX_WHOLE_CHUNK_SIZE = 32L << 20;
+
+  /**
+   * Default size of each read when streaming a larger column chunk (8 MB).
+   */
+  public static final int DEFAULT_WINDOW_SIZE = 8 << 20;
+
+  // Page headers are typically small (< 100 bytes), but statistics can make them larger
+  private static final int HEADER_READ_SIZE = 256;
+  private static final int MAX_HEADER_SIZE = 16 << 20;
+
   private final ChunkReader chunkReader;
   private final ParquetMetadata.ColumnChunkMetadata columnMeta;
   private final Decompressor decompressor;
   private final ColumnDescriptor columnDescriptor;
   private long currentOffset;
   private final long endOffset;
+  private final int windowSize;
+  private final BufferAllocator allocator;
+  private final List<ByteBuffer> chunkBuffers = new ArrayList<>();
+  private final List<ByteBuffer> pageBuffers = new ArrayList<>();
+  private final List<ByteBuffer> pinnedBuffers = new ArrayList<>();
+  private ByteBuffer lastPageBuffer;
+  private ByteBuffer window;
+  private long windowStart;
 
   /**
    * Creates a new PageReader for reading pages from a column chunk.
@@ -46,14 +97,80 @@ public class PageReader {
   public PageReader(ChunkReader chunkReader,
                     ParquetMetadata.ColumnChunkMetadata columnMeta,
                     ColumnDescriptor columnDescriptor) {
+    this(chunkReader, columnMeta, columnDescriptor, BufferAllocator.heap());
+  }
+
+  /**
+   * Creates a new PageReader that decompresses pages into buffers from the given allocator.
+   *
+   * @param chunkReader the chunk reader used to read raw bytes from the file
+   * @param columnMeta metadata for the column chunk being read
+   * @param columnDescriptor descriptor containing schema information about the column
+   * @param allocator the allocator for decompressed page buffers
+   */
+  public PageReader(ChunkReader chunkReader,
+                    ParquetMetadata.ColumnChunkMetadata columnMeta,
+                    ColumnDescriptor columnDescriptor,
+                    BufferAllocator allocator) {
+    this(chunkReader, columnMeta, columnDescriptor, DEFAULT_MAX_WHOLE_CHUNK_SIZE,
+        DEFAULT_WINDOW_SIZE, allocator);
+  }
+
+  /**
+   * Creates a new PageReader with explicit read sizes.
+   *
+   * @param chunkReader the chunk reader used to read raw bytes from the file
+   * @param columnMeta metadata for the column chunk being read
+   * @param columnDescriptor descriptor containing schema information about the column
+   * @param maxWholeChunkSize the largest column chunk to fetch with a single read
+   * @param windowSize the size of each read when streaming a chunk larger than
+   *                   {@code maxWholeChunkSize}; a page larger than the window is read whole
+   * @throws IllegalArgumentException if {@code windowSize} is not positive
+   */
+  public PageReader(ChunkReader chunkReader,
+                    ParquetMetadata.ColumnChunkMetadata columnMeta,
+                    ColumnDescriptor columnDescriptor,
+                    long maxWholeChunkSize,
+                    int windowSize) {
+    this(chunkReader, columnMeta, columnDescriptor, maxWholeChunkSize, windowSize,
+        BufferAllocator.heap());
+  }
+
+  /**
+   * Creates a new PageReader with explicit read sizes and buffer allocator.
+   *
+   * @param chunkReader the chunk reader used to read raw bytes from the file
+   * @param columnMeta metadata for the column chunk being read
+   * @param columnDescriptor descriptor containing schema information about the column
+   * @param maxWholeChunkSize the largest column chunk to fetch with a single read
+   * @param windowSize the size of each read when streaming a chunk larger than
+   *                   {@code maxWholeChunkSize}; a page larger than the window is read whole
+   * @param allocator the allocator for decompressed page buffers
+   * @throws IllegalArgumentException if {@code windowSize} is not positive
+   */
+  public PageReader(ChunkReader chunkReader,
+                    ParquetMetadata.ColumnChunkMetadata columnMeta,
+                    ColumnDescriptor columnDescriptor,
+                    long maxWholeChunkSize,
+                    int windowSize,
+                    BufferAllocator allocator) {
+    if (windowSize <= 0) {
+      throw new IllegalArgumentException("Invalid window size: " + windowSize);
+    }
     this.chunkReader = chunkReader;
     this.columnMeta = columnMeta;
     this.columnDescriptor = columnDescriptor;
     this.decompressor = Decompressor.create(columnMeta.codec());
+    this.allocator = allocator;
 
     // Start reading from the first page offset
     this.currentOffset = columnMeta.getFirstDataPageOffset();
     this.endOffset = currentOffset + columnMeta.totalCompressedSize();
+
+    long chunkSize = columnMeta.totalCompressedSize();
+    this.windowSize = chunkSize <= Math.min(maxWholeChunkSize, Integer.MAX_VALUE)
+        ? (int) Math.max(chunkSize, 1)
+        : windowSize;
   }
 
   /**
@@ -74,6 +191,42 @@ public class PageReader {
     return pages;
   }
 
+  /**
+   * Streams the pages of this column chunk to a callback, one page at a time.
+   *
+   * <p>Unlike {@link #readAllPages()}, no more than one data page is held at a time: once
+   * the callback returns, the buffers of a data page, and chunk buffers the reader has
+   * moved past, are released. A dictionary page stays valid until this method returns,
+   * since the data pages that follow it refer to it. Memory use is therefore bounded by the
+   * read window, the dictionary and the largest page, independent of the chunk size.</p>
+   *
+   * @param consumer receives each page in file order
+   * @return the number of pages read
+   * @throws IOException if an I/O error occurs, or the consumer throws one
+   */
+  public long forEachPage(PageConsumer consumer) throws IOException {
+    long count = 0;
+    try {
+      Page page;
+      while ((page = readNextPage()) != null) {
+        if (page instanceof Page.DictionaryPage) {
+          // Data pages decode against the dictionary, so keep its bytes alive
+          pinnedBuffers.add(window);
+          if (lastPageBuffer != null) {
+            pinnedBuffers.add(lastPageBuffer);
+          }
+        }
+        consumer.accept(page);
+        count++;
+        releaseUnpinned();
+      }
+    } finally {
+      pinnedBuffers.clear();
+      release();
+    }
+    return count;
+  }
+
   /**
    * Reads the next page from the column chunk.
    *
@@ -101,27 +254,43 @@ public class PageReader {
    *         page type is encountered
    */
   public Page readNextPage() throws IOException {
+    lastPageBuffer = null;
     if (currentOffset >= endOffset) {
       return null;
     }
 
     try {
-      // Read page header (we don't know the size, so read a reasonable amount)
-      // Page headers are typically small (< 100 bytes)
-      ByteBuffer headerBuffer = chunkReader.readBytes(currentOffset, 256);
-      byte[] headerBytes = new byte[headerBuffer.remaining()];
-      headerBuffer.get(headerBytes);
-
-      // Parse page header
-      ByteArrayInputStream bais = new ByteArrayInputStream(headerBytes);
-      TIOStreamTransport transport = new TIOStreamTransport(bais);
-      TCompactProtocol protocol = new TCompactProtocol(transport);
-
-      PageHeader pageHeader = new PageHeader();
-      pageHeader.read(protocol);
+      // Read page header (we don't know the size, so read a reasonable amount and
+      // retry with more if the header turns out to be larger)
+      long remaining = endOffset - currentOffset;
+      int headerReadSize = (int) Math.min(HEADER_READ_SIZE, remaining);
+      PageHeader pageHeader;
+      int headerSize;
+      while (true) {
+        ByteBuffer headerBuffer = read(currentOffset, headerReadSize);
+
+        // Parse page header in place, without copying it out of the buffer
+        ByteBufferInputStream headerStream = new ByteBufferInputStream(headerBuffer);
+        TIOStreamTransport transport = new TIOStreamTransport(headerStream);
+        TCompactProtocol protocol = new TCompactProtocol(transport);
+
+        try {
+          pageHeader = new PageHeader();
+          pageHeader.read(protocol);
+        } catch (TException e) {
+          if (headerReadSize >= remaining || headerReadSize >= MAX_HEADER_SIZE
+              || headerBuffer.remaining() < headerReadSize) {
+            throw e;
+          }
+          headerReadSize = (int) Math.min((long) headerReadSize * 4,
+              Math.min(remaining, MAX_HEADER_SIZE));
+          continue;
+        }
 
-      // Calculate header size by tracking how much was consumed from the input stream
-      int headerSize = headerBytes.length - bais.available();
+        // Calculate header size by tracking how much was consumed from the input stream
+        headerSize = headerStream.position();
+        break;
+      }
 
       // Move offset past header
       currentOffset += headerSize;
@@ -134,7 +303,7 @@ public class PageReader {
       // NOTE: For DATA_PAGE_V2, we must NOT decompress here because the levels are uncompressed
       if (pageHeader.getType() == PageType.DATA_PAGE_V2) {
         // Handle DATA_PAGE_V2 separately - levels are uncompressed, data may be compressed
-        ByteBuffer allPageData = chunkReader.readBytes(currentOffset, compressedSize);
+        ByteBuffer allPageData = read(currentOffset, compressedSize);
         currentOffset += compressedSize;
 
         var dataPageV2Header = pageHeader.getData_page_header_v2();
@@ -143,31 +312,21 @@ public class PageReader {
         int repLevelsByteLen = dataPageV2Header.getRepetition_levels_byte_length();
         boolean isCompressed = dataPageV2Header.isIs_compressed();
 
-        // Extract repetition levels (uncompressed)
-        ByteBuffer repetitionLevels = ByteBuffer.allocate(repLevelsByteLen);
-        for (int i = 0; i < repLevelsByteLen; i++) {
-          repetitionLevels.put(allPageData.get());
-        }
-        repetitionLevels.flip();
-
-        // Extract definition levels (uncompressed)
-        ByteBuffer definitionLevels = ByteBuffer.allocate(defLevelsByteLen);
-        for (int i = 0; i < defLevelsByteLen; i++) {
-          definitionLevels.put(allPageData.get());
-        }
-        definitionLevels.flip();
+        // Levels (uncompressed) and data (may be compressed) are views over the page bytes
+        int pageStart = allPageData.position();
+        ByteBuffer repetitionLevels = allPageData.slice(pageStart, repLevelsByteLen);
+        ByteBuffer definitionLevels =
+            allPageData.slice(pageStart + repLevelsByteLen, defLevelsByteLen);
 
-        // Extract data (may be compressed)
         int dataSize = compressedSize - repLevelsByteLen - defLevelsByteLen;
-        byte[] compressedDataBytes = new byte[dataSize];
-        allPageData.get(compressedDataBytes);
-        ByteBuffer compressedDataBuf = ByteBuffer.wrap(compressedDataBytes);
+        ByteBuffer compressedDataBuf =
+            allPageData.slice(pageStart + repLevelsByteLen + defLevelsByteLen, dataSize);
 
         // Decompress data if needed
         ByteBuffer decompressedData;
         if (isCompressed) {
           int uncompressedDataSize = uncompressedSize - repLevelsByteLen - defLevelsByteLen;
-          decompressedData = decompressor.decompress(compressedDataBuf, uncompressedDataSize);
+          decompressedData = decompress(compressedDataBuf, uncompressedDataSize);
         } else {
           decompressedData = compressedDataBuf;
         }
@@ -187,11 +346,11 @@ public class PageReader {
       }
 
       // For other page types, read and decompress the whole page
-      ByteBuffer compressedData = chunkReader.readBytes(currentOffset, compressedSize);
+      ByteBuffer compressedData = read(currentOffset, compressedSize);
       currentOffset += compressedSize;
 
       // Decompress if needed
-      ByteBuffer pageData = decompressor.decompress(compressedData, uncompressedSize);
+      ByteBuffer pageData = decompress(compressedData, uncompressedSize);
 
       if (pageHeader.getType() == PageType.DICTIONARY_PAGE) {
         Encoding encoding = Encoding.fromValue(
@@ -265,4 +424,98 @@ public class PageReader {
       throw new ParquetException("Failed to parse page header", e);
     }
   }
+
+  /**
+   * Releases the buffers backing the pages returned so far.
+   *
+   * <p>Decompressed page buffers go back to the allocator and chunk buffers to the
+   * {@link ChunkReader}. The pages, and any values that still reference their data, must
+   * not be used afterwards. Calling this method is optional; unreleased buffers are
+   * reclaimed by the garbage collector.</p>
+   */
+  public void release() {
+    for (ByteBuffer buffer : pageBuffers) {
+      allocator.release(buffer);
+    }
+    pageBuffers.clear();
+    for (ByteBuffer buffer : chunkBuffers) {
+      chunkReader.release(buffer);
+    }
+    chunkBuffers.clear();
+    window = null;
+  }
+
+  /**
+   * Releases page buffers and chunk buffers other than the current window, except those
+   * pinned by a dictionary page.
+   */
+  private void releaseUnpinned() {
+    pageBuffers.removeIf(buffer -> {
+      if (isPinned(buffer)) {
+        return false;
+      }
+      allocator.release(buffer);
+      return true;
+    });
+    chunkBuffers.removeIf(buffer -> {
+      if (buffer == window || isPinned(buffer)) {
+        return false;
+      }
+      chunkReader.release(buffer);
+      return true;
+    });
+  }
+
+  private boolean isPinned(ByteBuffer buffer) {
+    // Identity, not ByteBuffer.equals(), which compares contents
+    for (ByteBuffer pinned : pinnedBuffers) {
+      if (pinned == buffer) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Decompresses page data into a buffer from the allocator. Uncompressed data is returned
+   * as is, without a copy.
+   */
+  private ByteBuffer decompress(ByteBuffer compressed, int uncompressedSize) throws IOException {
+    if (columnMeta.codec() == CompressionCodec.UNCOMPRESSED) {
+      return decompressor.decompress(compressed, uncompressedSize);
+    }
+    ByteBuffer output = allocator.allocate(uncompressedSize);
+    pageBuffers.add(output);
+    lastPageBuffer = output;
+    decompressor.decompress(compressed, output);
+    return output.flip();
+  }
+
+  /**
+   * Returns a view of the column chunk bytes at the given position.
+   *
+   * <p>Bytes are served from the current window when it covers the requested range.
+   * Otherwise a new window starting at {@code position} is read, covering at least the
+   * requested range and at most the rest of the chunk.</p>
+   *
+   * @param position the file position to read from
+   * @param length the number of bytes to read
+   * @return a buffer positioned at 0; shorter than requested only at end of file
+   * @throws IOException if an I/O error occurs while reading
+   */
+  private ByteBuffer read(long position, int length) throws IOException {
+    if (length == 0) {
+      return ByteBuffer.allocate(0);
+    }
+    if (window == null || position < windowStart
+        || position + length > windowStart + window.limit()) {
+      long chunkRemaining = endOffset - position;
+      int size = (int) Math.max(length, Math.min(windowSize, chunkRemaining));
+      window = chunkReader.readBytes(position, size);
+      chunkBuffers.add(window);
+      windowStart = position;
+    }
+    int offset = (int) (position - windowStart);
+    return window.slice(offset, Math.min(length, window.limit() - offset));
+  }
 }
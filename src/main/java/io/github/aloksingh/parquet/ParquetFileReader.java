@@ -4,11 +4,20 @@ import io.github.aloksingh.parquet.model.ColumnDescriptor;
 import io.github.aloksingh.parquet.model.ColumnValues;
 import io.github.aloksingh.parquet.model.LogicalColumnDescriptor;
 import io.github.aloksingh.parquet.model.Page;
+import io.github.aloksingh.parquet.model.ParquetException;
 import io.github.aloksingh.parquet.model.ParquetMetadata;
 import io.github.aloksingh.parquet.model.SchemaDescriptor;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Main class for reading Parquet files.
@@ -34,6 +43,9 @@ public class ParquetFileReader implements AutoCloseable {
   private final ChunkReader chunkReader;
   private final ParquetMetadata metadata;
   private final boolean ownsChunkReader;
+  private final BufferAllocator allocator;
+  // Bloom filters read so far, keyed by row group and column
+  private final Map<Long, Optional<BloomFilter>> bloomFilters = new ConcurrentHashMap<>();
 
   /**
    * Creates a reader from a file path.
@@ -52,15 +64,64 @@ public class ParquetFileReader implements AutoCloseable {
    * Creates a reader from a Path.
    *
    * <p>This constructor will open the file and read its metadata. The file
-   * will be closed when {@link #close()} is called.
+   * will be closed when {@link #close()} is called. Reads use positional
+   * {@link FileChannelChunkReader} I/O, so row groups and columns can be read
+   * concurrently from multiple threads.
    *
    * @param path the path to the Parquet file
    * @throws IOException if an I/O error occurs while reading the file or metadata
    */
   public ParquetFileReader(Path path) throws IOException {
-    this.chunkReader = new FileChunkReader(path);
+    this.chunkReader = new FileChannelChunkReader(path);
+    this.ownsChunkReader = true;
+    this.allocator = BufferAllocator.heap();
+    this.metadata = ParquetMetadataReader.readMetadata(chunkReader);
+    chunkReader.onMetadata(metadata);
+  }
+
+  /**
+   * Creates a reader from a Path that takes its read and decompression buffers from the
+   * given allocator.
+   *
+   * <p>Column chunks are read into allocator buffers and pages are decompressed into them.
+   * {@link ColumnValues#release()} returns a column's buffers once its values have been
+   * decoded; the row iterators do so after each row group.
+   *
+   * @param path the path to the Parquet file
+   * @param allocator the allocator for chunk and page buffers
+   * @throws IOException if an I/O error occurs while reading the file or metadata
+   */
+  public ParquetFileReader(Path path, BufferAllocator allocator) throws IOException {
+    this.chunkReader = new FileChannelChunkReader(path, allocator);
     this.ownsChunkReader = true;
+    this.allocator = allocator;
     this.metadata = ParquetMetadataReader.readMetadata(chunkReader);
+    chunkReader.onMetadata(metadata);
+  }
+
+  /**
+   * Creates a reader from a Path, taking the file metadata from a shared cache.
+   *
+   * <p>If the current version of the file is in the cache, its footer is neither read nor
+   * decoded again. This makes repeatedly opening the same files cheap.
+   *
+   * @param path the path to the Parquet file
+   * @param metadataCache the metadata cache to share, for example
+   *                      {@link ParquetMetadataCache#shared()}
+   * @throws IOException if an I/O error occurs while reading the file or metadata
+   */
+  public ParquetFileReader(Path path, ParquetMetadataCache metadataCache) throws IOException {
+    FileChannelChunkReader fileReader = new FileChannelChunkReader(path);
+    try {
+      this.metadata = metadataCache.get(path, fileReader);
+    } catch (IOException | RuntimeException e) {
+      fileReader.close();
+      throw e;
+    }
+    this.chunkReader = fileReader;
+    this.ownsChunkReader = true;
+    this.allocator = BufferAllocator.heap();
+    chunkReader.onMetadata(metadata);
   }
 
   /**
@@ -74,9 +135,45 @@ public class ParquetFileReader implements AutoCloseable {
    * @throws IOException if an I/O error occurs while reading metadata
    */
   public ParquetFileReader(ChunkReader chunkReader) throws IOException {
+    this(chunkReader, BufferAllocator.heap());
+  }
+
+  /**
+   * Creates a reader from an existing ChunkReader that decompresses pages into buffers from
+   * the given allocator.
+   *
+   * <p>The ChunkReader will NOT be closed when {@link #close()} is called. It is passed
+   * the file metadata through {@link ChunkReader#onMetadata(ParquetMetadata)}.
+   *
+   * @param chunkReader the chunk reader to use for reading file data
+   * @param allocator the allocator for decompressed page buffers
+   * @throws IOException if an I/O error occurs while reading metadata
+   */
+  public ParquetFileReader(ChunkReader chunkReader, BufferAllocator allocator)
+      throws IOException {
     this.chunkReader = chunkReader;
     this.ownsChunkReader = false;
+    this.allocator = allocator;
     this.metadata = ParquetMetadataReader.readMetadata(chunkReader);
+    chunkReader.onMetadata(metadata);
+  }
+
+  /**
+   * Creates a reader from an existing ChunkReader and metadata that was already read.
+   *
+   * <p>Use this to open a file with metadata from
+   * {@link ParquetMetadataReader#readMetadataLazily(ChunkReader)}, or metadata kept from
+   * an earlier read. The ChunkReader will NOT be closed when {@link #close()} is called.
+   *
+   * @param chunkReader the chunk reader to use for reading file data
+   * @param metadata the metadata of the file behind {@code chunkReader}
+   */
+  public ParquetFileReader(ChunkReader chunkReader, ParquetMetadata metadata) {
+    this.chunkReader = chunkReader;
+    this.ownsChunkReader = false;
+    this.allocator = BufferAllocator.heap();
+    this.metadata = metadata;
+    chunkReader.onMetadata(metadata);
   }
 
   /**
@@ -128,7 +225,71 @@ public class ParquetFileReader implements AutoCloseable {
       throw new IndexOutOfBoundsException(
           "Row group index out of bounds: " + index);
     }
-    return new RowGroupReader(chunkReader, metadata.rowGroups().get(index), getSchema());
+    return new RowGroupReader(chunkReader, metadata.rowGroups().get(index), getSchema(),
+        allocator);
+  }
+
+  /**
+   * Returns a reader for a specific row group that owns the memory of its pages.
+   *
+   * <p>Pages are decompressed into off-heap memory from an {@link ArenaBufferAllocator}
+   * owned by the returned reader, and all of it is freed at once when the reader is closed.
+   * Decoded values are ordinary Java objects and remain valid, but {@link ColumnValues}
+   * and pages read through the reader must not be used after it is closed. Combined with a
+   * {@link MemorySegmentChunkReader}, a scan keeps neither file bytes nor page buffers on the
+   * garbage-collected heap.
+   *
+   * <pre>{@code
+   * try (RowGroupReader rowGroup = reader.openRowGroup(0)) {
+   *   List<Integer> ids = rowGroup.readColumn(0).decodeAsInt32();
+   * }
+   * }</pre>
+   *
+   * @param index the index of the row group to read
+   * @return a reader for the specified row group that must be closed
+   * @throws IndexOutOfBoundsException if the index is out of bounds
+   */
+  public RowGroupReader openRowGroup(int index) {
+    if (index < 0 || index >= metadata.getNumRowGroups()) {
+      throw new IndexOutOfBoundsException(
+          "Row group index out of bounds: " + index);
+    }
+    return new RowGroupReader(chunkReader, metadata.rowGroups().get(index), getSchema(),
+        new ArenaBufferAllocator());
+  }
+
+  /**
+   * Returns the bloom filter of a column chunk.
+   *
+   * <p>The filter is read on first use and kept for the life of this reader, so probing it
+   * for many values, or from several iterators, reads it once.
+   *
+   * @param rowGroupIndex the index of the row group
+   * @param columnIndex the index of the column (0-based)
+   * @return the bloom filter, or null if the column chunk has no supported bloom filter
+   * @throws IOException if an I/O error occurs while reading the filter
+   * @throws IndexOutOfBoundsException if an index is out of bounds
+   * @see BloomFilter#read(ChunkReader, ParquetMetadata.ColumnChunkMetadata)
+   */
+  public BloomFilter getBloomFilter(int rowGroupIndex, int columnIndex) throws IOException {
+    if (rowGroupIndex < 0 || rowGroupIndex >= metadata.getNumRowGroups()) {
+      throw new IndexOutOfBoundsException(
+          "Row group index out of bounds: " + rowGroupIndex);
+    }
+    ParquetMetadata.RowGroupMetadata rowGroupMeta = metadata.rowGroups().get(rowGroupIndex);
+    if (columnIndex < 0 || columnIndex >= rowGroupMeta.getNumColumns()) {
+      throw new IndexOutOfBoundsException(
+          "Column index out of bounds: " + columnIndex);
+    }
+    long key = (long) rowGroupIndex << 32 | columnIndex;
+    Optional<BloomFilter> bloomFilter = bloomFilters.get(key);
+    if (bloomFilter == null) {
+      // Concurrent first reads may both read the filter; either result is kept
+      bloomFilter = Optional.ofNullable(
+          BloomFilter.read(chunkReader, rowGroupMeta.columns().get(columnIndex)));
+      bloomFilters.putIfAbsent(key, bloomFilter);
+    }
+    return bloomFilter.orElse(null);
   }
 
   /**
@@ -163,18 +324,105 @@ public class ParquetFileReader implements AutoCloseable {
     return new ParquetRowIterator(this, closeOnComplete);
   }
 
+  /**
+   * Creates an iterator that fetches upcoming row groups in the background.
+   *
+   * <p>While one row group is consumed, the column chunks of up to {@code prefetchDepth}
+   * following row groups are read on a background thread, bounded by
+   * {@code prefetchMemoryBudget} bytes. Close the iterator to cancel outstanding fetches
+   * if it is abandoned before the last row; closing it does not close this file reader.
+   *
+   * @param prefetchDepth the number of row groups to fetch ahead of the current one
+   * @param prefetchMemoryBudget the largest number of column chunk bytes to prefetch
+   * @return an iterator over all rows in the file
+   * @see RowGroupPrefetcher
+   */
+  public ParquetRowIterator rowIterator(int prefetchDepth, long prefetchMemoryBudget) {
+    return new ParquetRowIterator(this, false, prefetchDepth, prefetchMemoryBudget);
+  }
+
+  /**
+   * Creates an iterator that reads the file in batches of rows held in column vectors.
+   *
+   * <p>Closing the iterator does not close this file reader.
+   *
+   * @param batchSize the number of rows in each batch but the last
+   * @param columnNames the dot-separated paths of the columns to read, or none to read all
+   *                    columns
+   * @return an iterator over batches of the projected columns
+   * @throws IllegalArgumentException if a column does not exist, is repeated, or has a type
+   *                                  that cannot be read into a vector
+   * @see ColumnarBatchIterator
+   */
+  public ColumnarBatchIterator columnarBatchIterator(int batchSize, String... columnNames) {
+    SchemaDescriptor schema = getSchema();
+    int[] columnIndexes;
+    if (columnNames.length == 0) {
+      columnIndexes = new int[schema.getNumColumns()];
+      for (int i = 0; i < columnIndexes.length; i++) {
+        columnIndexes[i] = i;
+      }
+    } else {
+      columnIndexes = new int[columnNames.length];
+      for (int i = 0; i < columnNames.length; i++) {
+        columnIndexes[i] = findColumn(columnNames[i]);
+      }
+    }
+    return new ColumnarBatchIterator(this, false, batchSize, columnIndexes);
+  }
+
+  /**
+   * Finds a physical column by its dot-separated path.
+   *
+   * @param columnName the path of the column
+   * @return the index of the column
+   * @throws IllegalArgumentException if there is no such column
+   */
+  private int findColumn(String columnName) {
+    SchemaDescriptor schema = getSchema();
+    for (int i = 0; i < schema.getNumColumns(); i++) {
+      if (String.join(".", schema.getColumn(i).path()).equals(columnName)) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("Column not found: " + columnName);
+  }
+
   /**
    * Reader for a single row group.
    *
    * <p>A row group contains a subset of rows from the file and provides access
    * to individual columns within that row group.
    *
+   * <p>Closing a row group reader frees the page memory it owns, if any; see
+   * {@link ParquetFileReader#openRowGroup(int)}. Readers from
+   * {@link ParquetFileReader#getRowGroup(int)} own nothing and need not be closed.
+   *
    * @see ParquetFileReader#getRowGroup(int)
    */
-  public static class RowGroupReader {
+  public static class RowGroupReader implements AutoCloseable {
+
+    /**
+     * Callback receiving the values of one data page from
+     * {@link #streamColumn(int, PageValuesConsumer)}.
+     */
+    @FunctionalInterface
+    public interface PageValuesConsumer {
+      /**
+       * Processes the values of a data page. The values must be decoded before this method
+       * returns.
+       *
+       * @param values the page, together with the column's dictionary page if it has one
+       * @throws IOException if processing the values fails
+       */
+      void accept(ColumnValues values) throws IOException;
+    }
+
     private final ChunkReader chunkReader;
     private final ParquetMetadata.RowGroupMetadata rowGroupMeta;
     private final SchemaDescriptor schema;
+    private final BufferAllocator allocator;
+    private final ArenaBufferAllocator ownedAllocator;
 
     /**
      * Constructs a RowGroupReader.
@@ -186,9 +434,37 @@ public class ParquetFileReader implements AutoCloseable {
     public RowGroupReader(ChunkReader chunkReader,
                           ParquetMetadata.RowGroupMetadata rowGroupMeta,
                           SchemaDescriptor schema) {
+      this(chunkReader, rowGroupMeta, schema, BufferAllocator.heap());
+    }
+
+    /**
+     * Constructs a RowGroupReader that decompresses pages into buffers from an allocator.
+     *
+     * @param chunkReader the chunk reader for reading file data
+     * @param rowGroupMeta the metadata for this row group
+     * @param schema the file schema
+     * @param allocator the allocator for decompressed page buffers
+     */
+    public RowGroupReader(ChunkReader chunkReader,
+                          ParquetMetadata.RowGroupMetadata rowGroupMeta,
+                          SchemaDescriptor schema,
+                          BufferAllocator allocator) {
+      this.chunkReader = chunkReader;
+      this.rowGroupMeta = rowGroupMeta;
+      this.schema = schema;
+      this.allocator = allocator;
+      this.ownedAllocator = null;
+    }
+
+    private RowGroupReader(ChunkReader chunkReader,
+                           ParquetMetadata.RowGroupMetadata rowGroupMeta,
+                           SchemaDescriptor schema,
+                           ArenaBufferAllocator ownedAllocator) {
       this.chunkReader = chunkReader;
       this.rowGroupMeta = rowGroupMeta;
       this.schema = schema;
+      this.allocator = ownedAllocator;
+      this.ownedAllocator = ownedAllocator;
     }
 
     /**
@@ -244,7 +520,7 @@ public class ParquetFileReader implements AutoCloseable {
       ColumnDescriptor columnDescriptor =
           schema.getColumn(columnIndex);
 
-      return new PageReader(chunkReader, columnMeta, columnDescriptor);
+      return new PageReader(chunkReader, columnMeta, columnDescriptor, allocator);
     }
 
     /**
@@ -263,7 +539,349 @@ public class ParquetFileReader implements AutoCloseable {
      * @throws IndexOutOfBoundsException if the column index is out of bounds
      */
     public ColumnValues readColumn(int columnIndex) throws IOException {
+      return decodeColumn(columnIndex, getColumnPageReader(columnIndex));
+    }
+
+    /**
+     * Reads a column one data page at a time, without holding the whole column chunk.
+     *
+     * <p>Each data page is passed to the consumer as a {@link ColumnValues}, which includes
+     * the dictionary page if the chunk has one, and is released when the consumer returns.
+     * Memory use stays bounded however large the chunk is, so this also reads column chunks
+     * larger than 2 GB. Values spanning a page boundary, such as a repeated value split
+     * across data pages, are delivered in separate parts.
+     *
+     * @param columnIndex the index of the column to read (0-based)
+     * @param consumer receives the values of each data page in order
+     * @throws IOException if an I/O error occurs, or the consumer throws one
+     * @throws IndexOutOfBoundsException if the column index is out of bounds
+     * @see PageReader#forEachPage(PageReader.PageConsumer)
+     */
+    public void streamColumn(int columnIndex, PageValuesConsumer consumer) throws IOException {
       PageReader pageReader = getColumnPageReader(columnIndex);
+      ParquetMetadata.ColumnChunkMetadata columnMeta = rowGroupMeta.columns().get(columnIndex);
+      ColumnDescriptor columnDescriptor = schema.getColumn(columnIndex);
+      LogicalColumnDescriptor logicalColumnDescriptor =
+          schema.findLogicalColumnByPhysicalIndex(columnIndex);
+
+      Page[] dictionary = new Page[1];
+      pageReader.forEachPage(page -> {
+        if (page instanceof Page.DictionaryPage) {
+          dictionary[0] = page;
+          return;
+        }
+        List<Page> pages = dictionary[0] != null ? List.of(dictionary[0], page) : List.of(page);
+        consumer.accept(new ColumnValues(columnMeta.type(), pages, columnDescriptor,
+            logicalColumnDescriptor));
+      });
+    }
+
+    /**
+     * Reads the page index of a column chunk, including page statistics if present.
+     *
+     * @param columnIndex the index of the column (0-based)
+     * @return the page index, or null if the column chunk has none
+     * @throws IOException if an I/O error occurs while reading the index
+     * @throws IndexOutOfBoundsException if the column index is out of bounds
+     */
+    public PageIndex readPageIndex(int columnIndex) throws IOException {
+      return readPageIndex(columnIndex, true);
+    }
+
+    /**
+     * Reads the page index of a column chunk.
+     *
+     * <p>Page locations are enough to read some rows of a column; the page statistics are
+     * only needed to evaluate filters, and can be as large as the locations.
+     *
+     * @param columnIndex the index of the column (0-based)
+     * @param withStatistics whether to read the page statistics (ColumnIndex)
+     * @return the page index, or null if the column chunk has none
+     * @throws IOException if an I/O error occurs while reading the index
+     * @throws IndexOutOfBoundsException if the column index is out of bounds
+     */
+    public PageIndex readPageIndex(int columnIndex, boolean withStatistics) throws IOException {
+      if (columnIndex < 0 || columnIndex >= rowGroupMeta.getNumColumns()) {
+        throw new IndexOutOfBoundsException(
+            "Column index out of bounds: " + columnIndex);
+      }
+      return PageIndex.read(chunkReader, rowGroupMeta.columns().get(columnIndex),
+          schema.getColumn(columnIndex), rowGroupMeta.numRows(), withStatistics);
+    }
+
+    /**
+     * Reads the values of a column from only the data pages holding some rows.
+     *
+     * <p>The dictionary page, if any, and the data pages overlapping {@code rows} are fetched
+     * with one {@link ChunkReader#readRanges(List)} call; the other pages are not read. The
+     * returned values are those of all rows in {@link PageIndex#pageRows(RowRanges)}, which
+     * may include rows before and after {@code rows} on the same pages.
+     *
+     * @param columnIndex the index of the column to read (0-based)
+     * @param pageIndex the page index of the column, from {@link #readPageIndex(int)}
+     * @param rows the rows to read
+     * @return the values of the pages holding {@code rows}
+     * @throws IOException if an I/O error occurs while reading the pages
+     * @throws IndexOutOfBoundsException if the column index is out of bounds
+     */
+    public ColumnValues readColumn(int columnIndex, PageIndex pageIndex, RowRanges rows)
+        throws IOException {
+      if (columnIndex < 0 || columnIndex >= rowGroupMeta.getNumColumns()) {
+        throw new IndexOutOfBoundsException(
+            "Column index out of bounds: " + columnIndex);
+      }
+      ParquetMetadata.ColumnChunkMetadata columnMeta = rowGroupMeta.columns().get(columnIndex);
+
+      // Everything before the first data page is the dictionary page
+      List<FileRange> ranges = new ArrayList<>();
+      long chunkStart = columnMeta.getFirstDataPageOffset();
+      if (pageIndex.getPageCount() > 0 && pageIndex.pageOffset(0) > chunkStart) {
+        ranges.add(new FileRange(chunkStart, (int) (pageIndex.pageOffset(0) - chunkStart)));
+      }
+      for (int page = 0; page < pageIndex.getPageCount(); page++) {
+        if (pageIndex.isPageSelected(page, rows)) {
+          ranges.add(new FileRange(pageIndex.pageOffset(page),
+              pageIndex.pageCompressedSize(page)));
+        }
+      }
+
+      List<ByteBuffer> buffers = chunkReader.readRanges(ranges);
+      int size = 0;
+      for (ByteBuffer buffer : buffers) {
+        size += buffer.remaining();
+      }
+      ByteBuffer pages = ByteBuffer.allocate(size);
+      for (ByteBuffer buffer : buffers) {
+        pages.put(buffer.duplicate());
+        chunkReader.release(buffer);
+      }
+      pages.flip();
+
+      // The selected pages, back to back, as a column chunk of their own
+      ParquetMetadata.ColumnChunkMetadata pagesMeta = new ParquetMetadata.ColumnChunkMetadata(
+          columnMeta.type(), columnMeta.path(), columnMeta.codec(), 0, -1, size,
+          columnMeta.totalUncompressedSize(), columnMeta.numValues(), null);
+      PageReader pageReader = new PageReader(new ByteBufferChunkReader(pages, 0), pagesMeta,
+          schema.getColumn(columnIndex), allocator);
+      return decodeColumn(columnIndex, pageReader);
+    }
+
+    /**
+     * Reads all values from several columns, fetching their column chunks together.
+     *
+     * <p>The byte ranges of all requested column chunks are submitted to
+     * {@link ChunkReader#readRanges(List)} in one call, so adjacent chunks are fetched with a
+     * few large reads instead of separate reads for every page header and page body.
+     *
+     * @param columnIndexes the indexes of the columns to read (0-based)
+     * @return the column values, in the order of {@code columnIndexes}
+     * @throws IOException if an I/O error occurs while reading the columns
+     * @throws IndexOutOfBoundsException if a column index is out of bounds
+     */
+    public List<ColumnValues> readColumns(int... columnIndexes) throws IOException {
+      return readColumns(columnIndexes, ChunkReader.DEFAULT_MAX_MERGE_GAP,
+          ChunkReader.DEFAULT_MAX_MERGED_SIZE);
+    }
+
+    /**
+     * Reads all values from several columns, fetching their column chunks together with
+     * explicit coalescing settings.
+     *
+     * @param columnIndexes the indexes of the columns to read (0-based)
+     * @param maxMergeGap the largest gap between two column chunks that is read through to
+     *                    merge them into one read
+     * @param maxMergedSize the largest size of a single read
+     * @return the column values, in the order of {@code columnIndexes}
+     * @throws IOException if an I/O error occurs while reading the columns
+     * @throws IndexOutOfBoundsException if a column index is out of bounds
+     * @see ChunkReader#readRanges(List, int, int)
+     */
+    public List<ColumnValues> readColumns(int[] columnIndexes, int maxMergeGap,
+                                          int maxMergedSize) throws IOException {
+      return decodeColumns(columnIndexes,
+          fetchColumnChunks(columnIndexes, maxMergeGap, maxMergedSize));
+    }
+
+    /**
+     * Fetches the raw bytes of several column chunks without decoding them.
+     *
+     * <p>This is the I/O half of {@link #readColumns(int...)}; the returned buffers are decoded
+     * with {@link #decodeColumns(int[], List)}. Splitting the two lets the bytes be fetched
+     * ahead of time, for example by a {@link RowGroupPrefetcher}.
+     *
+     * @param columnIndexes the indexes of the columns to fetch (0-based)
+     * @param maxMergeGap the largest gap between two column chunks that is read through to
+     *                    merge them into one read
+     * @param maxMergedSize the largest size of a single read
+     * @return one buffer per column holding its whole chunk, in the order of
+     *         {@code columnIndexes}; {@code null} for chunks over 2 GB, which are streamed
+     *         when decoded
+     * @throws IOException if an I/O error occurs while reading
+     * @throws IndexOutOfBoundsException if a column index is out of bounds
+     */
+    public List<ByteBuffer> fetchColumnChunks(int[] columnIndexes, int maxMergeGap,
+                                              int maxMergedSize) throws IOException {
+      // Column chunks over 2 GB cannot be held in one buffer and are streamed page by page
+      List<FileRange> ranges = new ArrayList<>(columnIndexes.length);
+      for (int columnIndex : columnIndexes) {
+        ranges.add(isBufferable(columnIndex) ? getColumnRange(columnIndex) : new FileRange(0, 0));
+      }
+
+      List<ByteBuffer> chunks =
+          new ArrayList<>(chunkReader.readRanges(ranges, maxMergeGap, maxMergedSize));
+      for (int i = 0; i < columnIndexes.length; i++) {
+        if (!isBufferable(columnIndexes[i])) {
+          chunks.set(i, null);
+        }
+      }
+      return chunks;
+    }
+
+    /**
+     * Decodes several columns from chunk bytes fetched by
+     * {@link #fetchColumnChunks(int[], int, int)}.
+     *
+     * <p>Each returned column takes ownership of its chunk: {@link ColumnValues#release()}
+     * hands the chunk back to the chunk reader, so that a pooling {@link BufferAllocator}
+     * can reuse it for a later row group.
+     *
+     * @param columnIndexes the indexes of the columns to decode (0-based)
+     * @param chunks the fetched chunks, in the order of {@code columnIndexes}
+     * @return the column values, in the order of {@code columnIndexes}
+     * @throws IOException if a chunk has to be streamed and an I/O error occurs
+     * @throws IndexOutOfBoundsException if a column index is out of bounds
+     */
+    public List<ColumnValues> decodeColumns(int[] columnIndexes, List<ByteBuffer> chunks)
+        throws IOException {
+      List<ColumnValues> result = new ArrayList<>(columnIndexes.length);
+      for (int i = 0; i < columnIndexes.length; i++) {
+        result.add(decodeColumn(columnIndexes[i], pageReaderFor(columnIndexes[i], chunks.get(i)),
+            chunks.get(i)));
+      }
+      return result;
+    }
+
+    /**
+     * Starts reading several columns and returns without waiting for any I/O.
+     *
+     * <p>The reads for all requested column chunks are issued up front through
+     * {@link ChunkReader#readBytesAsync(long, int)}, and each column's pages are parsed and
+     * decompressed as soon as its chunk arrives, on the thread that completes the read. With
+     * an asynchronous reader such as {@link AsyncFileChunkReader}, decoding one column
+     * overlaps with the reads for the others.
+     *
+     * @param columnIndexes the indexes of the columns to read (0-based)
+     * @return one future per column, in the order of {@code columnIndexes}; a failed read
+     *         completes its future exceptionally with the {@link IOException}
+     * @throws IndexOutOfBoundsException if a column index is out of bounds
+     */
+    public List<CompletableFuture<ColumnValues>> readColumnsAsync(int... columnIndexes) {
+      return readColumnsAsync(null, columnIndexes);
+    }
+
+    /**
+     * Starts reading several columns, decoding each on the given executor once its chunk
+     * has been read.
+     *
+     * @param executor the executor that decodes the column chunks, or {@code null} to decode
+     *                 on the thread that completes each read
+     * @param columnIndexes the indexes of the columns to read (0-based)
+     * @return one future per column, in the order of {@code columnIndexes}; a failed read
+     *         completes its future exceptionally with the {@link IOException}
+     * @throws IndexOutOfBoundsException if a column index is out of bounds
+     */
+    public List<CompletableFuture<ColumnValues>> readColumnsAsync(Executor executor,
+                                                                  int... columnIndexes) {
+      List<CompletableFuture<ColumnValues>> result = new ArrayList<>(columnIndexes.length);
+      for (int columnIndex : columnIndexes) {
+        CompletableFuture<ColumnValues> column;
+        if (isBufferable(columnIndex)) {
+          FileRange range = getColumnRange(columnIndex);
+          CompletableFuture<ByteBuffer> chunk = range.length() == 0
+              ? CompletableFuture.completedFuture(ByteBuffer.allocate(0))
+              : chunkReader.readBytesAsync(range.offset(), range.length());
+          column = executor == null
+              ? chunk.thenApply(buffer -> decodeChunk(columnIndex, buffer))
+              : chunk.thenApplyAsync(buffer -> decodeChunk(columnIndex, buffer), executor);
+        } else {
+          // Column chunks over 2 GB are streamed page by page
+          column = executor == null
+              ? CompletableFuture.supplyAsync(() -> decodeChunk(columnIndex, null))
+              : CompletableFuture.supplyAsync(() -> decodeChunk(columnIndex, null),
+                  executor);
+        }
+        result.add(column);
+      }
+      return result;
+    }
+
+    /**
+     * Decodes a column as a completion stage, wrapping I/O errors.
+     */
+    private ColumnValues decodeChunk(int columnIndex, ByteBuffer chunk) {
+      try {
+        return decodeColumn(columnIndex, pageReaderFor(columnIndex, chunk), chunk);
+      } catch (IOException e) {
+        throw new CompletionException(e);
+      }
+    }
+
+    /**
+     * Returns a page reader over an already fetched chunk, or one streaming from the chunk
+     * reader when {@code chunk} is null.
+     */
+    private PageReader pageReaderFor(int columnIndex, ByteBuffer chunk) {
+      if (chunk == null) {
+        return getColumnPageReader(columnIndex);
+      }
+      ParquetMetadata.ColumnChunkMetadata columnMeta = rowGroupMeta.columns().get(columnIndex);
+      ChunkReader reader =
+          new ByteBufferChunkReader(chunk, columnMeta.getFirstDataPageOffset());
+      return new PageReader(reader, columnMeta, schema.getColumn(columnIndex), allocator);
+    }
+
+    private boolean isBufferable(int columnIndex) {
+      if (columnIndex < 0 || columnIndex >= rowGroupMeta.getNumColumns()) {
+        throw new IndexOutOfBoundsException(
+            "Column index out of bounds: " + columnIndex);
+      }
+      return rowGroupMeta.columns().get(columnIndex).totalCompressedSize() <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the byte range of a column chunk, from its first page to its end.
+     *
+     * @param columnIndex the index of the column (0-based)
+     * @return the file range occupied by the column chunk
+     * @throws IndexOutOfBoundsException if the column index is out of bounds
+     * @throws ParquetException if the column chunk is larger than 2 GB
+     */
+    public FileRange getColumnRange(int columnIndex) {
+      if (columnIndex < 0 || columnIndex >= rowGroupMeta.getNumColumns()) {
+        throw new IndexOutOfBoundsException(
+            "Column index out of bounds: " + columnIndex);
+      }
+
+      ParquetMetadata.ColumnChunkMetadata columnMeta =
+          rowGroupMeta.columns().get(columnIndex);
+      if (columnMeta.totalCompressedSize() > Integer.MAX_VALUE) {
+        throw new ParquetException(
+            "Column chunk too large for a single range: " + columnMeta.totalCompressedSize());
+      }
+      return new FileRange(columnMeta.getFirstDataPageOffset(),
+          (int) columnMeta.totalCompressedSize());
+    }
+
+    private ColumnValues decodeColumn(int columnIndex, PageReader pageReader) throws IOException {
+      return decodeColumn(columnIndex, pageReader, null);
+    }
+
+    /**
+     * Decodes the pages of a column. A chunk fetched from the chunk reader is owned by the
+     * returned values, and handed back to the chunk reader by {@link ColumnValues#release()}.
+     */
+    private ColumnValues decodeColumn(int columnIndex, PageReader pageReader, ByteBuffer chunk)
+        throws IOException {
       List<Page> pages = pageReader.readAllPages();
 
       ParquetMetadata.ColumnChunkMetadata columnMeta =
@@ -276,7 +894,27 @@ public class ParquetFileReader implements AutoCloseable {
       LogicalColumnDescriptor logicalColumnDescriptor =
           schema.findLogicalColumnByPhysicalIndex(columnIndex);
 
-      return new ColumnValues(columnMeta.type(), pages, columnDescriptor, logicalColumnDescriptor);
+      Runnable release = chunk == null ? pageReader::release : () -> {
+        // Uncompressed pages are slices of the chunk, so it goes back after them
+        pageReader.release();
+        chunkReader.release(chunk);
+      };
+      return new ColumnValues(columnMeta.type(), pages, columnDescriptor, logicalColumnDescriptor,
+          release);
+    }
+
+    /**
+     * Frees the page memory owned by this reader, if it was opened with
+     * {@link ParquetFileReader#openRowGroup(int)}.
+     *
+     * <p>Column values and pages read through this reader must not be used afterwards.
+     * Outstanding asynchronous reads must have completed.
+     */
+    @Override
+    public void close() {
+      if (ownedAllocator != null) {
+        ownedAllocator.close();
+      }
     }
   }
 
@@ -0,0 +1,164 @@
+package io.github.aloksingh.parquet;
+
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of decoded file footers, shared by {@link ParquetFileReader}s.
+ *
+ * <p>Opening a file normally reads its footer and decodes the Thrift metadata. Services that
+ * open the same files over and over can skip both by sharing a cache: entries are keyed by
+ * {@link BlockCache.FileIdentity}, that is path, size, modification time and file key, so a
+ * rewritten file is never served stale metadata. When more than {@code maxEntries} footers
+ * are cached, the least recently used are evicted.
+ *
+ * <p>{@link #shared()} returns a process-wide instance.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * try (ParquetFileReader reader = new ParquetFileReader(path, ParquetMetadataCache.shared())) {
+ *   ...
+ * }
+ * }</pre>
+ */
+public class ParquetMetadataCache {
+
+  /**
+   * Default largest number of cached footers, used by {@link #shared()}.
+   */
+  public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+  private static final ParquetMetadataCache SHARED = new ParquetMetadataCache(DEFAULT_MAX_ENTRIES);
+
+  /**
+   * A point-in-time snapshot of the cache counters.
+   *
+   * @param hits the number of lookups served from the cache
+   * @param misses the number of lookups that read the footer
+   * @param evictions the number of footers evicted to stay within the bound
+   * @param size the number of cached footers
+   */
+  public record Stats(long hits, long misses, long evictions, int size) {
+
+    /**
+     * Returns the fraction of lookups served from the cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 if there were no lookups
+     */
+    public double hitRate() {
+      long total = hits + misses;
+      return total == 0 ? 0 : (double) hits / total;
+    }
+  }
+
+  private final int maxEntries;
+  // Access-ordered: iteration starts at the least recently used entry
+  private final LinkedHashMap<Object, ParquetMetadata> entries =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a cache holding at most the given number of footers.
+   *
+   * @param maxEntries the largest number of cached footers
+   * @throws IllegalArgumentException if {@code maxEntries} is not positive
+   */
+  public ParquetMetadataCache(int maxEntries) {
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException("Invalid maximum entries: " + maxEntries);
+    }
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Returns the process-wide cache.
+   *
+   * @return the shared cache, holding up to {@link #DEFAULT_MAX_ENTRIES} footers
+   */
+  public static ParquetMetadataCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the metadata of the current version of a file, reading it through the given
+   * reader on a miss.
+   *
+   * @param path the file
+   * @param reader a reader open on the file
+   * @return the file metadata
+   * @throws IOException if the file attributes or the footer cannot be read
+   */
+  public ParquetMetadata get(Path path, ChunkReader reader) throws IOException {
+    return get(BlockCache.FileIdentity.of(path), reader);
+  }
+
+  /**
+   * Returns the metadata of a file, reading it through the given reader on a miss.
+   *
+   * <p>The footer is read outside the cache lock. If two threads miss on the same file at
+   * the same time, both read it and the first one to finish is kept.
+   *
+   * @param fileIdentity a key identifying the file version, for example a
+   *                     {@link BlockCache.FileIdentity} or a URI and ETag
+   * @param reader a reader open on the file
+   * @return the file metadata
+   * @throws IOException if the footer has to be read and the read fails
+   */
+  public ParquetMetadata get(Object fileIdentity, ChunkReader reader) throws IOException {
+    synchronized (this) {
+      ParquetMetadata metadata = entries.get(fileIdentity);
+      if (metadata != null) {
+        hits.increment();
+        return metadata;
+      }
+    }
+
+    misses.increment();
+    ParquetMetadata metadata = ParquetMetadataReader.readMetadata(reader);
+    synchronized (this) {
+      ParquetMetadata existing = entries.putIfAbsent(fileIdentity, metadata);
+      if (existing != null) {
+        return existing;
+      }
+      Iterator<Map.Entry<Object, ParquetMetadata>> iterator = entries.entrySet().iterator();
+      while (entries.size() > maxEntries && iterator.hasNext()) {
+        iterator.next();
+        iterator.remove();
+        evictions.increment();
+      }
+    }
+    return metadata;
+  }
+
+  /**
+   * Removes the cached metadata of a file.
+   *
+   * @param fileIdentity the key the file was cached under
+   */
+  public synchronized void invalidate(Object fileIdentity) {
+    entries.remove(fileIdentity);
+  }
+
+  /**
+   * Removes all cached metadata. Counters are not reset.
+   */
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Returns a snapshot of the cache counters.
+   *
+   * @return the current statistics
+   */
+  public synchronized Stats stats() {
+    return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+  }
+}
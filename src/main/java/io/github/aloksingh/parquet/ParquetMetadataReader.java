@@ -1,14 +1,16 @@
 package io.github.aloksingh.parquet;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.apache.parquet.format.ColumnChunk;
 import org.apache.parquet.format.ColumnMetaData;
 import org.apache.parquet.format.FieldRepetitionType;
@@ -24,9 +26,13 @@ import io.github.aloksingh.parquet.model.MapMetadata;
 import io.github.aloksingh.parquet.model.ParquetException;
 import io.github.aloksingh.parquet.model.ParquetMetadata;
 import io.github.aloksingh.parquet.model.SchemaDescriptor;
+import io.github.aloksingh.parquet.model.SortOrder;
 import io.github.aloksingh.parquet.model.Type;
 import shaded.parquet.org.apache.thrift.TException;
 import shaded.parquet.org.apache.thrift.protocol.TCompactProtocol;
+import shaded.parquet.org.apache.thrift.protocol.TField;
+import shaded.parquet.org.apache.thrift.protocol.TList;
+import shaded.parquet.org.apache.thrift.protocol.TProtocolUtil;
 import shaded.parquet.org.apache.thrift.transport.TIOStreamTransport;
 
 /**
@@ -48,11 +54,23 @@ public class ParquetMetadataReader {
   private static final byte[] MAGIC = "PAR1".getBytes(StandardCharsets.UTF_8);
   private static final int FOOTER_SIZE = 8; // 4 bytes footer length + 4 bytes magic
 
+  // Thrift TType codes; the shaded Thrift library does not ship its constants class
+  private static final byte TTYPE_STOP = 0;
+  private static final byte TTYPE_STRUCT = 12;
+
+  /**
+   * Default number of bytes read from the end of the file when looking for the footer
+   * (64 KB).
+   */
+  public static final int DEFAULT_TAIL_READ_SIZE = 64 * 1024;
+
   /**
    * Reads metadata from a Parquet file.
    *
    * <p>This method reads the Parquet file footer, validates the magic number,
-   * and deserializes the metadata using Thrift protocol.
+   * and deserializes the metadata using Thrift protocol. The last
+   * {@link #DEFAULT_TAIL_READ_SIZE} bytes are read speculatively, which captures the
+   * footer of most files in a single read.
    *
    * @param reader the ChunkReader for reading file contents
    * @return the parsed ParquetMetadata containing schema and row group information
@@ -60,14 +78,91 @@ public class ParquetMetadataReader {
    * @throws ParquetException if the file is not a valid Parquet file or metadata is corrupt
    */
   public static ParquetMetadata readMetadata(ChunkReader reader) throws IOException {
+    return readMetadata(reader, DEFAULT_TAIL_READ_SIZE);
+  }
+
+  /**
+   * Reads metadata from a Parquet file, starting with a speculative read of the file tail.
+   *
+   * <p>The tail read covers the 8-byte footer trailer and, if the footer is no larger than
+   * the rest of the tail, the whole footer. Only a larger footer needs a second read.
+   *
+   * @param reader the ChunkReader for reading file contents
+   * @param tailReadSize the number of bytes to read from the end of the file up front; values
+   *                     below 8 read just the trailer
+   * @return the parsed ParquetMetadata containing schema and row group information
+   * @throws IOException if an I/O error occurs while reading the file
+   * @throws ParquetException if the file is not a valid Parquet file or metadata is corrupt
+   */
+  public static ParquetMetadata readMetadata(ChunkReader reader, int tailReadSize)
+      throws IOException {
+    return parseMetadata(readFooter(reader, tailReadSize));
+  }
+
+  /**
+   * Reads metadata from a Parquet file, deferring the decoding of column chunk metadata.
+   *
+   * <p>Files with very wide schemas spend most of the footer decoding time building
+   * metadata for column chunks that are never read. In lazy mode, the schema, key-value
+   * metadata and row group sizes are decoded as usual, but the column chunks of each row
+   * group are only indexed: {@link ParquetMetadata.RowGroupMetadata#columns()} decodes a
+   * column chunk from the footer bytes the first time it is accessed. Reading a projection
+   * of the columns, or a subset of the row groups, therefore only decodes the column chunks
+   * it touches.
+   *
+   * <p>The returned metadata keeps a copy of the footer bytes and is safe to share across
+   * threads and readers.
+   *
+   * @param reader the ChunkReader for reading file contents
+   * @return the parsed ParquetMetadata with lazily decoded column chunks
+   * @throws IOException if an I/O error occurs while reading the file
+   * @throws ParquetException if the file is not a valid Parquet file or metadata is corrupt
+   */
+  public static ParquetMetadata readMetadataLazily(ChunkReader reader) throws IOException {
+    return readMetadataLazily(reader, DEFAULT_TAIL_READ_SIZE);
+  }
+
+  /**
+   * Reads metadata from a Parquet file, starting with a speculative read of the file tail
+   * and deferring the decoding of column chunk metadata.
+   *
+   * @param reader the ChunkReader for reading file contents
+   * @param tailReadSize the number of bytes to read from the end of the file up front; values
+   *                     below 8 read just the trailer
+   * @return the parsed ParquetMetadata with lazily decoded column chunks
+   * @throws IOException if an I/O error occurs while reading the file
+   * @throws ParquetException if the file is not a valid Parquet file or metadata is corrupt
+   * @see #readMetadataLazily(ChunkReader)
+   */
+  public static ParquetMetadata readMetadataLazily(ChunkReader reader, int tailReadSize)
+      throws IOException {
+    ByteBuffer footer = readFooter(reader, tailReadSize);
+    // Copy the footer: the reader's buffers may not outlive the reader
+    byte[] bytes = new byte[footer.remaining()];
+    footer.get(bytes);
+    return parseMetadataLazily(ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+  }
+
+  /**
+   * Reads the Thrift-encoded file metadata from the end of the file.
+   *
+   * @param reader the ChunkReader for reading file contents
+   * @param tailReadSize the number of bytes to read from the end of the file up front
+   * @return the file metadata bytes
+   * @throws IOException if an I/O error occurs while reading the file
+   * @throws ParquetException if the file is not a valid Parquet file
+   */
+  private static ByteBuffer readFooter(ChunkReader reader, int tailReadSize) throws IOException {
     long fileLen = reader.length();
     if (fileLen < FOOTER_SIZE + 4) {
       throw new ParquetException("File too small to be a valid Parquet file");
     }
 
-    // Read the footer (last 8 bytes)
-    ByteBuffer footer = reader.readBytes(fileLen - FOOTER_SIZE, FOOTER_SIZE);
-    footer.order(ByteOrder.LITTLE_ENDIAN);
+    // Read the tail of the file, ending with the footer length and magic (last 8 bytes)
+    int tailSize = (int) Math.min(Math.max(tailReadSize, FOOTER_SIZE), fileLen);
+    ByteBuffer tail = reader.readBytes(fileLen - tailSize, tailSize);
+    int trailerStart = tail.limit() - FOOTER_SIZE;
+    ByteBuffer footer = tail.slice(trailerStart, FOOTER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
 
     // Check magic number
     byte[] magic = new byte[4];
@@ -84,11 +179,15 @@ public class ParquetMetadataReader {
       throw new ParquetException("Invalid footer length: " + footerLen);
     }
 
-    // Read the file metadata
-    long metadataStart = fileLen - FOOTER_SIZE - footerLen;
-    ByteBuffer metadataBytes = reader.readBytes(metadataStart, footerLen);
-
-    return parseMetadata(metadataBytes);
+    // Use the file metadata from the tail if it is all there, otherwise read it
+    ByteBuffer metadataBytes;
+    if (footerLen <= trailerStart) {
+      metadataBytes = tail.slice(trailerStart - footerLen, footerLen);
+    } else {
+      long metadataStart = fileLen - FOOTER_SIZE - footerLen;
+      metadataBytes = reader.readBytes(metadataStart, footerLen);
+    }
+    return metadataBytes;
   }
 
   /**
@@ -104,10 +203,8 @@ public class ParquetMetadataReader {
    */
   private static ParquetMetadata parseMetadata(ByteBuffer buffer) throws IOException {
     try {
-      // Create Thrift protocol to deserialize
-      byte[] bytes = new byte[buffer.remaining()];
-      buffer.get(bytes);
-      TIOStreamTransport transport = new TIOStreamTransport(new ByteArrayInputStream(bytes));
+      // Create Thrift protocol to deserialize, reading the footer bytes in place
+      TIOStreamTransport transport = new TIOStreamTransport(new ByteBufferInputStream(buffer));
       TCompactProtocol protocol = new TCompactProtocol(transport);
 
       // Read FileMetaData
@@ -120,6 +217,185 @@ public class ParquetMetadataReader {
     }
   }
 
+  /**
+   * Parses metadata from Thrift-encoded bytes, indexing column chunks instead of decoding
+   * them.
+   *
+   * <p>FileMetaData fields are read one by one. For the row groups, only the total byte size
+   * and row count are decoded; each column chunk struct is skipped over and its offset in
+   * the footer recorded, to be decoded on first access by a {@link LazyColumnChunkList}.
+   *
+   * @param footer the Thrift-encoded metadata, retained by the returned metadata
+   * @return the parsed ParquetMetadata
+   * @throws ParquetException if the Thrift deserialization fails
+   */
+  private static ParquetMetadata parseMetadataLazily(ByteBuffer footer) {
+    try {
+      ByteBufferInputStream input = new ByteBufferInputStream(footer);
+      TCompactProtocol protocol = new TCompactProtocol(new TIOStreamTransport(input));
+
+      int version = 0;
+      long numRows = 0;
+      List<SchemaElement> schemaElements = null;
+      List<KeyValue> keyValues = null;
+      List<ParquetMetadata.RowGroupMetadata> rowGroups = null;
+
+      protocol.readStructBegin();
+      while (true) {
+        TField field = protocol.readFieldBegin();
+        if (field.type == TTYPE_STOP) {
+          break;
+        }
+        switch (field.id) {
+          case 1 -> version = protocol.readI32();
+          case 2 -> {
+            TList list = protocol.readListBegin();
+            schemaElements = new ArrayList<>(list.size);
+            for (int i = 0; i < list.size; i++) {
+              SchemaElement element = new SchemaElement();
+              element.read(protocol);
+              schemaElements.add(element);
+            }
+            protocol.readListEnd();
+          }
+          case 3 -> numRows = protocol.readI64();
+          case 4 -> {
+            TList list = protocol.readListBegin();
+            rowGroups = new ArrayList<>(list.size);
+            for (int i = 0; i < list.size; i++) {
+              rowGroups.add(indexRowGroup(protocol, input, footer));
+            }
+            protocol.readListEnd();
+          }
+          case 5 -> {
+            TList list = protocol.readListBegin();
+            keyValues = new ArrayList<>(list.size);
+            for (int i = 0; i < list.size; i++) {
+              KeyValue kv = new KeyValue();
+              kv.read(protocol);
+              keyValues.add(kv);
+            }
+            protocol.readListEnd();
+          }
+          default -> TProtocolUtil.skip(protocol, field.type);
+        }
+        protocol.readFieldEnd();
+      }
+      protocol.readStructEnd();
+
+      if (schemaElements == null || rowGroups == null) {
+        throw new ParquetException("Invalid Parquet metadata: missing schema or row groups");
+      }
+      return new ParquetMetadata(
+          convertFileMetadata(version, schemaElements, numRows, keyValues), rowGroups);
+    } catch (TException e) {
+      throw new ParquetException("Failed to parse Parquet metadata", e);
+    }
+  }
+
+  /**
+   * Reads a RowGroup struct, recording the footer offset of each column chunk.
+   *
+   * @param protocol the protocol positioned at the start of the RowGroup struct
+   * @param input the stream under the protocol, used to track footer offsets
+   * @param footer the whole footer, shared with the lazily decoded column list
+   * @return the row group metadata
+   * @throws TException if the Thrift deserialization fails
+   */
+  private static ParquetMetadata.RowGroupMetadata indexRowGroup(
+      TCompactProtocol protocol, ByteBufferInputStream input, ByteBuffer footer)
+      throws TException {
+    int[] columnOffsets = null;
+    long totalByteSize = 0;
+    long numRows = 0;
+
+    protocol.readStructBegin();
+    while (true) {
+      TField field = protocol.readFieldBegin();
+      if (field.type == TTYPE_STOP) {
+        break;
+      }
+      switch (field.id) {
+        case 1 -> {
+          TList list = protocol.readListBegin();
+          columnOffsets = new int[list.size];
+          for (int i = 0; i < list.size; i++) {
+            columnOffsets[i] = input.position();
+            TProtocolUtil.skip(protocol, TTYPE_STRUCT);
+          }
+          protocol.readListEnd();
+        }
+        case 2 -> totalByteSize = protocol.readI64();
+        case 3 -> numRows = protocol.readI64();
+        default -> TProtocolUtil.skip(protocol, field.type);
+      }
+      protocol.readFieldEnd();
+    }
+    protocol.readStructEnd();
+
+    if (columnOffsets == null) {
+      throw new ParquetException("Invalid Parquet metadata: row group without columns");
+    }
+    return new ParquetMetadata.RowGroupMetadata(
+        new LazyColumnChunkList(footer, columnOffsets), totalByteSize, numRows);
+  }
+
+  /**
+   * Column chunk metadata of one row group, decoded from the footer bytes on first access.
+   *
+   * <p>Decoded entries are cached. Two threads racing on the same entry may both decode it;
+   * the results are equal and either is kept.
+   */
+  static final class LazyColumnChunkList
+      extends AbstractList<ParquetMetadata.ColumnChunkMetadata> implements RandomAccess {
+    private final ByteBuffer footer;
+    private final int[] offsets;
+    private final AtomicReferenceArray<ParquetMetadata.ColumnChunkMetadata> decoded;
+
+    LazyColumnChunkList(ByteBuffer footer, int[] offsets) {
+      this.footer = footer;
+      this.offsets = offsets;
+      this.decoded = new AtomicReferenceArray<>(offsets.length);
+    }
+
+    @Override
+    public ParquetMetadata.ColumnChunkMetadata get(int index) {
+      ParquetMetadata.ColumnChunkMetadata columnChunk = decoded.get(index);
+      if (columnChunk == null) {
+        columnChunk = convertColumnChunk(decode(offsets[index]));
+        decoded.lazySet(index, columnChunk);
+      }
+      return columnChunk;
+    }
+
+    @Override
+    public int size() {
+      return offsets.length;
+    }
+
+    /**
+     * Returns whether a column chunk has been decoded, without decoding it.
+     *
+     * @param index the column chunk index
+     * @return true if the column chunk has been decoded
+     */
+    boolean isDecoded(int index) {
+      return decoded.get(index) != null;
+    }
+
+    private ColumnChunk decode(int offset) {
+      ByteBuffer buffer = footer.duplicate();
+      buffer.position(buffer.position() + offset);
+      try {
+        ColumnChunk cc = new ColumnChunk();
+        cc.read(new TCompactProtocol(new TIOStreamTransport(new ByteBufferInputStream(buffer))));
+        return cc;
+      } catch (TException e) {
+        throw new ParquetException("Failed to parse column chunk metadata", e);
+      }
+    }
+  }
+
   /**
    * Converts Thrift metadata to our internal metadata classes.
    *
@@ -134,14 +410,50 @@ public class ParquetMetadataReader {
    * @return the converted ParquetMetadata with our internal representation
    */
   private static ParquetMetadata convertFromThrift(FileMetaData thriftMetadata) {
+    ParquetMetadata.FileMetadata fileMetadata = convertFileMetadata(
+        thriftMetadata.getVersion(),
+        thriftMetadata.getSchema(),
+        thriftMetadata.getNum_rows(),
+        thriftMetadata.isSetKey_value_metadata() ? thriftMetadata.getKey_value_metadata() : null
+    );
+
+    // Convert row groups
+    List<ParquetMetadata.RowGroupMetadata> rowGroups = new ArrayList<>();
+    for (RowGroup rg : thriftMetadata.getRow_groups()) {
+      List<ParquetMetadata.ColumnChunkMetadata> columnChunks = new ArrayList<>();
+
+      for (int i = 0; i < rg.getColumns().size(); i++) {
+        columnChunks.add(convertColumnChunk(rg.getColumns().get(i)));
+      }
+
+      rowGroups.add(new ParquetMetadata.RowGroupMetadata(
+          columnChunks,
+          rg.getTotal_byte_size(),
+          rg.getNum_rows()
+      ));
+    }
+
+    return new ParquetMetadata(fileMetadata, rowGroups);
+  }
+
+  /**
+   * Converts the file-level Thrift metadata: schema, row count and key-value metadata.
+   *
+   * @param version the format version
+   * @param schemaElements the flattened schema, starting with the root element
+   * @param numRows the total number of rows
+   * @param keyValues the key-value metadata, or null if absent
+   * @return the converted file metadata
+   */
+  private static ParquetMetadata.FileMetadata convertFileMetadata(
+      int version, List<SchemaElement> schemaElements, long numRows, List<KeyValue> keyValues) {
     // Convert schema
-    SchemaElement rootSchema = thriftMetadata.getSchema().get(0);
+    SchemaElement rootSchema = schemaElements.get(0);
     List<ColumnDescriptor> columns = new ArrayList<>();
 
     // Build columns from schema
     // Note: Start with empty path array - we don't want the root schema name in column paths
     // The root schema element is a group with N children (all the top-level columns)
-    List<SchemaElement> schemaElements = thriftMetadata.getSchema();
     int numRootChildren = rootSchema.getNum_children();
     int nextIndex = 1; // Start after the root element
     for (int i = 0; i < numRootChildren; i++) {
@@ -156,98 +468,85 @@ public class ParquetMetadataReader {
 
     // Convert key-value metadata
     Map<String, String> kvMetadata = new HashMap<>();
-    if (thriftMetadata.isSetKey_value_metadata()) {
-      for (KeyValue kv : thriftMetadata.getKey_value_metadata()) {
+    if (keyValues != null) {
+      for (KeyValue kv : keyValues) {
         kvMetadata.put(kv.getKey(), kv.getValue());
       }
     }
 
-    ParquetMetadata.FileMetadata fileMetadata = new ParquetMetadata.FileMetadata(
-        thriftMetadata.getVersion(),
-        schema,
-        thriftMetadata.getNum_rows(),
-        kvMetadata
-    );
-
-    // Convert row groups
-    List<ParquetMetadata.RowGroupMetadata> rowGroups = new ArrayList<>();
-    for (RowGroup rg : thriftMetadata.getRow_groups()) {
-      List<ParquetMetadata.ColumnChunkMetadata> columnChunks = new ArrayList<>();
-
-      for (int i = 0; i < rg.getColumns().size(); i++) {
-        ColumnChunk cc = rg.getColumns().get(i);
-        ColumnMetaData meta = cc.getMeta_data();
-
-        // Get column path
-        String[] path = meta.getPath_in_schema().toArray(new String[0]);
-
-        // Convert type
-        Type type = Type.fromValue(meta.getType().getValue());
-
-        // Convert codec
-        CompressionCodec codec = CompressionCodec.fromValue(
-            meta.getCodec().getValue());
-
-        long dictionaryPageOffset = meta.isSetDictionary_page_offset()
-            ? meta.getDictionary_page_offset() : -1;
-
-        // Extract statistics if available
-        ParquetMetadata.ColumnStatistics statistics = null;
-        if (meta.isSetStatistics()) {
-          org.apache.parquet.format.Statistics stats = meta.getStatistics();
-          byte[] min = null;
-          byte[] max = null;
-          Long nullCount = null;
-          Long distinctCount = null;
-
-          // Use min_value/max_value if available, otherwise fall back to min/max
-          if (stats.isSetMin_value()) {
-            min = stats.getMin_value();
-          } else if (stats.isSetMin()) {
-            min = stats.getMin();
-          }
-
-          if (stats.isSetMax_value()) {
-            max = stats.getMax_value();
-          } else if (stats.isSetMax()) {
-            max = stats.getMax();
-          }
-
-          if (stats.isSetNull_count()) {
-            nullCount = stats.getNull_count();
-          }
+    return new ParquetMetadata.FileMetadata(version, schema, numRows, kvMetadata);
+  }
 
-          if (stats.isSetDistinct_count()) {
-            distinctCount = stats.getDistinct_count();
-          }
+  /**
+   * Converts the Thrift metadata of one column chunk, including its statistics.
+   *
+   * @param cc the Thrift column chunk
+   * @return the converted column chunk metadata
+   */
+  private static ParquetMetadata.ColumnChunkMetadata convertColumnChunk(ColumnChunk cc) {
+    ColumnMetaData meta = cc.getMeta_data();
+
+    // Get column path
+    String[] path = meta.getPath_in_schema().toArray(new String[0]);
+
+    // Convert type
+    Type type = Type.fromValue(meta.getType().getValue());
+
+    // Convert codec
+    CompressionCodec codec = CompressionCodec.fromValue(
+        meta.getCodec().getValue());
+
+    long dictionaryPageOffset = meta.isSetDictionary_page_offset()
+        ? meta.getDictionary_page_offset() : -1;
+
+    // Extract statistics if available
+    ParquetMetadata.ColumnStatistics statistics = null;
+    if (meta.isSetStatistics()) {
+      org.apache.parquet.format.Statistics stats = meta.getStatistics();
+      byte[] min = null;
+      byte[] max = null;
+      Long nullCount = null;
+      Long distinctCount = null;
+      boolean legacyMinMax = false;
+
+      // Use min_value/max_value if available, otherwise fall back to min/max
+      if (stats.isSetMin_value() && stats.isSetMax_value()) {
+        min = stats.getMin_value();
+        max = stats.getMax_value();
+      } else if (stats.isSetMin() && stats.isSetMax()) {
+        min = stats.getMin();
+        max = stats.getMax();
+        legacyMinMax = true;
+      }
 
-          statistics = new ParquetMetadata.ColumnStatistics(min, max, nullCount, distinctCount);
-        }
+      if (stats.isSetNull_count()) {
+        nullCount = stats.getNull_count();
+      }
 
-        ParquetMetadata.ColumnChunkMetadata colMeta =
-            new ParquetMetadata.ColumnChunkMetadata(
-                type,
-                path,
-                codec,
-                meta.getData_page_offset(),
-                dictionaryPageOffset,
-                meta.getTotal_compressed_size(),
-                meta.getTotal_uncompressed_size(),
-                meta.getNum_values(),
-                statistics
-            );
-
-        columnChunks.add(colMeta);
+      if (stats.isSetDistinct_count()) {
+        distinctCount = stats.getDistinct_count();
       }
 
-      rowGroups.add(new ParquetMetadata.RowGroupMetadata(
-          columnChunks,
-          rg.getTotal_byte_size(),
-          rg.getNum_rows()
-      ));
+      statistics = new ParquetMetadata.ColumnStatistics(min, max, nullCount, distinctCount,
+          legacyMinMax);
     }
 
-    return new ParquetMetadata(fileMetadata, rowGroups);
+    return new ParquetMetadata.ColumnChunkMetadata(
+        type,
+        path,
+        codec,
+        meta.getData_page_offset(),
+        dictionaryPageOffset,
+        meta.getTotal_compressed_size(),
+        meta.getTotal_uncompressed_size(),
+        meta.getNum_values(),
+        statistics,
+        cc.isSetColumn_index_offset() ? cc.getColumn_index_offset() : -1,
+        cc.isSetColumn_index_length() ? cc.getColumn_index_length() : 0,
+        cc.isSetOffset_index_offset() ? cc.getOffset_index_offset() : -1,
+        cc.isSetOffset_index_length() ? cc.getOffset_index_length() : 0,
+        meta.isSetBloom_filter_offset() ? meta.getBloom_filter_offset() : -1
+    );
   }
 
   /**
@@ -294,7 +593,7 @@ public class ParquetMetadataReader {
       int typeLength = element.isSetType_length() ? element.getType_length() : 0;
 
       columns.add(new ColumnDescriptor(
-          type, path, defLevel, repLevel, typeLength
+          type, path, defLevel, repLevel, typeLength, sortOrder(element, type)
       ));
 
       return index + 1;
@@ -313,6 +612,41 @@ public class ParquetMetadataReader {
     }
   }
 
+  /**
+   * Determines the order of a column's min/max statistics from its logical type annotation.
+   *
+   * @param element the schema element of a primitive column
+   * @param type the physical type of the column
+   * @return the sort order of the column statistics
+   */
+  private static SortOrder sortOrder(SchemaElement element, Type type) {
+    if (element.isSetLogicalType()) {
+      org.apache.parquet.format.LogicalType logicalType = element.getLogicalType();
+      if (logicalType.isSetINTEGER()) {
+        return logicalType.getINTEGER().isIsSigned() ? SortOrder.SIGNED : SortOrder.UNSIGNED;
+      }
+      if (logicalType.isSetDECIMAL()) {
+        return SortOrder.SIGNED;
+      }
+    }
+    if (element.isSetConverted_type()) {
+      switch (element.getConverted_type()) {
+        case UINT_8, UINT_16, UINT_32, UINT_64 -> {
+          return SortOrder.UNSIGNED;
+        }
+        case DECIMAL -> {
+          return SortOrder.SIGNED;
+        }
+        case INTERVAL -> {
+          return SortOrder.UNDEFINED;
+        }
+        default -> {
+        }
+      }
+    }
+    return SortOrder.defaultFor(type);
+  }
+
   /**
    * Appends a name to the current path array.
    *
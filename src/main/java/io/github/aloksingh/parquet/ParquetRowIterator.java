@@ -6,12 +6,18 @@ import io.github.aloksingh.parquet.model.LogicalColumnDescriptor;
 import io.github.aloksingh.parquet.model.MapMetadata;
 import io.github.aloksingh.parquet.model.Page;
 import io.github.aloksingh.parquet.model.ParquetException;
+import io.github.aloksingh.parquet.model.ParquetMetadata;
 import io.github.aloksingh.parquet.model.RowColumnGroup;
 import io.github.aloksingh.parquet.model.SchemaDescriptor;
 import io.github.aloksingh.parquet.model.SimpleRowColumnGroup;
 import io.github.aloksingh.parquet.model.Type;
+import io.github.aloksingh.parquet.util.filter.ColumnFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnValueMembership;
+import io.github.aloksingh.parquet.util.filter.ColumnValueStatistics;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +30,17 @@ import java.util.NoSuchElementException;
  * automatically loading the next row group when the current one is exhausted.
  * It handles both primitive columns and map columns (key-value pairs).
  *
+ * <p>Optionally, a {@link RowGroupPrefetcher} fetches the column chunks of the next
+ * row groups in the background while the current one is consumed, so that I/O for
+ * row group N+1 overlaps with decoding and consuming row group N.
+ *
+ * <p>Given {@link ColumnFilter}s, the iterator uses the column chunk statistics and bloom
+ * filters of the file to skip row groups, and its page indexes to skip data pages, that
+ * cannot hold a matching row, and
+ * returns only the rows of the remaining pages. The filters are not applied to the returned
+ * rows; see
+ * {@link FilteringParquetRowIterator}.
+ *
  * <p>Usage example:
  * <pre>{@code
  * try (ParquetRowIterator iterator = new ParquetRowIterator(fileReader)) {
@@ -41,6 +58,12 @@ public class ParquetRowIterator implements RowColumnGroupIterator, AutoCloseable
   private final ParquetFileReader fileReader;
   private final SchemaDescriptor schema;
   private final boolean closeFileReader;
+  private final int[] physicalColumnIndexes;
+  // The physical column of each logical column; the key column for maps
+  private final int[] logicalColumnIndexes;
+  private final RowGroupPrefetcher prefetcher;
+  private final ColumnFilter[] filters;
+  private final boolean skipPages;
 
   private int currentRowGroupIndex;
   private int currentRowIndex;
@@ -54,9 +77,55 @@ public class ParquetRowIterator implements RowColumnGroupIterator, AutoCloseable
    * @param closeFileReader Whether to close the file reader when done
    */
   public ParquetRowIterator(ParquetFileReader fileReader, boolean closeFileReader) {
+    this(fileReader, closeFileReader, 0, 0);
+  }
+
+  /**
+   * Create an iterator for a Parquet file that prefetches upcoming row groups.
+   *
+   * @param fileReader      The file reader to iterate over
+   * @param closeFileReader Whether to close the file reader when done
+   * @param prefetchDepth   The number of row groups to fetch ahead of the current one,
+   *                        or 0 to disable prefetching
+   * @param prefetchMemoryBudget The largest number of column chunk bytes to prefetch
+   */
+  public ParquetRowIterator(ParquetFileReader fileReader, boolean closeFileReader,
+                            int prefetchDepth, long prefetchMemoryBudget) {
+    this(fileReader, closeFileReader, prefetchDepth, prefetchMemoryBudget, null);
+  }
+
+  /**
+   * Create an iterator for a Parquet file that skips the row groups which, according to
+   * their column chunk statistics and bloom filters, and the data pages which, according to
+   * the page index, cannot hold rows matching the filters.
+   *
+   * <p>A row is kept if, for every filter, some page of some column holding the row may
+   * satisfy the filter. Columns without a page index are read in full. Pages are only
+   * skipped when every column read is either non-repeated or part of a map.
+   *
+   * @param fileReader      The file reader to iterate over
+   * @param closeFileReader Whether to close the file reader when done
+   * @param filters         The filters that rows must be able to match (AND semantics)
+   */
+  public ParquetRowIterator(ParquetFileReader fileReader, boolean closeFileReader,
+                            ColumnFilter[] filters) {
+    this(fileReader, closeFileReader, 0, 0, filters);
+  }
+
+  private ParquetRowIterator(ParquetFileReader fileReader, boolean closeFileReader,
+                             int prefetchDepth, long prefetchMemoryBudget,
+                             ColumnFilter[] filters) {
     this.fileReader = fileReader;
     this.schema = fileReader.getSchema();
     this.closeFileReader = closeFileReader;
+    this.physicalColumnIndexes = findPhysicalColumnIndexes();
+    this.logicalColumnIndexes = findLogicalColumnIndexes();
+    this.prefetcher = prefetchDepth > 0 && fileReader.getNumRowGroups() > 1
+        ? new RowGroupPrefetcher(fileReader, physicalColumnIndexes, prefetchDepth,
+            prefetchMemoryBudget)
+        : null;
+    this.filters = filters != null && filters.length > 0 ? filters : null;
+    this.skipPages = this.filters != null && canSkipPages();
     this.currentRowGroupIndex = 0;
     this.currentRowIndex = 0;
     this.currentRowGroupData = null;
@@ -64,7 +133,14 @@ public class ParquetRowIterator implements RowColumnGroupIterator, AutoCloseable
 
     // Load the first row group if available
     if (fileReader.getNumRowGroups() > 0) {
-      loadRowGroup(0);
+      try {
+        loadRowGroup(0);
+      } catch (RuntimeException e) {
+        if (prefetcher != null) {
+          prefetcher.close();
+        }
+        throw e;
+      }
     }
   }
 
@@ -92,32 +168,260 @@ public class ParquetRowIterator implements RowColumnGroupIterator, AutoCloseable
 
       currentRowGroupRowCount = rowGroupReader.getNumRows();
       currentRowGroupData = new ArrayList<>(schema.getNumLogicalColumns());
+      currentRowIndex = 0;
+
+      // With filters, only the rows of pages that may match are read
+      Map<Integer, PageIndex> pageIndexes = new HashMap<>();
+      RowRanges rows = filters != null
+          ? selectRows(rowGroupReader, rowGroupIndex, pageIndexes) : null;
+      if (rows != null && rows.isEmpty()) {
+        currentRowGroupRowCount = 0;
+        return;
+      }
+      if (rows != null && rows.rowCount() == rowGroupReader.getNumRows()) {
+        rows = null;
+      }
+
+      List<ColumnValues> physicalColumns;
+      // The rows held by each physical column's values, when only some pages are read
+      RowRanges[] columnRows = null;
+      if (rows == null) {
+        // Fetch the chunks of every physical column backing a logical column in one
+        // vectored read, unless they have already been prefetched
+        List<ByteBuffer> chunks = prefetcher != null
+            ? prefetcher.take(rowGroupIndex)
+            : rowGroupReader.fetchColumnChunks(physicalColumnIndexes,
+                ChunkReader.DEFAULT_MAX_MERGE_GAP, ChunkReader.DEFAULT_MAX_MERGED_SIZE);
+        physicalColumns = rowGroupReader.decodeColumns(physicalColumnIndexes, chunks);
+      } else {
+        currentRowGroupRowCount = rows.rowCount();
+        physicalColumns = new ArrayList<>(physicalColumnIndexes.length);
+        columnRows = new RowRanges[physicalColumnIndexes.length];
+        for (int i = 0; i < physicalColumnIndexes.length; i++) {
+          int columnIndex = physicalColumnIndexes[i];
+          PageIndex pageIndex = pageIndexes.containsKey(columnIndex)
+              ? pageIndexes.get(columnIndex) : rowGroupReader.readPageIndex(columnIndex, false);
+          if (pageIndex == null) {
+            physicalColumns.add(rowGroupReader.readColumn(columnIndex));
+            columnRows[i] = RowRanges.all(rowGroupReader.getNumRows());
+          } else {
+            physicalColumns.add(rowGroupReader.readColumn(columnIndex, pageIndex, rows));
+            columnRows[i] = pageIndex.pageRows(rows);
+          }
+        }
+      }
 
-      // Read all LOGICAL columns for this row group
+      // Decode all LOGICAL columns for this row group
+      int next = 0;
       for (int logicalColIdx = 0; logicalColIdx < schema.getNumLogicalColumns(); logicalColIdx++) {
         LogicalColumnDescriptor logicalCol = schema.getLogicalColumn(logicalColIdx);
 
         if (logicalCol.isMap()) {
           // Decode map column
-          List<Map<String, Object>> maps =
-              decodeMapColumn(rowGroupReader, logicalCol.getMapMetadata());
+          ColumnValues keyColumn = physicalColumns.get(next);
+          ColumnValues valueColumn = physicalColumns.get(next + 1);
+          List<Map<String, Object>> maps = columnRows == null
+              ? decodeMapColumn(keyColumn, valueColumn, logicalCol.getMapMetadata(),
+                  null, null, null)
+              : decodeMapColumn(keyColumn, valueColumn, logicalCol.getMapMetadata(),
+                  columnRows[next], columnRows[next + 1], rows);
+          next += 2;
           currentRowGroupData.add(new ArrayList<>(maps));
         } else {
           // Decode primitive column
           ColumnDescriptor physicalCol = logicalCol.getPhysicalDescriptor();
-          int physicalIndex = findPhysicalColumnIndex(physicalCol);
-          ColumnValues columnValues = rowGroupReader.readColumn(physicalIndex);
+          ColumnValues columnValues = physicalColumns.get(next);
           List<Object> values = decodeColumn(columnValues, physicalCol);
+          if (columnRows != null) {
+            values = columnRows[next].select(values, rows);
+          }
+          next++;
           currentRowGroupData.add(values);
         }
       }
 
-      currentRowIndex = 0;
+      // Values are fully decoded, so the page buffers can go back to the allocator
+      for (ColumnValues columnValues : physicalColumns) {
+        columnValues.release();
+      }
     } catch (IOException e) {
       throw new ParquetException("Failed to read row group " + rowGroupIndex, e);
     }
   }
 
+  /**
+   * Find the rows of a row group that may match all filters.
+   *
+   * <p>The column chunk statistics are checked first, then the bloom filters, and last the
+   * page indexes, so a row group that cannot match is skipped with as little I/O as
+   * possible.
+   *
+   * @param rowGroupReader The row group
+   * @param rowGroupIndex The index of the row group
+   * @param pageIndexes The page indexes read so far, by physical column index
+   * @return The rows that may match
+   * @throws IOException If reading a bloom filter or page index fails
+   */
+  private RowRanges selectRows(ParquetFileReader.RowGroupReader rowGroupReader,
+                               int rowGroupIndex,
+                               Map<Integer, PageIndex> pageIndexes) throws IOException {
+    int numLogicalColumns = schema.getNumLogicalColumns();
+    List<ParquetMetadata.ColumnChunkMetadata> chunks = rowGroupReader.getMetadata().columns();
+
+    // For each filter, the logical columns whose chunk statistics allow a match. Columns a
+    // filter does not apply to fail even with unknown statistics, so those are ruled out
+    // first, and the statistics of a column are decoded at most once.
+    boolean[][] mightMatch = new boolean[filters.length][numLogicalColumns];
+    ColumnValueStatistics[] statistics = new ColumnValueStatistics[numLogicalColumns];
+    for (int f = 0; f < filters.length; f++) {
+      boolean any = false;
+      for (int logicalColIdx = 0; logicalColIdx < numLogicalColumns; logicalColIdx++) {
+        LogicalColumnDescriptor logicalCol = schema.getLogicalColumn(logicalColIdx);
+        if (!filters[f].mightMatch(logicalCol, ColumnValueStatistics.UNKNOWN)) {
+          continue;
+        }
+        if (statistics[logicalColIdx] == null) {
+          statistics[logicalColIdx] = ColumnValueStatistics.UNKNOWN;
+          // The null count of a list leaf also counts empty lists, so the statistics only
+          // describe the row values of flat primitive columns
+          int columnIndex = logicalColumnIndexes[logicalColIdx];
+          if (logicalCol.isPrimitive()
+              && schema.getColumn(columnIndex).maxRepetitionLevel() == 0) {
+            statistics[logicalColIdx] = ColumnStatisticsDecoder.decode(
+                schema.getColumn(columnIndex), chunks.get(columnIndex));
+          }
+        }
+        mightMatch[f][logicalColIdx] = statistics[logicalColIdx] == ColumnValueStatistics.UNKNOWN
+            || filters[f].mightMatch(logicalCol, statistics[logicalColIdx]);
+        any |= mightMatch[f][logicalColIdx];
+      }
+      if (!any) {
+        return RowRanges.EMPTY;
+      }
+    }
+
+    // Rule out more columns with their bloom filters, read only if a filter probes them
+    for (int f = 0; f < filters.length; f++) {
+      boolean any = false;
+      for (int logicalColIdx = 0; logicalColIdx < numLogicalColumns; logicalColIdx++) {
+        LogicalColumnDescriptor logicalCol = schema.getLogicalColumn(logicalColIdx);
+        if (mightMatch[f][logicalColIdx] && !logicalCol.isMap()) {
+          mightMatch[f][logicalColIdx] = filters[f].mightMatch(logicalCol,
+              bloomFilter(rowGroupIndex, logicalColumnIndexes[logicalColIdx]));
+        }
+        any |= mightMatch[f][logicalColIdx];
+      }
+      if (!any) {
+        return RowRanges.EMPTY;
+      }
+    }
+
+    // Narrow the rows down to the pages that may match
+    RowRanges allRows = RowRanges.all(rowGroupReader.getNumRows());
+    RowRanges rows = allRows;
+    for (int f = 0; f < filters.length; f++) {
+      RowRanges matching = RowRanges.EMPTY;
+      for (int logicalColIdx = 0; logicalColIdx < numLogicalColumns; logicalColIdx++) {
+        if (!mightMatch[f][logicalColIdx]) {
+          continue;
+        }
+        LogicalColumnDescriptor logicalCol = schema.getLogicalColumn(logicalColIdx);
+        int columnIndex = logicalColumnIndexes[logicalColIdx];
+        if (!skipPages || logicalCol.isMap()) {
+          matching = allRows;
+          break;
+        }
+        if (!pageIndexes.containsKey(columnIndex)) {
+          pageIndexes.put(columnIndex, rowGroupReader.readPageIndex(columnIndex));
+        }
+        PageIndex pageIndex = pageIndexes.get(columnIndex);
+        if (pageIndex == null) {
+          matching = allRows;
+          break;
+        }
+        matching = matching.union(pageIndex.rowsMightMatch(filters[f], logicalCol));
+      }
+      rows = rows.intersection(matching);
+      if (rows.isEmpty()) {
+        break;
+      }
+    }
+    return rows;
+  }
+
+  /**
+   * Get a membership test backed by the bloom filter of a column chunk. The filter is only
+   * read if a column filter probes it.
+   *
+   * @param rowGroupIndex The index of the row group
+   * @param columnIndex The physical index of the column
+   * @return The membership test, which reports every value as possibly present if the
+   *         column chunk has no bloom filter
+   */
+  private ColumnValueMembership bloomFilter(int rowGroupIndex, int columnIndex) {
+    return value -> {
+      try {
+        BloomFilter bloomFilter = fileReader.getBloomFilter(rowGroupIndex, columnIndex);
+        return bloomFilter == null || bloomFilter.mightContain(value);
+      } catch (IOException e) {
+        throw new ParquetException("Failed to read bloom filter of column " + columnIndex, e);
+      }
+    };
+  }
+
+  /**
+   * Check whether the values of every column read hold one entry per row, so that the rows
+   * of partially read columns can be aligned. Pages of repeated columns start at row
+   * boundaries, which map columns decode to one map per row.
+   *
+   * @return true if data pages may be skipped
+   */
+  private boolean canSkipPages() {
+    for (int logicalColIdx = 0; logicalColIdx < schema.getNumLogicalColumns(); logicalColIdx++) {
+      LogicalColumnDescriptor logicalCol = schema.getLogicalColumn(logicalColIdx);
+      if (!logicalCol.isMap() && (!logicalCol.isPrimitive()
+          || logicalCol.getPhysicalDescriptor().maxRepetitionLevel() > 0)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Collect the physical columns backing each logical column, in logical column order.
+   * A map column contributes its key column followed by its value column.
+   *
+   * @return The physical column indexes to read for every row group
+   */
+  private int[] findPhysicalColumnIndexes() {
+    List<Integer> physicalIndexes = new ArrayList<>();
+    for (int logicalColIdx = 0; logicalColIdx < schema.getNumLogicalColumns(); logicalColIdx++) {
+      LogicalColumnDescriptor logicalCol = schema.getLogicalColumn(logicalColIdx);
+      if (logicalCol.isMap()) {
+        physicalIndexes.add(logicalCol.getMapMetadata().keyColumnIndex());
+        physicalIndexes.add(logicalCol.getMapMetadata().valueColumnIndex());
+      } else {
+        physicalIndexes.add(findPhysicalColumnIndex(logicalCol.getPhysicalDescriptor()));
+      }
+    }
+    return physicalIndexes.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * Collect the first physical column backing each logical column.
+   *
+   * @return The physical column index of each logical column
+   */
+  private int[] findLogicalColumnIndexes() {
+    int[] indexes = new int[schema.getNumLogicalColumns()];
+    int next = 0;
+    for (int logicalColIdx = 0; logicalColIdx < indexes.length; logicalColIdx++) {
+      indexes[logicalColIdx] = physicalColumnIndexes[next];
+      next += schema.getLogicalColumn(logicalColIdx).isMap() ? 2 : 1;
+    }
+    return indexes;
+  }
+
   /**
    * Find the physical column index for a given column descriptor.
    *
@@ -138,19 +442,23 @@ public class ParquetRowIterator implements RowColumnGroupIterator, AutoCloseable
    * Decode a map column from its key and value physical columns.
    * Keys are always decoded as strings, and values are decoded based on their physical type.
    *
-   * @param rowGroupReader The row group reader to read columns from
+   * @param keyColumn The values of the map's key column
+   * @param valueColumn The values of the map's value column
    * @param mapMetadata Metadata describing the map structure (key/value column indices and types)
+   * @param keyRows The rows held by the key column values, or null if it was read in full
+   * @param valueRows The rows held by the value column values, or null if it was read in full
+   * @param rows The rows to keep, or null to keep all rows
    * @return A list of maps, one per row, with string keys and typed values
    * @throws IOException If reading the columns fails
    * @throws ParquetException If the map structure is invalid or contains unsupported types
    */
   private List<Map<String, Object>> decodeMapColumn(
-      ParquetFileReader.RowGroupReader rowGroupReader,
-      MapMetadata mapMetadata) throws IOException {
-
-    // Read key and value columns
-    ColumnValues keyColumn = rowGroupReader.readColumn(mapMetadata.keyColumnIndex());
-    ColumnValues valueColumn = rowGroupReader.readColumn(mapMetadata.valueColumnIndex());
+      ColumnValues keyColumn,
+      ColumnValues valueColumn,
+      MapMetadata mapMetadata,
+      RowRanges keyRows,
+      RowRanges valueRows,
+      RowRanges rows) throws IOException {
 
     // Decode keys (always strings)
     List<List<String>> keyLists = keyColumn.decodeAsList(obj -> {
@@ -206,6 +514,12 @@ public class ParquetRowIterator implements RowColumnGroupIterator, AutoCloseable
         throw new ParquetException("Unsupported map value type: " + valueType);
     }
 
+    // Keep the selected rows of partially read columns
+    if (rows != null) {
+      keyLists = keyRows.select(keyLists, rows);
+      valueLists = valueRows.select(valueLists, rows);
+    }
+
     // Combine into maps
     if (keyLists.size() != valueLists.size()) {
       throw new ParquetException("Key and value lists have different sizes: " +
@@ -305,18 +619,20 @@ public class ParquetRowIterator implements RowColumnGroupIterator, AutoCloseable
       return false;
     }
 
-    // Check if we have more rows in the current row group
-    if (currentRowIndex < currentRowGroupRowCount) {
-      return true;
+    // Load row groups until one has rows left; filters may leave none in a row group
+    while (currentRowIndex >= currentRowGroupRowCount) {
+      if (currentRowGroupIndex + 1 >= fileReader.getNumRowGroups()) {
+        return false;
+      }
+      currentRowGroupIndex++;
+      loadRowGroup(currentRowGroupIndex);
     }
-
-    // Check if there are more row groups
-    return currentRowGroupIndex + 1 < fileReader.getNumRowGroups();
+    return true;
   }
 
   /**
    * Get the next row from the Parquet file.
-   * Automatically loads the next row group when the current one is exhausted.
+   * The next row group is loaded by {@link #hasNext()} when the current one is exhausted.
    *
    * @return A RowColumnGroup containing the values for all logical columns in the row
    * @throws NoSuchElementException If there are no more rows to read
@@ -327,12 +643,6 @@ public class ParquetRowIterator implements RowColumnGroupIterator, AutoCloseable
       throw new NoSuchElementException("No more rows");
     }
 
-    // If we've exhausted the current row group, load the next one
-    if (currentRowIndex >= currentRowGroupRowCount) {
-      currentRowGroupIndex++;
-      loadRowGroup(currentRowGroupIndex);
-    }
-
     // Build the row from all LOGICAL column values at the current index
     Object[] rowValues = new Object[schema.getNumLogicalColumns()];
     for (int logicalColIdx = 0; logicalColIdx < schema.getNumLogicalColumns(); logicalColIdx++) {
@@ -346,12 +656,16 @@ public class ParquetRowIterator implements RowColumnGroupIterator, AutoCloseable
   }
 
   /**
-   * Close the underlying file reader if this iterator owns it.
+   * Cancel any outstanding prefetches and close the underlying file reader if this
+   * iterator owns it.
    * Only closes the file reader if closeFileReader was set to true during construction.
    *
    * @throws IOException If closing the file reader fails
    */
   public void close() throws IOException {
+    if (prefetcher != null) {
+      prefetcher.close();
+    }
     if (closeFileReader) {
       fileReader.close();
     }
@@ -0,0 +1,138 @@
+package io.github.aloksingh.parquet;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link BufferAllocator} that recycles released buffers in power-of-two size classes.
+ *
+ * <p>A request is rounded up to the next size class between {@link #MIN_SIZE_CLASS} and
+ * {@link #MAX_SIZE_CLASS} and served from that class's free list when possible. Requests
+ * larger than the largest class are allocated exactly and not pooled. Buffers can be heap
+ * or direct; direct buffers keep large page buffers off the garbage-collected heap.
+ *
+ * <p>Released buffers are kept until the pooled bytes reach {@code maxPooledBytes}; beyond
+ * that they are dropped. A buffer whose capacity is not a size class of this allocator, or
+ * whose kind (heap or direct) does not match, is ignored on release.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * BufferAllocator allocator = new PooledBufferAllocator(true, 64L << 20);
+ * try (ParquetFileReader reader = new ParquetFileReader(path, allocator)) {
+ *   RowColumnGroupIterator rows = reader.rowIterator();
+ * }
+ * }</pre>
+ */
+public class PooledBufferAllocator implements BufferAllocator {
+
+  /**
+   * Smallest size class (4 KB).
+   */
+  public static final int MIN_SIZE_CLASS = 4 * 1024;
+
+  /**
+   * Largest size class (64 MB).
+   */
+  public static final int MAX_SIZE_CLASS = 64 * 1024 * 1024;
+
+  private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_SIZE_CLASS);
+  private static final int NUM_CLASSES =
+      Integer.numberOfTrailingZeros(MAX_SIZE_CLASS) - MIN_SHIFT + 1;
+
+  /**
+   * A point-in-time snapshot of the allocator counters.
+   *
+   * @param allocated the number of requests served by allocating a new buffer
+   * @param reused the number of requests served from a free list
+   * @param pooledBytes the total capacity of buffers currently held in the free lists
+   */
+  public record Stats(long allocated, long reused, long pooledBytes) {
+  }
+
+  private final boolean direct;
+  private final long maxPooledBytes;
+  private final List<Queue<ByteBuffer>> freeLists;
+  private final AtomicLong pooledBytes = new AtomicLong();
+  private final LongAdder allocated = new LongAdder();
+  private final LongAdder reused = new LongAdder();
+
+  /**
+   * Creates a pooled allocator.
+   *
+   * @param direct whether to allocate direct buffers instead of heap buffers
+   * @param maxPooledBytes the largest total capacity of released buffers kept for reuse
+   */
+  public PooledBufferAllocator(boolean direct, long maxPooledBytes) {
+    this.direct = direct;
+    this.maxPooledBytes = maxPooledBytes;
+    List<Queue<ByteBuffer>> lists = new ArrayList<>(NUM_CLASSES);
+    for (int i = 0; i < NUM_CLASSES; i++) {
+      lists.add(new ConcurrentLinkedQueue<>());
+    }
+    this.freeLists = List.copyOf(lists);
+  }
+
+  @Override
+  public ByteBuffer allocate(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("Invalid buffer size: " + size);
+    }
+    if (size > MAX_SIZE_CLASS) {
+      allocated.increment();
+      return newBuffer(size);
+    }
+
+    int sizeClass = sizeClass(size);
+    ByteBuffer buffer = freeLists.get(sizeClass).poll();
+    if (buffer != null) {
+      pooledBytes.addAndGet(-buffer.capacity());
+      reused.increment();
+    } else {
+      allocated.increment();
+      buffer = newBuffer(MIN_SIZE_CLASS << sizeClass);
+    }
+    buffer.clear().limit(size);
+    return buffer.order(ByteOrder.BIG_ENDIAN);
+  }
+
+  @Override
+  public void release(ByteBuffer buffer) {
+    int capacity = buffer.capacity();
+    if (buffer.isDirect() != direct || buffer.isReadOnly()
+        || capacity < MIN_SIZE_CLASS || capacity > MAX_SIZE_CLASS
+        || Integer.bitCount(capacity) != 1) {
+      return;
+    }
+    if (pooledBytes.addAndGet(capacity) > maxPooledBytes) {
+      pooledBytes.addAndGet(-capacity);
+      return;
+    }
+    freeLists.get(sizeClass(capacity)).offer(buffer);
+  }
+
+  /**
+   * Returns a snapshot of the allocator counters.
+   *
+   * @return the current statistics
+   */
+  public Stats stats() {
+    return new Stats(allocated.sum(), reused.sum(), pooledBytes.get());
+  }
+
+  private ByteBuffer newBuffer(int capacity) {
+    return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+  }
+
+  private static int sizeClass(int size) {
+    if (size <= MIN_SIZE_CLASS) {
+      return 0;
+    }
+    return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SHIFT;
+  }
+}
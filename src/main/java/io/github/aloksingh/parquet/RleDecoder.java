@@ -2,6 +2,7 @@ package io.github.aloksingh.parquet;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import io.github.aloksingh.parquet.model.ParquetException;
 
 /**
@@ -33,17 +34,33 @@ public class RleDecoder {
   private final int totalValues;
 
   private int valuesRead;
-  private int[] currentRun;
-  private int currentRunIndex;
+
+  /** Values left in the current RLE run */
+  private int rleRemaining;
+  private int rleValue;
+
+  /** Groups of 8 values left to unpack in the current bit-packed run */
+  private int groupsRemaining;
+
+  /** The last group unpacked for a partial read, and the position of its next value */
+  private final int[] group = new int[8];
+  private int groupPosition = 8;
+
+  /** Zero-padded copy of a group that ends too close to the end of the buffer */
+  private final ByteBuffer tail = ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN);
 
   /**
    * Create an RLE decoder
    *
    * @param buffer      Buffer containing RLE-encoded data
-   * @param bitWidth    Bit width of values (1-32)
+   * @param bitWidth    Bit width of values (0-32)
    * @param totalValues Total number of values to decode
+   * @throws ParquetException if the bit width is not between 0 and 32
    */
   public RleDecoder(ByteBuffer buffer, int bitWidth, int totalValues) {
+    if (bitWidth < 0 || bitWidth > 32) {
+      throw new ParquetException("Invalid RLE bit width: " + bitWidth);
+    }
     this.buffer = buffer.duplicate();
     this.buffer.order(ByteOrder.LITTLE_ENDIAN);
     this.bitWidth = bitWidth;
@@ -64,15 +81,7 @@ public class RleDecoder {
     }
 
     int[] result = new int[totalValues];
-    int index = 0;
-
-    while (index < totalValues) {
-      int value = readNext();
-      if (value == -1) {
-        break;
-      }
-      result[index++] = value;
-    }
+    int index = readBatch(result, 0, totalValues);
 
     if (index < totalValues) {
       throw new ParquetException(String.format(
@@ -82,59 +91,119 @@ public class RleDecoder {
     return result;
   }
 
+  /**
+   * Read up to {@code count} values into an array.
+   * <p>
+   * RLE runs are filled in, and whole groups of bit-packed values are unpacked straight
+   * into {@code dst}, 8 at a time, by the unpacker for the bit width. Nothing is allocated.
+   *
+   * @param dst    The array to decode into
+   * @param offset The index in {@code dst} of the first value
+   * @param count  The number of values to read
+   * @return The number of values read; fewer than {@code count} once the stream or the
+   *         expected number of values runs out
+   */
+  public int readBatch(int[] dst, int offset, int count) {
+    int wanted = Math.min(count, totalValues - valuesRead);
+    int read = 0;
+    while (read < wanted && nextRun()) {
+      int position = offset + read;
+      int remaining = wanted - read;
+      int n;
+      if (rleRemaining > 0) {
+        n = Math.min(remaining, rleRemaining);
+        Arrays.fill(dst, position, position + n, rleValue);
+        rleRemaining -= n;
+      } else if (groupPosition < 8) {
+        n = Math.min(remaining, 8 - groupPosition);
+        System.arraycopy(group, groupPosition, dst, position, n);
+        groupPosition += n;
+      } else if (remaining >= 8) {
+        int groups = Math.min(remaining >>> 3, groupsRemaining);
+        for (int i = 0; i < groups; i++) {
+          unpackGroup(dst, position + (i << 3));
+        }
+        groupsRemaining -= groups;
+        n = groups << 3;
+      } else {
+        // Fewer than 8 values wanted: unpack the group aside and copy from it
+        unpackGroup(group, 0);
+        groupsRemaining--;
+        groupPosition = 0;
+        n = 0;
+      }
+      read += n;
+    }
+    valuesRead += read;
+    return read;
+  }
+
   /**
    * Read the next value from the RLE stream
    *
    * @return The next value, or -1 if no more values
    */
   public int readNext() {
-    if (valuesRead >= totalValues) {
+    if (valuesRead >= totalValues || !nextRun()) {
       return -1;
     }
-
-    // If we have values in the current run, return them
-    if (currentRun != null && currentRunIndex < currentRun.length) {
-      valuesRead++;
-      return currentRun[currentRunIndex++];
+    valuesRead++;
+    if (rleRemaining > 0) {
+      rleRemaining--;
+      return rleValue;
     }
-
-    // Read the next run
-    if (!buffer.hasRemaining()) {
-      return -1;
+    if (groupPosition == 8) {
+      unpackGroup(group, 0);
+      groupsRemaining--;
+      groupPosition = 0;
     }
+    return group[groupPosition++];
+  }
 
-    int header = readUnsignedVarInt();
-
-    if ((header & 1) == 0) {
-      // RLE run
-      int runLength = header >> 1;
-      int value = readBitPackedValue(bitWidth);
-
-      currentRun = new int[runLength];
-      for (int i = 0; i < runLength; i++) {
-        currentRun[i] = value;
+  /**
+   * Make sure the current run has values left, reading run headers as needed.
+   *
+   * @return false if the buffer holds no more runs
+   */
+  private boolean nextRun() {
+    while (rleRemaining == 0 && groupPosition == 8 && groupsRemaining == 0) {
+      if (!buffer.hasRemaining()) {
+        return false;
+      }
+      int header = readUnsignedVarInt();
+      if ((header & 1) == 0) {
+        // RLE run
+        rleRemaining = header >>> 1;
+        rleValue = readBitPackedValue(bitWidth);
+      } else {
+        // Bit-packed run, in groups of 8 values
+        groupsRemaining = header >>> 1;
       }
-      currentRunIndex = 0;
-    } else {
-      // Bit-packed run
-      int numGroups = header >> 1;
-      int totalGroupValues = numGroups * 8;
-
-      // According to spec, we always read full groups of 8 values
-      // but only return the values we need
-      int valuesToReturn = Math.min(totalGroupValues, totalValues - valuesRead);
-
-      currentRun = readBitPackedRun(bitWidth, numGroups, valuesToReturn);
-      currentRunIndex = 0;
     }
+    return true;
+  }
 
-    // Return the first value from the new run
-    if (currentRun != null && currentRun.length > 0) {
-      valuesRead++;
-      return currentRun[currentRunIndex++];
+  /**
+   * Unpack the next group of 8 bit-packed values, which takes {@code bitWidth} bytes.
+   *
+   * @param out    The array to unpack into
+   * @param outPos The index in {@code out} of the first value
+   */
+  private void unpackGroup(int[] out, int outPos) {
+    int position = buffer.position();
+    int available = buffer.limit() - position;
+    if (available >= BitUnpackers.wordBytes(bitWidth)) {
+      BitUnpackers.unpackGroup(bitWidth, buffer, position, out, outPos);
+      buffer.position(position + bitWidth);
+    } else {
+      // The unpacker reads whole words, so copy the end of the buffer and pad it with zeros;
+      // a truncated last group decodes its missing bits as zeros
+      int length = Math.min(bitWidth, available);
+      Arrays.fill(tail.array(), (byte) 0);
+      buffer.get(position, tail.array(), 0, length);
+      BitUnpackers.unpackGroup(bitWidth, tail, 0, out, outPos);
+      buffer.position(position + length);
     }
-
-    return -1;
   }
 
   /**
@@ -196,115 +265,6 @@ public class RleDecoder {
       value |= (b << (i * 8));
     }
 
-    return value & ((1 << bitWidth) - 1);
-  }
-
-  /**
-   * Read a bit-packed run of values
-   * <p>
-   * Bit-packed encoding packs 8 values at a time, with each value using bitWidth bits.
-   * According to the spec, we always pack/read full groups of 8 values.
-   *
-   * @param bitWidth          Bit width of each value
-   * @param numGroups         Number of groups (each group contains 8 values)
-   * @param numValuesToReturn Number of values to actually return (may be less than numGroups * 8)
-   * @return Array of decoded values
-   */
-  private int[] readBitPackedRun(int bitWidth, int numGroups, int numValuesToReturn) {
-    if (bitWidth == 0) {
-      return new int[numValuesToReturn];
-    }
-
-    // According to spec: we always read full groups of 8 values
-    int totalGroupValues = numGroups * 8;
-    int totalBits = totalGroupValues * bitWidth;
-    int bytesNeeded = (totalBits + 7) / 8;
-
-    // Read the bytes into a temporary buffer
-    byte[] packedBytes = new byte[bytesNeeded];
-    int bytesRead = Math.min(bytesNeeded, buffer.remaining());
-    buffer.get(packedBytes, 0, bytesRead);
-
-    // Unpack all values from the groups
-    BitUnpacker unpacker = new BitUnpacker(packedBytes, bitWidth);
-    int[] allValues = new int[totalGroupValues];
-    for (int i = 0; i < totalGroupValues; i++) {
-      allValues[i] = unpacker.unpack();
-    }
-
-    // Return only the values we need
-    if (numValuesToReturn == totalGroupValues) {
-      return allValues;
-    } else {
-      int[] result = new int[numValuesToReturn];
-      System.arraycopy(allValues, 0, result, 0, numValuesToReturn);
-      return result;
-    }
-  }
-
-  /**
-   * Helper class to unpack bit-packed values from a byte array.
-   * <p>
-   * This class reads values sequentially from a byte array where values
-   * are packed tightly with no padding, using LSB-to-MSB bit ordering.
-   */
-  private static class BitUnpacker {
-    private final byte[] data;
-    private final int bitWidth;
-    private int bitOffset;
-
-    /**
-     * Create a new bit unpacker.
-     *
-     * @param data     Byte array containing packed values
-     * @param bitWidth Number of bits per value
-     */
-    BitUnpacker(byte[] data, int bitWidth) {
-      this.data = data;
-      this.bitWidth = bitWidth;
-      this.bitOffset = 0;
-    }
-
-    /**
-     * Unpack the next value from the bit-packed data.
-     * <p>
-     * Reads bitWidth bits from the current position, advancing the
-     * internal bit offset for the next call.
-     *
-     * @return The unpacked value
-     */
-    int unpack() {
-      if (bitWidth == 0) {
-        return 0;
-      }
-
-      int value = 0;
-      int bitsRemaining = bitWidth;
-
-      while (bitsRemaining > 0) {
-        int byteIndex = bitOffset / 8;
-        int bitIndex = bitOffset % 8;
-
-        if (byteIndex >= data.length) {
-          break;
-        }
-
-        int currentByte = data[byteIndex] & 0xFF;
-        int bitsAvailable = 8 - bitIndex;
-        int bitsToRead = Math.min(bitsRemaining, bitsAvailable);
-
-        // Extract bits from current byte
-        int mask = (1 << bitsToRead) - 1;
-        int bits = (currentByte >> bitIndex) & mask;
-
-        // Add to result
-        value |= bits << (bitWidth - bitsRemaining);
-
-        bitOffset += bitsToRead;
-        bitsRemaining -= bitsToRead;
-      }
-
-      return value;
-    }
+    return bitWidth == 32 ? value : value & ((1 << bitWidth) - 1);
   }
 }
@@ -253,8 +253,8 @@ public class RleEncoder {
     byte[] packed = new byte[bytesNeeded];
 
     for (int value : values) {
-      // Mask value to bit width
-      value = value & ((1 << bitWidth) - 1);
+      // Mask value to bit width; an int shift by 32 would be a shift by 0
+      value = value & (int) ((1L << bitWidth) - 1);
 
       int bitsRemaining = bitWidth;
 
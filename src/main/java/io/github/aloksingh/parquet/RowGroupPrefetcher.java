@@ -0,0 +1,207 @@
+package io.github.aloksingh.parquet;
+
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Fetches the column chunk bytes of upcoming row groups in the background.
+ *
+ * <p>When the consumer takes row group N with {@link #take(int)}, the chunks of row groups
+ * N+1 to N+K are requested on a background executor, so reading the next row groups overlaps
+ * with decoding and consuming the current one. Prefetching stops early once the chunks in
+ * flight or waiting to be taken would exceed the memory budget; at least one row group is
+ * always prefetched so that progress is never blocked.
+ *
+ * <p>Instances are used by a single consumer thread; only the fetches run in the background.
+ * {@link #close()} cancels fetches that have not started and drops the prefetched bytes.
+ * Fetches are never interrupted, because interrupting a thread blocked in a
+ * {@link java.nio.channels.FileChannel} read closes the channel for every reader.
+ *
+ * @see ParquetRowIterator
+ * @see ParquetFileReader.RowGroupReader#fetchColumnChunks(int[], int, int)
+ */
+public class RowGroupPrefetcher implements AutoCloseable {
+
+  /**
+   * Default number of row groups fetched ahead of the one being consumed.
+   */
+  public static final int DEFAULT_DEPTH = 2;
+
+  /**
+   * Default budget for prefetched column chunk bytes (256 MB).
+   */
+  public static final long DEFAULT_MEMORY_BUDGET = 256L << 20;
+
+  private final ParquetFileReader fileReader;
+  private final int[] columnIndexes;
+  private final int depth;
+  private final long memoryBudget;
+  private final Executor executor;
+  private final ExecutorService ownedExecutor;
+  private final Map<Integer, CompletableFuture<List<ByteBuffer>>> pending = new HashMap<>();
+
+  private int nextToSchedule;
+  private long scheduledBytes;
+  private boolean closed;
+
+  /**
+   * Creates a prefetcher that fetches on its own background thread.
+   *
+   * @param fileReader the file to prefetch from
+   * @param columnIndexes the physical columns to fetch for every row group
+   * @param depth the number of row groups to fetch ahead of the one being consumed
+   * @param memoryBudget the largest number of chunk bytes to hold in flight or unconsumed
+   */
+  public RowGroupPrefetcher(ParquetFileReader fileReader, int[] columnIndexes, int depth,
+                            long memoryBudget) {
+    this(fileReader, columnIndexes, depth, memoryBudget, null);
+  }
+
+  /**
+   * Creates a prefetcher that fetches on the given executor.
+   *
+   * @param fileReader the file to prefetch from
+   * @param columnIndexes the physical columns to fetch for every row group
+   * @param depth the number of row groups to fetch ahead of the one being consumed
+   * @param memoryBudget the largest number of chunk bytes to hold in flight or unconsumed
+   * @param executor the executor to fetch on, or {@code null} to use a dedicated daemon
+   *                 thread that is shut down on {@link #close()}
+   * @throws IllegalArgumentException if depth is not positive or the budget is negative
+   */
+  public RowGroupPrefetcher(ParquetFileReader fileReader, int[] columnIndexes, int depth,
+                            long memoryBudget, Executor executor) {
+    if (depth <= 0 || memoryBudget < 0) {
+      throw new IllegalArgumentException(String.format(
+          "Invalid prefetch settings: depth=%d, memoryBudget=%d", depth, memoryBudget));
+    }
+    this.fileReader = fileReader;
+    this.columnIndexes = columnIndexes.clone();
+    this.depth = depth;
+    this.memoryBudget = memoryBudget;
+    if (executor == null) {
+      this.ownedExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "parquet-row-group-prefetch");
+        thread.setDaemon(true);
+        return thread;
+      });
+      this.executor = ownedExecutor;
+    } else {
+      this.ownedExecutor = null;
+      this.executor = executor;
+    }
+  }
+
+  /**
+   * Returns the column chunks of a row group and starts prefetching the row groups after it.
+   *
+   * <p>If the row group was not prefetched, its chunks are fetched on the calling thread.
+   *
+   * @param rowGroupIndex the index of the row group to take
+   * @return one buffer per column, as returned by
+   *         {@link ParquetFileReader.RowGroupReader#fetchColumnChunks(int[], int, int)}
+   * @throws IOException if fetching the row group failed
+   * @throws IllegalStateException if the prefetcher is closed
+   */
+  public List<ByteBuffer> take(int rowGroupIndex) throws IOException {
+    if (closed) {
+      throw new IllegalStateException("RowGroupPrefetcher is closed");
+    }
+
+    CompletableFuture<List<ByteBuffer>> future = pending.remove(rowGroupIndex);
+    if (future != null) {
+      scheduledBytes -= projectedSize(rowGroupIndex);
+    }
+    nextToSchedule = Math.max(nextToSchedule, rowGroupIndex + 1);
+    schedule(rowGroupIndex);
+    if (rowGroupIndex == fileReader.getNumRowGroups() - 1 && ownedExecutor != null) {
+      // Nothing left to prefetch; let the background thread exit
+      ownedExecutor.shutdown();
+    }
+
+    if (future == null) {
+      return fetch(rowGroupIndex);
+    }
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Failed to prefetch row group " + rowGroupIndex, e.getCause());
+    }
+  }
+
+  /**
+   * Returns the number of row groups currently being fetched or waiting to be taken.
+   *
+   * @return the number of prefetched row groups
+   */
+  public int prefetchedCount() {
+    return pending.size();
+  }
+
+  private void schedule(int currentRowGroup) {
+    int numRowGroups = fileReader.getNumRowGroups();
+    while (nextToSchedule < numRowGroups && nextToSchedule <= currentRowGroup + depth) {
+      long size = projectedSize(nextToSchedule);
+      if (!pending.isEmpty() && scheduledBytes + size > memoryBudget) {
+        return;
+      }
+      int rowGroupIndex = nextToSchedule++;
+      scheduledBytes += size;
+      pending.put(rowGroupIndex, CompletableFuture.supplyAsync(() -> {
+        try {
+          return fetch(rowGroupIndex);
+        } catch (IOException e) {
+          throw new CompletionException(e);
+        }
+      }, executor));
+    }
+  }
+
+  private List<ByteBuffer> fetch(int rowGroupIndex) throws IOException {
+    return fileReader.getRowGroup(rowGroupIndex).fetchColumnChunks(columnIndexes,
+        ChunkReader.DEFAULT_MAX_MERGE_GAP, ChunkReader.DEFAULT_MAX_MERGED_SIZE);
+  }
+
+  private long projectedSize(int rowGroupIndex) {
+    ParquetMetadata.RowGroupMetadata rowGroup =
+        fileReader.getMetadata().rowGroups().get(rowGroupIndex);
+    long size = 0;
+    for (int columnIndex : columnIndexes) {
+      size += rowGroup.columns().get(columnIndex).totalCompressedSize();
+    }
+    return size;
+  }
+
+  /**
+   * Cancels outstanding fetches and releases prefetched bytes.
+   *
+   * <p>Fetches that have already started run to completion in the background, but their
+   * results are discarded.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    for (CompletableFuture<List<ByteBuffer>> future : pending.values()) {
+      future.cancel(false);
+    }
+    pending.clear();
+    scheduledBytes = 0;
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdown();
+    }
+  }
+}
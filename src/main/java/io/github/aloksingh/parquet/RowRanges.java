@@ -0,0 +1,254 @@
+package io.github.aloksingh.parquet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A set of rows within a row group, held as sorted, disjoint, non-adjacent ranges.
+ *
+ * <p>Each range runs from a first row (inclusive) to an end row (exclusive), both relative to
+ * the start of the row group. Page skipping uses row ranges to keep the rows selected from
+ * different columns aligned: pages of different columns start at different rows, but each
+ * page covers a known range of rows, from its {@code first_row_index} in the OffsetIndex to
+ * the next page's.
+ *
+ * <p>Instances are immutable.
+ */
+public final class RowRanges {
+
+  /**
+   * The empty set of rows.
+   */
+  public static final RowRanges EMPTY = new RowRanges(new long[0], new long[0]);
+
+  private final long[] starts;
+  private final long[] ends;
+
+  private RowRanges(long[] starts, long[] ends) {
+    this.starts = starts;
+    this.ends = ends;
+  }
+
+  /**
+   * Returns the rows from {@code start} (inclusive) to {@code end} (exclusive).
+   *
+   * @param start the first row
+   * @param end the row after the last row
+   * @return the row range, empty if {@code end <= start}
+   */
+  public static RowRanges of(long start, long end) {
+    if (end <= start) {
+      return EMPTY;
+    }
+    return new RowRanges(new long[] {start}, new long[] {end});
+  }
+
+  /**
+   * Returns all rows of a row group.
+   *
+   * @param rowCount the number of rows in the row group
+   * @return the rows from 0 to {@code rowCount}
+   */
+  public static RowRanges all(long rowCount) {
+    return of(0, rowCount);
+  }
+
+  /**
+   * Returns the number of rows in this set.
+   *
+   * @return the row count
+   */
+  public long rowCount() {
+    long count = 0;
+    for (int i = 0; i < starts.length; i++) {
+      count += ends[i] - starts[i];
+    }
+    return count;
+  }
+
+  /**
+   * Checks whether this set has no rows.
+   *
+   * @return true if there are no rows
+   */
+  public boolean isEmpty() {
+    return starts.length == 0;
+  }
+
+  /**
+   * Checks whether any row from {@code start} (inclusive) to {@code end} (exclusive) is in
+   * this set.
+   *
+   * @param start the first row
+   * @param end the row after the last row
+   * @return true if the ranges overlap
+   */
+  public boolean overlaps(long start, long end) {
+    // First range ending after start
+    int lo = 0;
+    int hi = starts.length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (ends[mid] <= start) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo < starts.length && starts[lo] < end;
+  }
+
+  /**
+   * Returns the rows in this set or in another.
+   *
+   * @param other the other set
+   * @return the union
+   */
+  public RowRanges union(RowRanges other) {
+    if (other.isEmpty()) {
+      return this;
+    }
+    if (isEmpty()) {
+      return other;
+    }
+    Builder builder = new Builder();
+    int i = 0;
+    int j = 0;
+    while (i < starts.length || j < other.starts.length) {
+      if (j == other.starts.length || (i < starts.length && starts[i] <= other.starts[j])) {
+        builder.add(starts[i], ends[i]);
+        i++;
+      } else {
+        builder.add(other.starts[j], other.ends[j]);
+        j++;
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns the rows in both this set and another.
+   *
+   * @param other the other set
+   * @return the intersection
+   */
+  public RowRanges intersection(RowRanges other) {
+    Builder builder = new Builder();
+    int i = 0;
+    int j = 0;
+    while (i < starts.length && j < other.starts.length) {
+      long start = Math.max(starts[i], other.starts[j]);
+      long end = Math.min(ends[i], other.ends[j]);
+      if (start < end) {
+        builder.add(start, end);
+      }
+      if (ends[i] < other.ends[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Selects the values of some rows from a list holding one value per row of this set.
+   *
+   * @param values the values of the rows in this set, in row order
+   * @param selected the rows to select; must be a subset of this set
+   * @param <T> the value type
+   * @return the values of the selected rows, in row order
+   * @throws IllegalArgumentException if {@code values} does not hold one value per row
+   */
+  public <T> List<T> select(List<T> values, RowRanges selected) {
+    if (values.size() != rowCount()) {
+      throw new IllegalArgumentException(String.format(
+          "Expected %d values, got %d", rowCount(), values.size()));
+    }
+    List<T> result = new ArrayList<>((int) selected.rowCount());
+    // Index in values of the first row of the current range of this set
+    long base = 0;
+    int j = 0;
+    for (int i = 0; i < starts.length; i++) {
+      while (j < selected.starts.length && selected.ends[j] <= ends[i]) {
+        if (selected.starts[j] >= starts[i]) {
+          int from = (int) (base + selected.starts[j] - starts[i]);
+          int to = (int) (base + selected.ends[j] - starts[i]);
+          result.addAll(values.subList(from, to));
+        }
+        j++;
+      }
+      base += ends[i] - starts[i];
+    }
+    if (result.size() != selected.rowCount()) {
+      throw new IllegalArgumentException("Selected rows are not a subset of this set");
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof RowRanges other)) {
+      return false;
+    }
+    return Arrays.equals(starts, other.starts)
+        && Arrays.equals(ends, other.ends);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < starts.length; i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(starts[i]).append('-').append(ends[i]);
+    }
+    return sb.append(']').toString();
+  }
+
+  /**
+   * Accumulates ranges added in order of their start, merging overlapping and adjacent ones.
+   */
+  static final class Builder {
+    private long[] starts = new long[4];
+    private long[] ends = new long[4];
+    private int size;
+
+    /**
+     * Adds the rows from {@code start} to {@code end}; {@code start} must not be less than
+     * the start of any range added before.
+     */
+    Builder add(long start, long end) {
+      if (end <= start) {
+        return this;
+      }
+      if (size > 0 && start <= ends[size - 1]) {
+        ends[size - 1] = Math.max(ends[size - 1], end);
+        return this;
+      }
+      if (size == starts.length) {
+        starts = Arrays.copyOf(starts, size * 2);
+        ends = Arrays.copyOf(ends, size * 2);
+      }
+      starts[size] = start;
+      ends[size] = end;
+      size++;
+      return this;
+    }
+
+    RowRanges build() {
+      if (size == 0) {
+        return EMPTY;
+      }
+      return new RowRanges(Arrays.copyOf(starts, size),
+          Arrays.copyOf(ends, size));
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package io.github.aloksingh.parquet;
+
+/**
+ * The 64-bit xxHash function (XXH64), as used by Parquet bloom filters.
+ * <p>
+ * Parquet hashes the plain encoding of each value with seed 0: the little-endian bytes of
+ * INT32, INT64, FLOAT and DOUBLE values, and the bytes of BYTE_ARRAY and FIXED_LEN_BYTE_ARRAY
+ * values without a length prefix.
+ *
+ * @see <a href="https://github.com/Cyan4973/xxHash/blob/dev/doc/xxhash_spec.md">xxHash
+ *      specification</a>
+ */
+public class XxHash64 {
+  private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME64_3 = 0x165667B19E3779F9L;
+  private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private XxHash64() {
+    // Utility class
+  }
+
+  /**
+   * Hashes a byte array with seed 0.
+   *
+   * @param bytes the bytes to hash
+   * @return the 64-bit hash
+   */
+  public static long hash(byte[] bytes) {
+    return hash(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Hashes part of a byte array with seed 0.
+   *
+   * @param bytes the array holding the bytes to hash
+   * @param offset the index of the first byte
+   * @param length the number of bytes
+   * @return the 64-bit hash
+   */
+  public static long hash(byte[] bytes, int offset, int length) {
+    int end = offset + length;
+    int i = offset;
+    long h;
+
+    if (length >= 32) {
+      long v1 = PRIME64_1 + PRIME64_2;
+      long v2 = PRIME64_2;
+      long v3 = 0;
+      long v4 = -PRIME64_1;
+      do {
+        v1 = round(v1, getLong(bytes, i));
+        v2 = round(v2, getLong(bytes, i + 8));
+        v3 = round(v3, getLong(bytes, i + 16));
+        v4 = round(v4, getLong(bytes, i + 24));
+        i += 32;
+      } while (i <= end - 32);
+
+      h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7)
+          + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+      h = mergeRound(h, v1);
+      h = mergeRound(h, v2);
+      h = mergeRound(h, v3);
+      h = mergeRound(h, v4);
+    } else {
+      h = PRIME64_5;
+    }
+
+    h += length;
+
+    while (i <= end - 8) {
+      h ^= round(0, getLong(bytes, i));
+      h = Long.rotateLeft(h, 27) * PRIME64_1 + PRIME64_4;
+      i += 8;
+    }
+    if (i <= end - 4) {
+      h ^= (getInt(bytes, i) & 0xFFFFFFFFL) * PRIME64_1;
+      h = Long.rotateLeft(h, 23) * PRIME64_2 + PRIME64_3;
+      i += 4;
+    }
+    while (i < end) {
+      h ^= (bytes[i] & 0xFFL) * PRIME64_5;
+      h = Long.rotateLeft(h, 11) * PRIME64_1;
+      i++;
+    }
+
+    return avalanche(h);
+  }
+
+  /**
+   * Hashes the 4 little-endian bytes of an int with seed 0.
+   *
+   * @param value the value to hash
+   * @return the 64-bit hash
+   */
+  public static long hash(int value) {
+    long h = PRIME64_5 + 4;
+    h ^= (value & 0xFFFFFFFFL) * PRIME64_1;
+    h = Long.rotateLeft(h, 23) * PRIME64_2 + PRIME64_3;
+    return avalanche(h);
+  }
+
+  /**
+   * Hashes the 8 little-endian bytes of a long with seed 0.
+   *
+   * @param value the value to hash
+   * @return the 64-bit hash
+   */
+  public static long hash(long value) {
+    long h = PRIME64_5 + 8;
+    h ^= round(0, value);
+    h = Long.rotateLeft(h, 27) * PRIME64_1 + PRIME64_4;
+    return avalanche(h);
+  }
+
+  private static long round(long acc, long lane) {
+    acc += lane * PRIME64_2;
+    acc = Long.rotateLeft(acc, 31);
+    return acc * PRIME64_1;
+  }
+
+  private static long mergeRound(long acc, long value) {
+    acc ^= round(0, value);
+    return acc * PRIME64_1 + PRIME64_4;
+  }
+
+  private static long avalanche(long h) {
+    h ^= h >>> 33;
+    h *= PRIME64_2;
+    h ^= h >>> 29;
+    h *= PRIME64_3;
+    h ^= h >>> 32;
+    return h;
+  }
+
+  private static long getLong(byte[] bytes, int i) {
+    return (bytes[i] & 0xFFL)
+        | (bytes[i + 1] & 0xFFL) << 8
+        | (bytes[i + 2] & 0xFFL) << 16
+        | (bytes[i + 3] & 0xFFL) << 24
+        | (bytes[i + 4] & 0xFFL) << 32
+        | (bytes[i + 5] & 0xFFL) << 40
+        | (bytes[i + 6] & 0xFFL) << 48
+        | (bytes[i + 7] & 0xFFL) << 56;
+  }
+
+  private static int getInt(byte[] bytes, int i) {
+    return (bytes[i] & 0xFF)
+        | (bytes[i + 1] & 0xFF) << 8
+        | (bytes[i + 2] & 0xFF) << 16
+        | (bytes[i + 3] & 0xFF) << 24;
+  }
+}
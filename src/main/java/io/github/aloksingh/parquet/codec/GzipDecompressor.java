@@ -1,11 +1,12 @@
 package io.github.aloksingh.parquet.codec;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.zip.GZIPInputStream;
+import io.github.aloksingh.parquet.ByteBufferInputStream;
 import io.github.aloksingh.parquet.Decompressor;
+import io.github.aloksingh.parquet.model.ParquetException;
 
 /**
  * GZIP decompressor implementation.
@@ -23,11 +24,8 @@ public class GzipDecompressor implements Decompressor {
   }
   @Override
   public ByteBuffer decompress(ByteBuffer compressed, int uncompressedSize) throws IOException {
-    byte[] compressedBytes = new byte[compressed.remaining()];
-    compressed.get(compressedBytes);
-
     try (GZIPInputStream gzipStream = new GZIPInputStream(
-        new ByteArrayInputStream(compressedBytes))) {
+        new ByteBufferInputStream(compressed))) {
       ByteArrayOutputStream out = new ByteArrayOutputStream(uncompressedSize);
       byte[] buffer = new byte[8192];
       int len;
@@ -37,4 +35,41 @@ public class GzipDecompressor implements Decompressor {
       return ByteBuffer.wrap(out.toByteArray());
     }
   }
+
+  /**
+   * Inflates straight into the output buffer, without collecting the uncompressed bytes in an
+   * intermediate stream first.
+   *
+   * @throws ParquetException if the data inflates to more bytes than the output can hold
+   */
+  @Override
+  public void decompress(ByteBuffer compressed, ByteBuffer output) throws IOException {
+    int uncompressedSize = output.remaining();
+    byte[] buffer = output.hasArray() ? output.array() : new byte[8192];
+    try (GZIPInputStream gzipStream = new GZIPInputStream(
+        new ByteBufferInputStream(compressed))) {
+      while (output.hasRemaining()) {
+        int len;
+        if (output.hasArray()) {
+          len = gzipStream.read(buffer, output.arrayOffset() + output.position(),
+              output.remaining());
+          if (len > 0) {
+            output.position(output.position() + len);
+          }
+        } else {
+          len = gzipStream.read(buffer, 0, Math.min(buffer.length, output.remaining()));
+          if (len > 0) {
+            output.put(buffer, 0, len);
+          }
+        }
+        if (len == -1) {
+          return;
+        }
+      }
+      if (gzipStream.read() != -1) {
+        throw new ParquetException(String.format(
+            "Decompressed data is larger than the expected %d bytes", uncompressedSize));
+      }
+    }
+  }
 }
@@ -37,4 +37,39 @@ public class SnappyDecompressor implements Decompressor {
 
     return ByteBuffer.wrap(uncompressed);
   }
+
+  /**
+   * Decompresses straight into the output buffer when both buffers are direct, or when the
+   * output is heap backed, without an intermediate uncompressed array.
+   */
+  @Override
+  public void decompress(ByteBuffer compressed, ByteBuffer output) throws IOException {
+    int uncompressedSize = output.remaining();
+    int actualSize;
+    if (compressed.isDirect() && output.isDirect()) {
+      actualSize = Snappy.uncompressedLength(compressed);
+      checkSize(uncompressedSize, actualSize);
+      // Snappy sets the output limit to the end of the uncompressed data
+      Snappy.uncompress(compressed.duplicate(), output.duplicate());
+    } else if (output.hasArray()) {
+      byte[] compressedBytes = new byte[compressed.remaining()];
+      compressed.get(compressedBytes);
+      actualSize = Snappy.uncompressedLength(compressedBytes, 0, compressedBytes.length);
+      checkSize(uncompressedSize, actualSize);
+      Snappy.uncompress(compressedBytes, 0, compressedBytes.length,
+          output.array(), output.arrayOffset() + output.position());
+    } else {
+      output.put(decompress(compressed, uncompressedSize));
+      return;
+    }
+    output.position(output.position() + actualSize);
+  }
+
+  private static void checkSize(int uncompressedSize, int actualSize) {
+    if (actualSize != uncompressedSize) {
+      throw new ParquetException(String.format(
+          "Decompressed size mismatch: expected %d, got %d",
+          uncompressedSize, actualSize));
+    }
+  }
 }
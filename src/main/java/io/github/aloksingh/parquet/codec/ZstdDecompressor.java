@@ -37,4 +37,34 @@ public class ZstdDecompressor implements Decompressor {
 
     return ByteBuffer.wrap(uncompressed);
   }
+
+  /**
+   * Decompresses straight into the output buffer when both buffers are direct, or when the
+   * output is heap backed, without an intermediate uncompressed array.
+   */
+  @Override
+  public void decompress(ByteBuffer compressed, ByteBuffer output) throws IOException {
+    int uncompressedSize = output.remaining();
+    long actualSize;
+    if (compressed.isDirect() && output.isDirect()) {
+      actualSize = Zstd.decompressDirectByteBuffer(output, output.position(), uncompressedSize,
+          compressed, compressed.position(), compressed.remaining());
+    } else if (output.hasArray()) {
+      byte[] compressedBytes = new byte[compressed.remaining()];
+      compressed.get(compressedBytes);
+      actualSize = Zstd.decompressByteArray(output.array(),
+          output.arrayOffset() + output.position(), uncompressedSize,
+          compressedBytes, 0, compressedBytes.length);
+    } else {
+      output.put(decompress(compressed, uncompressedSize));
+      return;
+    }
+
+    if (actualSize != uncompressedSize) {
+      throw new ParquetException(String.format(
+          "Decompressed size mismatch: expected %d, got %d",
+          uncompressedSize, actualSize));
+    }
+    output.position(output.position() + uncompressedSize);
+  }
 }
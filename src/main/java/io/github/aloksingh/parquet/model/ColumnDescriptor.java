@@ -15,10 +15,28 @@ package io.github.aloksingh.parquet.model;
  *                            the depth of repeated fields in the path
  * @param typeLength          the fixed length for FIXED_LEN_BYTE_ARRAY types, or 0 for
  *                            other types
+ * @param sortOrder           the order of the column's min/max statistics, as defined by its
+ *                            logical type
  */
 public record ColumnDescriptor(Type physicalType, String[] path, int maxDefinitionLevel,
                                int maxRepetitionLevel,
-                               int typeLength) {
+                               int typeLength, SortOrder sortOrder) {
+
+  /**
+   * Creates a descriptor with the default statistics order of the physical type.
+   *
+   * @param physicalType        the physical storage type of the column
+   * @param path                the path to this column in the schema hierarchy
+   * @param maxDefinitionLevel  the maximum definition level for this column
+   * @param maxRepetitionLevel  the maximum repetition level for this column
+   * @param typeLength          the fixed length for FIXED_LEN_BYTE_ARRAY types, or 0 for
+   *                            other types
+   */
+  public ColumnDescriptor(Type physicalType, String[] path, int maxDefinitionLevel,
+                          int maxRepetitionLevel, int typeLength) {
+    this(physicalType, path, maxDefinitionLevel, maxRepetitionLevel, typeLength,
+        SortOrder.defaultFor(physicalType));
+  }
 
   /**
    * Returns the column path as a dot-separated string.
@@ -6,6 +6,14 @@ import io.github.aloksingh.parquet.DeltaBinaryPackedDecoder;
 import io.github.aloksingh.parquet.DeltaByteArrayDecoder;
 import io.github.aloksingh.parquet.DeltaLengthByteArrayDecoder;
 import io.github.aloksingh.parquet.RleDecoder;
+import io.github.aloksingh.parquet.vector.BinaryVector;
+import io.github.aloksingh.parquet.vector.BooleanVector;
+import io.github.aloksingh.parquet.vector.ColumnVector;
+import io.github.aloksingh.parquet.vector.DictionaryVector;
+import io.github.aloksingh.parquet.vector.DoubleVector;
+import io.github.aloksingh.parquet.vector.FloatVector;
+import io.github.aloksingh.parquet.vector.IntVector;
+import io.github.aloksingh.parquet.vector.LongVector;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
@@ -35,6 +43,9 @@ public class ColumnValues {
   /** Logical column descriptor for semantic type information */
   private final LogicalColumnDescriptor logicalColumnDescriptor;
 
+  /** Returns the buffers backing the pages to their allocator, or null if there is none */
+  private Runnable onRelease;
+
   /**
    * Constructs a ColumnValues instance.
    *
@@ -46,10 +57,42 @@ public class ColumnValues {
   public ColumnValues(Type type, List<Page> pages,
                       ColumnDescriptor columnDescriptor,
                       LogicalColumnDescriptor logicalColumnDescriptor) {
+    this(type, pages, columnDescriptor, logicalColumnDescriptor, null);
+  }
+
+  /**
+   * Constructs a ColumnValues instance whose page buffers can be released for reuse.
+   *
+   * @param type the physical type of the column
+   * @param pages list of pages containing the column data
+   * @param columnDescriptor metadata descriptor for the column
+   * @param logicalColumnDescriptor logical type descriptor for the column
+   * @param onRelease called by {@link #release()} to return the page buffers to the
+   *                  allocator they came from; may be null
+   */
+  public ColumnValues(Type type, List<Page> pages,
+                      ColumnDescriptor columnDescriptor,
+                      LogicalColumnDescriptor logicalColumnDescriptor,
+                      Runnable onRelease) {
     this.type = type;
     this.pages = pages;
     this.columnDescriptor = columnDescriptor;
     this.logicalColumnDescriptor = logicalColumnDescriptor;
+    this.onRelease = onRelease;
+  }
+
+  /**
+   * Returns the buffers backing this column's pages for reuse.
+   * <p>
+   * Decoded values are copies and stay valid, but the pages, and this instance, must not be
+   * decoded again afterwards. Calling this method more than once has no further effect.
+   */
+  public void release() {
+    Runnable action = onRelease;
+    onRelease = null;
+    if (action != null) {
+      action.run();
+    }
   }
 
   /**
@@ -1306,6 +1349,781 @@ public class ColumnValues {
     return values;
   }
 
+  /**
+   * Decodes all column values of a flat column into the vector matching its physical type.
+   *
+   * @return an {@link IntVector}, {@link LongVector}, {@link FloatVector},
+   *         {@link DoubleVector}, {@link BooleanVector} or {@link BinaryVector}
+   * @throws ParquetException if the column has another type, is repeated, or the encoding
+   *                          is unsupported
+   */
+  public ColumnVector decodeAsVector() {
+    return switch (type) {
+      case INT32 -> decodeAsIntVector();
+      case INT64 -> decodeAsLongVector();
+      case FLOAT -> decodeAsFloatVector();
+      case DOUBLE -> decodeAsDoubleVector();
+      case BOOLEAN -> decodeAsBooleanVector();
+      case BYTE_ARRAY -> decodeAsBinaryVector();
+      default -> throw new ParquetException("Cannot decode " + type + " column into a vector");
+    };
+  }
+
+  /**
+   * Returns a reader that decodes this flat column into vectors a batch at a time.
+   * <p>
+   * Unlike {@link #decodeAsVector()}, which decodes all data pages at once, the reader
+   * decodes a data page only once a batch reaches it, so no more than one page of the column
+   * is held decoded at a time.
+   *
+   * @return a reader positioned at the first value
+   * @throws ParquetException if the column is repeated or of a type that has no vector
+   */
+  public VectorReader vectorReader() {
+    // Fails for the types that have no vector
+    newPageVector(0);
+    checkFlatColumn();
+    return new VectorReader();
+  }
+
+  /**
+   * Reads the values of a flat column into vectors in batches, decoding one data page at a
+   * time. Obtained from {@link #vectorReader()}.
+   * <p>
+   * The reader must not be used after the column is {@link #release() released}.
+   */
+  public final class VectorReader {
+    private int nextPage;
+    private Object dictionary;
+    private ColumnVector page;
+    private int pagePosition;
+    private int remaining = countDataPageValues();
+
+    private VectorReader() {
+    }
+
+    /**
+     * Returns the number of values, including nulls, not read yet.
+     *
+     * @return the number of values left in the data pages
+     */
+    public int remaining() {
+      return remaining;
+    }
+
+    /**
+     * Appends the next values of the column to a vector, decoding further data pages as
+     * needed.
+     *
+     * @param vector the vector to append to, of the class {@link #decodeAsVector()} returns
+     *               for this column
+     * @param count the number of values to append
+     * @return the number of values appended; less than {@code count} only once the column
+     *         runs out of values
+     * @throws IllegalArgumentException if the vector is of another class
+     * @throws ParquetException if the encoding of a page is unsupported
+     */
+    public int read(ColumnVector vector, int count) {
+      int read = 0;
+      while (read < count) {
+        if (page == null || pagePosition == page.size()) {
+          if (!decodeNextPage()) {
+            break;
+          }
+          continue;
+        }
+        int n = Math.min(count - read, page.size() - pagePosition);
+        vector.appendFrom(page, pagePosition, n);
+        pagePosition += n;
+        read += n;
+      }
+      remaining -= read;
+      return read;
+    }
+
+    /**
+     * Decodes the next data page, reading any dictionary page before it.
+     *
+     * @return false if there are no more data pages
+     */
+    private boolean decodeNextPage() {
+      while (nextPage < pages.size()) {
+        Page next = pages.get(nextPage++);
+        if (next instanceof Page.DictionaryPage dictPage) {
+          dictionary = decodeVectorDictionary(dictPage);
+          continue;
+        }
+        FlatPage flatPage = readFlatPage(next);
+        page = newPageVector(flatPage.numValues());
+        pagePosition = 0;
+        decodeVectorPage(flatPage, page, dictionary);
+        return true;
+      }
+      page = null;
+      return false;
+    }
+  }
+
+  /**
+   * Decodes all column values of a flat INT32 column into an {@link IntVector}.
+   * <p>
+   * Values are decoded straight into the primitive array of the vector, sized from the value
+   * counts of the data pages, so no object is allocated per value. Supports the same
+   * encodings as {@link #decodeAsInt32()}.
+   *
+   * @return the values, with nulls marked in the validity bitmap
+   * @throws ParquetException if column type is not INT32, the column is repeated, or the
+   *                          encoding is unsupported
+   */
+  public IntVector decodeAsIntVector() {
+    if (type != Type.INT32) {
+      throw new ParquetException("Column type is not INT32: " + type);
+    }
+    checkFlatColumn();
+    return decodeIntoVector(new IntVector(countDataPageValues()));
+  }
+
+  /**
+   * Decodes all column values of a flat INT64 column into a {@link LongVector}.
+   * <p>
+   * Values are decoded straight into the primitive array of the vector, so no object is
+   * allocated per value. Supports the same encodings as {@link #decodeAsInt64()}.
+   *
+   * @return the values, with nulls marked in the validity bitmap
+   * @throws ParquetException if column type is not INT64, the column is repeated, or the
+   *                          encoding is unsupported
+   */
+  public LongVector decodeAsLongVector() {
+    if (type != Type.INT64) {
+      throw new ParquetException("Column type is not INT64: " + type);
+    }
+    checkFlatColumn();
+    return decodeIntoVector(new LongVector(countDataPageValues()));
+  }
+
+  /**
+   * Decodes all column values of a flat FLOAT column into a {@link FloatVector}.
+   * <p>
+   * Values are decoded straight into the primitive array of the vector, so no object is
+   * allocated per value. Supports the same encodings as {@link #decodeAsFloat()}.
+   *
+   * @return the values, with nulls marked in the validity bitmap
+   * @throws ParquetException if column type is not FLOAT, the column is repeated, or the
+   *                          encoding is unsupported
+   */
+  public FloatVector decodeAsFloatVector() {
+    if (type != Type.FLOAT) {
+      throw new ParquetException("Column type is not FLOAT: " + type);
+    }
+    checkFlatColumn();
+    return decodeIntoVector(new FloatVector(countDataPageValues()));
+  }
+
+  /**
+   * Decodes all column values of a flat DOUBLE column into a {@link DoubleVector}.
+   * <p>
+   * Values are decoded straight into the primitive array of the vector, so no object is
+   * allocated per value. Supports the same encodings as {@link #decodeAsDouble()}.
+   *
+   * @return the values, with nulls marked in the validity bitmap
+   * @throws ParquetException if column type is not DOUBLE, the column is repeated, or the
+   *                          encoding is unsupported
+   */
+  public DoubleVector decodeAsDoubleVector() {
+    if (type != Type.DOUBLE) {
+      throw new ParquetException("Column type is not DOUBLE: " + type);
+    }
+    checkFlatColumn();
+    return decodeIntoVector(new DoubleVector(countDataPageValues()));
+  }
+
+  /**
+   * Decodes all column values of a flat BOOLEAN column into a {@link BooleanVector}.
+   * <p>
+   * Supports the same encodings as {@link #decodeAsBoolean()}.
+   *
+   * @return the values, with nulls marked in the validity bitmap
+   * @throws ParquetException if column type is not BOOLEAN, the column is repeated, or the
+   *                          encoding is unsupported
+   */
+  public BooleanVector decodeAsBooleanVector() {
+    if (type != Type.BOOLEAN) {
+      throw new ParquetException("Column type is not BOOLEAN: " + type);
+    }
+    checkFlatColumn();
+    return decodeIntoVector(new BooleanVector(countDataPageValues()));
+  }
+
+  /**
+   * Decodes all column values of a flat BYTE_ARRAY column into a {@link BinaryVector}.
+   * <p>
+   * Value bytes are copied into the one data array of the vector, in bulk where the encoding
+   * allows it, and only their offsets are recorded, so no {@code byte[]} or String is
+   * allocated per value. Supports PLAIN, PLAIN_DICTIONARY, RLE_DICTIONARY,
+   * DELTA_LENGTH_BYTE_ARRAY and DELTA_BYTE_ARRAY encodings.
+   *
+   * @return the values, with nulls marked in the validity bitmap
+   * @throws ParquetException if column type is not BYTE_ARRAY, the column is repeated, or the
+   *                          encoding is unsupported
+   */
+  public BinaryVector decodeAsBinaryVector() {
+    if (type != Type.BYTE_ARRAY) {
+      throw new ParquetException("Column type is not BYTE_ARRAY: " + type);
+    }
+    checkFlatColumn();
+    return decodeIntoVector(new BinaryVector(countDataPageValues(), 0));
+  }
+
+  /**
+   * Decodes all data pages into an empty vector of the class matching the column type.
+   */
+  private <V extends ColumnVector> V decodeIntoVector(V vector) {
+    Object dictionary = null;
+    for (Page page : pages) {
+      if (page instanceof Page.DictionaryPage dictPage) {
+        dictionary = decodeVectorDictionary(dictPage);
+        continue;
+      }
+      decodeVectorPage(readFlatPage(page), vector, dictionary);
+    }
+    return vector;
+  }
+
+  /**
+   * Creates an empty vector of the class matching the column type.
+   *
+   * @throws ParquetException if the column type has no vector
+   */
+  private ColumnVector newPageVector(int capacity) {
+    return switch (type) {
+      case INT32 -> new IntVector(capacity);
+      case INT64 -> new LongVector(capacity);
+      case FLOAT -> new FloatVector(capacity);
+      case DOUBLE -> new DoubleVector(capacity);
+      case BOOLEAN -> new BooleanVector(capacity);
+      case BYTE_ARRAY -> new BinaryVector(capacity, 0);
+      default -> throw new ParquetException("Cannot decode " + type + " column into a vector");
+    };
+  }
+
+  /**
+   * Decodes a dictionary page into the array the data pages of the column type index into.
+   *
+   * @return an {@code int[]}, {@code long[]}, {@code float[]}, {@code double[]} or, for
+   *         BYTE_ARRAY, {@code Object[]}; null for BOOLEAN, which has no dictionary
+   */
+  private Object decodeVectorDictionary(Page.DictionaryPage dictPage) {
+    return switch (type) {
+      case INT32 -> {
+        int[] dictionary = new int[dictPage.numValues()];
+        littleEndian(dictPage.data()).asIntBuffer().get(dictionary);
+        yield dictionary;
+      }
+      case INT64 -> {
+        long[] dictionary = new long[dictPage.numValues()];
+        littleEndian(dictPage.data()).asLongBuffer().get(dictionary);
+        yield dictionary;
+      }
+      case FLOAT -> {
+        float[] dictionary = new float[dictPage.numValues()];
+        littleEndian(dictPage.data()).asFloatBuffer().get(dictionary);
+        yield dictionary;
+      }
+      case DOUBLE -> {
+        double[] dictionary = new double[dictPage.numValues()];
+        littleEndian(dictPage.data()).asDoubleBuffer().get(dictionary);
+        yield dictionary;
+      }
+      case BYTE_ARRAY -> buildDictionary(dictPage);
+      default -> null;
+    };
+  }
+
+  /**
+   * Decodes a data page and appends its values to a vector of the class matching the column
+   * type.
+   */
+  private void decodeVectorPage(FlatPage flatPage, ColumnVector vector, Object dictionary) {
+    switch (vector) {
+      case IntVector ints -> decodeIntPage(flatPage, ints, (int[]) dictionary);
+      case LongVector longs -> decodeLongPage(flatPage, longs, (long[]) dictionary);
+      case FloatVector floats -> decodeFloatPage(flatPage, floats, (float[]) dictionary);
+      case DoubleVector doubles -> decodeDoublePage(flatPage, doubles, (double[]) dictionary);
+      case BooleanVector booleans -> decodeBooleanPage(flatPage, booleans);
+      case BinaryVector binaries -> decodeBinaryPage(flatPage, binaries, (Object[]) dictionary);
+      default -> throw new IllegalArgumentException(
+          "Cannot decode into " + vector.getClass().getSimpleName());
+    }
+    vector.appendDecoded(flatPage.numValues(), flatPage.definitionLevels(),
+        columnDescriptor.maxDefinitionLevel(), flatPage.nonNullCount());
+  }
+
+  private void decodeIntPage(FlatPage flatPage, IntVector vector, int[] dictionary) {
+    int start = vector.size();
+    int count = flatPage.nonNullCount();
+    vector.ensureCapacity(flatPage.numValues());
+    int[] dest = vector.getValues();
+    if (count == 0) {
+      // All null; there are no encoded values
+    } else if (flatPage.encoding() == Encoding.PLAIN) {
+      flatPage.values().asIntBuffer().get(dest, start, count);
+    } else if (isDictionaryEncoding(flatPage.encoding())) {
+      int[] indices = readFlatDictionaryIndices(flatPage,
+          dictionary == null ? -1 : dictionary.length);
+      for (int i = 0; i < count; i++) {
+        dest[start + i] = dictionary[indices[i]];
+      }
+    } else if (flatPage.encoding() == Encoding.DELTA_BINARY_PACKED) {
+      int decoded = new DeltaBinaryPackedDecoder(flatPage.values(), false)
+          .decodeInt32(dest, start, count);
+      if (decoded < count) {
+        throw new ParquetException("Expected " + count + " values, found " + decoded);
+      }
+    } else {
+      throw new ParquetException("Unsupported encoding: " + flatPage.encoding());
+    }
+  }
+
+  private void decodeLongPage(FlatPage flatPage, LongVector vector, long[] dictionary) {
+    int start = vector.size();
+    int count = flatPage.nonNullCount();
+    vector.ensureCapacity(flatPage.numValues());
+    long[] dest = vector.getValues();
+    if (count == 0) {
+      // All null; there are no encoded values
+    } else if (flatPage.encoding() == Encoding.PLAIN) {
+      flatPage.values().asLongBuffer().get(dest, start, count);
+    } else if (isDictionaryEncoding(flatPage.encoding())) {
+      int[] indices = readFlatDictionaryIndices(flatPage,
+          dictionary == null ? -1 : dictionary.length);
+      for (int i = 0; i < count; i++) {
+        dest[start + i] = dictionary[indices[i]];
+      }
+    } else if (flatPage.encoding() == Encoding.DELTA_BINARY_PACKED) {
+      int decoded = new DeltaBinaryPackedDecoder(flatPage.values(), true)
+          .decodeInt64(dest, start, count);
+      if (decoded < count) {
+        throw new ParquetException("Expected " + count + " values, found " + decoded);
+      }
+    } else {
+      throw new ParquetException("Unsupported encoding: " + flatPage.encoding());
+    }
+  }
+
+  private void decodeFloatPage(FlatPage flatPage, FloatVector vector, float[] dictionary) {
+    int start = vector.size();
+    int count = flatPage.nonNullCount();
+    vector.ensureCapacity(flatPage.numValues());
+    float[] dest = vector.getValues();
+    if (count == 0) {
+      // All null; there are no encoded values
+    } else if (flatPage.encoding() == Encoding.PLAIN) {
+      flatPage.values().asFloatBuffer().get(dest, start, count);
+    } else if (isDictionaryEncoding(flatPage.encoding())) {
+      int[] indices = readFlatDictionaryIndices(flatPage,
+          dictionary == null ? -1 : dictionary.length);
+      for (int i = 0; i < count; i++) {
+        dest[start + i] = dictionary[indices[i]];
+      }
+    } else if (flatPage.encoding() == Encoding.BYTE_STREAM_SPLIT) {
+      new ByteStreamSplitDecoder(flatPage.values(), count, 4).decodeFloat(dest, start);
+    } else {
+      throw new ParquetException("Unsupported encoding: " + flatPage.encoding());
+    }
+  }
+
+  private void decodeDoublePage(FlatPage flatPage, DoubleVector vector, double[] dictionary) {
+    int start = vector.size();
+    int count = flatPage.nonNullCount();
+    vector.ensureCapacity(flatPage.numValues());
+    double[] dest = vector.getValues();
+    if (count == 0) {
+      // All null; there are no encoded values
+    } else if (flatPage.encoding() == Encoding.PLAIN) {
+      flatPage.values().asDoubleBuffer().get(dest, start, count);
+    } else if (isDictionaryEncoding(flatPage.encoding())) {
+      int[] indices = readFlatDictionaryIndices(flatPage,
+          dictionary == null ? -1 : dictionary.length);
+      for (int i = 0; i < count; i++) {
+        dest[start + i] = dictionary[indices[i]];
+      }
+    } else if (flatPage.encoding() == Encoding.BYTE_STREAM_SPLIT) {
+      new ByteStreamSplitDecoder(flatPage.values(), count, 8).decodeDouble(dest, start);
+    } else {
+      throw new ParquetException("Unsupported encoding: " + flatPage.encoding());
+    }
+  }
+
+  private void decodeBooleanPage(FlatPage flatPage, BooleanVector vector) {
+    int start = vector.size();
+    int count = flatPage.nonNullCount();
+    vector.ensureCapacity(flatPage.numValues());
+    boolean[] dest = vector.getValues();
+    ByteBuffer buffer = flatPage.values();
+    if (count == 0) {
+      // All null; there are no encoded values
+    } else if (flatPage.encoding() == Encoding.PLAIN) {
+      BitPackedReader.readBooleans(buffer, dest, start, count);
+    } else if (flatPage.encoding() == Encoding.RLE) {
+      boolean[] decoded;
+      if (flatPage.page() instanceof Page.DataPageV2) {
+        // 4-byte length prefix followed by RLE data with bit width 1
+        int length = buffer.getInt();
+        if (length <= 0 || length > buffer.remaining()) {
+          throw new ParquetException("Invalid RLE length for BOOLEAN Data Page V2: " + length);
+        }
+        decoded = readRleBooleans(buffer.slice(buffer.position(), length), count);
+      } else {
+        int bitWidth = buffer.get() & 0xFF;
+        if (bitWidth != 1) {
+          throw new ParquetException("Expected bit width 1 for BOOLEAN RLE, got: " + bitWidth);
+        }
+        decoded = readRleBooleans(buffer, count);
+      }
+      System.arraycopy(decoded, 0, dest, start, count);
+    } else {
+      throw new ParquetException("Unsupported encoding for BOOLEAN: " + flatPage.encoding());
+    }
+  }
+
+  private void decodeBinaryPage(FlatPage flatPage, BinaryVector vector, Object[] dictionary) {
+    int count = flatPage.nonNullCount();
+    vector.ensureCapacity(flatPage.numValues());
+    ByteBuffer buffer = flatPage.values();
+    if (count == 0) {
+      // All null; there are no encoded values
+    } else if (flatPage.encoding() == Encoding.PLAIN) {
+      decodePlainBinary(buffer, vector, count);
+    } else if (isDictionaryEncoding(flatPage.encoding())) {
+      int[] indices = readFlatDictionaryIndices(flatPage,
+          dictionary == null ? -1 : dictionary.length);
+      decodeDictionaryBinary(dictionary, indices, vector, count);
+    } else if (flatPage.encoding() == Encoding.DELTA_LENGTH_BYTE_ARRAY) {
+      decodeDeltaLengthBinary(buffer, vector, count);
+    } else if (flatPage.encoding() == Encoding.DELTA_BYTE_ARRAY) {
+      decodeDeltaBinary(buffer, vector, count);
+    } else {
+      throw new ParquetException("Unsupported encoding: " + flatPage.encoding());
+    }
+  }
+
+  /**
+   * Copies PLAIN values, each a 4-byte length followed by its bytes, into a binary vector.
+   */
+  private static void decodePlainBinary(ByteBuffer buffer, BinaryVector vector, int count) {
+    // The lengths take 4 bytes per value, so the rest is an upper bound of the value bytes
+    vector.ensureDataCapacity(Math.max(0, buffer.remaining() - 4 * count));
+    byte[] data = vector.getData();
+    int[] offsets = vector.getOffsets();
+    int start = vector.size();
+    int position = offsets[start];
+    for (int i = 1; i <= count; i++) {
+      if (buffer.remaining() < 4) {
+        throw new ParquetException("PLAIN BYTE_ARRAY page ends before value " + (i - 1)
+            + " of " + count);
+      }
+      int length = buffer.getInt();
+      if (length < 0 || length > buffer.remaining()) {
+        throw new ParquetException("Value length exceeds page data: " + length);
+      }
+      buffer.get(data, position, length);
+      position += length;
+      offsets[start + i] = position;
+    }
+  }
+
+  /**
+   * Copies the dictionary entries referenced by dictionary indices into a binary vector.
+   */
+  private static void decodeDictionaryBinary(Object[] dictionary, int[] indices,
+                                             BinaryVector vector, int count) {
+    int bytes = 0;
+    for (int i = 0; i < count; i++) {
+      bytes += ((byte[]) dictionary[indices[i]]).length;
+    }
+    vector.ensureDataCapacity(bytes);
+    byte[] data = vector.getData();
+    int[] offsets = vector.getOffsets();
+    int start = vector.size();
+    int position = offsets[start];
+    for (int i = 0; i < count; i++) {
+      byte[] value = (byte[]) dictionary[indices[i]];
+      System.arraycopy(value, 0, data, position, value.length);
+      position += value.length;
+      offsets[start + i + 1] = position;
+    }
+  }
+
+  /**
+   * Decodes DELTA_LENGTH_BYTE_ARRAY values into a binary vector. The lengths are decoded
+   * into the offsets and summed in place, and the concatenated value bytes copied at once.
+   */
+  private static void decodeDeltaLengthBinary(ByteBuffer buffer, BinaryVector vector,
+                                              int count) {
+    int[] offsets = vector.getOffsets();
+    int start = vector.size();
+    int decoded = new DeltaBinaryPackedDecoder(buffer, false).decodeInt32(offsets, start + 1,
+        count);
+    if (decoded < count) {
+      throw new ParquetException("Expected " + count + " value lengths, found " + decoded);
+    }
+    int position = offsets[start];
+    for (int i = 1; i <= count; i++) {
+      position += offsets[start + i];
+      offsets[start + i] = position;
+    }
+    int bytes = position - offsets[start];
+    if (bytes < 0 || bytes > buffer.remaining()) {
+      throw new ParquetException("Value lengths exceed page data: " + bytes);
+    }
+    vector.ensureDataCapacity(bytes);
+    buffer.get(vector.getData(), offsets[start], bytes);
+  }
+
+  /**
+   * Decodes DELTA_BYTE_ARRAY values into a binary vector, copying each shared prefix from
+   * the previous value already in the data array.
+   */
+  private static void decodeDeltaBinary(ByteBuffer buffer, BinaryVector vector, int count) {
+    DeltaBinaryPackedDecoder prefixDecoder = new DeltaBinaryPackedDecoder(buffer, false);
+    if (prefixDecoder.getTotalValueCount() != count) {
+      throw new ParquetException("DELTA_BYTE_ARRAY page has "
+          + prefixDecoder.getTotalValueCount() + " values, expected " + count);
+    }
+    int[] prefixLengths = prefixDecoder.decodeInt32(count);
+    DeltaBinaryPackedDecoder suffixDecoder = new DeltaBinaryPackedDecoder(buffer, false);
+    if (suffixDecoder.getTotalValueCount() != count) {
+      throw new ParquetException("DELTA_BYTE_ARRAY page has "
+          + suffixDecoder.getTotalValueCount() + " suffixes, expected " + count);
+    }
+    int[] suffixLengths = suffixDecoder.decodeInt32(count);
+    int bytes = 0;
+    for (int i = 0; i < count; i++) {
+      bytes += prefixLengths[i] + suffixLengths[i];
+    }
+    vector.ensureDataCapacity(bytes);
+    byte[] data = vector.getData();
+    int[] offsets = vector.getOffsets();
+    int start = vector.size();
+    int previous = offsets[start];
+    int position = previous;
+    for (int i = 0; i < count; i++) {
+      int prefixLength = prefixLengths[i];
+      if (prefixLength > 0) {
+        if (i == 0 || prefixLength > position - previous) {
+          throw new ParquetException("Invalid DELTA_BYTE_ARRAY prefix length: " + prefixLength);
+        }
+        System.arraycopy(data, previous, data, position, prefixLength);
+      }
+      buffer.get(data, position + prefixLength, suffixLengths[i]);
+      previous = position;
+      position += prefixLength + suffixLengths[i];
+      offsets[start + i + 1] = position;
+    }
+  }
+
+  /**
+   * Decodes a flat dictionary-encoded column into a {@link DictionaryVector}, keeping the
+   * values as dictionary codes.
+   * <p>
+   * The dictionary page is decoded once, and the indices of the data pages are decoded
+   * straight into the code array of the vector. Nothing is allocated per value, so
+   * low-cardinality BYTE_ARRAY columns cost one {@code byte[]} per distinct value rather than
+   * one per row.
+   * <p>
+   * Writers fall back to other encodings once a dictionary grows too large, so a column chunk
+   * can mix dictionary-encoded and plain pages; such columns cannot be kept as codes.
+   *
+   * @return the codes, with nulls marked in the validity bitmap, or null if the column chunk
+   *         has no dictionary page or a data page that is not dictionary-encoded
+   * @throws ParquetException if the column is repeated, of a type that has no dictionary, or
+   *                          the dictionary indices are invalid
+   */
+  public DictionaryVector decodeAsDictionaryVector() {
+    checkFlatColumn();
+
+    Page.DictionaryPage dictPage = null;
+    for (Page page : pages) {
+      if (page instanceof Page.DictionaryPage dictionaryPage) {
+        dictPage = dictionaryPage;
+      } else {
+        Encoding encoding = page instanceof Page.DataPage dataPage
+            ? dataPage.encoding() : ((Page.DataPageV2) page).encoding();
+        if (!isDictionaryEncoding(encoding)) {
+          return null;
+        }
+      }
+    }
+    if (dictPage == null) {
+      return null;
+    }
+
+    DictionaryVector vector = new DictionaryVector(buildDictionary(dictPage),
+        countDataPageValues());
+    for (Page page : pages) {
+      if (page instanceof Page.DictionaryPage) {
+        continue;
+      }
+      FlatPage flatPage = readFlatPage(page);
+      int count = flatPage.nonNullCount();
+      vector.ensureCapacity(flatPage.numValues());
+      if (count > 0) {
+        readFlatDictionaryIndices(flatPage, vector.getDictionarySize(), vector.getCodes(),
+            vector.size());
+      }
+      vector.appendDecoded(flatPage.numValues(), flatPage.definitionLevels(),
+          columnDescriptor.maxDefinitionLevel(), count);
+    }
+    return vector;
+  }
+
+  /**
+   * The definition levels of a data page of a flat column, and its values still encoded.
+   *
+   * @param page             the data page
+   * @param values           the encoded values, in little-endian order
+   * @param numValues        the number of values in the page, including nulls
+   * @param encoding         the encoding of the values
+   * @param definitionLevels the definition level of each value, or null if none is null
+   * @param nonNullCount     the number of encoded, non-null values
+   */
+  private record FlatPage(Page page, ByteBuffer values, int numValues, Encoding encoding,
+                          int[] definitionLevels, int nonNullCount) {
+  }
+
+  /**
+   * Reads the definition levels of a data page of a flat column.
+   *
+   * @param page a Data Page V1 or V2
+   * @return the levels, with the buffer positioned at the encoded values
+   */
+  private FlatPage readFlatPage(Page page) {
+    int maxDefLevel = columnDescriptor.maxDefinitionLevel();
+    ByteBuffer buffer;
+    int numValues;
+    Encoding encoding;
+    int[] defLevels = null;
+    if (page instanceof Page.DataPage dataPage) {
+      buffer = littleEndian(dataPage.data());
+      numValues = dataPage.numValues();
+      encoding = dataPage.encoding();
+      if (dataPage.definitionLevelByteLen() > 0) {
+        defLevels = readLevels(buffer, dataPage.definitionLevelByteLen(), numValues, maxDefLevel);
+      }
+    } else {
+      Page.DataPageV2 dataPageV2 = (Page.DataPageV2) page;
+      buffer = littleEndian(dataPageV2.data());
+      numValues = dataPageV2.numValues();
+      encoding = dataPageV2.encoding();
+      if (maxDefLevel > 0 && dataPageV2.numNulls() > 0) {
+        defLevels = readLevelsV2(dataPageV2.definitionLevels(), numValues, maxDefLevel);
+      }
+    }
+
+    int nonNullCount = numValues;
+    if (defLevels != null) {
+      nonNullCount = 0;
+      for (int defLevel : defLevels) {
+        if (defLevel >= maxDefLevel) {
+          nonNullCount++;
+        }
+      }
+    }
+    return new FlatPage(page, buffer, numValues, encoding, defLevels, nonNullCount);
+  }
+
+  /**
+   * Reads the dictionary indices of the non-null values of a flat data page.
+   *
+   * @param flatPage the data page
+   * @param dictionarySize the number of dictionary entries, or -1 if no dictionary was read
+   * @return one index per non-null value
+   * @throws ParquetException if there is no dictionary or too few indices
+   */
+  private int[] readFlatDictionaryIndices(FlatPage flatPage, int dictionarySize) {
+    if (dictionarySize < 0) {
+      throw new ParquetException("Dictionary page not found for dictionary-encoded data");
+    }
+    int[] indices = flatPage.page() instanceof Page.DataPageV2 dataPageV2
+        ? readDictionaryIndicesV2(flatPage.values(), dictionarySize, dataPageV2,
+            flatPage.nonNullCount())
+        : readDictionaryIndices(flatPage.values(), dictionarySize, flatPage.nonNullCount());
+    if (indices.length < flatPage.nonNullCount()) {
+      throw new ParquetException("Expected " + flatPage.nonNullCount()
+          + " dictionary indices, found " + indices.length);
+    }
+    return indices;
+  }
+
+  /**
+   * Decodes the dictionary indices of the non-null values of a flat data page straight into
+   * an array. Both page versions hold a 1-byte bit width followed by the RLE/bit-packed
+   * hybrid indices.
+   *
+   * @param flatPage the data page
+   * @param dictionarySize the number of dictionary entries
+   * @param dest the array to decode into
+   * @param offset the index in {@code dest} of the first index
+   * @throws ParquetException if there are too few indices or an index is outside the
+   *                          dictionary
+   */
+  private void readFlatDictionaryIndices(FlatPage flatPage, int dictionarySize, int[] dest,
+                                         int offset) {
+    ByteBuffer values = flatPage.values();
+    int count = flatPage.nonNullCount();
+    int read = 0;
+    if (values.hasRemaining()) {
+      int bitWidth = values.get() & 0xFF;
+      read = new RleDecoder(values, bitWidth, count).readBatch(dest, offset, count);
+    }
+    if (read < count) {
+      throw new ParquetException("Expected " + count + " dictionary indices, found " + read);
+    }
+    for (int i = offset; i < offset + count; i++) {
+      if (dest[i] < 0 || dest[i] >= dictionarySize) {
+        throw new ParquetException(
+            "Dictionary index out of bounds: " + dest[i] + " >= " + dictionarySize);
+      }
+    }
+  }
+
+  /**
+   * Checks that the column can be decoded into a vector, one value per row.
+   *
+   * @throws ParquetException if the column is repeated
+   */
+  private void checkFlatColumn() {
+    if (columnDescriptor.maxRepetitionLevel() > 0) {
+      throw new ParquetException("Cannot decode repeated column into a vector: "
+          + String.join(".", columnDescriptor.path()));
+    }
+  }
+
+  /**
+   * Counts the values, including nulls, in the data pages.
+   *
+   * @return the number of values
+   */
+  private int countDataPageValues() {
+    int count = 0;
+    for (Page page : pages) {
+      if (page instanceof Page.DataPage dataPage) {
+        count += dataPage.numValues();
+      } else if (page instanceof Page.DataPageV2 dataPageV2) {
+        count += dataPageV2.numValues();
+      }
+    }
+    return count;
+  }
+
+  private static boolean isDictionaryEncoding(Encoding encoding) {
+    return encoding == Encoding.PLAIN_DICTIONARY || encoding == Encoding.RLE_DICTIONARY;
+  }
+
+  private static ByteBuffer littleEndian(ByteBuffer buffer) {
+    return buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
   /**
    * Reads RLE-encoded boolean values from a buffer.
    * <p>
@@ -0,0 +1,608 @@
+package io.github.aloksingh.parquet.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * A compact, column-major representation of {@link ParquetMetadata}.
+ *
+ * <p>{@link ParquetMetadata} holds one {@link ParquetMetadata.ColumnChunkMetadata} record per
+ * column per row group, each with its own path array and statistics byte arrays. For files
+ * with many row groups these records dominate the heap. This class stores the same
+ * information as one {@link ColumnChunks} per column, holding primitive arrays indexed by
+ * row group: offsets, sizes, value and null counts, page index and bloom filter locations,
+ * and min/max statistics decoded to {@code long} or {@code double} where the physical type
+ * allows.
+ * Column paths are stored once per column, with path elements shared between columns.
+ *
+ * <p>Planning code such as row group pruning can then scan a column's statistics across all
+ * row groups in a tight loop over primitive arrays:
+ * <pre>{@code
+ * CompactParquetMetadata compact = CompactParquetMetadata.of(metadata);
+ * CompactParquetMetadata.ColumnChunks ids = compact.column(0);
+ * for (int rg = 0; rg < compact.getNumRowGroups(); rg++) {
+ *   if (ids.hasMinMax(rg) && ids.maxLong(rg) < 100) {
+ *     // Row group rg has no id >= 100
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>{@link #toParquetMetadata()} returns a view in the regular model, for example to open a
+ * {@code ParquetFileReader}, that materializes column chunk records on access.
+ *
+ * <p>Instances are immutable and thread-safe.
+ */
+public final class CompactParquetMetadata {
+
+  private static final CompressionCodec[] CODECS = CompressionCodec.values();
+
+  private final ParquetMetadata.FileMetadata fileMetadata;
+  private final long[] rowGroupNumRows;
+  private final long[] rowGroupTotalByteSizes;
+  private final ColumnChunks[] columns;
+
+  private CompactParquetMetadata(ParquetMetadata.FileMetadata fileMetadata,
+                                 long[] rowGroupNumRows, long[] rowGroupTotalByteSizes,
+                                 ColumnChunks[] columns) {
+    this.fileMetadata = fileMetadata;
+    this.rowGroupNumRows = rowGroupNumRows;
+    this.rowGroupTotalByteSizes = rowGroupTotalByteSizes;
+    this.columns = columns;
+  }
+
+  /**
+   * Builds the compact representation of file metadata.
+   *
+   * <p>When built from metadata read with
+   * {@code ParquetMetadataReader.readMetadataLazily}, the source metadata can be discarded
+   * afterwards, so the per-chunk records only exist while this method runs.
+   *
+   * @param metadata the metadata to convert
+   * @return the compact metadata
+   * @throws ParquetException if a row group does not have one column chunk per schema column
+   */
+  public static CompactParquetMetadata of(ParquetMetadata metadata) {
+    List<ParquetMetadata.RowGroupMetadata> rowGroups = metadata.rowGroups();
+    int numRowGroups = rowGroups.size();
+    int numColumns = metadata.fileMetadata().schema().getNumColumns();
+
+    long[] numRows = new long[numRowGroups];
+    long[] totalByteSizes = new long[numRowGroups];
+    for (int rg = 0; rg < numRowGroups; rg++) {
+      ParquetMetadata.RowGroupMetadata rowGroup = rowGroups.get(rg);
+      if (rowGroup.getNumColumns() != numColumns) {
+        throw new ParquetException(String.format(
+            "Row group %d has %d columns, schema has %d",
+            rg, rowGroup.getNumColumns(), numColumns));
+      }
+      numRows[rg] = rowGroup.numRows();
+      totalByteSizes[rg] = rowGroup.totalByteSize();
+    }
+
+    Map<String, String> pathElements = new HashMap<>();
+    ColumnChunks[] columns = new ColumnChunks[numColumns];
+    for (int col = 0; col < numColumns; col++) {
+      ColumnDescriptor descriptor = metadata.fileMetadata().schema().getColumn(col);
+      String[] path = descriptor.path().clone();
+      for (int i = 0; i < path.length; i++) {
+        path[i] = pathElements.computeIfAbsent(path[i], p -> p);
+      }
+      ColumnChunks chunks = new ColumnChunks(descriptor.physicalType(), path, numRowGroups);
+      for (int rg = 0; rg < numRowGroups; rg++) {
+        chunks.set(rg, rowGroups.get(rg).columns().get(col));
+      }
+      columns[col] = chunks;
+    }
+
+    return new CompactParquetMetadata(metadata.fileMetadata(), numRows, totalByteSizes,
+        columns);
+  }
+
+  /**
+   * Returns the file-level metadata, including the schema.
+   *
+   * @return the file metadata
+   */
+  public ParquetMetadata.FileMetadata fileMetadata() {
+    return fileMetadata;
+  }
+
+  /**
+   * Gets the number of row groups.
+   *
+   * @return the count of row groups
+   */
+  public int getNumRowGroups() {
+    return rowGroupNumRows.length;
+  }
+
+  /**
+   * Gets the number of columns.
+   *
+   * @return the count of leaf columns in the schema
+   */
+  public int getNumColumns() {
+    return columns.length;
+  }
+
+  /**
+   * Returns the number of rows in a row group.
+   *
+   * @param rowGroup the row group index
+   * @return the row count
+   */
+  public long rowGroupNumRows(int rowGroup) {
+    return rowGroupNumRows[rowGroup];
+  }
+
+  /**
+   * Returns the total byte size of a row group.
+   *
+   * @param rowGroup the row group index
+   * @return the total byte size recorded in the footer
+   */
+  public long rowGroupTotalByteSize(int rowGroup) {
+    return rowGroupTotalByteSizes[rowGroup];
+  }
+
+  /**
+   * Returns the chunks of one column across all row groups.
+   *
+   * @param column the column index in the schema
+   * @return the column chunks
+   */
+  public ColumnChunks column(int column) {
+    return columns[column];
+  }
+
+  /**
+   * Materializes the metadata of one column chunk.
+   *
+   * @param rowGroup the row group index
+   * @param column the column index
+   * @return a new column chunk record
+   */
+  public ParquetMetadata.ColumnChunkMetadata columnChunk(int rowGroup, int column) {
+    return columns[column].toColumnChunkMetadata(rowGroup);
+  }
+
+  /**
+   * Returns a view of this metadata in the regular model.
+   *
+   * <p>Row group metadata is created up front; column chunk records are created each time
+   * they are accessed.
+   *
+   * @return the metadata view
+   */
+  public ParquetMetadata toParquetMetadata() {
+    List<ParquetMetadata.RowGroupMetadata> rowGroups = new ArrayList<>(getNumRowGroups());
+    for (int rg = 0; rg < getNumRowGroups(); rg++) {
+      rowGroups.add(new ParquetMetadata.RowGroupMetadata(
+          new RowGroupColumns(rg), rowGroupTotalByteSizes[rg], rowGroupNumRows[rg]));
+    }
+    return new ParquetMetadata(fileMetadata, rowGroups);
+  }
+
+  /**
+   * Column chunk list of one row group, materialized from the column arrays on access.
+   */
+  private final class RowGroupColumns extends AbstractList<ParquetMetadata.ColumnChunkMetadata>
+      implements RandomAccess {
+    private final int rowGroup;
+
+    RowGroupColumns(int rowGroup) {
+      this.rowGroup = rowGroup;
+    }
+
+    @Override
+    public ParquetMetadata.ColumnChunkMetadata get(int index) {
+      return columnChunk(rowGroup, index);
+    }
+
+    @Override
+    public int size() {
+      return columns.length;
+    }
+  }
+
+  /**
+   * The chunks of one column across all row groups, stored as arrays indexed by row group.
+   *
+   * <p>Min/max statistics are decoded according to the physical type:
+   * <ul>
+   *   <li>BOOLEAN, INT32 and INT64: {@link #minLong(int)} and {@link #maxLong(int)}, as signed
+   *       values</li>
+   *   <li>FLOAT and DOUBLE: {@link #minDouble(int)} and {@link #maxDouble(int)}; statistics
+   *       containing NaN are treated as absent</li>
+   *   <li>Other types: {@link #minBytes(int)} and {@link #maxBytes(int)}, as stored</li>
+   * </ul>
+   * Min/max values that cannot be decoded are treated as absent, see {@link #hasMinMax(int)}.
+   */
+  public static final class ColumnChunks {
+    private final Type type;
+    private final String[] path;
+    private final byte[] codecs;
+    private final long[] dataPageOffsets;
+    private final long[] dictionaryPageOffsets;
+    private final long[] totalCompressedSizes;
+    private final long[] totalUncompressedSizes;
+    private final long[] numValues;
+    private final long[] nullCounts;
+    private final long[] distinctCounts;
+    private final long[] columnIndexOffsets;
+    private final int[] columnIndexLengths;
+    private final long[] offsetIndexOffsets;
+    private final int[] offsetIndexLengths;
+    private final long[] bloomFilterOffsets;
+    private final BitSet hasStatistics;
+    private final BitSet hasMinMax;
+    private final BitSet legacyMinMax;
+    private final long[] minLongs;
+    private final long[] maxLongs;
+    private final double[] minDoubles;
+    private final double[] maxDoubles;
+    private final byte[][] minBytes;
+    private final byte[][] maxBytes;
+
+    private ColumnChunks(Type type, String[] path, int numRowGroups) {
+      this.type = type;
+      this.path = path;
+      this.codecs = new byte[numRowGroups];
+      this.dataPageOffsets = new long[numRowGroups];
+      this.dictionaryPageOffsets = new long[numRowGroups];
+      this.totalCompressedSizes = new long[numRowGroups];
+      this.totalUncompressedSizes = new long[numRowGroups];
+      this.numValues = new long[numRowGroups];
+      this.nullCounts = new long[numRowGroups];
+      this.distinctCounts = new long[numRowGroups];
+      this.columnIndexOffsets = new long[numRowGroups];
+      this.columnIndexLengths = new int[numRowGroups];
+      this.offsetIndexOffsets = new long[numRowGroups];
+      this.offsetIndexLengths = new int[numRowGroups];
+      this.bloomFilterOffsets = new long[numRowGroups];
+      this.hasStatistics = new BitSet(numRowGroups);
+      this.hasMinMax = new BitSet(numRowGroups);
+      this.legacyMinMax = new BitSet(numRowGroups);
+      boolean integral = type == Type.BOOLEAN || type == Type.INT32 || type == Type.INT64;
+      boolean floating = type == Type.FLOAT || type == Type.DOUBLE;
+      this.minLongs = integral ? new long[numRowGroups] : null;
+      this.maxLongs = integral ? new long[numRowGroups] : null;
+      this.minDoubles = floating ? new double[numRowGroups] : null;
+      this.maxDoubles = floating ? new double[numRowGroups] : null;
+      this.minBytes = integral || floating ? null : new byte[numRowGroups][];
+      this.maxBytes = integral || floating ? null : new byte[numRowGroups][];
+    }
+
+    private void set(int rg, ParquetMetadata.ColumnChunkMetadata chunk) {
+      codecs[rg] = (byte) chunk.codec().ordinal();
+      dataPageOffsets[rg] = chunk.dataPageOffset();
+      dictionaryPageOffsets[rg] = chunk.dictionaryPageOffset();
+      totalCompressedSizes[rg] = chunk.totalCompressedSize();
+      totalUncompressedSizes[rg] = chunk.totalUncompressedSize();
+      numValues[rg] = chunk.numValues();
+      nullCounts[rg] = -1;
+      distinctCounts[rg] = -1;
+      columnIndexOffsets[rg] = chunk.columnIndexOffset();
+      columnIndexLengths[rg] = chunk.columnIndexLength();
+      offsetIndexOffsets[rg] = chunk.offsetIndexOffset();
+      offsetIndexLengths[rg] = chunk.offsetIndexLength();
+      bloomFilterOffsets[rg] = chunk.bloomFilterOffset();
+
+      ParquetMetadata.ColumnStatistics stats = chunk.statistics();
+      if (stats == null) {
+        return;
+      }
+      hasStatistics.set(rg);
+      if (stats.hasNullCount()) {
+        nullCounts[rg] = stats.nullCount();
+      }
+      if (stats.hasDistinctCount()) {
+        distinctCounts[rg] = stats.distinctCount();
+      }
+      if (stats.min() != null && stats.max() != null) {
+        hasMinMax.set(rg, decodeMinMax(rg, stats.min(), stats.max()));
+        legacyMinMax.set(rg, stats.legacyMinMax());
+      }
+    }
+
+    private boolean decodeMinMax(int rg, byte[] min, byte[] max) {
+      ByteBuffer minBuffer = ByteBuffer.wrap(min).order(ByteOrder.LITTLE_ENDIAN);
+      ByteBuffer maxBuffer = ByteBuffer.wrap(max).order(ByteOrder.LITTLE_ENDIAN);
+      switch (type) {
+        case BOOLEAN -> {
+          if (min.length != 1 || max.length != 1) {
+            return false;
+          }
+          minLongs[rg] = min[0] & 1;
+          maxLongs[rg] = max[0] & 1;
+        }
+        case INT32 -> {
+          if (min.length != 4 || max.length != 4) {
+            return false;
+          }
+          minLongs[rg] = minBuffer.getInt();
+          maxLongs[rg] = maxBuffer.getInt();
+        }
+        case INT64 -> {
+          if (min.length != 8 || max.length != 8) {
+            return false;
+          }
+          minLongs[rg] = minBuffer.getLong();
+          maxLongs[rg] = maxBuffer.getLong();
+        }
+        case FLOAT -> {
+          if (min.length != 4 || max.length != 4) {
+            return false;
+          }
+          minDoubles[rg] = minBuffer.getFloat();
+          maxDoubles[rg] = maxBuffer.getFloat();
+          return !Double.isNaN(minDoubles[rg]) && !Double.isNaN(maxDoubles[rg]);
+        }
+        case DOUBLE -> {
+          if (min.length != 8 || max.length != 8) {
+            return false;
+          }
+          minDoubles[rg] = minBuffer.getDouble();
+          maxDoubles[rg] = maxBuffer.getDouble();
+          return !Double.isNaN(minDoubles[rg]) && !Double.isNaN(maxDoubles[rg]);
+        }
+        default -> {
+          minBytes[rg] = min;
+          maxBytes[rg] = max;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Returns the physical type of the column.
+     *
+     * @return the physical type
+     */
+    public Type type() {
+      return type;
+    }
+
+    /**
+     * Returns the path of the column in the schema. The array is shared and must not be
+     * modified.
+     *
+     * @return the column path
+     */
+    public String[] path() {
+      return path;
+    }
+
+    /**
+     * Returns the compression codec of a column chunk.
+     *
+     * @param rowGroup the row group index
+     * @return the codec
+     */
+    public CompressionCodec codec(int rowGroup) {
+      return CODECS[codecs[rowGroup]];
+    }
+
+    /**
+     * Returns the offset of the first data page of a column chunk.
+     *
+     * @param rowGroup the row group index
+     * @return the byte offset in the file
+     */
+    public long dataPageOffset(int rowGroup) {
+      return dataPageOffsets[rowGroup];
+    }
+
+    /**
+     * Returns the offset of the dictionary page of a column chunk.
+     *
+     * @param rowGroup the row group index
+     * @return the byte offset in the file, or -1 if the chunk has no dictionary page
+     */
+    public long dictionaryPageOffset(int rowGroup) {
+      return dictionaryPageOffsets[rowGroup];
+    }
+
+    /**
+     * Returns the offset of the first page, dictionary or data, of a column chunk.
+     *
+     * @param rowGroup the row group index
+     * @return the byte offset in the file
+     * @see ParquetMetadata.ColumnChunkMetadata#getFirstDataPageOffset()
+     */
+    public long firstPageOffset(int rowGroup) {
+      long dictionaryPageOffset = dictionaryPageOffsets[rowGroup];
+      return dictionaryPageOffset > 0 ? dictionaryPageOffset : dataPageOffsets[rowGroup];
+    }
+
+    /**
+     * Returns the compressed size of a column chunk.
+     *
+     * @param rowGroup the row group index
+     * @return the size in bytes
+     */
+    public long totalCompressedSize(int rowGroup) {
+      return totalCompressedSizes[rowGroup];
+    }
+
+    /**
+     * Returns the uncompressed size of a column chunk.
+     *
+     * @param rowGroup the row group index
+     * @return the size in bytes
+     */
+    public long totalUncompressedSize(int rowGroup) {
+      return totalUncompressedSizes[rowGroup];
+    }
+
+    /**
+     * Returns the number of values in a column chunk, including nulls.
+     *
+     * @param rowGroup the row group index
+     * @return the value count
+     */
+    public long numValues(int rowGroup) {
+      return numValues[rowGroup];
+    }
+
+    /**
+     * Returns the number of nulls in a column chunk.
+     *
+     * @param rowGroup the row group index
+     * @return the null count, or -1 if not recorded
+     */
+    public long nullCount(int rowGroup) {
+      return nullCounts[rowGroup];
+    }
+
+    /**
+     * Returns the number of distinct values in a column chunk.
+     *
+     * @param rowGroup the row group index
+     * @return the distinct count, or -1 if not recorded
+     */
+    public long distinctCount(int rowGroup) {
+      return distinctCounts[rowGroup];
+    }
+
+    /**
+     * Checks whether a column chunk has usable min/max statistics.
+     *
+     * @param rowGroup the row group index
+     * @return true if the min/max accessors for this column's type hold values for the chunk
+     */
+    public boolean hasMinMax(int rowGroup) {
+      return hasMinMax.get(rowGroup);
+    }
+
+    /**
+     * Returns the minimum of a BOOLEAN, INT32 or INT64 column chunk.
+     *
+     * @param rowGroup the row group index
+     * @return the minimum value; only meaningful if {@link #hasMinMax(int)}
+     * @throws IllegalStateException if the column has another type
+     */
+    public long minLong(int rowGroup) {
+      return longs(minLongs)[rowGroup];
+    }
+
+    /**
+     * Returns the maximum of a BOOLEAN, INT32 or INT64 column chunk.
+     *
+     * @param rowGroup the row group index
+     * @return the maximum value; only meaningful if {@link #hasMinMax(int)}
+     * @throws IllegalStateException if the column has another type
+     */
+    public long maxLong(int rowGroup) {
+      return longs(maxLongs)[rowGroup];
+    }
+
+    /**
+     * Returns the minimum of a FLOAT or DOUBLE column chunk.
+     *
+     * @param rowGroup the row group index
+     * @return the minimum value; only meaningful if {@link #hasMinMax(int)}
+     * @throws IllegalStateException if the column has another type
+     */
+    public double minDouble(int rowGroup) {
+      return doubles(minDoubles)[rowGroup];
+    }
+
+    /**
+     * Returns the maximum of a FLOAT or DOUBLE column chunk.
+     *
+     * @param rowGroup the row group index
+     * @return the maximum value; only meaningful if {@link #hasMinMax(int)}
+     * @throws IllegalStateException if the column has another type
+     */
+    public double maxDouble(int rowGroup) {
+      return doubles(maxDoubles)[rowGroup];
+    }
+
+    /**
+     * Returns the encoded minimum of a column chunk of a binary or INT96 type.
+     *
+     * @param rowGroup the row group index
+     * @return the minimum as stored in the footer, or null if absent
+     * @throws IllegalStateException if the column has a numeric type
+     */
+    public byte[] minBytes(int rowGroup) {
+      return bytes(minBytes)[rowGroup];
+    }
+
+    /**
+     * Returns the encoded maximum of a column chunk of a binary or INT96 type.
+     *
+     * @param rowGroup the row group index
+     * @return the maximum as stored in the footer, or null if absent
+     * @throws IllegalStateException if the column has a numeric type
+     */
+    public byte[] maxBytes(int rowGroup) {
+      return bytes(maxBytes)[rowGroup];
+    }
+
+    private long[] longs(long[] values) {
+      if (values == null) {
+        throw new IllegalStateException("Column of type " + type + " has no integer statistics");
+      }
+      return values;
+    }
+
+    private double[] doubles(double[] values) {
+      if (values == null) {
+        throw new IllegalStateException(
+            "Column of type " + type + " has no floating point statistics");
+      }
+      return values;
+    }
+
+    private byte[][] bytes(byte[][] values) {
+      if (values == null) {
+        throw new IllegalStateException("Column of type " + type + " has no binary statistics");
+      }
+      return values;
+    }
+
+    private ParquetMetadata.ColumnChunkMetadata toColumnChunkMetadata(int rg) {
+      ParquetMetadata.ColumnStatistics statistics = null;
+      if (hasStatistics.get(rg)) {
+        byte[] min = null;
+        byte[] max = null;
+        if (hasMinMax.get(rg)) {
+          min = encodeStatistic(rg, true);
+          max = encodeStatistic(rg, false);
+        }
+        statistics = new ParquetMetadata.ColumnStatistics(min, max,
+            nullCounts[rg] >= 0 ? nullCounts[rg] : null,
+            distinctCounts[rg] >= 0 ? distinctCounts[rg] : null, legacyMinMax.get(rg));
+      }
+      return new ParquetMetadata.ColumnChunkMetadata(type, path, codec(rg),
+          dataPageOffsets[rg], dictionaryPageOffsets[rg], totalCompressedSizes[rg],
+          totalUncompressedSizes[rg], numValues[rg], statistics, columnIndexOffsets[rg],
+          columnIndexLengths[rg], offsetIndexOffsets[rg], offsetIndexLengths[rg],
+          bloomFilterOffsets[rg]);
+    }
+
+    private byte[] encodeStatistic(int rg, boolean min) {
+      return switch (type) {
+        case BOOLEAN -> new byte[] {(byte) (min ? minLongs[rg] : maxLongs[rg])};
+        case INT32 -> ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN)
+            .putInt((int) (min ? minLongs[rg] : maxLongs[rg])).array();
+        case INT64 -> ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN)
+            .putLong(min ? minLongs[rg] : maxLongs[rg]).array();
+        case FLOAT -> ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN)
+            .putFloat((float) (min ? minDoubles[rg] : maxDoubles[rg])).array();
+        case DOUBLE -> ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN)
+            .putDouble(min ? minDoubles[rg] : maxDoubles[rg]).array();
+        default -> min ? minBytes[rg] : maxBytes[rg];
+      };
+    }
+  }
+}
@@ -67,12 +67,96 @@ public record ParquetMetadata(FileMetadata fileMetadata, List<RowGroupMetadata>
    * @param totalUncompressedSize  the total uncompressed size of this column chunk in bytes
    * @param numValues              the total number of values in this column chunk
    * @param statistics             the column statistics (min, max, null count, distinct count)
+   * @param columnIndexOffset      the file offset of the page ColumnIndex, or -1 if absent
+   * @param columnIndexLength      the length of the page ColumnIndex in bytes
+   * @param offsetIndexOffset      the file offset of the page OffsetIndex, or -1 if absent
+   * @param offsetIndexLength      the length of the page OffsetIndex in bytes
+   * @param bloomFilterOffset      the file offset of the bloom filter, or -1 if absent
    */
   public record ColumnChunkMetadata(Type type, String[] path, CompressionCodec codec,
                                     long dataPageOffset,
                                     long dictionaryPageOffset, long totalCompressedSize,
                                     long totalUncompressedSize,
-                                    long numValues, ColumnStatistics statistics) {
+                                    long numValues, ColumnStatistics statistics,
+                                    long columnIndexOffset, int columnIndexLength,
+                                    long offsetIndexOffset, int offsetIndexLength,
+                                    long bloomFilterOffset) {
+
+    /**
+     * Creates column chunk metadata without a bloom filter.
+     *
+     * @param type                   the data type of this column
+     * @param path                   the path to this column in the schema
+     * @param codec                  the compression codec used for this column chunk
+     * @param dataPageOffset         the byte offset to the first data page
+     * @param dictionaryPageOffset   the byte offset to the dictionary page
+     * @param totalCompressedSize    the total compressed size of this column chunk in bytes
+     * @param totalUncompressedSize  the total uncompressed size of this column chunk in bytes
+     * @param numValues              the total number of values in this column chunk
+     * @param statistics             the column statistics, or null
+     * @param columnIndexOffset      the file offset of the page ColumnIndex, or -1 if absent
+     * @param columnIndexLength      the length of the page ColumnIndex in bytes
+     * @param offsetIndexOffset      the file offset of the page OffsetIndex, or -1 if absent
+     * @param offsetIndexLength      the length of the page OffsetIndex in bytes
+     */
+    public ColumnChunkMetadata(Type type, String[] path, CompressionCodec codec,
+                               long dataPageOffset, long dictionaryPageOffset,
+                               long totalCompressedSize, long totalUncompressedSize,
+                               long numValues, ColumnStatistics statistics,
+                               long columnIndexOffset, int columnIndexLength,
+                               long offsetIndexOffset, int offsetIndexLength) {
+      this(type, path, codec, dataPageOffset, dictionaryPageOffset, totalCompressedSize,
+          totalUncompressedSize, numValues, statistics, columnIndexOffset, columnIndexLength,
+          offsetIndexOffset, offsetIndexLength, -1);
+    }
+
+    /**
+     * Creates column chunk metadata without a page index or bloom filter.
+     *
+     * @param type                   the data type of this column
+     * @param path                   the path to this column in the schema
+     * @param codec                  the compression codec used for this column chunk
+     * @param dataPageOffset         the byte offset to the first data page
+     * @param dictionaryPageOffset   the byte offset to the dictionary page
+     * @param totalCompressedSize    the total compressed size of this column chunk in bytes
+     * @param totalUncompressedSize  the total uncompressed size of this column chunk in bytes
+     * @param numValues              the total number of values in this column chunk
+     * @param statistics             the column statistics, or null
+     */
+    public ColumnChunkMetadata(Type type, String[] path, CompressionCodec codec,
+                               long dataPageOffset, long dictionaryPageOffset,
+                               long totalCompressedSize, long totalUncompressedSize,
+                               long numValues, ColumnStatistics statistics) {
+      this(type, path, codec, dataPageOffset, dictionaryPageOffset, totalCompressedSize,
+          totalUncompressedSize, numValues, statistics, -1, 0, -1, 0, -1);
+    }
+
+    /**
+     * Checks whether the column chunk has an OffsetIndex, locating each of its pages.
+     *
+     * @return true if the page OffsetIndex is present
+     */
+    public boolean hasOffsetIndex() {
+      return offsetIndexOffset >= 0 && offsetIndexLength > 0;
+    }
+
+    /**
+     * Checks whether the column chunk has a ColumnIndex, with statistics for each page.
+     *
+     * @return true if the page ColumnIndex is present
+     */
+    public boolean hasColumnIndex() {
+      return columnIndexOffset >= 0 && columnIndexLength > 0;
+    }
+
+    /**
+     * Checks whether the column chunk has a bloom filter.
+     *
+     * @return true if the bloom filter is present
+     */
+    public boolean hasBloomFilter() {
+      return bloomFilterOffset >= 0;
+    }
 
     /**
      * Gets the file offset to the first page (dictionary or data) in this column chunk.
@@ -92,8 +176,25 @@ public record ParquetMetadata(FileMetadata fileMetadata, List<RowGroupMetadata>
    * @param max           the maximum value in this column chunk (encoded as bytes), or null if not available
    * @param nullCount     the count of null values, or null if not tracked
    * @param distinctCount the count of distinct values, or null if not tracked
+   * @param legacyMinMax  true if min and max come from the deprecated {@code min}/{@code max}
+   *                      fields, which writers computed with signed comparison whatever the
+   *                      sort order of the column
    */
-  public record ColumnStatistics(byte[] min, byte[] max, Long nullCount, Long distinctCount) {
+  public record ColumnStatistics(byte[] min, byte[] max, Long nullCount, Long distinctCount,
+                                 boolean legacyMinMax) {
+
+    /**
+     * Creates statistics with min and max from the {@code min_value}/{@code max_value}
+     * fields.
+     *
+     * @param min           the minimum value (encoded as bytes), or null if not available
+     * @param max           the maximum value (encoded as bytes), or null if not available
+     * @param nullCount     the count of null values, or null if not tracked
+     * @param distinctCount the count of distinct values, or null if not tracked
+     */
+    public ColumnStatistics(byte[] min, byte[] max, Long nullCount, Long distinctCount) {
+      this(min, max, nullCount, distinctCount, false);
+    }
 
     /**
      * Checks if minimum value statistics are available.
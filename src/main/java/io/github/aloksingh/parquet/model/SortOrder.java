@@ -0,0 +1,33 @@
+package io.github.aloksingh.parquet.model;
+
+/**
+ * The order used for the min/max statistics of a column.
+ * <p>
+ * Parquet defines the order of statistics by the column's logical type: integers annotated as
+ * unsigned, for example, are ordered as unsigned values even though they are stored as INT32
+ * or INT64. Statistics can only be compared with decoded values when the order is known.
+ */
+public enum SortOrder {
+  /** Signed comparison of numeric values; the default for numeric and boolean types. */
+  SIGNED,
+
+  /** Unsigned comparison, of integers or lexicographically of bytes. */
+  UNSIGNED,
+
+  /** No order is defined, for example for INT96; statistics must not be used. */
+  UNDEFINED;
+
+  /**
+   * Returns the default order of a physical type without logical type annotation.
+   *
+   * @param type the physical type
+   * @return the sort order of its statistics
+   */
+  public static SortOrder defaultFor(Type type) {
+    return switch (type) {
+      case BOOLEAN, INT32, INT64, FLOAT, DOUBLE -> SIGNED;
+      case BYTE_ARRAY, FIXED_LEN_BYTE_ARRAY -> UNSIGNED;
+      case INT96 -> UNDEFINED;
+    };
+  }
+}
@@ -56,4 +56,22 @@ public class ColumnEqualFilter implements ColumnFilter{
     }
     return false;
   }
+
+  @Override
+  public boolean mightMatch(LogicalColumnDescriptor columnDescriptor,
+                            ColumnValueStatistics statistics) {
+    if (!columnDescriptor.isPrimitive()) {
+      return true;
+    }
+    return matchValue != null && statistics.mayContain(matchValue);
+  }
+
+  @Override
+  public boolean mightMatch(LogicalColumnDescriptor columnDescriptor,
+                            ColumnValueMembership membership) {
+    if (!columnDescriptor.isPrimitive()) {
+      return true;
+    }
+    return matchValue != null && membership.mightContain(matchValue);
+  }
 }
@@ -4,4 +4,37 @@ import io.github.aloksingh.parquet.model.LogicalColumnDescriptor;
 
 public interface ColumnFilter {
   boolean apply(LogicalColumnDescriptor columnDescriptor, Object colValue);
+
+  /**
+   * Checks whether this filter may match any value of a column summarized by statistics.
+   *
+   * <p>Readers use this to skip pages and row groups. The check must be conservative:
+   * return false only if {@link #apply} is false for every value the statistics allow.
+   * The default returns true.
+   *
+   * @param columnDescriptor the column
+   * @param statistics the statistics of the column values, possibly
+   *                   {@link ColumnValueStatistics#UNKNOWN}
+   * @return false if no value of the column can match
+   */
+  default boolean mightMatch(LogicalColumnDescriptor columnDescriptor,
+                             ColumnValueStatistics statistics) {
+    return true;
+  }
+
+  /**
+   * Checks whether this filter may match any value of a column summarized by a
+   * probabilistic set, such as a bloom filter.
+   *
+   * <p>Only filters that need a specific value to be present, such as equality, can use a
+   * membership test. The check must be conservative. The default returns true.
+   *
+   * @param columnDescriptor the column
+   * @param membership the membership test for the column values
+   * @return false if no value of the column can match
+   */
+  default boolean mightMatch(LogicalColumnDescriptor columnDescriptor,
+                             ColumnValueMembership membership) {
+    return true;
+  }
 }
@@ -41,4 +41,34 @@ public class ColumnFilterSet implements ColumnFilter{
     }
     return false;
   }
+
+  @Override
+  public boolean mightMatch(LogicalColumnDescriptor columnDescriptor,
+                            ColumnValueStatistics statistics) {
+    for (ColumnFilter filter : filters) {
+      boolean mightMatch = filter.mightMatch(columnDescriptor, statistics);
+      if (type == FilterJoinType.All && !mightMatch) {
+        return false;
+      }
+      if (type == FilterJoinType.Any && mightMatch) {
+        return true;
+      }
+    }
+    return type == FilterJoinType.All;
+  }
+
+  @Override
+  public boolean mightMatch(LogicalColumnDescriptor columnDescriptor,
+                            ColumnValueMembership membership) {
+    for (ColumnFilter filter : filters) {
+      boolean mightMatch = filter.mightMatch(columnDescriptor, membership);
+      if (type == FilterJoinType.All && !mightMatch) {
+        return false;
+      }
+      if (type == FilterJoinType.Any && mightMatch) {
+        return true;
+      }
+    }
+    return type == FilterJoinType.All;
+  }
 }
@@ -27,4 +27,13 @@ public class ColumnGreaterThanFilter implements ColumnFilter {
       return false;
     }
   }
+
+  @Override
+  public boolean mightMatch(LogicalColumnDescriptor columnDescriptor,
+                            ColumnValueStatistics statistics) {
+    if (matchValue == null || !columnDescriptor.isPrimitive()) {
+      return false;
+    }
+    return statistics.mayContainGreaterThan(matchValue, false);
+  }
 }
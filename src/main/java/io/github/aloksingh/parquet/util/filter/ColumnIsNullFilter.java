@@ -11,4 +11,10 @@ public class ColumnIsNullFilter implements ColumnFilter {
   public boolean apply(LogicalColumnDescriptor columnDescriptor, Object colValue) {
     return colValue == null;
   }
+
+  @Override
+  public boolean mightMatch(LogicalColumnDescriptor columnDescriptor,
+                            ColumnValueStatistics statistics) {
+    return statistics.mayContainNulls();
+  }
 }
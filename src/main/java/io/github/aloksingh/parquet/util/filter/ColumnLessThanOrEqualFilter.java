@@ -27,4 +27,13 @@ public class ColumnLessThanOrEqualFilter implements ColumnFilter {
       return false;
     }
   }
+
+  @Override
+  public boolean mightMatch(LogicalColumnDescriptor columnDescriptor,
+                            ColumnValueStatistics statistics) {
+    if (matchValue == null || !columnDescriptor.isPrimitive()) {
+      return false;
+    }
+    return statistics.mayContainLessThan(matchValue, true);
+  }
 }
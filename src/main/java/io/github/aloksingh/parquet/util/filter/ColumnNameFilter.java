@@ -0,0 +1,44 @@
+package io.github.aloksingh.parquet.util.filter;
+
+import io.github.aloksingh.parquet.model.LogicalColumnDescriptor;
+
+/**
+ * Applies a filter to a single named column.
+ *
+ * <p>Filters such as {@link ColumnGreaterThanFilter} match a row if any of its columns
+ * matches. Binding a filter to a column restricts it to that column, which also lets readers
+ * skip pages and row groups using that column's statistics.
+ */
+public class ColumnNameFilter implements ColumnFilter {
+  private final String columnName;
+  private final ColumnFilter filter;
+
+  public ColumnNameFilter(String columnName, ColumnFilter filter) {
+    this.columnName = columnName;
+    this.filter = filter;
+  }
+
+  public String getColumnName() {
+    return columnName;
+  }
+
+  @Override
+  public boolean apply(LogicalColumnDescriptor columnDescriptor, Object colValue) {
+    return columnName.equals(columnDescriptor.getName())
+        && filter.apply(columnDescriptor, colValue);
+  }
+
+  @Override
+  public boolean mightMatch(LogicalColumnDescriptor columnDescriptor,
+                            ColumnValueStatistics statistics) {
+    return columnName.equals(columnDescriptor.getName())
+        && filter.mightMatch(columnDescriptor, statistics);
+  }
+
+  @Override
+  public boolean mightMatch(LogicalColumnDescriptor columnDescriptor,
+                            ColumnValueMembership membership) {
+    return columnName.equals(columnDescriptor.getName())
+        && filter.mightMatch(columnDescriptor, membership);
+  }
+}
@@ -22,4 +22,13 @@ public class ColumnPrefixFilter implements ColumnFilter {
     }
     return ((String) colValue).startsWith(matchValue);
   }
+
+  @Override
+  public boolean mightMatch(LogicalColumnDescriptor columnDescriptor,
+                            ColumnValueStatistics statistics) {
+    if (matchValue == null || !columnDescriptor.isPrimitive()) {
+      return false;
+    }
+    return statistics.mayContainPrefix(matchValue);
+  }
 }
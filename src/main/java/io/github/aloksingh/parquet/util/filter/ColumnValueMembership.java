@@ -0,0 +1,19 @@
+package io.github.aloksingh.parquet.util.filter;
+
+/**
+ * A probabilistic set of the values of one column over a set of rows, such as the bloom
+ * filter of a column chunk, used to decide whether a {@link ColumnFilter} can match any of
+ * those rows.
+ */
+@FunctionalInterface
+public interface ColumnValueMembership {
+
+  /**
+   * Checks whether a non-null value may be present.
+   *
+   * @param value the value, of the same Java type as the column values handed to
+   *              {@link ColumnFilter#apply}
+   * @return false only if the value is known to be absent
+   */
+  boolean mightContain(Object value);
+}
@@ -0,0 +1,115 @@
+package io.github.aloksingh.parquet.util.filter;
+
+/**
+ * Summary of the values of one column over a set of rows, such as a page or a column chunk,
+ * used to decide whether a {@link ColumnFilter} can match any of those rows.
+ *
+ * <p>Bounds are decoded to the same Java types as the column values handed to
+ * {@link ColumnFilter#apply}, and compared with {@link Comparable#compareTo}. A null bound
+ * is unknown. All checks are conservative: they return true unless the statistics prove
+ * that no value can satisfy them.
+ *
+ * @param min a lower bound of the non-null values, or null if unknown
+ * @param max an upper bound of the non-null values, or null if unknown
+ * @param mayContainNulls false only if the rows are known to have no null values
+ * @param allNull true only if every value is known to be null
+ */
+public record ColumnValueStatistics(Object min, Object max, boolean mayContainNulls,
+                                    boolean allNull) {
+
+  /**
+   * Statistics that prove nothing about the values.
+   */
+  public static final ColumnValueStatistics UNKNOWN =
+      new ColumnValueStatistics(null, null, true, false);
+
+  /**
+   * Checks whether a non-null value equal to {@code value} may be present.
+   *
+   * @param value the value to look for
+   * @return false if the statistics prove that no value equals {@code value}
+   */
+  public boolean mayContain(Object value) {
+    if (allNull) {
+      return false;
+    }
+    if (!isComparable(value)) {
+      return true;
+    }
+    return compare(min, value) <= 0 && compare(max, value) >= 0;
+  }
+
+  /**
+   * Checks whether a non-null value less than (or equal to) {@code value} may be present.
+   *
+   * @param value the value to compare with
+   * @param orEqual whether equal values count
+   * @return false if the statistics prove that no value is less than {@code value}
+   */
+  public boolean mayContainLessThan(Object value, boolean orEqual) {
+    if (allNull) {
+      return false;
+    }
+    if (!isComparable(value)) {
+      return true;
+    }
+    int cmp = compare(min, value);
+    return orEqual ? cmp <= 0 : cmp < 0;
+  }
+
+  /**
+   * Checks whether a non-null value greater than (or equal to) {@code value} may be present.
+   *
+   * @param value the value to compare with
+   * @param orEqual whether equal values count
+   * @return false if the statistics prove that no value is greater than {@code value}
+   */
+  public boolean mayContainGreaterThan(Object value, boolean orEqual) {
+    if (allNull) {
+      return false;
+    }
+    if (!isComparable(value)) {
+      return true;
+    }
+    int cmp = compare(max, value);
+    return orEqual ? cmp >= 0 : cmp > 0;
+  }
+
+  /**
+   * Checks whether a non-null String starting with {@code prefix} may be present.
+   *
+   * @param prefix the prefix to look for
+   * @return false if the statistics prove that no value starts with {@code prefix}
+   */
+  public boolean mayContainPrefix(String prefix) {
+    if (allNull) {
+      return false;
+    }
+    if (!isComparable(prefix)) {
+      return true;
+    }
+    // Cutting strings to the prefix length keeps their order, so a value v with the prefix
+    // has min[0, n) <= v[0, n) == prefix <= max[0, n)
+    int n = prefix.length();
+    String minPrefix = (String) min;
+    String maxPrefix = (String) max;
+    if (minPrefix.length() > n) {
+      minPrefix = minPrefix.substring(0, n);
+    }
+    if (maxPrefix.length() > n) {
+      maxPrefix = maxPrefix.substring(0, n);
+    }
+    return minPrefix.compareTo(prefix) <= 0 && maxPrefix.compareTo(prefix) >= 0;
+  }
+
+  private boolean isComparable(Object value) {
+    return min != null && max != null && value != null
+        && min instanceof Comparable && min.getClass() == value.getClass()
+        && max.getClass() == value.getClass();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static int compare(Object bound, Object value) {
+    return ((Comparable) bound).compareTo(value);
+  }
+}
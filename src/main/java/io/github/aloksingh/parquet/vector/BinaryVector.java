@@ -0,0 +1,267 @@
+package io.github.aloksingh.parquet.vector;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The values of a BYTE_ARRAY column, held back to back in one {@code byte[]} with an
+ * {@code int[]} of offsets: the value at position {@code i} is the slice from
+ * {@code offsets[i]} to {@code offsets[i + 1]}. Null positions are empty slices.
+ * <p>
+ * Values are compared, hashed and decoded as UTF-8 straight from their slices, so reading a
+ * column allocates no object per value; {@link #get(int)} and {@link #getString(int)}
+ * materialize a value only when it is asked for.
+ */
+public class BinaryVector extends ColumnVector {
+  private byte[] data;
+  private int[] offsets;
+
+  /**
+   * Creates an empty vector.
+   *
+   * @param capacity the number of values the vector can hold before it grows
+   * @param dataCapacity the number of value bytes the vector can hold before it grows
+   */
+  public BinaryVector(int capacity, int dataCapacity) {
+    this.data = new byte[dataCapacity];
+    this.offsets = new int[capacity + 1];
+  }
+
+  /**
+   * Returns the value at a position as a new array.
+   *
+   * @param index the position
+   * @return a copy of the value, or null if the value is null
+   */
+  public byte[] get(int index) {
+    return isNull(index) ? null : Arrays.copyOfRange(data, offsets[index], offsets[index + 1]);
+  }
+
+  /**
+   * Returns the value at a position decoded as UTF-8.
+   *
+   * @param index the position
+   * @return the string, or null if the value is null
+   */
+  public String getString(int index) {
+    if (isNull(index)) {
+      return null;
+    }
+    int start = offsets[index];
+    return new String(data, start, offsets[index + 1] - start, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Returns the offset of the value at a position in {@link #getData()}.
+   *
+   * @param index the position
+   * @return the offset of the first byte of the value
+   */
+  public int getStart(int index) {
+    return offsets[index];
+  }
+
+  /**
+   * Returns the length of the value at a position.
+   *
+   * @param index the position
+   * @return the number of bytes in the value; 0 if the value is null
+   */
+  public int getLength(int index) {
+    return offsets[index + 1] - offsets[index];
+  }
+
+  /**
+   * Checks whether the value at a position equals the given bytes.
+   *
+   * @param index the position
+   * @param value the bytes to compare with
+   * @return true if the value is not null and has the same bytes
+   */
+  public boolean equals(int index, byte[] value) {
+    return !isNull(index)
+        && Arrays.equals(data, offsets[index], offsets[index + 1], value, 0, value.length);
+  }
+
+  /**
+   * Checks whether the value at a position equals a value of another vector.
+   *
+   * @param index the position
+   * @param other the other vector
+   * @param otherIndex the position in the other vector
+   * @return true if both values are null, or both have the same bytes
+   */
+  public boolean equals(int index, BinaryVector other, int otherIndex) {
+    if (isNull(index) || other.isNull(otherIndex)) {
+      return isNull(index) && other.isNull(otherIndex);
+    }
+    return Arrays.equals(data, offsets[index], offsets[index + 1],
+        other.data, other.offsets[otherIndex], other.offsets[otherIndex + 1]);
+  }
+
+  /**
+   * Compares the value at a position with the given bytes, byte by byte as unsigned values,
+   * which is the order Parquet uses for BYTE_ARRAY statistics.
+   *
+   * @param index the position, which must not be null
+   * @param value the bytes to compare with
+   * @return a negative number, zero or a positive number as the value is less than, equal to
+   *         or greater than {@code value}
+   */
+  public int compare(int index, byte[] value) {
+    return Arrays.compareUnsigned(data, offsets[index], offsets[index + 1],
+        value, 0, value.length);
+  }
+
+  /**
+   * Returns the hash code of the value at a position, equal to {@link Arrays#hashCode(byte[])}
+   * of the value.
+   *
+   * @param index the position
+   * @return the hash code, or 0 if the value is null
+   */
+  public int hashCode(int index) {
+    if (isNull(index)) {
+      return 0;
+    }
+    int hash = 1;
+    for (int i = offsets[index]; i < offsets[index + 1]; i++) {
+      hash = 31 * hash + data[i];
+    }
+    return hash;
+  }
+
+  /**
+   * Returns the backing array of value bytes. Bytes from 0 to {@code getOffsets()[size()]}
+   * hold the values; the array is replaced when the vector grows.
+   *
+   * @return the value bytes
+   */
+  public byte[] getData() {
+    return data;
+  }
+
+  /**
+   * Returns the backing array of offsets, {@link #size()} + 1 of which are in use; the array
+   * is replaced when the vector grows.
+   *
+   * @return the offsets into {@link #getData()}
+   */
+  public int[] getOffsets() {
+    return offsets;
+  }
+
+  /**
+   * Makes room for at least {@code additional} more value bytes.
+   *
+   * @param additional the number of bytes to be added
+   */
+  public void ensureDataCapacity(int additional) {
+    int required = offsets[size] + additional;
+    if (required > data.length) {
+      data = Arrays.copyOf(data, Math.max(required, data.length + (data.length >> 1)));
+    }
+  }
+
+  /**
+   * Appends a non-null value.
+   *
+   * @param value the value
+   */
+  public void append(byte[] value) {
+    append(value, 0, value.length);
+  }
+
+  /**
+   * Appends a non-null value copied from part of an array.
+   *
+   * @param source the array holding the value
+   * @param offset the offset of the value in {@code source}
+   * @param length the length of the value
+   */
+  public void append(byte[] source, int offset, int length) {
+    ensureCapacity(1);
+    ensureDataCapacity(length);
+    int start = offsets[size];
+    System.arraycopy(source, offset, data, start, length);
+    offsets[++size] = start + length;
+  }
+
+  @Override
+  public void appendNull() {
+    ensureCapacity(1);
+    offsets[size + 1] = offsets[size];
+    super.appendNull();
+  }
+
+  @Override
+  public void appendFrom(ColumnVector source, int from, int count) {
+    if (!(source instanceof BinaryVector other)) {
+      throw new IllegalArgumentException("Cannot append " + source.getClass().getSimpleName()
+          + " to " + getClass().getSimpleName());
+    }
+    ensureCapacity(count);
+    int sourceStart = other.offsets[from];
+    int length = other.offsets[from + count] - sourceStart;
+    ensureDataCapacity(length);
+    int start = offsets[size];
+    System.arraycopy(other.data, sourceStart, data, start, length);
+    for (int i = 1; i <= count; i++) {
+      offsets[size + i] = other.offsets[from + i] - sourceStart + start;
+    }
+    for (int i = 0; i < count; i++) {
+      if (other.isNull(from + i)) {
+        setNull(size + i);
+      }
+    }
+    size += count;
+  }
+
+  /**
+   * Appends values that were decoded, without their nulls, into the backing arrays: their
+   * bytes from {@code getOffsets()[size()]} on, and the offset just past each value from
+   * {@code getOffsets()[size() + 1]} on.
+   * <p>
+   * The offsets are moved to the positions whose definition level is
+   * {@code maxDefinitionLevel}, and every other position becomes an empty null value.
+   *
+   * @param count the number of positions to append
+   * @param definitionLevels the definition level of each position, or null if none is null
+   * @param maxDefinitionLevel the definition level of a non-null value
+   * @param nonNullCount the number of values decoded into the backing arrays
+   */
+  @Override
+  public void appendDecoded(int count, int[] definitionLevels, int maxDefinitionLevel,
+                            int nonNullCount) {
+    if (nonNullCount < count) {
+      int start = size;
+      // Walk back from the last position; a value's end offset never moves down, so each
+      // one is read before it is overwritten
+      int value = nonNullCount;
+      for (int i = count - 1; i >= 0; i--) {
+        offsets[start + i + 1] = offsets[start + value];
+        if (definitionLevels[i] >= maxDefinitionLevel) {
+          value--;
+        } else {
+          setNull(start + i);
+        }
+      }
+    }
+    size += count;
+  }
+
+  @Override
+  public int capacity() {
+    return offsets.length - 1;
+  }
+
+  @Override
+  protected Object array() {
+    return offsets;
+  }
+
+  @Override
+  protected void resizeArray(int newCapacity) {
+    offsets = Arrays.copyOf(offsets, newCapacity + 1);
+  }
+}
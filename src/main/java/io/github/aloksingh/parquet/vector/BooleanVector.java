@@ -0,0 +1,64 @@
+package io.github.aloksingh.parquet.vector;
+
+import java.util.Arrays;
+
+/**
+ * The values of a BOOLEAN column, held in a {@code boolean[]}.
+ */
+public class BooleanVector extends ColumnVector {
+  private boolean[] values;
+
+  /**
+   * Creates an empty vector.
+   *
+   * @param capacity the number of values the vector can hold before it grows
+   */
+  public BooleanVector(int capacity) {
+    this.values = new boolean[capacity];
+  }
+
+  /**
+   * Returns the value at a position.
+   *
+   * @param index the position
+   * @return the value; undefined if {@link #isNull(int)} is true
+   */
+  public boolean get(int index) {
+    return values[index];
+  }
+
+  /**
+   * Returns the backing array. Positions from 0 to {@link #size()} hold the values; the
+   * array is replaced when the vector grows.
+   *
+   * @return the backing array
+   */
+  public boolean[] getValues() {
+    return values;
+  }
+
+  /**
+   * Appends a non-null value.
+   *
+   * @param value the value
+   */
+  public void append(boolean value) {
+    ensureCapacity(1);
+    values[size++] = value;
+  }
+
+  @Override
+  public int capacity() {
+    return values.length;
+  }
+
+  @Override
+  protected Object array() {
+    return values;
+  }
+
+  @Override
+  protected void resizeArray(int newCapacity) {
+    values = Arrays.copyOf(values, newCapacity);
+  }
+}
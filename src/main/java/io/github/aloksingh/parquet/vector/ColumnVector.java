@@ -0,0 +1,193 @@
+package io.github.aloksingh.parquet.vector;
+
+import java.util.Arrays;
+
+/**
+ * Base class of the primitive column vectors: the values of one column held in a primitive
+ * array, with a validity bitmap marking the null positions.
+ * <p>
+ * The validity bitmap holds one bit per position, set for non-null values. It is only
+ * allocated once the first null is added, so a vector without nulls carries no bitmap.
+ * <p>
+ * Decoders write values straight into the backing array returned by the subclass, then
+ * call {@link #appendDecoded(int, int[], int, int)} to spread them over their positions
+ * and record the nulls.
+ */
+public abstract class ColumnVector {
+  /** Number of positions, null or not, in the vector */
+  protected int size;
+
+  /** One bit per position, set for non-null values; null while there are no nulls */
+  private long[] validity;
+
+  /** Number of null positions */
+  private int nullCount;
+
+  /**
+   * Returns the number of positions in this vector.
+   *
+   * @return the number of values, including nulls
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether the value at a position is null.
+   *
+   * @param index the position
+   * @return true if the value is null
+   */
+  public boolean isNull(int index) {
+    return validity != null && (validity[index >>> 6] & (1L << index)) == 0;
+  }
+
+  /**
+   * Returns the number of null positions.
+   *
+   * @return the number of nulls
+   */
+  public int getNullCount() {
+    return nullCount;
+  }
+
+  /**
+   * Returns the validity bitmap: bit {@code i % 64} of word {@code i / 64} is set if the
+   * value at position {@code i} is not null.
+   *
+   * @return the bitmap, or null if the vector has no nulls
+   */
+  public long[] getValidity() {
+    return validity;
+  }
+
+  /**
+   * Returns the number of positions the backing array can hold.
+   *
+   * @return the capacity
+   */
+  public abstract int capacity();
+
+  /**
+   * Makes room for at least {@code additional} more positions.
+   *
+   * @param additional the number of positions to be added
+   */
+  public void ensureCapacity(int additional) {
+    int required = size + additional;
+    if (required > capacity()) {
+      resize(Math.max(required, capacity() + (capacity() >> 1)));
+    }
+  }
+
+  /**
+   * Appends a null value.
+   */
+  public void appendNull() {
+    ensureCapacity(1);
+    setNull(size++);
+  }
+
+  /**
+   * Appends a range of positions, values and nulls, copied from another vector.
+   *
+   * @param source the vector to copy from, of the same class as this one
+   * @param from the first position to copy
+   * @param count the number of positions to copy
+   * @throws IllegalArgumentException if the source holds values of another type
+   */
+  public void appendFrom(ColumnVector source, int from, int count) {
+    if (source.getClass() != getClass()) {
+      throw new IllegalArgumentException("Cannot append " + source.getClass().getSimpleName()
+          + " to " + getClass().getSimpleName());
+    }
+    ensureCapacity(count);
+    System.arraycopy(source.array(), from, array(), size, count);
+    if (source.nullCount > 0) {
+      for (int i = 0; i < count; i++) {
+        if (source.isNull(from + i)) {
+          setNull(size + i);
+        }
+      }
+    }
+    size += count;
+  }
+
+  /**
+   * Appends values that were decoded, without their nulls, into the backing array starting
+   * at position {@link #size()}.
+   * <p>
+   * The {@code nonNullCount} values are moved to the positions whose definition level is
+   * {@code maxDefinitionLevel}, and every other position becomes null.
+   *
+   * @param count the number of positions to append
+   * @param definitionLevels the definition level of each position, or null if none is null
+   * @param maxDefinitionLevel the definition level of a non-null value
+   * @param nonNullCount the number of values decoded into the backing array
+   */
+  public void appendDecoded(int count, int[] definitionLevels, int maxDefinitionLevel,
+                            int nonNullCount) {
+    if (nonNullCount < count) {
+      Object array = array();
+      int start = size;
+      // Move runs of values back to their positions, last run first, so no value is
+      // overwritten before it has moved
+      int from = start + nonNullCount;
+      int end = count;
+      while (end > 0) {
+        int runStart = end;
+        while (runStart > 0 && definitionLevels[runStart - 1] >= maxDefinitionLevel) {
+          runStart--;
+        }
+        int runLength = end - runStart;
+        from -= runLength;
+        if (from != start + runStart) {
+          System.arraycopy(array, from, array, start + runStart, runLength);
+        }
+        end = runStart;
+        while (end > 0 && definitionLevels[end - 1] < maxDefinitionLevel) {
+          setNull(start + --end);
+        }
+      }
+    }
+    size += count;
+  }
+
+  /**
+   * Marks a position as null.
+   *
+   * @param index the position, below the capacity
+   */
+  protected void setNull(int index) {
+    if (validity == null) {
+      validity = new long[(capacity() + 63) >>> 6];
+      Arrays.fill(validity, -1L);
+    }
+    validity[index >>> 6] &= ~(1L << index);
+    nullCount++;
+  }
+
+  /**
+   * Returns the backing primitive array.
+   *
+   * @return the array holding the values
+   */
+  protected abstract Object array();
+
+  /**
+   * Replaces the backing array with a larger one, keeping the values.
+   *
+   * @param newCapacity the new capacity
+   */
+  protected abstract void resizeArray(int newCapacity);
+
+  private void resize(int newCapacity) {
+    resizeArray(newCapacity);
+    if (validity != null) {
+      int words = (newCapacity + 63) >>> 6;
+      int oldWords = validity.length;
+      validity = Arrays.copyOf(validity, words);
+      Arrays.fill(validity, oldWords, words, -1L);
+    }
+  }
+}
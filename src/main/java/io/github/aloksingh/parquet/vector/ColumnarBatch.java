@@ -0,0 +1,93 @@
+package io.github.aloksingh.parquet.vector;
+
+import java.util.List;
+
+/**
+ * A batch of rows held column by column: one {@link ColumnVector} per projected column,
+ * each with {@link #getNumRows()} positions.
+ */
+public class ColumnarBatch {
+  private final List<String> columnNames;
+  private final ColumnVector[] columns;
+  private final int numRows;
+
+  /**
+   * Creates a batch.
+   *
+   * @param columnNames the names of the columns, in the order of {@code columns}
+   * @param columns the vectors, all of the same size
+   * @throws IllegalArgumentException if the names and vectors do not match up
+   */
+  public ColumnarBatch(List<String> columnNames, ColumnVector[] columns) {
+    if (columnNames.size() != columns.length) {
+      throw new IllegalArgumentException(
+          columnNames.size() + " column names for " + columns.length + " columns");
+    }
+    int rows = columns.length > 0 ? columns[0].size() : 0;
+    for (ColumnVector column : columns) {
+      if (column.size() != rows) {
+        throw new IllegalArgumentException("Column sizes differ: " + column.size() + " != " + rows);
+      }
+    }
+    this.columnNames = List.copyOf(columnNames);
+    this.columns = columns;
+    this.numRows = rows;
+  }
+
+  /**
+   * Returns the number of rows in this batch.
+   *
+   * @return the number of positions in each column
+   */
+  public int getNumRows() {
+    return numRows;
+  }
+
+  /**
+   * Returns the number of columns in this batch.
+   *
+   * @return the number of columns
+   */
+  public int getNumColumns() {
+    return columns.length;
+  }
+
+  /**
+   * Returns the names of the columns.
+   *
+   * @return the column names, in column order
+   */
+  public List<String> getColumnNames() {
+    return columnNames;
+  }
+
+  /**
+   * Returns a column by position.
+   *
+   * @param index the position of the column in the batch
+   * @return the column vector
+   */
+  public ColumnVector getColumn(int index) {
+    return columns[index];
+  }
+
+  /**
+   * Returns a column by name.
+   *
+   * @param name the name of the column
+   * @return the column vector
+   * @throws IllegalArgumentException if the batch has no column with that name
+   */
+  public ColumnVector getColumn(String name) {
+    int index = columnNames.indexOf(name);
+    if (index < 0) {
+      throw new IllegalArgumentException("Column not found: " + name);
+    }
+    return columns[index];
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnarBatch{rows=" + numRows + ", columns=" + columnNames + "}";
+  }
+}
@@ -0,0 +1,143 @@
+package io.github.aloksingh.parquet.vector;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The values of a dictionary-encoded column, kept encoded: the dictionary of the column chunk,
+ * decoded once, and an {@code int[]} of dictionary codes, one per position.
+ * <p>
+ * Equal codes mean equal values, so rows can be grouped, joined or filtered on their codes,
+ * and only the values that are needed looked up in the dictionary.
+ * <p>
+ * Dictionary entries are Integer, Long, Float or Double for the numeric physical types and
+ * {@code byte[]} for BYTE_ARRAY. {@link #getString(int)} decodes a BYTE_ARRAY entry as UTF-8
+ * the first time it is asked for, then reuses the String.
+ */
+public class DictionaryVector extends ColumnVector {
+  private final Object[] dictionary;
+  private String[] strings;
+  private int[] codes;
+
+  /**
+   * Creates an empty vector over a dictionary.
+   *
+   * @param dictionary the decoded dictionary entries
+   * @param capacity the number of codes the vector can hold before it grows
+   */
+  public DictionaryVector(Object[] dictionary, int capacity) {
+    this.dictionary = dictionary;
+    this.codes = new int[capacity];
+  }
+
+  /**
+   * Returns the dictionary.
+   *
+   * @return the dictionary entries, indexed by code; not to be modified
+   */
+  public Object[] getDictionary() {
+    return dictionary;
+  }
+
+  /**
+   * Returns the number of dictionary entries.
+   *
+   * @return the dictionary size; codes are below it
+   */
+  public int getDictionarySize() {
+    return dictionary.length;
+  }
+
+  /**
+   * Returns the dictionary code at a position.
+   *
+   * @param index the position
+   * @return the code; undefined if {@link #isNull(int)} is true
+   */
+  public int getCode(int index) {
+    return codes[index];
+  }
+
+  /**
+   * Returns the backing array of codes. Positions from 0 to {@link #size()} hold the codes;
+   * the array is replaced when the vector grows.
+   *
+   * @return the backing array
+   */
+  public int[] getCodes() {
+    return codes;
+  }
+
+  /**
+   * Returns the value at a position, looked up in the dictionary.
+   *
+   * @param index the position
+   * @return the dictionary entry, or null if the value is null
+   */
+  public Object get(int index) {
+    return isNull(index) ? null : dictionary[codes[index]];
+  }
+
+  /**
+   * Returns the value at a position as a UTF-8 string.
+   *
+   * @param index the position
+   * @return the string, or null if the value is null
+   * @throws ClassCastException if the dictionary does not hold byte arrays
+   */
+  public String getString(int index) {
+    return isNull(index) ? null : getDictionaryString(codes[index]);
+  }
+
+  /**
+   * Returns a dictionary entry as a UTF-8 string, decoding it on first use.
+   *
+   * @param code the dictionary code
+   * @return the string
+   * @throws ClassCastException if the dictionary does not hold byte arrays
+   */
+  public String getDictionaryString(int code) {
+    if (strings == null) {
+      strings = new String[dictionary.length];
+    }
+    String string = strings[code];
+    if (string == null) {
+      string = new String((byte[]) dictionary[code], StandardCharsets.UTF_8);
+      strings[code] = string;
+    }
+    return string;
+  }
+
+  /**
+   * Appends a non-null value by its dictionary code.
+   *
+   * @param code the dictionary code
+   */
+  public void append(int code) {
+    ensureCapacity(1);
+    codes[size++] = code;
+  }
+
+  @Override
+  public int capacity() {
+    return codes.length;
+  }
+
+  @Override
+  public void appendFrom(ColumnVector source, int from, int count) {
+    if (source instanceof DictionaryVector other && other.dictionary != dictionary) {
+      throw new IllegalArgumentException("Cannot append codes of another dictionary");
+    }
+    super.appendFrom(source, from, count);
+  }
+
+  @Override
+  protected Object array() {
+    return codes;
+  }
+
+  @Override
+  protected void resizeArray(int newCapacity) {
+    codes = Arrays.copyOf(codes, newCapacity);
+  }
+}
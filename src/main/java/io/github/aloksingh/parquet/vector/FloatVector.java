@@ -0,0 +1,64 @@
+package io.github.aloksingh.parquet.vector;
+
+import java.util.Arrays;
+
+/**
+ * The values of a FLOAT column, held in a {@code float[]}.
+ */
+public class FloatVector extends ColumnVector {
+  private float[] values;
+
+  /**
+   * Creates an empty vector.
+   *
+   * @param capacity the number of values the vector can hold before it grows
+   */
+  public FloatVector(int capacity) {
+    this.values = new float[capacity];
+  }
+
+  /**
+   * Returns the value at a position.
+   *
+   * @param index the position
+   * @return the value; undefined if {@link #isNull(int)} is true
+   */
+  public float get(int index) {
+    return values[index];
+  }
+
+  /**
+   * Returns the backing array. Positions from 0 to {@link #size()} hold the values; the
+   * array is replaced when the vector grows.
+   *
+   * @return the backing array
+   */
+  public float[] getValues() {
+    return values;
+  }
+
+  /**
+   * Appends a non-null value.
+   *
+   * @param value the value
+   */
+  public void append(float value) {
+    ensureCapacity(1);
+    values[size++] = value;
+  }
+
+  @Override
+  public int capacity() {
+    return values.length;
+  }
+
+  @Override
+  protected Object array() {
+    return values;
+  }
+
+  @Override
+  protected void resizeArray(int newCapacity) {
+    values = Arrays.copyOf(values, newCapacity);
+  }
+}
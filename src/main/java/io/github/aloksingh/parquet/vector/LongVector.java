@@ -0,0 +1,64 @@
+package io.github.aloksingh.parquet.vector;
+
+import java.util.Arrays;
+
+/**
+ * The values of an INT64 column, held in a {@code long[]}.
+ */
+public class LongVector extends ColumnVector {
+  private long[] values;
+
+  /**
+   * Creates an empty vector.
+   *
+   * @param capacity the number of values the vector can hold before it grows
+   */
+  public LongVector(int capacity) {
+    this.values = new long[capacity];
+  }
+
+  /**
+   * Returns the value at a position.
+   *
+   * @param index the position
+   * @return the value; undefined if {@link #isNull(int)} is true
+   */
+  public long get(int index) {
+    return values[index];
+  }
+
+  /**
+   * Returns the backing array. Positions from 0 to {@link #size()} hold the values; the
+   * array is replaced when the vector grows.
+   *
+   * @return the backing array
+   */
+  public long[] getValues() {
+    return values;
+  }
+
+  /**
+   * Appends a non-null value.
+   *
+   * @param value the value
+   */
+  public void append(long value) {
+    ensureCapacity(1);
+    values[size++] = value;
+  }
+
+  @Override
+  public int capacity() {
+    return values.length;
+  }
+
+  @Override
+  protected Object array() {
+    return values;
+  }
+
+  @Override
+  protected void resizeArray(int newCapacity) {
+    values = Arrays.copyOf(values, newCapacity);
+  }
+}
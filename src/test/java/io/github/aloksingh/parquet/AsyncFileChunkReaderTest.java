@@ -0,0 +1,124 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.ColumnValues;
+import io.github.aloksingh.parquet.model.RowColumnGroup;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for asynchronous chunk reads and asynchronous column decoding.
+ */
+class AsyncFileChunkReaderTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testReadBytesAsync() throws Exception {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    byte[] fileBytes = Files.readAllBytes(path);
+
+    try (AsyncFileChunkReader reader = new AsyncFileChunkReader(path)) {
+      assertEquals(fileBytes.length, reader.length());
+
+      List<CompletableFuture<ByteBuffer>> futures = new ArrayList<>();
+      for (int position = 0; position < fileBytes.length; position += 101) {
+        futures.add(reader.readBytesAsync(position, 150));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        int position = i * 101;
+        int expectedLength = Math.min(150, fileBytes.length - position);
+        ByteBuffer buffer = futures.get(i).get();
+        assertEquals(0, buffer.position());
+        assertEquals(ByteBuffer.wrap(fileBytes, position, expectedLength), buffer);
+      }
+
+      assertEquals(ByteBuffer.wrap(fileBytes, 10, 20), reader.readBytes(10, 20));
+    }
+  }
+
+  @Test
+  void testInvalidPositions() throws IOException {
+    try (AsyncFileChunkReader reader =
+             new AsyncFileChunkReader(TEST_DATA_DIR + "alltypes_plain.parquet")) {
+      ExecutionException e = assertThrows(ExecutionException.class,
+          () -> reader.readBytesAsync(reader.length(), 4).get());
+      assertInstanceOf(IOException.class, e.getCause());
+
+      assertThrows(IOException.class, () -> reader.readBytes(-1, 4));
+    }
+  }
+
+  @Test
+  void testDefaultReadBytesAsync() throws Exception {
+    try (FileChunkReader reader = new FileChunkReader(TEST_DATA_DIR + "alltypes_plain.parquet")) {
+      CompletableFuture<ByteBuffer> future = reader.readBytesAsync(0, 4);
+      assertTrue(future.isDone());
+      assertEquals(reader.readBytes(0, 4), future.get());
+
+      CompletableFuture<ByteBuffer> failed = reader.readBytesAsync(reader.length(), 4);
+      assertTrue(failed.isCompletedExceptionally());
+    }
+  }
+
+  @Test
+  void testReadColumnsAsync() throws Exception {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try (ParquetFileReader expectedReader = new ParquetFileReader(path);
+         AsyncFileChunkReader chunkReader = new AsyncFileChunkReader(path);
+         ParquetFileReader asyncReader = new ParquetFileReader(chunkReader)) {
+      ParquetFileReader.RowGroupReader expected = expectedReader.getRowGroup(0);
+      ParquetFileReader.RowGroupReader rowGroup = asyncReader.getRowGroup(0);
+
+      List<CompletableFuture<ColumnValues>> columns = rowGroup.readColumnsAsync(0, 5, 7);
+      assertEquals(expected.readColumn(0).decodeAsInt32(), columns.get(0).get().decodeAsInt32());
+      assertEquals(expected.readColumn(5).decodeAsInt64(), columns.get(1).get().decodeAsInt64());
+      assertEquals(expected.readColumn(7).decodeAsDouble(),
+          columns.get(2).get().decodeAsDouble());
+
+      List<CompletableFuture<ColumnValues>> onExecutor = rowGroup.readColumnsAsync(executor, 6);
+      assertEquals(expected.readColumn(6).decodeAsFloat(),
+          onExecutor.get(0).get().decodeAsFloat());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testRowsMatchDefaultReader() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_dictionary.parquet");
+
+    try (ParquetFileReader expectedReader = new ParquetFileReader(path);
+         AsyncFileChunkReader chunkReader = new AsyncFileChunkReader(path);
+         ParquetFileReader actualReader = new ParquetFileReader(chunkReader)) {
+      RowColumnGroupIterator expectedRows = expectedReader.rowIterator();
+      RowColumnGroupIterator actualRows = actualReader.rowIterator();
+
+      while (expectedRows.hasNext()) {
+        assertTrue(actualRows.hasNext());
+        RowColumnGroup expected = expectedRows.next();
+        RowColumnGroup actual = actualRows.next();
+        for (int i = 0; i < expected.getColumnCount(); i++) {
+          assertEquals(expected.getColumnValue(i), actual.getColumnValue(i));
+        }
+      }
+      assertFalse(actualRows.hasNext());
+    }
+  }
+}
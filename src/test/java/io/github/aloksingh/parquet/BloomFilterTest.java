@@ -0,0 +1,111 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.RowColumnGroup;
+import io.github.aloksingh.parquet.util.filter.ColumnEqualFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnFilterSet;
+import io.github.aloksingh.parquet.util.filter.ColumnNameFilter;
+import io.github.aloksingh.parquet.util.filter.FilterJoinType;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for split-block bloom filters and row group skipping with equality filters.
+ */
+class BloomFilterTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+  private static final String BLOOM_FILE =
+      TEST_DATA_DIR + "data_index_bloom_encoding_with_length.parquet";
+
+  @Test
+  void testXxHash64() {
+    assertEquals(0xEF46DB3751D8E999L, XxHash64.hash(new byte[0]));
+    assertEquals(0xD24EC4F1A98C6E5BL, XxHash64.hash(bytes("a")));
+    assertEquals(0x44BC2CF5AD770999L, XxHash64.hash(bytes("abc")));
+    assertEquals(0xFBCEA83C8A378BF1L,
+        XxHash64.hash(bytes("Nobody inspects the spammish repetition")));
+
+    byte[] intBytes = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN)
+        .putInt(-123456789).array();
+    assertEquals(XxHash64.hash(intBytes), XxHash64.hash(-123456789));
+    byte[] longBytes = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN)
+        .putLong(0x0123456789ABCDEFL).array();
+    assertEquals(XxHash64.hash(longBytes), XxHash64.hash(0x0123456789ABCDEFL));
+  }
+
+  @Test
+  void testReadsBloomFilter() throws IOException {
+    try (ParquetFileReader reader = new ParquetFileReader(BLOOM_FILE)) {
+      assertTrue(reader.getMetadata().rowGroups().get(0).columns().get(0).hasBloomFilter());
+      BloomFilter bloomFilter = reader.getBloomFilter(0, 0);
+      assertNotNull(bloomFilter);
+      assertSame(bloomFilter, reader.getBloomFilter(0, 0));
+
+      // No false negatives
+      List<String> values = reader.getRowGroup(0).readColumn(0).decodeAsString();
+      for (String value : values) {
+        assertTrue(bloomFilter.mightContain(value), value);
+      }
+
+      int falsePositives = 0;
+      for (int i = 0; i < 1000; i++) {
+        if (bloomFilter.mightContain("absent-" + i)) {
+          falsePositives++;
+        }
+      }
+      assertTrue(falsePositives < 50, "False positives: " + falsePositives);
+
+      // Values of another type cannot be ruled out
+      assertTrue(bloomFilter.mightContain(42));
+    }
+  }
+
+  @Test
+  void testMissingBloomFilter() throws IOException {
+    try (ParquetFileReader reader = new ParquetFileReader(TEST_DATA_DIR + "alltypes_plain.parquet")) {
+      assertFalse(reader.getMetadata().rowGroups().get(0).columns().get(0).hasBloomFilter());
+      assertNull(reader.getBloomFilter(0, 0));
+    }
+  }
+
+  @Test
+  void testEqualityFiltersSkipRowGroups() throws IOException {
+    // "Hellz" sorts between the column's min and max, so only the bloom filter rules it out
+    try (ParquetFileReader reader = new ParquetFileReader(BLOOM_FILE)) {
+      assertFalse(reader.getBloomFilter(0, 0).mightContain("Hellz"));
+      ColumnFilter missing = new ColumnNameFilter("String", new ColumnEqualFilter("Hellz"));
+      try (ParquetRowIterator iterator =
+               new ParquetRowIterator(reader, false, new ColumnFilter[] {missing})) {
+        assertFalse(iterator.hasNext());
+      }
+    }
+
+    // An IN-style filter matches if any of its values may be present
+    ColumnFilter in = new ColumnNameFilter("String", new ColumnFilterSet(FilterJoinType.Any,
+        new ColumnEqualFilter("Hellz"), new ColumnEqualFilter("Hello")));
+    List<RowColumnGroup> rows = new ArrayList<>();
+    try (FilteringParquetRowIterator iterator =
+             new FilteringParquetRowIterator(new ParquetFileReader(BLOOM_FILE), in)) {
+      iterator.forEachRemaining(rows::add);
+    }
+    assertEquals(1, rows.size());
+    assertEquals("Hello", rows.get(0).getColumnValue(0));
+  }
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,198 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.RowColumnGroup;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the block cache and the caching ChunkReader decorator.
+ */
+class CachingChunkReaderTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testReadsMatchUnderlyingReader() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    byte[] fileBytes = Files.readAllBytes(path);
+    BlockCache cache = new BlockCache(1 << 20, 64, false);
+
+    try (CachingChunkReader reader = new CachingChunkReader(path, cache)) {
+      assertEquals(fileBytes.length, reader.length());
+      for (int position = 0; position < fileBytes.length; position += 37) {
+        for (int length : new int[] {1, 64, 100, 300}) {
+          int expectedLength = Math.min(length, fileBytes.length - position);
+          assertEquals(ByteBuffer.wrap(fileBytes, position, expectedLength),
+              reader.readBytes(position, length),
+              "Mismatch at position " + position + " length " + length);
+        }
+      }
+
+      assertThrows(IOException.class, () -> reader.readBytes(-1, 4));
+      assertThrows(IOException.class, () -> reader.readBytes(fileBytes.length, 4));
+    }
+  }
+
+  @Test
+  void testHitsAndMisses() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    BlockCache cache = new BlockCache(1 << 20, 256, false);
+
+    try (CachingChunkReader reader = new CachingChunkReader(path, cache)) {
+      reader.readBytes(0, 10);
+      assertEquals(new BlockCache.Stats(0, 1, 0, 1, 256), cache.stats());
+
+      ByteBuffer cached = reader.readBytes(100, 10);
+      assertTrue(cached.isReadOnly());
+      assertEquals(1, cache.stats().hits());
+
+      // Spans blocks 0 and 1
+      reader.readBytes(250, 10);
+      assertEquals(2, cache.stats().hits());
+      assertEquals(2, cache.stats().misses());
+    }
+  }
+
+  @Test
+  void testSharedAcrossReaders() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_dictionary.parquet");
+    BlockCache cache = new BlockCache(1 << 20, 512, false);
+
+    List<RowColumnGroup> first = readAllRows(path, cache);
+    long missesAfterFirstScan = cache.stats().misses();
+    long hitsAfterFirstScan = cache.stats().hits();
+
+    List<RowColumnGroup> second = readAllRows(path, cache);
+    assertEquals(missesAfterFirstScan, cache.stats().misses());
+    assertTrue(cache.stats().hits() > hitsAfterFirstScan);
+
+    assertEquals(first.size(), second.size());
+    for (int row = 0; row < first.size(); row++) {
+      for (int i = 0; i < first.get(row).getColumnCount(); i++) {
+        assertEquals(first.get(row).getColumnValue(i), second.get(row).getColumnValue(i));
+      }
+    }
+  }
+
+  @Test
+  void testEvictsToStayWithinBudget() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    BlockCache cache = new BlockCache(256, 64, false);
+
+    try (CachingChunkReader reader = new CachingChunkReader(path, cache)) {
+      for (int position = 0; position < reader.length(); position += 64) {
+        reader.readBytes(position, 64);
+      }
+      BlockCache.Stats stats = cache.stats();
+      assertEquals(4, stats.blockCount());
+      assertTrue(stats.sizeBytes() <= 256);
+      assertTrue(stats.evictions() > 0);
+
+      // The least recently used block was evicted, the most recent one is still cached
+      long misses = stats.misses();
+      reader.readBytes(reader.length() - 1, 1);
+      assertEquals(misses, cache.stats().misses());
+      reader.readBytes(0, 1);
+      assertEquals(misses + 1, cache.stats().misses());
+    }
+  }
+
+  @Test
+  void testOffHeapBlocks() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    byte[] fileBytes = Files.readAllBytes(path);
+    BlockCache cache = new BlockCache(1 << 20, 128, true);
+
+    try (CachingChunkReader reader = new CachingChunkReader(path, cache)) {
+      ByteBuffer buffer = reader.readBytes(10, 20);
+      assertTrue(buffer.isDirect());
+      assertEquals(ByteBuffer.wrap(fileBytes, 10, 20), buffer);
+    }
+  }
+
+  @Test
+  void testRewrittenFileIsNotServedFromCache(@TempDir Path tempDir) throws IOException {
+    Path path = tempDir.resolve("data.bin");
+    Files.write(path, new byte[] {1, 2, 3, 4});
+    BlockCache cache = new BlockCache(1 << 20, 64, false);
+
+    try (CachingChunkReader reader = new CachingChunkReader(path, cache)) {
+      assertEquals(1, reader.readBytes(0, 1).get());
+    }
+
+    BlockCache.FileIdentity before = BlockCache.FileIdentity.of(path);
+    Files.write(path, new byte[] {9, 8, 7, 6, 5});
+    Files.setLastModifiedTime(path, FileTime.fromMillis(before.lastModifiedMillis() + 1000));
+    assertNotEquals(before, BlockCache.FileIdentity.of(path));
+
+    try (CachingChunkReader reader = new CachingChunkReader(path, cache)) {
+      assertEquals(9, reader.readBytes(0, 1).get());
+    }
+
+    cache.invalidate(before);
+    assertEquals(1, cache.stats().blockCount());
+  }
+
+  @Test
+  void testConcurrentReads() throws Exception {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    byte[] fileBytes = Files.readAllBytes(path);
+    BlockCache cache = new BlockCache(512, 64, false);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try (CachingChunkReader reader = new CachingChunkReader(path, cache)) {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        long seed = t;
+        futures.add(executor.submit(() -> {
+          Random random = new Random(seed);
+          for (int i = 0; i < 500; i++) {
+            int position = random.nextInt(fileBytes.length);
+            int length = 1 + random.nextInt(200);
+            int expectedLength = Math.min(length, fileBytes.length - position);
+            assertEquals(ByteBuffer.wrap(fileBytes, position, expectedLength),
+                reader.readBytes(position, length));
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      assertTrue(cache.stats().sizeBytes() <= 512);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static List<RowColumnGroup> readAllRows(Path path, BlockCache cache)
+      throws IOException {
+    List<RowColumnGroup> rows = new ArrayList<>();
+    try (CachingChunkReader chunkReader = new CachingChunkReader(path, cache);
+         ParquetFileReader reader = new ParquetFileReader(chunkReader)) {
+      RowColumnGroupIterator iterator = reader.rowIterator();
+      while (iterator.hasNext()) {
+        rows.add(iterator.next());
+      }
+      assertFalse(iterator.hasNext());
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,147 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.ColumnValues;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for vectored range reads and their coalescing plan.
+ */
+class CoalescedReadsTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testMergesRangesWithinGap() {
+    List<FileRange> ranges = List.of(
+        new FileRange(100, 10),
+        new FileRange(0, 50),
+        new FileRange(60, 20),
+        new FileRange(1000, 5));
+
+    CoalescedReads plan = CoalescedReads.plan(ranges, 20, 1024);
+
+    assertEquals(List.of(new FileRange(0, 110), new FileRange(1000, 5)), plan.reads());
+  }
+
+  @Test
+  void testRespectsMaxMergedSize() {
+    List<FileRange> ranges = List.of(
+        new FileRange(0, 40),
+        new FileRange(40, 40),
+        new FileRange(80, 40));
+
+    CoalescedReads plan = CoalescedReads.plan(ranges, 0, 100);
+
+    assertEquals(List.of(new FileRange(0, 80), new FileRange(80, 40)), plan.reads());
+  }
+
+  @Test
+  void testSplitsOversizedRanges() {
+    List<FileRange> ranges = List.of(
+        new FileRange(0, 10),
+        new FileRange(10, 250),
+        new FileRange(260, 10));
+
+    CoalescedReads plan = CoalescedReads.plan(ranges, 64, 100);
+
+    assertEquals(List.of(
+        new FileRange(0, 10),
+        new FileRange(10, 100),
+        new FileRange(110, 100),
+        new FileRange(210, 50),
+        new FileRange(260, 10)), plan.reads());
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new FileRange(-1, 10));
+    assertThrows(IllegalArgumentException.class, () -> new FileRange(0, -1));
+    assertThrows(IllegalArgumentException.class,
+        () -> CoalescedReads.plan(List.of(), -1, 100));
+    assertThrows(IllegalArgumentException.class,
+        () -> CoalescedReads.plan(List.of(), 0, 0));
+  }
+
+  @Test
+  void testReadRangesMatchesReadBytes() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    byte[] fileBytes = Files.readAllBytes(path);
+
+    List<FileRange> ranges = List.of(
+        new FileRange(500, 30),
+        new FileRange(4, 100),
+        new FileRange(90, 40),
+        new FileRange(700, 0),
+        new FileRange(1000, 300),
+        new FileRange(fileBytes.length - 10, 12));
+
+    try (FileChannelChunkReader reader = new FileChannelChunkReader(path)) {
+      for (int maxMergedSize : new int[] {16, 128, 1 << 20}) {
+        List<ByteBuffer> buffers = reader.readRanges(ranges, 64, maxMergedSize);
+        assertEquals(ranges.size(), buffers.size());
+        for (int i = 0; i < ranges.size(); i++) {
+          FileRange range = ranges.get(i);
+          int expectedLength = (int) Math.min(range.length(), fileBytes.length - range.offset());
+          ByteBuffer buffer = buffers.get(i);
+          assertEquals(0, buffer.position());
+          assertEquals(ByteBuffer.wrap(fileBytes, (int) range.offset(), expectedLength), buffer,
+              "Mismatch for " + range + " with maxMergedSize " + maxMergedSize);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testReadColumnsMatchesReadColumn() throws IOException {
+    String filePath = TEST_DATA_DIR + "alltypes_plain.parquet";
+
+    try (ParquetFileReader reader = new ParquetFileReader(filePath)) {
+      ParquetFileReader.RowGroupReader rowGroup = reader.getRowGroup(0);
+      int[] columns = {0, 4, 5, 6, 7};
+
+      List<ColumnValues> values = rowGroup.readColumns(columns);
+
+      assertEquals(rowGroup.readColumn(0).decodeAsInt32(), values.get(0).decodeAsInt32());
+      assertEquals(rowGroup.readColumn(4).decodeAsInt32(), values.get(1).decodeAsInt32());
+      assertEquals(rowGroup.readColumn(5).decodeAsInt64(), values.get(2).decodeAsInt64());
+      assertEquals(rowGroup.readColumn(6).decodeAsFloat(), values.get(3).decodeAsFloat());
+      assertEquals(rowGroup.readColumn(7).decodeAsDouble(), values.get(4).decodeAsDouble());
+    }
+  }
+
+  @Test
+  void testReadColumnsCoalescesChunkReads() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    try (FileChannelChunkReader fileReader = new FileChannelChunkReader(path)) {
+      CountingChunkReader counting = new CountingChunkReader(fileReader);
+      try (ParquetFileReader reader = new ParquetFileReader(counting)) {
+        ParquetFileReader.RowGroupReader rowGroup = reader.getRowGroup(0);
+        int[] columns = new int[rowGroup.getNumColumns()];
+        for (int i = 0; i < columns.length; i++) {
+          columns[i] = i;
+        }
+
+        counting.reset();
+        for (int column : columns) {
+          rowGroup.readColumn(column);
+        }
+        int perColumnReads = counting.reads();
+
+        counting.reset();
+        rowGroup.readColumns(columns);
+        assertEquals(1, counting.reads());
+        assertEquals(columns.length, perColumnReads);
+      }
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.vector.BinaryVector;
+import io.github.aloksingh.parquet.vector.BooleanVector;
+import io.github.aloksingh.parquet.vector.ColumnarBatch;
+import io.github.aloksingh.parquet.vector.DoubleVector;
+import io.github.aloksingh.parquet.vector.FloatVector;
+import io.github.aloksingh.parquet.vector.IntVector;
+import io.github.aloksingh.parquet.vector.LongVector;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for reading batches of rows into column vectors.
+ */
+class ColumnarBatchIteratorTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testBatchesSpanRowGroups() throws IOException {
+    // 21 row groups, none a multiple of the batch size
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "large_map_gzip.parquet")) {
+      List<Long> expected = new ArrayList<>();
+      for (int rowGroup = 0; rowGroup < reader.getNumRowGroups(); rowGroup++) {
+        expected.addAll(reader.getRowGroup(rowGroup).readColumn(2).decodeAsInt64());
+      }
+
+      List<Long> actual = new ArrayList<>();
+      int batches = 0;
+      try (ColumnarBatchIterator iterator = reader.columnarBatchIterator(777, "timestamp")) {
+        assertEquals(List.of("timestamp"), iterator.getColumnNames());
+        while (iterator.hasNext()) {
+          ColumnarBatch batch = iterator.next();
+          LongVector timestamps = (LongVector) batch.getColumn("timestamp");
+          if (iterator.hasNext()) {
+            assertEquals(777, batch.getNumRows());
+          }
+          for (int i = 0; i < batch.getNumRows(); i++) {
+            actual.add(timestamps.isNull(i) ? null : timestamps.get(i));
+          }
+          batches++;
+        }
+        assertThrows(NoSuchElementException.class, iterator::next);
+      }
+      assertEquals(expected, actual);
+      assertEquals((expected.size() + 776) / 777, batches);
+    }
+  }
+
+  @Test
+  void testBatchesOwnTheirVectors() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "large_map_gzip.parquet")) {
+      List<Long> expected = new ArrayList<>();
+      for (int rowGroup = 0; rowGroup < reader.getNumRowGroups(); rowGroup++) {
+        expected.addAll(reader.getRowGroup(rowGroup).readColumn(2).decodeAsInt64());
+      }
+
+      // Kept batches stay valid after the iterator has moved on to later row groups
+      List<ColumnarBatch> batches = new ArrayList<>();
+      try (ColumnarBatchIterator iterator = reader.columnarBatchIterator(500, "timestamp")) {
+        while (iterator.hasNext()) {
+          batches.add(iterator.next());
+        }
+      }
+      List<Long> actual = new ArrayList<>();
+      for (ColumnarBatch batch : batches) {
+        LongVector timestamps = (LongVector) batch.getColumn(0);
+        assertEquals(batch.getNumRows(), timestamps.size());
+        for (int i = 0; i < batch.getNumRows(); i++) {
+          actual.add(timestamps.isNull(i) ? null : timestamps.get(i));
+        }
+      }
+      assertEquals(expected, actual);
+    }
+  }
+
+  @Test
+  void testProjectedColumns() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "alltypes_tiny_pages.parquet");
+         ColumnarBatchIterator iterator = reader.columnarBatchIterator(4096,
+             "double_col", "id", "bool_col", "float_col")) {
+      List<Integer> ids = reader.getRowGroup(0).readColumn(0).decodeAsInt32();
+      List<Boolean> bools = reader.getRowGroup(0).readColumn(1).decodeAsBoolean();
+      List<Float> floats = reader.getRowGroup(0).readColumn(6).decodeAsFloat();
+      List<Double> doubles = reader.getRowGroup(0).readColumn(7).decodeAsDouble();
+
+      int row = 0;
+      List<Integer> batchSizes = new ArrayList<>();
+      while (iterator.hasNext()) {
+        ColumnarBatch batch = iterator.next();
+        assertEquals(4, batch.getNumColumns());
+        DoubleVector doubleCol = assertInstanceOf(DoubleVector.class, batch.getColumn(0));
+        IntVector idCol = assertInstanceOf(IntVector.class, batch.getColumn(1));
+        BooleanVector boolCol = assertInstanceOf(BooleanVector.class, batch.getColumn(2));
+        FloatVector floatCol = assertInstanceOf(FloatVector.class, batch.getColumn(3));
+        for (int i = 0; i < batch.getNumRows(); i++, row++) {
+          assertEquals(ids.get(row), idCol.get(i));
+          assertEquals(bools.get(row), boolCol.get(i));
+          assertEquals(floats.get(row), floatCol.get(i));
+          assertEquals(doubles.get(row), doubleCol.get(i));
+        }
+        batchSizes.add(batch.getNumRows());
+      }
+      assertEquals(List.of(4096, 7300 - 4096), batchSizes);
+      assertFalse(iterator.hasNext());
+    }
+  }
+
+  @Test
+  void testStringColumnAcrossRowGroups() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "large_map_gzip.parquet")) {
+      List<String> expected = new ArrayList<>();
+      for (int rowGroup = 0; rowGroup < reader.getNumRowGroups(); rowGroup++) {
+        expected.addAll(reader.getRowGroup(rowGroup).readColumn(4).decodeAsString());
+      }
+
+      List<String> actual = new ArrayList<>();
+      try (ColumnarBatchIterator iterator = reader.columnarBatchIterator(1000, "hostname")) {
+        while (iterator.hasNext()) {
+          BinaryVector hosts = assertInstanceOf(BinaryVector.class, iterator.next().getColumn(0));
+          for (int i = 0; i < hosts.size(); i++) {
+            actual.add(hosts.getString(i));
+          }
+        }
+      }
+      assertEquals(expected, actual);
+    }
+  }
+
+  @Test
+  void testNullsAcrossBatches() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "large_map_gzip.parquet")) {
+      long nulls = 0;
+      for (int rowGroup = 0; rowGroup < reader.getNumRowGroups(); rowGroup++) {
+        nulls += reader.getRowGroup(rowGroup).readColumn(2).decodeAsInt64().stream()
+            .filter(v -> v == null).count();
+      }
+
+      long batchNulls = 0;
+      try (ColumnarBatchIterator iterator = reader.columnarBatchIterator(100, "timestamp")) {
+        while (iterator.hasNext()) {
+          batchNulls += iterator.next().getColumn(0).getNullCount();
+        }
+      }
+      assertEquals(nulls, batchNulls);
+    }
+  }
+
+  @Test
+  void testRejectsUnsupportedColumns() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "alltypes_tiny_pages.parquet")) {
+      assertThrows(IllegalArgumentException.class,
+          () -> reader.columnarBatchIterator(1024, "no_such_column"));
+      assertThrows(IllegalArgumentException.class,
+          () -> reader.columnarBatchIterator(1024, "timestamp_col"));
+      assertThrows(IllegalArgumentException.class,
+          () -> reader.columnarBatchIterator(0, "id"));
+      assertTrue(reader.columnarBatchIterator(1024, "id").hasNext());
+    }
+  }
+}
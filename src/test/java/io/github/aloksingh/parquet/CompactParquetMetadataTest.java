@@ -0,0 +1,182 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.CompactParquetMetadata;
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import io.github.aloksingh.parquet.model.Type;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the compact column-major metadata model.
+ */
+class CompactParquetMetadataTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "alltypes_plain.parquet",
+      "alltypes_tiny_pages.parquet",
+      "binary_truncated_min_max.parquet",
+      "large_map_gzip.parquet"
+  })
+  void testRoundTripsColumnChunkMetadata(String fileName) throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + fileName);
+
+    try (FileChannelChunkReader reader = new FileChannelChunkReader(path)) {
+      ParquetMetadata metadata = ParquetMetadataReader.readMetadata(reader);
+      CompactParquetMetadata compact = CompactParquetMetadata.of(metadata);
+      ParquetMetadata view = compact.toParquetMetadata();
+
+      assertEquals(metadata.getNumRowGroups(), compact.getNumRowGroups());
+      assertEquals(metadata.getNumRowGroups(), view.getNumRowGroups());
+      for (int rg = 0; rg < metadata.getNumRowGroups(); rg++) {
+        ParquetMetadata.RowGroupMetadata expected = metadata.rowGroups().get(rg);
+        ParquetMetadata.RowGroupMetadata actual = view.rowGroups().get(rg);
+        assertEquals(expected.numRows(), compact.rowGroupNumRows(rg));
+        assertEquals(expected.totalByteSize(), actual.totalByteSize());
+        assertEquals(expected.getNumColumns(), actual.getNumColumns());
+
+        for (int col = 0; col < expected.getNumColumns(); col++) {
+          ParquetMetadata.ColumnChunkMetadata e = expected.columns().get(col);
+          ParquetMetadata.ColumnChunkMetadata a = actual.columns().get(col);
+          assertEquals(e.type(), a.type());
+          assertArrayEquals(e.path(), a.path());
+          assertEquals(e.codec(), a.codec());
+          assertEquals(e.getFirstDataPageOffset(), a.getFirstDataPageOffset());
+          assertEquals(e.totalCompressedSize(), a.totalCompressedSize());
+          assertEquals(e.totalUncompressedSize(), a.totalUncompressedSize());
+          assertEquals(e.numValues(), a.numValues());
+          if (e.statistics() == null) {
+            assertNull(a.statistics());
+          } else {
+            assertEquals(e.statistics().nullCount(), a.statistics().nullCount());
+            assertEquals(e.statistics().distinctCount(), a.statistics().distinctCount());
+            if (compact.column(col).hasMinMax(rg)) {
+              assertArrayEquals(e.statistics().min(), a.statistics().min());
+              assertArrayEquals(e.statistics().max(), a.statistics().max());
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void testDecodesTypedStatistics() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_tiny_pages.parquet");
+
+    try (FileChannelChunkReader reader = new FileChannelChunkReader(path)) {
+      ParquetMetadata metadata = ParquetMetadataReader.readMetadata(reader);
+      CompactParquetMetadata compact = CompactParquetMetadata.of(metadata);
+
+      int checked = 0;
+      for (int col = 0; col < compact.getNumColumns(); col++) {
+        CompactParquetMetadata.ColumnChunks chunks = compact.column(col);
+        for (int rg = 0; rg < compact.getNumRowGroups(); rg++) {
+          ParquetMetadata.ColumnStatistics stats =
+              metadata.rowGroups().get(rg).columns().get(col).statistics();
+          if (!chunks.hasMinMax(rg)) {
+            continue;
+          }
+          ByteBuffer min = ByteBuffer.wrap(stats.min()).order(ByteOrder.LITTLE_ENDIAN);
+          ByteBuffer max = ByteBuffer.wrap(stats.max()).order(ByteOrder.LITTLE_ENDIAN);
+          switch (chunks.type()) {
+            case INT32 -> {
+              assertEquals(min.getInt(), chunks.minLong(rg));
+              assertEquals(max.getInt(), chunks.maxLong(rg));
+              checked++;
+            }
+            case INT64 -> {
+              assertEquals(min.getLong(), chunks.minLong(rg));
+              assertEquals(max.getLong(), chunks.maxLong(rg));
+              checked++;
+            }
+            case FLOAT -> {
+              assertEquals(min.getFloat(), chunks.minDouble(rg));
+              assertEquals(max.getFloat(), chunks.maxDouble(rg));
+              checked++;
+            }
+            case DOUBLE -> {
+              assertEquals(min.getDouble(), chunks.minDouble(rg));
+              assertEquals(max.getDouble(), chunks.maxDouble(rg));
+              checked++;
+            }
+            default -> {
+            }
+          }
+        }
+      }
+      assertTrue(checked > 0);
+
+      CompactParquetMetadata.ColumnChunks ids = compact.column(0);
+      assertEquals(Type.INT32, ids.type());
+      assertThrows(IllegalStateException.class, () -> ids.minDouble(0));
+      assertThrows(IllegalStateException.class, () -> ids.minBytes(0));
+    }
+  }
+
+  @Test
+  void testNaNStatisticsAreTreatedAsAbsent() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "nan_in_stats.parquet");
+
+    try (FileChannelChunkReader reader = new FileChannelChunkReader(path)) {
+      ParquetMetadata metadata = ParquetMetadataReader.readMetadata(reader);
+      CompactParquetMetadata compact = CompactParquetMetadata.of(metadata);
+      CompactParquetMetadata.ColumnChunks x = compact.column(0);
+      assertEquals(Type.DOUBLE, x.type());
+      for (int rg = 0; rg < compact.getNumRowGroups(); rg++) {
+        ParquetMetadata.ColumnStatistics stats =
+            metadata.rowGroups().get(rg).columns().get(0).statistics();
+        boolean hasNaN = stats != null && stats.hasMin() && stats.hasMax()
+            && (Double.isNaN(ByteBuffer.wrap(stats.min()).order(ByteOrder.LITTLE_ENDIAN)
+                .getDouble())
+            || Double.isNaN(ByteBuffer.wrap(stats.max()).order(ByteOrder.LITTLE_ENDIAN)
+                .getDouble()));
+        if (hasNaN) {
+          assertFalse(x.hasMinMax(rg));
+        }
+      }
+    }
+  }
+
+  @Test
+  void testSharesPathsAcrossRowGroups() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "large_map_gzip.parquet");
+
+    try (FileChannelChunkReader reader = new FileChannelChunkReader(path)) {
+      CompactParquetMetadata compact =
+          CompactParquetMetadata.of(ParquetMetadataReader.readMetadataLazily(reader));
+      assertTrue(compact.getNumRowGroups() > 1);
+      assertSame(compact.columnChunk(0, 0).path(),
+          compact.columnChunk(compact.getNumRowGroups() - 1, 0).path());
+    }
+  }
+
+  @Test
+  void testReadsThroughMetadataView() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_tiny_pages.parquet");
+
+    try (FileChannelChunkReader chunkReader = new FileChannelChunkReader(path);
+         ParquetFileReader eager = new ParquetFileReader(path);
+         ParquetFileReader compact = new ParquetFileReader(chunkReader,
+             CompactParquetMetadata.of(ParquetMetadataReader.readMetadata(chunkReader))
+                 .toParquetMetadata())) {
+      assertEquals(eager.getRowGroup(0).readColumn(0).decodeAsInt32(),
+          compact.getRowGroup(0).readColumn(0).decodeAsInt32());
+    }
+  }
+}
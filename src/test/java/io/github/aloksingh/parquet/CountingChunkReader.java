@@ -0,0 +1,118 @@
+package io.github.aloksingh.parquet;
+
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ChunkReader decorator that counts the reads reaching the wrapped reader, for tests that
+ * check how much I/O an operation issues.
+ *
+ * <p>Reads, requested bytes and buffers handed out but not yet released are counted; the
+ * counters are safe to update from several threads.
+ */
+final class CountingChunkReader implements ChunkReader {
+  private final ChunkReader delegate;
+  private final int maxMergeGap;
+  private final AtomicInteger reads = new AtomicInteger();
+  private final AtomicLong bytes = new AtomicLong();
+  private final AtomicInteger outstanding = new AtomicInteger();
+  private final AtomicInteger maxOutstanding = new AtomicInteger();
+
+  /**
+   * Wraps a reader.
+   *
+   * @param delegate the reader to count the reads of
+   */
+  CountingChunkReader(ChunkReader delegate) {
+    this(delegate, DEFAULT_MAX_MERGE_GAP);
+  }
+
+  /**
+   * Wraps a reader, with another merge gap for {@link #readRanges(List)}.
+   *
+   * @param delegate the reader to count the reads of
+   * @param maxMergeGap the merge gap for {@link #readRanges(List)}; 0 counts only the bytes
+   *                    of the requested ranges
+   */
+  CountingChunkReader(ChunkReader delegate, int maxMergeGap) {
+    this.delegate = delegate;
+    this.maxMergeGap = maxMergeGap;
+  }
+
+  /**
+   * Returns the number of reads issued since creation or the last {@link #reset()}.
+   *
+   * @return the number of reads
+   */
+  int reads() {
+    return reads.get();
+  }
+
+  /**
+   * Returns the number of bytes requested since creation or the last {@link #reset()}.
+   *
+   * @return the number of bytes
+   */
+  long bytes() {
+    return bytes.get();
+  }
+
+  /**
+   * Returns the number of buffers read but not released.
+   *
+   * @return the number of outstanding buffers
+   */
+  int outstanding() {
+    return outstanding.get();
+  }
+
+  /**
+   * Returns the largest number of buffers that were read but not released at the same time.
+   *
+   * @return the peak number of outstanding buffers
+   */
+  int maxOutstanding() {
+    return maxOutstanding.get();
+  }
+
+  /**
+   * Resets the read and byte counters.
+   */
+  void reset() {
+    reads.set(0);
+    bytes.set(0);
+  }
+
+  @Override
+  public long length() throws IOException {
+    return delegate.length();
+  }
+
+  @Override
+  public ByteBuffer readBytes(long position, int length) throws IOException {
+    reads.incrementAndGet();
+    bytes.addAndGet(length);
+    maxOutstanding.accumulateAndGet(outstanding.incrementAndGet(), Math::max);
+    return delegate.readBytes(position, length);
+  }
+
+  @Override
+  public List<ByteBuffer> readRanges(List<FileRange> ranges) throws IOException {
+    return readRanges(ranges, maxMergeGap, DEFAULT_MAX_MERGED_SIZE);
+  }
+
+  @Override
+  public void release(ByteBuffer buffer) {
+    outstanding.decrementAndGet();
+    delegate.release(buffer);
+  }
+
+  @Override
+  public void onMetadata(ParquetMetadata metadata) {
+    delegate.onMetadata(metadata);
+  }
+}
@@ -3,16 +3,19 @@ package io.github.aloksingh.parquet;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.github.aloksingh.parquet.model.ColumnDescriptor;
 import io.github.aloksingh.parquet.model.ColumnValues;
 import io.github.aloksingh.parquet.model.Encoding;
 import io.github.aloksingh.parquet.model.Page;
+import io.github.aloksingh.parquet.model.ParquetException;
 import io.github.aloksingh.parquet.model.ParquetMetadata;
 import io.github.aloksingh.parquet.model.SchemaDescriptor;
 import io.github.aloksingh.parquet.model.Type;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -246,6 +249,21 @@ public class DeltaBinaryPackedTest {
     }
   }
 
+  @Test
+  void testTruncatedMiniBlockIsRejected() {
+    // Block size 128, 4 mini-blocks, 5 values, first value 0, then one block with
+    // min delta 0 and an 8-bit first mini-block that should hold 32 bytes but holds 3
+    byte[] encoded = {
+        (byte) 0x80, 0x01, 0x04, 0x05, 0x00,
+        0x00, 0x08, 0x00, 0x00, 0x00,
+        0x01, 0x02, 0x03
+    };
+    DeltaBinaryPackedDecoder decoder =
+        new DeltaBinaryPackedDecoder(ByteBuffer.wrap(encoded), false);
+
+    assertThrows(ParquetException.class, () -> decoder.decodeInt32(5));
+  }
+
   private void assertColumnExists(SchemaDescriptor schema, String columnName, Type expectedType) {
     int idx = findColumnIndex(schema, columnName);
     assertNotEquals(-1, idx, "Column '" + columnName + "' should exist");
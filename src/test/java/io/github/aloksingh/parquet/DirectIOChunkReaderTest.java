@@ -0,0 +1,96 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.github.aloksingh.parquet.model.RowColumnGroup;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the direct I/O ChunkReader. Skipped where the file system does not support
+ * direct I/O.
+ */
+class DirectIOChunkReaderTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testUnalignedReads() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_tiny_pages.parquet");
+    assumeTrue(DirectIOChunkReader.isSupported(path), "Direct I/O not supported");
+    byte[] fileBytes = Files.readAllBytes(path);
+
+    // Bounce buffers of a single block force multi-step reads
+    try (DirectIOChunkReader reader = new DirectIOChunkReader(path, 1, 2)) {
+      assertEquals(fileBytes.length, reader.length());
+      int blockSize = reader.blockSize();
+
+      Random random = new Random(42);
+      for (int i = 0; i < 500; i++) {
+        int position = random.nextInt(fileBytes.length);
+        int length = 1 + random.nextInt(3 * blockSize);
+        int expectedLength = Math.min(length, fileBytes.length - position);
+        ByteBuffer buffer = reader.readBytes(position, length);
+        assertEquals(0, buffer.position());
+        assertEquals(ByteBuffer.wrap(fileBytes, position, expectedLength), buffer,
+            "Mismatch at position " + position + " length " + length);
+      }
+
+      // Block boundaries and the partial last block
+      assertEquals(ByteBuffer.wrap(fileBytes, blockSize - 1, 2),
+          reader.readBytes(blockSize - 1, 2));
+      assertEquals(ByteBuffer.wrap(fileBytes, fileBytes.length - 3, 3),
+          reader.readBytes(fileBytes.length - 3, 100));
+    }
+  }
+
+  @Test
+  void testInvalidPositions() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    assumeTrue(DirectIOChunkReader.isSupported(path), "Direct I/O not supported");
+
+    try (DirectIOChunkReader reader = new DirectIOChunkReader(path)) {
+      assertThrows(IOException.class, () -> reader.readBytes(-1, 4));
+      assertThrows(IOException.class, () -> reader.readBytes(reader.length(), 4));
+    }
+    assertThrows(IllegalArgumentException.class, () -> new DirectIOChunkReader(path, 0, 1));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "alltypes_plain.parquet",
+      "alltypes_tiny_pages.parquet",
+      "large_map_gzip.parquet"
+  })
+  void testRowsMatchDefaultReader(String fileName) throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + fileName);
+    assumeTrue(DirectIOChunkReader.isSupported(path), "Direct I/O not supported");
+
+    try (ParquetFileReader expectedReader = new ParquetFileReader(path);
+         DirectIOChunkReader chunkReader = new DirectIOChunkReader(path);
+         ParquetFileReader actualReader = new ParquetFileReader(chunkReader)) {
+      RowColumnGroupIterator expectedRows = expectedReader.rowIterator();
+      RowColumnGroupIterator actualRows = actualReader.rowIterator();
+
+      while (expectedRows.hasNext()) {
+        assertTrue(actualRows.hasNext());
+        RowColumnGroup expected = expectedRows.next();
+        RowColumnGroup actual = actualRows.next();
+        for (int i = 0; i < expected.getColumnCount(); i++) {
+          assertEquals(expected.getColumnValue(i), actual.getColumnValue(i));
+        }
+      }
+      assertFalse(actualRows.hasNext());
+    }
+  }
+}
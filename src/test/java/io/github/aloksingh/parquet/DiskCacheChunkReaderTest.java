@@ -0,0 +1,194 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the persistent disk cache tier.
+ */
+class DiskCacheChunkReaderTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @TempDir
+  Path cacheDir;
+
+  @Test
+  void testReadsMatchAndRepeatReadsHitDisk() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    byte[] fileBytes = Files.readAllBytes(path);
+
+    try (FileChannelChunkReader fileReader = new FileChannelChunkReader(path);
+         DiskBlockCache cache = new DiskBlockCache(cacheDir, 1 << 20, 256)) {
+      CountingChunkReader counting = new CountingChunkReader(fileReader);
+      DiskCacheChunkReader reader = new DiskCacheChunkReader(counting, cache, "file", "v1");
+
+      for (int pass = 0; pass < 2; pass++) {
+        for (int position = 0; position < fileBytes.length; position += 61) {
+          int expectedLength = Math.min(300, fileBytes.length - position);
+          assertEquals(ByteBuffer.wrap(fileBytes, position, expectedLength),
+              reader.readBytes(position, 300), "Mismatch at position " + position);
+        }
+        if (pass == 0) {
+          counting.reset();
+        }
+      }
+
+      assertEquals(0, counting.reads());
+      DiskBlockCache.Stats stats = cache.stats();
+      assertEquals(1, stats.fileCount());
+      assertEquals(fileBytes.length, stats.sizeBytes());
+      assertTrue(stats.hits() > 0);
+    }
+  }
+
+  @Test
+  void testMissingBlocksAreFetchedTogether() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    byte[] fileBytes = Files.readAllBytes(path);
+
+    try (FileChannelChunkReader fileReader = new FileChannelChunkReader(path);
+         DiskBlockCache cache = new DiskBlockCache(cacheDir, 1 << 20, 128)) {
+      CountingChunkReader counting = new CountingChunkReader(fileReader);
+      DiskCacheChunkReader reader = new DiskCacheChunkReader(counting, cache, "file", "v1");
+
+      // A read spanning several missing blocks reads them from the source at once
+      assertEquals(ByteBuffer.wrap(fileBytes, 100, 1000), reader.readBytes(100, 1000));
+      assertEquals(1, counting.reads());
+
+      // The blocks missing for a batch of ranges are read together, around cached ones
+      counting.reset();
+      List<FileRange> ranges = List.of(new FileRange(50, 100), new FileRange(1500, 300),
+          new FileRange(fileBytes.length - 10, 10), new FileRange(0, 0));
+      List<ByteBuffer> buffers = reader.readRanges(ranges);
+      assertEquals(1, counting.reads());
+      for (int i = 0; i < ranges.size(); i++) {
+        FileRange range = ranges.get(i);
+        assertEquals(ByteBuffer.wrap(fileBytes, (int) range.offset(), range.length()),
+            buffers.get(i));
+      }
+
+      // Asynchronous reads go through the cache as well
+      counting.reset();
+      assertEquals(ByteBuffer.wrap(fileBytes, 0, fileBytes.length),
+          reader.readBytesAsync(0, fileBytes.length).join());
+      assertEquals(fileBytes.length, cache.stats().sizeBytes());
+      assertEquals(ByteBuffer.wrap(fileBytes, 1200, 600),
+          reader.readBytesAsync(1200, 600).join());
+      assertTrue(counting.reads() > 0);
+      int reads = counting.reads();
+      reader.readRanges(ranges);
+      reader.readBytes(0, fileBytes.length);
+      assertEquals(reads, counting.reads());
+    }
+  }
+
+  @Test
+  void testBlocksPersistAcrossRestarts() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    List<Integer> expected;
+    try (ParquetFileReader reader = new ParquetFileReader(path)) {
+      expected = reader.getRowGroup(0).readColumn(0).decodeAsInt32();
+    }
+
+    try (FileChannelChunkReader fileReader = new FileChannelChunkReader(path)) {
+      try (DiskBlockCache cache = new DiskBlockCache(cacheDir, 1 << 20, 512);
+           ParquetFileReader reader = new ParquetFileReader(
+               new DiskCacheChunkReader(fileReader, cache, "file", "v1"))) {
+        assertEquals(expected, reader.getRowGroup(0).readColumn(0).decodeAsInt32());
+      }
+
+      CountingChunkReader counting = new CountingChunkReader(fileReader);
+      try (DiskBlockCache cache = new DiskBlockCache(cacheDir, 1 << 20, 512);
+           ParquetFileReader reader = new ParquetFileReader(
+               new DiskCacheChunkReader(counting, cache, "file", "v1"))) {
+        assertEquals(expected, reader.getRowGroup(0).readColumn(0).decodeAsInt32());
+        assertEquals(0, counting.reads());
+        assertEquals(0, cache.stats().misses());
+      }
+
+      // A new version of the file discards the old blocks
+      counting.reset();
+      try (DiskBlockCache cache = new DiskBlockCache(cacheDir, 1 << 20, 512);
+           ParquetFileReader reader = new ParquetFileReader(
+               new DiskCacheChunkReader(counting, cache, "file", "v2"))) {
+        assertEquals(expected, reader.getRowGroup(0).readColumn(0).decodeAsInt32());
+        assertTrue(counting.reads() > 0);
+      }
+
+      // A cache with a different block size starts empty
+      try (DiskBlockCache cache = new DiskBlockCache(cacheDir, 1 << 20, 1024)) {
+        assertEquals(0, cache.stats().fileCount());
+      }
+    }
+  }
+
+  @Test
+  void testDamagedBlocksFallBackToSource() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    byte[] fileBytes = Files.readAllBytes(path);
+
+    try (FileChannelChunkReader fileReader = new FileChannelChunkReader(path)) {
+      try (DiskBlockCache cache = new DiskBlockCache(cacheDir, 1 << 20, 256)) {
+        new DiskCacheChunkReader(fileReader, cache, "file", "v1")
+            .readBytes(0, fileBytes.length);
+      }
+
+      // Overwrite the cached bytes, as if the index reached disk before the data did
+      try (DirectoryStream<Path> blocks = Files.newDirectoryStream(cacheDir, "*.blocks")) {
+        for (Path blocksPath : blocks) {
+          Files.write(blocksPath, new byte[(int) Files.size(blocksPath)]);
+        }
+      }
+
+      CountingChunkReader counting = new CountingChunkReader(fileReader);
+      try (DiskBlockCache cache = new DiskBlockCache(cacheDir, 1 << 20, 256)) {
+        DiskCacheChunkReader reader = new DiskCacheChunkReader(counting, cache, "file", "v1");
+        assertEquals(ByteBuffer.wrap(fileBytes), reader.readBytes(0, fileBytes.length));
+        assertTrue(counting.reads() > 0);
+        assertEquals(0, cache.stats().hits());
+
+        // The blocks read again from the source replace the damaged ones
+        counting.reset();
+        assertEquals(ByteBuffer.wrap(fileBytes), reader.readBytes(0, fileBytes.length));
+        assertEquals(0, counting.reads());
+        assertEquals(fileBytes.length, cache.stats().sizeBytes());
+      }
+    }
+  }
+
+  @Test
+  void testEvictsLeastRecentlyUsedFiles() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    try (FileChannelChunkReader fileReader = new FileChannelChunkReader(path);
+         DiskBlockCache cache = new DiskBlockCache(cacheDir, 2 * fileReader.length(), 128)) {
+      for (String fileId : new String[] {"a", "b", "a", "c"}) {
+        DiskCacheChunkReader reader = new DiskCacheChunkReader(fileReader, cache, fileId, "v1");
+        reader.readBytes(0, (int) reader.length());
+      }
+
+      DiskBlockCache.Stats stats = cache.stats();
+      assertEquals(2, stats.fileCount());
+      assertEquals(1, stats.evictions());
+      assertTrue(stats.sizeBytes() <= cache.capacityBytes());
+
+      // "b" was least recently used and has been evicted
+      CountingChunkReader counting = new CountingChunkReader(fileReader);
+      new DiskCacheChunkReader(counting, cache, "a", "v1").readBytes(0, 100);
+      assertEquals(0, counting.reads());
+      new DiskCacheChunkReader(counting, cache, "b", "v1").readBytes(0, 100);
+      assertEquals(1, counting.reads());
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.ColumnValues;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the positional-read FileChannel ChunkReader.
+ */
+class FileChannelChunkReaderTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testReadBytes() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    byte[] fileBytes = Files.readAllBytes(path);
+
+    try (FileChannelChunkReader reader = new FileChannelChunkReader(path)) {
+      assertEquals(fileBytes.length, reader.length());
+
+      ByteBuffer buffer = reader.readBytes(100, 50);
+      assertEquals(0, buffer.position());
+      assertEquals(50, buffer.remaining());
+      assertEquals(ByteBuffer.wrap(fileBytes, 100, 50), buffer);
+
+      // Reads past the end are clamped to the available bytes
+      ByteBuffer tail = reader.readBytes(fileBytes.length - 4, 100);
+      assertEquals(4, tail.remaining());
+
+      assertThrows(IOException.class, () -> reader.readBytes(-1, 4));
+      assertThrows(IOException.class, () -> reader.readBytes(fileBytes.length, 4));
+    }
+  }
+
+  @Test
+  void testDirectBufferFactory() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    byte[] fileBytes = Files.readAllBytes(path);
+
+    try (FileChannelChunkReader reader =
+             new FileChannelChunkReader(path, ByteBuffer::allocateDirect)) {
+      ByteBuffer buffer = reader.readBytes(0, 64);
+      assertTrue(buffer.isDirect());
+      assertEquals(ByteBuffer.wrap(fileBytes, 0, 64), buffer);
+    }
+  }
+
+  @Test
+  void testReadFullyIntoCallerBuffer() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    byte[] fileBytes = Files.readAllBytes(path);
+
+    try (FileChannelChunkReader reader = new FileChannelChunkReader(path)) {
+      ByteBuffer target = ByteBuffer.allocate(40);
+      target.position(8);
+      reader.readFully(200, target);
+      assertEquals(40, target.position());
+      assertEquals(ByteBuffer.wrap(fileBytes, 200, 32), target.flip().position(8));
+
+      ByteBuffer tooLarge = ByteBuffer.allocate(64);
+      assertThrows(EOFException.class, () -> reader.readFully(fileBytes.length - 8, tooLarge));
+    }
+  }
+
+  @Test
+  void testConcurrentReads() throws Exception {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    byte[] fileBytes = Files.readAllBytes(path);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try (FileChannelChunkReader reader = new FileChannelChunkReader(path)) {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        long seed = t;
+        futures.add(executor.submit(() -> {
+          Random random = new Random(seed);
+          for (int i = 0; i < 500; i++) {
+            int position = random.nextInt(fileBytes.length);
+            int length = 1 + random.nextInt(128);
+            ByteBuffer buffer = reader.readBytes(position, length);
+            int expectedLength = Math.min(length, fileBytes.length - position);
+            assertEquals(ByteBuffer.wrap(fileBytes, position, expectedLength), buffer);
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testConcurrentRowGroupReaders() throws Exception {
+    String filePath = TEST_DATA_DIR + "alltypes_plain.parquet";
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try (ParquetFileReader reader = new ParquetFileReader(filePath)) {
+      List<Integer> expected = reader.getRowGroup(0).readColumn(0).decodeAsInt32();
+
+      List<Future<List<Integer>>> futures = new ArrayList<>();
+      for (int t = 0; t < 16; t++) {
+        futures.add(executor.submit(() -> {
+          ColumnValues values = reader.getRowGroup(0).readColumn(0);
+          return values.decodeAsInt32();
+        }));
+      }
+      for (Future<List<Integer>> future : futures) {
+        assertEquals(expected, future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.aloksingh.parquet.model.RowColumnGroup;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the HTTP range-request ChunkReader against a local HTTP server.
+ */
+class HttpRangeChunkReaderTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+  private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+  private HttpServer server;
+  private final AtomicInteger rangeRequests = new AtomicInteger();
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.setExecutor(Executors.newFixedThreadPool(4));
+    server.createContext("/data/", this::serveRange);
+    server.createContext("/norange/", exchange -> {
+      byte[] body = Files.readAllBytes(dataPath(exchange));
+      exchange.getResponseHeaders().set("Content-Length", String.valueOf(body.length));
+      if ("HEAD".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(200, -1);
+      } else {
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+          out.write(body);
+        }
+      }
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void stopServer() {
+    server.stop(0);
+  }
+
+  private void serveRange(HttpExchange exchange) throws IOException {
+    Path path = dataPath(exchange);
+    if (!Files.exists(path)) {
+      exchange.sendResponseHeaders(404, -1);
+      exchange.close();
+      return;
+    }
+    byte[] file = Files.readAllBytes(path);
+    if ("HEAD".equals(exchange.getRequestMethod())) {
+      exchange.getResponseHeaders().set("Content-Length", String.valueOf(file.length));
+      exchange.sendResponseHeaders(200, -1);
+      exchange.close();
+      return;
+    }
+
+    rangeRequests.incrementAndGet();
+    Matcher matcher = RANGE.matcher(exchange.getRequestHeaders().getFirst("Range"));
+    assertTrue(matcher.matches());
+    int start = Integer.parseInt(matcher.group(1));
+    int end = Math.min(Integer.parseInt(matcher.group(2)), file.length - 1);
+    exchange.getResponseHeaders().set("Content-Range",
+        "bytes " + start + "-" + end + "/" + file.length);
+    exchange.sendResponseHeaders(206, end - start + 1);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(file, start, end - start + 1);
+    }
+    exchange.close();
+  }
+
+  private static Path dataPath(HttpExchange exchange) {
+    String name = exchange.getRequestURI().getPath().replaceFirst("^/[^/]+/", "");
+    return Path.of(TEST_DATA_DIR, name);
+  }
+
+  private URI uri(String context, String fileName) {
+    return URI.create("http://127.0.0.1:" + server.getAddress().getPort()
+        + "/" + context + "/" + fileName);
+  }
+
+  @Test
+  void testReadBytes() throws IOException {
+    byte[] fileBytes = Files.readAllBytes(Path.of(TEST_DATA_DIR + "alltypes_plain.parquet"));
+
+    try (HttpRangeChunkReader reader = new HttpRangeChunkReader(
+        uri("data", "alltypes_plain.parquet"), HttpClient.newHttpClient(), 0)) {
+      assertEquals(fileBytes.length, reader.length());
+      assertEquals(ByteBuffer.wrap(fileBytes, 100, 50), reader.readBytes(100, 50));
+      assertEquals(ByteBuffer.wrap(fileBytes, fileBytes.length - 4, 4),
+          reader.readBytes(fileBytes.length - 4, 100));
+      assertEquals(2, rangeRequests.get());
+
+      assertThrows(IOException.class, () -> reader.readBytes(-1, 4));
+      assertThrows(IOException.class, () -> reader.readBytes(fileBytes.length, 4));
+    }
+  }
+
+  @Test
+  void testFooterIsPrefetched() throws IOException {
+    try (HttpRangeChunkReader chunkReader =
+             new HttpRangeChunkReader(uri("data", "alltypes_plain.parquet"));
+         ParquetFileReader reader = new ParquetFileReader(chunkReader)) {
+      // The footer fits in the speculative tail read, so opening needs a single GET
+      assertEquals(1, rangeRequests.get());
+      assertEquals(8, reader.getTotalRowCount());
+    }
+  }
+
+  @Test
+  void testReadRangesInParallel() throws IOException {
+    byte[] fileBytes = Files.readAllBytes(Path.of(TEST_DATA_DIR + "alltypes_tiny_pages.parquet"));
+    List<FileRange> ranges = List.of(
+        new FileRange(4, 100),
+        new FileRange(20000, 300),
+        new FileRange(120, 30),
+        new FileRange(40000, 5000));
+
+    try (HttpRangeChunkReader reader = new HttpRangeChunkReader(
+        uri("data", "alltypes_tiny_pages.parquet"), HttpClient.newHttpClient(), 0)) {
+      List<ByteBuffer> buffers = reader.readRanges(ranges, 64, 1 << 20);
+      for (int i = 0; i < ranges.size(); i++) {
+        FileRange range = ranges.get(i);
+        assertEquals(ByteBuffer.wrap(fileBytes, (int) range.offset(), range.length()),
+            buffers.get(i));
+      }
+      // The first and third ranges are merged
+      assertEquals(3, rangeRequests.get());
+    }
+  }
+
+  @Test
+  void testRowsMatchLocalReader() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "large_map_gzip.parquet");
+
+    try (ParquetFileReader expectedReader = new ParquetFileReader(path);
+         HttpRangeChunkReader chunkReader =
+             new HttpRangeChunkReader(uri("data", "large_map_gzip.parquet"));
+         ParquetFileReader actualReader = new ParquetFileReader(chunkReader)) {
+      RowColumnGroupIterator expectedRows = expectedReader.rowIterator();
+      RowColumnGroupIterator actualRows = actualReader.rowIterator();
+
+      while (expectedRows.hasNext()) {
+        assertTrue(actualRows.hasNext());
+        RowColumnGroup expected = expectedRows.next();
+        RowColumnGroup actual = actualRows.next();
+        for (int i = 0; i < expected.getColumnCount(); i++) {
+          assertEquals(expected.getColumnValue(i), actual.getColumnValue(i));
+        }
+      }
+      assertFalse(actualRows.hasNext());
+    }
+  }
+
+  @Test
+  void testErrors() {
+    assertThrows(IOException.class,
+        () -> new HttpRangeChunkReader(uri("data", "missing.parquet")));
+    // A server that ignores Range headers would send the whole file
+    assertThrows(IOException.class,
+        () -> new HttpRangeChunkReader(uri("norange", "alltypes_plain.parquet")));
+  }
+}
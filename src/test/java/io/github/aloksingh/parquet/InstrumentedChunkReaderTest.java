@@ -0,0 +1,253 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the I/O instrumentation ChunkReader wrapper.
+ */
+class InstrumentedChunkReaderTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testRecordsBytesAndAccessPattern() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    try (InstrumentedChunkReader reader =
+             new InstrumentedChunkReader(new FileChannelChunkReader(path))) {
+      reader.readBytes(0, 100);
+      reader.readBytes(100, 50);
+      reader.readBytes(400, 10);
+      reader.readBytes(reader.length() - 4, 100);
+
+      IoStatistics.Snapshot stats = reader.fileStatistics();
+      assertEquals(4, stats.readCalls());
+      assertEquals(260, stats.bytesRequested());
+      assertEquals(164, stats.bytesRead());
+      assertEquals(1, stats.sequentialReads());
+      assertEquals(3, stats.randomReads());
+      assertEquals(4, Arrays.stream(stats.latencyHistogram()).sum());
+      assertTrue(stats.latencyPercentileMicros(50) >= 1);
+
+      // No layout registered, so nothing is attributed to column chunks
+      assertTrue(reader.columnChunkStatistics().isEmpty());
+    }
+  }
+
+  @Test
+  void testAttributesReadsToColumnChunks() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    try (InstrumentedChunkReader chunkReader =
+             new InstrumentedChunkReader(new FileChannelChunkReader(path));
+         ParquetFileReader reader = new ParquetFileReader(chunkReader)) {
+      IoStatistics.Snapshot afterFooter = chunkReader.fileStatistics();
+      assertTrue(afterFooter.readCalls() > 0);
+      assertTrue(chunkReader.columnChunkStatistics().isEmpty());
+
+      ParquetFileReader.RowGroupReader rowGroup = reader.getRowGroup(0);
+      rowGroup.readColumn(0);
+      rowGroup.readColumn(2);
+
+      ParquetMetadata.RowGroupMetadata rowGroupMeta = reader.getMetadata().rowGroups().get(0);
+      Map<InstrumentedChunkReader.ColumnChunkId, IoStatistics.Snapshot> columns =
+          chunkReader.columnChunkStatistics();
+      assertEquals(2, columns.size());
+      for (int column : new int[] {0, 2}) {
+        IoStatistics.Snapshot stats =
+            columns.get(new InstrumentedChunkReader.ColumnChunkId(0, column));
+        assertEquals(rowGroupMeta.columns().get(column).totalCompressedSize(),
+            stats.bytesRead());
+      }
+
+      IoStatistics.Snapshot total = chunkReader.fileStatistics();
+      assertEquals(afterFooter.readCalls() + 2, total.readCalls());
+    }
+  }
+
+  @Test
+  void testCoalescedReadIsSplitAcrossColumnChunks() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    try (InstrumentedChunkReader chunkReader =
+             new InstrumentedChunkReader(new FileChannelChunkReader(path));
+         ParquetFileReader reader = new ParquetFileReader(chunkReader)) {
+      ParquetFileReader.RowGroupReader rowGroup = reader.getRowGroup(0);
+      int numColumns = rowGroup.getNumColumns();
+      int[] columns = new int[numColumns];
+      Arrays.setAll(columns, i -> i);
+      rowGroup.readColumns(columns);
+
+      Map<InstrumentedChunkReader.ColumnChunkId, IoStatistics.Snapshot> stats =
+          chunkReader.columnChunkStatistics();
+      assertEquals(numColumns, stats.size());
+      long chunkBytes = 0;
+      for (int column : columns) {
+        IoStatistics.Snapshot snapshot =
+            stats.get(new InstrumentedChunkReader.ColumnChunkId(0, column));
+        assertEquals(rowGroup.getMetadata().columns().get(column).totalCompressedSize(),
+            snapshot.bytesRead());
+        chunkBytes += snapshot.bytesRead();
+      }
+      assertTrue(chunkBytes <= chunkReader.fileStatistics().bytesRead());
+    }
+  }
+
+  @Test
+  void testAttributesReadsThroughWrappingReader() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_tiny_pages.parquet");
+
+    try (InstrumentedChunkReader instrumented =
+             new InstrumentedChunkReader(new FileChannelChunkReader(path));
+         CachingChunkReader chunkReader =
+             new CachingChunkReader(instrumented, new BlockCache(1 << 20, 4096, false), path)) {
+      ParquetMetadata metadata = ParquetMetadataReader.readMetadataLazily(chunkReader);
+      // The wrapper forwards the metadata, so block loads are attributed to column chunks
+      try (ParquetFileReader reader = new ParquetFileReader(chunkReader, metadata)) {
+        reader.getRowGroup(0).readColumn(0);
+      }
+
+      IoStatistics.Snapshot stats = instrumented.columnChunkStatistics()
+          .get(new InstrumentedChunkReader.ColumnChunkId(0, 0));
+      assertTrue(stats.bytesRead() > 0);
+    }
+  }
+
+  @Test
+  void testSequentialReadsAreTrackedPerCaller() throws Exception {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    ExecutorService first = Executors.newSingleThreadExecutor();
+    ExecutorService second = Executors.newSingleThreadExecutor();
+
+    try (InstrumentedChunkReader reader =
+             new InstrumentedChunkReader(new FileChannelChunkReader(path))) {
+      // Two callers each scan a range of their own, with their reads interleaved
+      read(first, reader, 0, 100);
+      read(second, reader, 500, 100);
+      read(first, reader, 100, 100);
+      read(second, reader, 600, 100);
+
+      IoStatistics.Snapshot stats = reader.fileStatistics();
+      assertEquals(4, stats.readCalls());
+      assertEquals(2, stats.sequentialReads());
+      assertEquals(2, stats.randomReads());
+    } finally {
+      first.shutdown();
+      second.shutdown();
+    }
+  }
+
+  @Test
+  void testSequentialReadsAreTrackedPerColumnChunk() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    try (InstrumentedChunkReader reader =
+             new InstrumentedChunkReader(new FileChannelChunkReader(path))) {
+      ParquetMetadata metadata = ParquetMetadataReader.readMetadata(reader);
+      reader.attributeColumnChunks(metadata);
+      List<ParquetMetadata.ColumnChunkMetadata> columns = metadata.rowGroups().get(0).columns();
+
+      // Read the first half of two column chunks, then the second half of each
+      for (int half = 0; half < 2; half++) {
+        for (int column = 0; column < 2; column++) {
+          ParquetMetadata.ColumnChunkMetadata chunk = columns.get(column);
+          int length = (int) chunk.totalCompressedSize();
+          int split = length / 2;
+          long start = chunk.getFirstDataPageOffset();
+          if (half == 0) {
+            reader.readBytes(start, split);
+          } else {
+            reader.readBytes(start + split, length - split);
+          }
+        }
+      }
+
+      for (int column = 0; column < 2; column++) {
+        IoStatistics.Snapshot stats = reader.columnChunkStatistics()
+            .get(new InstrumentedChunkReader.ColumnChunkId(0, column));
+        assertEquals(2, stats.readCalls());
+        assertEquals(2, stats.sequentialReads());
+        assertEquals(columns.get(column).totalCompressedSize(), stats.bytesRead());
+      }
+    }
+  }
+
+  @Test
+  void testReadRangesRecordsEachRange() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    try (InstrumentedChunkReader reader =
+             new InstrumentedChunkReader(new FileChannelChunkReader(path))) {
+      List<FileRange> ranges = List.of(
+          new FileRange(0, 100),
+          new FileRange(100, 50),
+          new FileRange(400, 10));
+      reader.readRanges(ranges, ChunkReader.DEFAULT_MAX_MERGE_GAP,
+          ChunkReader.DEFAULT_MAX_MERGED_SIZE);
+
+      IoStatistics.Snapshot stats = reader.fileStatistics();
+      assertEquals(3, stats.readCalls());
+      assertEquals(160, stats.bytesRequested());
+      assertEquals(160, stats.bytesRead());
+      assertEquals(1, stats.sequentialReads());
+    }
+  }
+
+  @Test
+  void testAttributionLooksUpOnlyTouchedColumnChunks() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    try (InstrumentedChunkReader reader =
+             new InstrumentedChunkReader(new FileChannelChunkReader(path))) {
+      ParquetMetadata metadata = ParquetMetadataReader.readMetadata(reader);
+      AtomicInteger lookups = new AtomicInteger();
+      List<ParquetMetadata.RowGroupMetadata> rowGroups = new ArrayList<>();
+      for (ParquetMetadata.RowGroupMetadata rowGroup : metadata.rowGroups()) {
+        List<ParquetMetadata.ColumnChunkMetadata> columns = rowGroup.columns();
+        rowGroups.add(new ParquetMetadata.RowGroupMetadata(new AbstractList<>() {
+          @Override
+          public ParquetMetadata.ColumnChunkMetadata get(int index) {
+            lookups.incrementAndGet();
+            return columns.get(index);
+          }
+
+          @Override
+          public int size() {
+            return columns.size();
+          }
+        }, rowGroup.totalByteSize(), rowGroup.numRows()));
+      }
+      reader.attributeColumnChunks(new ParquetMetadata(metadata.fileMetadata(), rowGroups));
+      assertEquals(0, lookups.get());
+
+      int numColumns = metadata.rowGroups().get(0).getNumColumns();
+      ParquetMetadata.ColumnChunkMetadata chunk =
+          metadata.rowGroups().get(0).columns().get(numColumns - 1);
+      reader.readBytes(chunk.getFirstDataPageOffset(), (int) chunk.totalCompressedSize());
+
+      assertEquals(1, reader.columnChunkStatistics().size());
+      assertTrue(lookups.get() < numColumns,
+          "looked up " + lookups.get() + " of " + numColumns + " column chunks");
+    }
+  }
+
+  private static void read(ExecutorService executor, ChunkReader reader, long position,
+                           int length) throws InterruptedException, ExecutionException {
+    executor.submit(() -> reader.readBytes(position, length)).get();
+  }
+}
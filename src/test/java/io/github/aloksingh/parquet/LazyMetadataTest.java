@@ -0,0 +1,132 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for lazily decoded footer metadata.
+ */
+class LazyMetadataTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "alltypes_plain.parquet",
+      "alltypes_tiny_pages.parquet",
+      "binary_truncated_min_max.parquet",
+      "column_chunk_key_value_metadata.parquet",
+      "data_index_bloom_encoding_stats.parquet",
+      "large_map_gzip.parquet",
+      "nan_in_stats.parquet"
+  })
+  void testLazyMetadataMatchesEagerMetadata(String fileName) throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + fileName);
+
+    try (FileChannelChunkReader reader = new FileChannelChunkReader(path)) {
+      ParquetMetadata eager = ParquetMetadataReader.readMetadata(reader);
+      ParquetMetadata lazy = ParquetMetadataReader.readMetadataLazily(reader);
+
+      assertEquals(eager.fileMetadata().version(), lazy.fileMetadata().version());
+      assertEquals(eager.fileMetadata().numRows(), lazy.fileMetadata().numRows());
+      assertEquals(eager.fileMetadata().keyValueMetadata(),
+          lazy.fileMetadata().keyValueMetadata());
+      assertEquals(eager.fileMetadata().schema().getNumColumns(),
+          lazy.fileMetadata().schema().getNumColumns());
+      assertEquals(eager.getNumRowGroups(), lazy.getNumRowGroups());
+
+      for (int rg = 0; rg < eager.getNumRowGroups(); rg++) {
+        ParquetMetadata.RowGroupMetadata expected = eager.rowGroups().get(rg);
+        ParquetMetadata.RowGroupMetadata actual = lazy.rowGroups().get(rg);
+        assertEquals(expected.numRows(), actual.numRows());
+        assertEquals(expected.totalByteSize(), actual.totalByteSize());
+        assertEquals(expected.getNumColumns(), actual.getNumColumns());
+
+        // Decode in reverse to check that chunks decode independently
+        for (int col = expected.getNumColumns() - 1; col >= 0; col--) {
+          assertColumnChunkEquals(expected.columns().get(col), actual.columns().get(col));
+        }
+      }
+    }
+  }
+
+  @Test
+  void testColumnChunksAreDecodedOnce() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    try (FileChannelChunkReader reader = new FileChannelChunkReader(path)) {
+      ParquetMetadata lazy = ParquetMetadataReader.readMetadataLazily(reader);
+      List<ParquetMetadata.ColumnChunkMetadata> columns = lazy.rowGroups().get(0).columns();
+      assertSame(columns.get(3), columns.get(3));
+    }
+  }
+
+  @Test
+  void testReadingOneColumnLeavesOtherColumnChunksUndecoded() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_tiny_pages.parquet");
+
+    try (FileChannelChunkReader chunkReader = new FileChannelChunkReader(path)) {
+      ParquetMetadata metadata = ParquetMetadataReader.readMetadataLazily(chunkReader);
+      try (ParquetFileReader reader = new ParquetFileReader(chunkReader, metadata)) {
+        reader.getRowGroup(0).readColumn(2).decodeAsInt32();
+      }
+
+      for (int rowGroup = 0; rowGroup < metadata.getNumRowGroups(); rowGroup++) {
+        ParquetMetadataReader.LazyColumnChunkList columns =
+            (ParquetMetadataReader.LazyColumnChunkList) metadata.rowGroups().get(rowGroup)
+                .columns();
+        assertTrue(columns.size() > 2);
+        for (int column = 0; column < columns.size(); column++) {
+          assertEquals(rowGroup == 0 && column == 2, columns.isDecoded(column),
+              "row group " + rowGroup + ", column " + column);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testReadsProjectionWithLazyMetadata() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_tiny_pages.parquet");
+
+    try (FileChannelChunkReader chunkReader = new FileChannelChunkReader(path);
+         ParquetFileReader eager = new ParquetFileReader(path);
+         ParquetFileReader lazy = new ParquetFileReader(chunkReader,
+             ParquetMetadataReader.readMetadataLazily(chunkReader))) {
+      assertEquals(eager.getNumRowGroups(), lazy.getNumRowGroups());
+      int lastRowGroup = eager.getNumRowGroups() - 1;
+      assertEquals(eager.getRowGroup(lastRowGroup).readColumn(0).decodeAsInt32(),
+          lazy.getRowGroup(lastRowGroup).readColumn(0).decodeAsInt32());
+    }
+  }
+
+  private static void assertColumnChunkEquals(ParquetMetadata.ColumnChunkMetadata expected,
+                                              ParquetMetadata.ColumnChunkMetadata actual) {
+    assertEquals(expected.type(), actual.type());
+    assertArrayEquals(expected.path(), actual.path());
+    assertEquals(expected.codec(), actual.codec());
+    assertEquals(expected.dataPageOffset(), actual.dataPageOffset());
+    assertEquals(expected.dictionaryPageOffset(), actual.dictionaryPageOffset());
+    assertEquals(expected.totalCompressedSize(), actual.totalCompressedSize());
+    assertEquals(expected.totalUncompressedSize(), actual.totalUncompressedSize());
+    assertEquals(expected.numValues(), actual.numValues());
+    if (expected.statistics() == null) {
+      assertNull(actual.statistics());
+    } else {
+      assertArrayEquals(expected.statistics().min(), actual.statistics().min());
+      assertArrayEquals(expected.statistics().max(), actual.statistics().max());
+      assertEquals(expected.statistics().nullCount(), actual.statistics().nullCount());
+      assertEquals(expected.statistics().distinctCount(), actual.statistics().distinctCount());
+    }
+  }
+}
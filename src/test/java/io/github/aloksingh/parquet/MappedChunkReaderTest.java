@@ -0,0 +1,122 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.RowColumnGroup;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the memory-mapped ChunkReader.
+ */
+class MappedChunkReaderTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testReadsMatchFileChunkReader() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    try (FileChunkReader fileReader = new FileChunkReader(path);
+         MappedChunkReader mappedReader = new MappedChunkReader(path)) {
+      assertEquals(fileReader.length(), mappedReader.length());
+
+      for (long position = 0; position < fileReader.length(); position += 97) {
+        ByteBuffer expected = fileReader.readBytes(position, 256);
+        ByteBuffer actual = mappedReader.readBytes(position, 256);
+        assertEquals(expected, actual, "Mismatch at position " + position);
+        assertEquals(0, actual.position());
+      }
+    }
+  }
+
+  @Test
+  void testReadsAcrossSegmentBoundaries() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    // Tiny segments force both in-overlap slices and copies across mappings
+    try (FileChunkReader fileReader = new FileChunkReader(path);
+         MappedChunkReader mappedReader = new MappedChunkReader(
+             path, MappedChunkReader.AccessHint.SEQUENTIAL, 64, 16)) {
+      for (long position = 0; position < fileReader.length(); position += 13) {
+        for (int length : new int[] {1, 16, 17, 200}) {
+          assertEquals(fileReader.readBytes(position, length),
+              mappedReader.readBytes(position, length),
+              "Mismatch at position " + position + " length " + length);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testBuffersAreReadOnly() throws IOException {
+    try (MappedChunkReader reader =
+             new MappedChunkReader(TEST_DATA_DIR + "alltypes_plain.parquet")) {
+      ByteBuffer buffer = reader.readBytes(0, 4);
+      assertTrue(buffer.isReadOnly());
+      assertTrue(buffer.isDirect());
+      assertEquals('P', buffer.get(0));
+    }
+  }
+
+  @Test
+  void testInvalidPositions() throws IOException {
+    try (MappedChunkReader reader =
+             new MappedChunkReader(TEST_DATA_DIR + "alltypes_plain.parquet")) {
+      assertThrows(IOException.class, () -> reader.readBytes(-1, 4));
+      assertThrows(IOException.class, () -> reader.readBytes(reader.length(), 4));
+
+      // Reads past the end are clamped to the available bytes
+      ByteBuffer tail = reader.readBytes(reader.length() - 4, 100);
+      assertEquals(4, tail.remaining());
+    }
+  }
+
+  @Test
+  void testClosedReaderRejectsReads() throws IOException {
+    MappedChunkReader reader = new MappedChunkReader(TEST_DATA_DIR + "alltypes_plain.parquet");
+    reader.close();
+    assertThrows(IOException.class, () -> reader.readBytes(0, 4));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "alltypes_plain.parquet",
+      "alltypes_plain.snappy.parquet",
+      "alltypes_dictionary.parquet",
+      "datapage_v2.snappy.parquet",
+      "concatenated_gzip_members.parquet",
+      "delta_length_byte_array.parquet"
+  })
+  void testRowsMatchDefaultReader(String fileName) throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + fileName);
+
+    try (ParquetFileReader expectedReader = new ParquetFileReader(path);
+         MappedChunkReader chunkReader = new MappedChunkReader(
+             path, MappedChunkReader.AccessHint.WILLNEED);
+         ParquetFileReader actualReader = new ParquetFileReader(chunkReader)) {
+      RowColumnGroupIterator expectedRows = expectedReader.rowIterator();
+      RowColumnGroupIterator actualRows = actualReader.rowIterator();
+
+      int rowCount = 0;
+      while (expectedRows.hasNext()) {
+        assertTrue(actualRows.hasNext());
+        RowColumnGroup expected = expectedRows.next();
+        RowColumnGroup actual = actualRows.next();
+        for (int i = 0; i < expected.getColumnCount(); i++) {
+          assertEquals(expected.getColumnValue(i), actual.getColumnValue(i));
+        }
+        rowCount++;
+      }
+      assertFalse(actualRows.hasNext());
+      assertEquals(expectedReader.getTotalRowCount(), rowCount);
+    }
+  }
+}
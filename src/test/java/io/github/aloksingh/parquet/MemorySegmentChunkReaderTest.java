@@ -0,0 +1,130 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.ColumnValues;
+import io.github.aloksingh.parquet.model.Page;
+import io.github.aloksingh.parquet.model.RowColumnGroup;
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the MemorySegment ChunkReader and arena-owned row group memory.
+ */
+class MemorySegmentChunkReaderTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testReadsMatchFileChunkReader() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    try (FileChunkReader fileReader = new FileChunkReader(path);
+         MemorySegmentChunkReader segmentReader = new MemorySegmentChunkReader(path)) {
+      assertEquals(fileReader.length(), segmentReader.length());
+
+      for (long position = 0; position < fileReader.length(); position += 97) {
+        ByteBuffer actual = segmentReader.readBytes(position, 256);
+        assertEquals(fileReader.readBytes(position, 256), actual,
+            "Mismatch at position " + position);
+        assertTrue(actual.isReadOnly());
+      }
+
+      MemorySegment slice = segmentReader.readSegment(4, 1L << 40);
+      assertEquals(fileReader.length() - 4, slice.byteSize());
+
+      assertThrows(IOException.class, () -> segmentReader.readBytes(-1, 4));
+      assertThrows(IOException.class, () -> segmentReader.readBytes(segmentReader.length(), 4));
+    }
+  }
+
+  @Test
+  void testBuffersAreInvalidAfterClose() throws IOException {
+    MemorySegmentChunkReader reader =
+        new MemorySegmentChunkReader(TEST_DATA_DIR + "alltypes_plain.parquet");
+    ByteBuffer buffer = reader.readBytes(0, 4);
+    assertEquals('P', buffer.get(0));
+
+    reader.close();
+    assertThrows(IllegalStateException.class, () -> buffer.get(0));
+    assertThrows(IOException.class, () -> reader.readBytes(0, 4));
+  }
+
+  @Test
+  void testWrapsExistingSegment() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.snappy.parquet");
+    MemorySegment segment = MemorySegment.ofArray(Files.readAllBytes(path));
+
+    try (ParquetFileReader expected = new ParquetFileReader(path);
+         ParquetFileReader actual =
+             new ParquetFileReader(new MemorySegmentChunkReader(segment))) {
+      assertEquals(expected.getRowGroup(0).readColumn(0).decodeAsInt32(),
+          actual.getRowGroup(0).readColumn(0).decodeAsInt32());
+    }
+  }
+
+  @Test
+  void testOpenRowGroupFreesPageMemoryOnClose() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.snappy.parquet");
+
+    try (MemorySegmentChunkReader chunkReader = new MemorySegmentChunkReader(path);
+         ParquetFileReader reader = new ParquetFileReader(chunkReader)) {
+      List<Integer> expected = reader.getRowGroup(0).readColumn(0).decodeAsInt32();
+
+      ColumnValues column;
+      List<Integer> values;
+      try (ParquetFileReader.RowGroupReader rowGroup = reader.openRowGroup(0)) {
+        column = rowGroup.readColumn(0);
+        Page.DictionaryPage page = (Page.DictionaryPage) column.getPages().get(0);
+        assertTrue(page.data().isDirect());
+        values = column.decodeAsInt32();
+      }
+
+      // Decoded values outlive the row group; its pages do not
+      assertEquals(expected, values);
+      assertThrows(IllegalStateException.class, column::decodeAsInt32);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "alltypes_plain.parquet",
+      "alltypes_dictionary.parquet",
+      "datapage_v2.snappy.parquet",
+      "concatenated_gzip_members.parquet",
+      "delta_length_byte_array.parquet"
+  })
+  void testRowsMatchDefaultReader(String fileName) throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + fileName);
+
+    try (ParquetFileReader expectedReader = new ParquetFileReader(path);
+         MemorySegmentChunkReader chunkReader = new MemorySegmentChunkReader(path);
+         ParquetFileReader actualReader = new ParquetFileReader(chunkReader)) {
+      RowColumnGroupIterator expectedRows = expectedReader.rowIterator();
+      RowColumnGroupIterator actualRows = actualReader.rowIterator();
+
+      int rowCount = 0;
+      while (expectedRows.hasNext()) {
+        assertTrue(actualRows.hasNext());
+        RowColumnGroup expected = expectedRows.next();
+        RowColumnGroup actual = actualRows.next();
+        for (int i = 0; i < expected.getColumnCount(); i++) {
+          assertEquals(expected.getColumnValue(i), actual.getColumnValue(i));
+        }
+        rowCount++;
+      }
+      assertFalse(actualRows.hasNext());
+      assertEquals(expectedReader.getTotalRowCount(), rowCount);
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.RowColumnGroup;
+import io.github.aloksingh.parquet.util.filter.ColumnEqualFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnGreaterThanOrEqualFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnLessThanFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnNameFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnValueStatistics;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for reading page indexes and skipping data pages during filtered scans.
+ */
+class PageIndexTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testReadsOffsetAndColumnIndex() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "alltypes_tiny_pages.parquet")) {
+      ParquetFileReader.RowGroupReader rowGroup = reader.getRowGroup(0);
+      PageIndex index = rowGroup.readPageIndex(0);
+      assertNotNull(index);
+      assertTrue(index.hasColumnIndex());
+      assertTrue(index.getPageCount() > 1);
+
+      assertEquals(0, index.pageFirstRowIndex(0));
+      for (int page = 0; page < index.getPageCount(); page++) {
+        assertTrue(index.pageEndRowIndex(page) > index.pageFirstRowIndex(page));
+        if (page > 0) {
+          assertEquals(index.pageEndRowIndex(page - 1), index.pageFirstRowIndex(page));
+        }
+      }
+      assertEquals(rowGroup.getNumRows(), index.pageEndRowIndex(index.getPageCount() - 1));
+
+      // The id column is a non-null INT32 column, so every page has Integer bounds
+      ColumnValueStatistics stats = index.pageStatistics(0);
+      assertTrue(stats.min() instanceof Integer);
+      assertTrue(stats.max() instanceof Integer);
+      assertFalse(stats.mayContainNulls());
+      assertFalse(stats.allNull());
+    }
+  }
+
+  @Test
+  void testReadsOnlySelectedPages() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "alltypes_tiny_pages.parquet")) {
+      ParquetFileReader.RowGroupReader rowGroup = reader.getRowGroup(0);
+      for (int column : new int[] {0, 5, 9}) {
+        PageIndex index = rowGroup.readPageIndex(column);
+        List<?> all = decode(rowGroup.readColumn(column));
+
+        RowRanges rows = RowRanges.of(1000, 1010).union(RowRanges.of(5000, 5001));
+        RowRanges pageRows = index.pageRows(rows);
+        List<?> values = decode(rowGroup.readColumn(column, index, rows));
+        assertEquals(pageRows.rowCount(), values.size());
+        assertTrue(values.size() < all.size());
+
+        List<Object> expected = new ArrayList<>(all.subList(1000, 1010));
+        expected.add(all.get(5000));
+        assertEquals(expected, pageRows.select(values, rows));
+      }
+    }
+  }
+
+  @Test
+  void testSkippedPagesGiveSameResults() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_tiny_pages.parquet");
+    // Every page of bigint_col holds the value 20, so that filter cannot skip pages
+    List<ColumnFilter[]> skipping = List.of(
+        new ColumnFilter[] {new ColumnNameFilter("id", new ColumnEqualFilter(4000))},
+        new ColumnFilter[] {new ColumnNameFilter("id", new ColumnGreaterThanOrEqualFilter(7000)),
+            new ColumnNameFilter("int_col", new ColumnLessThanFilter(3))},
+        new ColumnFilter[] {new ColumnNameFilter("id", new ColumnLessThanFilter(-1))});
+    List<ColumnFilter[]> filterSets = new ArrayList<>(skipping);
+    filterSets.add(
+        new ColumnFilter[] {new ColumnNameFilter("bigint_col", new ColumnEqualFilter(20L))});
+
+    for (ColumnFilter[] filters : filterSets) {
+      List<String> expected = new ArrayList<>();
+      long fullScanBytes;
+      try (FileChannelChunkReader fileReader = new FileChannelChunkReader(path)) {
+        CountingChunkReader counting = new CountingChunkReader(fileReader, 0);
+        ParquetFileReader reader = new ParquetFileReader(counting,
+            ParquetMetadataReader.readMetadata(fileReader));
+        try (FilteringParquetRowIterator iterator =
+                 new FilteringParquetRowIterator(new ParquetRowIterator(reader), filters)) {
+          iterator.forEachRemaining(row -> expected.add(row.toString()));
+        }
+        fullScanBytes = counting.bytes();
+      }
+
+      List<String> actual = new ArrayList<>();
+      long skippingBytes;
+      try (FileChannelChunkReader fileReader = new FileChannelChunkReader(path)) {
+        CountingChunkReader counting = new CountingChunkReader(fileReader, 0);
+        ParquetFileReader reader = new ParquetFileReader(counting,
+            ParquetMetadataReader.readMetadata(fileReader));
+        try (FilteringParquetRowIterator iterator =
+                 new FilteringParquetRowIterator(reader, filters)) {
+          iterator.forEachRemaining(row -> actual.add(row.toString()));
+        }
+        skippingBytes = counting.bytes();
+      }
+
+      assertEquals(expected, actual);
+      if (skipping.contains(filters)) {
+        // Dictionary pages and page indexes are always read; in this file they are about
+        // half the size of the data pages
+        assertTrue(skippingBytes < fullScanBytes * 2 / 3,
+            "Read " + skippingBytes + " of " + fullScanBytes + " bytes");
+      }
+    }
+  }
+
+  @Test
+  void testStringPageStatistics() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "data_index_bloom_encoding_stats.parquet")) {
+      List<String> values = reader.getRowGroup(0).readColumn(0).decodeAsString();
+      ColumnFilter filter = new ColumnNameFilter("String", new ColumnEqualFilter(values.get(3)));
+
+      List<RowColumnGroup> rows = new ArrayList<>();
+      try (FilteringParquetRowIterator iterator = new FilteringParquetRowIterator(
+          new ParquetFileReader(TEST_DATA_DIR + "data_index_bloom_encoding_stats.parquet"),
+          filter)) {
+        iterator.forEachRemaining(rows::add);
+      }
+      assertEquals(values.stream().filter(values.get(3)::equals).count(), rows.size());
+
+      ColumnFilter missing = new ColumnNameFilter("String", new ColumnEqualFilter("~~~"));
+      try (ParquetRowIterator iterator =
+               new ParquetRowIterator(reader, false, new ColumnFilter[] {missing})) {
+        assertFalse(iterator.hasNext());
+      }
+    }
+  }
+
+  @Test
+  void testRowRanges() {
+    RowRanges a = RowRanges.of(0, 10).union(RowRanges.of(20, 30));
+    RowRanges b = RowRanges.of(5, 25);
+    assertEquals(20, a.rowCount());
+    assertEquals(RowRanges.of(0, 30), a.union(b));
+    assertEquals(RowRanges.of(5, 10).union(RowRanges.of(20, 25)), a.intersection(b));
+    assertEquals(RowRanges.of(0, 20), RowRanges.of(0, 10).union(RowRanges.of(10, 20)));
+    assertTrue(a.intersection(RowRanges.of(10, 20)).isEmpty());
+    assertTrue(a.overlaps(29, 40));
+    assertFalse(a.overlaps(10, 20));
+
+    List<Integer> values = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      values.add(i);
+    }
+    // Rows 8, 9, 20 and 21 are values 8, 9, 10 and 11
+    assertEquals(List.of(8, 9, 10, 11), a.select(values, RowRanges.of(8, 10)
+        .union(RowRanges.of(20, 22))));
+    assertThrows(IllegalArgumentException.class, () -> a.select(values, RowRanges.of(9, 21)));
+    assertThrows(IllegalArgumentException.class, () -> a.select(List.of(1), RowRanges.EMPTY));
+  }
+
+  private static List<?> decode(io.github.aloksingh.parquet.model.ColumnValues values) {
+    return switch (values.getType()) {
+      case INT32 -> values.decodeAsInt32();
+      case INT64 -> values.decodeAsInt64();
+      default -> values.decodeAsString();
+    };
+  }
+}
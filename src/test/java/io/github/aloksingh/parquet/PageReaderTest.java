@@ -0,0 +1,139 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.Page;
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for whole-chunk and windowed page reads.
+ */
+class PageReaderTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+  private static final String TINY_PAGES_FILE = TEST_DATA_DIR + "alltypes_tiny_pages.parquet";
+
+  @Test
+  void testWholeChunkIsReadOnce() throws IOException {
+    try (FileChannelChunkReader fileReader =
+             new FileChannelChunkReader(Path.of(TINY_PAGES_FILE));
+         ParquetFileReader reader = new ParquetFileReader(fileReader)) {
+      ParquetMetadata.RowGroupMetadata rowGroup = reader.getMetadata().rowGroups().get(0);
+
+      for (int column = 0; column < rowGroup.getNumColumns(); column++) {
+        CountingChunkReader counting = new CountingChunkReader(fileReader);
+        PageReader pageReader = new PageReader(counting, rowGroup.columns().get(column),
+            reader.getSchema().getColumn(column));
+        List<Page> pages = pageReader.readAllPages();
+
+        assertTrue(pages.size() > 1, "Expected tiny pages in column " + column);
+        assertEquals(1, counting.reads(), "Reads for column " + column);
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 100, 1000, 64 * 1024})
+  void testWindowedReadsMatchWholeChunk(int windowSize) throws IOException {
+    try (FileChannelChunkReader fileReader =
+             new FileChannelChunkReader(Path.of(TINY_PAGES_FILE));
+         ParquetFileReader reader = new ParquetFileReader(fileReader)) {
+      ParquetMetadata.RowGroupMetadata rowGroup = reader.getMetadata().rowGroups().get(0);
+
+      for (int column = 0; column < rowGroup.getNumColumns(); column++) {
+        ParquetMetadata.ColumnChunkMetadata columnMeta = rowGroup.columns().get(column);
+        List<Page> expected = new PageReader(fileReader, columnMeta,
+            reader.getSchema().getColumn(column)).readAllPages();
+
+        CountingChunkReader counting = new CountingChunkReader(fileReader);
+        List<Page> actual = new PageReader(counting, columnMeta,
+            reader.getSchema().getColumn(column), 0, windowSize).readAllPages();
+
+        assertEquals(expected, actual, "Pages differ for column " + column);
+        // One read per window; a window always covers at least a whole header or page
+        int maxReads = 2 * expected.size();
+        assertTrue(counting.reads() <= maxReads);
+        if (windowSize >= columnMeta.totalCompressedSize()) {
+          assertEquals(1, counting.reads());
+        }
+      }
+    }
+  }
+
+  @Test
+  void testInvalidWindowSize() throws IOException {
+    try (ParquetFileReader reader = new ParquetFileReader(TINY_PAGES_FILE);
+         FileChunkReader chunkReader = new FileChunkReader(TINY_PAGES_FILE)) {
+      ParquetMetadata.ColumnChunkMetadata columnMeta =
+          reader.getMetadata().rowGroups().get(0).columns().get(0);
+      assertThrows(IllegalArgumentException.class, () -> new PageReader(
+          chunkReader, columnMeta, reader.getSchema().getColumn(0), 0, 0));
+    }
+  }
+
+  @Test
+  void testWindowSmallerThanPageHeader() throws IOException {
+    // A window smaller than a page header still yields complete pages
+    try (ParquetFileReader reader = new ParquetFileReader(TINY_PAGES_FILE);
+         FileChunkReader chunkReader = new FileChunkReader(TINY_PAGES_FILE)) {
+      ParquetMetadata.ColumnChunkMetadata columnMeta =
+          reader.getMetadata().rowGroups().get(0).columns().get(9);
+      List<Page> pages = new PageReader(chunkReader, columnMeta,
+          reader.getSchema().getColumn(9), 0, 8).readAllPages();
+      assertEquals(reader.getRowGroup(0).getColumnPageReader(9).readAllPages(), pages);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {100, 1000, 64 * 1024})
+  void testForEachPageKeepsBoundedBuffers(int windowSize) throws IOException {
+    try (FileChannelChunkReader fileReader =
+             new FileChannelChunkReader(Path.of(TINY_PAGES_FILE));
+         ParquetFileReader reader = new ParquetFileReader(fileReader)) {
+      ParquetMetadata.RowGroupMetadata rowGroup = reader.getMetadata().rowGroups().get(0);
+
+      for (int column = 0; column < rowGroup.getNumColumns(); column++) {
+        ParquetMetadata.ColumnChunkMetadata columnMeta = rowGroup.columns().get(column);
+        List<Page> expected = new PageReader(fileReader, columnMeta,
+            reader.getSchema().getColumn(column)).readAllPages();
+
+        CountingChunkReader tracking = new CountingChunkReader(fileReader);
+        PageReader pageReader = new PageReader(tracking, columnMeta,
+            reader.getSchema().getColumn(column), 0, windowSize);
+        List<Page> actual = new ArrayList<>();
+        long count = pageReader.forEachPage(page -> {
+          assertEquals(expected.get(actual.size()), page);
+          actual.add(page);
+        });
+
+        assertEquals(expected.size(), count);
+        // The window holding the dictionary page, plus at most the windows a page header
+        // and its data were read from
+        assertTrue(tracking.maxOutstanding() <= 3,
+            "Outstanding buffers for column " + column + ": " + tracking.maxOutstanding());
+        assertEquals(0, tracking.outstanding());
+      }
+    }
+  }
+
+  @Test
+  void testStreamColumnMatchesReadColumn() throws IOException {
+    try (ParquetFileReader reader = new ParquetFileReader(TINY_PAGES_FILE)) {
+      ParquetFileReader.RowGroupReader rowGroup = reader.getRowGroup(0);
+      List<Integer> expected = rowGroup.readColumn(0).decodeAsInt32();
+
+      List<Integer> actual = new ArrayList<>();
+      rowGroup.streamColumn(0, values -> actual.addAll(values.decodeAsInt32()));
+      assertEquals(expected, actual);
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the shared footer metadata cache and the speculative tail read.
+ */
+class ParquetMetadataCacheTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testTailReadFetchesFooterInOneRead() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+
+    try (FileChannelChunkReader fileReader = new FileChannelChunkReader(path)) {
+      CountingChunkReader counting = new CountingChunkReader(fileReader);
+      ParquetMetadata metadata = ParquetMetadataReader.readMetadata(counting);
+      assertEquals(1, counting.reads());
+      assertEquals(8, metadata.fileMetadata().numRows());
+
+      // A tail too small for the footer falls back to a second read
+      counting.reset();
+      ParquetMetadata fallback = ParquetMetadataReader.readMetadata(counting, 16);
+      assertEquals(2, counting.reads());
+      assertEquals(metadata.fileMetadata().numRows(), fallback.fileMetadata().numRows());
+      assertEquals(metadata.rowGroups().size(), fallback.rowGroups().size());
+    }
+  }
+
+  @Test
+  void testRepeatedOpensShareMetadata() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    ParquetMetadataCache cache = new ParquetMetadataCache(16);
+
+    List<Integer> expected;
+    try (ParquetFileReader reader = new ParquetFileReader(path)) {
+      expected = reader.getRowGroup(0).readColumn(0).decodeAsInt32();
+    }
+
+    ParquetMetadata first;
+    try (ParquetFileReader reader = new ParquetFileReader(path, cache)) {
+      first = reader.getMetadata();
+      assertEquals(expected, reader.getRowGroup(0).readColumn(0).decodeAsInt32());
+    }
+    try (ParquetFileReader reader = new ParquetFileReader(path, cache)) {
+      assertSame(first, reader.getMetadata());
+      assertEquals(expected, reader.getRowGroup(0).readColumn(0).decodeAsInt32());
+    }
+
+    ParquetMetadataCache.Stats stats = cache.stats();
+    assertEquals(1, stats.hits());
+    assertEquals(1, stats.misses());
+    assertEquals(1, stats.size());
+    assertEquals(0.5, stats.hitRate());
+  }
+
+  @Test
+  void testModifiedFileIsReadAgain() throws IOException {
+    Path path = tempDir.resolve("data.parquet");
+    Files.copy(Path.of(TEST_DATA_DIR + "alltypes_plain.parquet"), path);
+    ParquetMetadataCache cache = new ParquetMetadataCache(16);
+
+    ParquetMetadata first;
+    try (ParquetFileReader reader = new ParquetFileReader(path, cache)) {
+      first = reader.getMetadata();
+    }
+
+    Files.copy(Path.of(TEST_DATA_DIR + "alltypes_plain.snappy.parquet"), path,
+        StandardCopyOption.REPLACE_EXISTING);
+    Files.setLastModifiedTime(path, FileTime.fromMillis(
+        Files.getLastModifiedTime(path).toMillis() + 10_000));
+
+    try (ParquetFileReader reader = new ParquetFileReader(path, cache)) {
+      assertNotSame(first, reader.getMetadata());
+      assertEquals(2, reader.getMetadata().fileMetadata().numRows());
+    }
+    assertEquals(2, cache.stats().misses());
+  }
+
+  @Test
+  void testEvictsLeastRecentlyUsedEntries() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "alltypes_plain.parquet");
+    ParquetMetadataCache cache = new ParquetMetadataCache(2);
+
+    try (FileChannelChunkReader fileReader = new FileChannelChunkReader(path)) {
+      for (String key : new String[] {"a", "b", "a", "c"}) {
+        cache.get(key, fileReader);
+      }
+
+      ParquetMetadataCache.Stats stats = cache.stats();
+      assertEquals(2, stats.size());
+      assertEquals(1, stats.evictions());
+
+      // "b" was least recently used and has been evicted
+      CountingChunkReader counting = new CountingChunkReader(fileReader);
+      cache.get("a", counting);
+      assertEquals(0, counting.reads());
+      cache.get("b", counting);
+      assertEquals(1, counting.reads());
+
+      cache.invalidate("b");
+      assertEquals(1, cache.stats().size());
+      cache.clear();
+      assertEquals(0, cache.stats().size());
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.ColumnDescriptor;
+import io.github.aloksingh.parquet.model.CompressionCodec;
+import io.github.aloksingh.parquet.model.LogicalColumnDescriptor;
+import io.github.aloksingh.parquet.model.LogicalType;
+import io.github.aloksingh.parquet.model.RowColumnGroup;
+import io.github.aloksingh.parquet.model.SchemaDescriptor;
+import io.github.aloksingh.parquet.model.SimpleRowColumnGroup;
+import io.github.aloksingh.parquet.model.Type;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the size-classed pooling BufferAllocator.
+ */
+class PooledBufferAllocatorTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testAllocateRoundsUpToSizeClass() {
+    PooledBufferAllocator allocator = new PooledBufferAllocator(false, 1 << 20);
+
+    ByteBuffer small = allocator.allocate(10);
+    assertEquals(0, small.position());
+    assertEquals(10, small.limit());
+    assertEquals(PooledBufferAllocator.MIN_SIZE_CLASS, small.capacity());
+
+    ByteBuffer medium = allocator.allocate(5000);
+    assertEquals(5000, medium.remaining());
+    assertEquals(8192, medium.capacity());
+
+    int huge = PooledBufferAllocator.MAX_SIZE_CLASS + 1;
+    assertEquals(huge, allocator.allocate(huge).capacity());
+    assertEquals(3, allocator.stats().allocated());
+  }
+
+  @Test
+  void testReleasedBufferIsReused() {
+    PooledBufferAllocator allocator = new PooledBufferAllocator(true, 1 << 20);
+
+    ByteBuffer first = allocator.allocate(6000);
+    assertTrue(first.isDirect());
+    first.order(ByteOrder.LITTLE_ENDIAN).position(100);
+    allocator.release(first);
+    assertEquals(8192, allocator.stats().pooledBytes());
+
+    ByteBuffer second = allocator.allocate(4097);
+    assertSame(first, second);
+    assertEquals(0, second.position());
+    assertEquals(4097, second.limit());
+    assertEquals(ByteOrder.BIG_ENDIAN, second.order());
+    assertEquals(new PooledBufferAllocator.Stats(1, 1, 0), allocator.stats());
+  }
+
+  @Test
+  void testForeignBuffersAreIgnored() {
+    PooledBufferAllocator allocator = new PooledBufferAllocator(false, 1 << 20);
+
+    allocator.release(ByteBuffer.allocate(5000));
+    allocator.release(ByteBuffer.allocateDirect(4096));
+    allocator.release(ByteBuffer.allocate(4096).asReadOnlyBuffer());
+    assertEquals(0, allocator.stats().pooledBytes());
+  }
+
+  @Test
+  void testPoolIsBoundedByBudget() {
+    PooledBufferAllocator allocator = new PooledBufferAllocator(false, 8192);
+
+    ByteBuffer a = allocator.allocate(4096);
+    ByteBuffer b = allocator.allocate(4096);
+    ByteBuffer c = allocator.allocate(4096);
+    allocator.release(a);
+    allocator.release(b);
+    allocator.release(c);
+    assertEquals(8192, allocator.stats().pooledBytes());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "alltypes_plain.snappy.parquet",
+      "alltypes_dictionary.parquet",
+      "datapage_v2.snappy.parquet",
+      "concatenated_gzip_members.parquet",
+      "large_map_gzip.parquet"
+  })
+  void testRowsMatchWithPooledBuffers(String fileName) throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + fileName);
+
+    for (boolean direct : new boolean[] {false, true}) {
+      PooledBufferAllocator allocator = new PooledBufferAllocator(direct, 64L << 20);
+      try (ParquetFileReader expectedReader = new ParquetFileReader(path);
+           ParquetFileReader actualReader = new ParquetFileReader(path, allocator)) {
+        RowColumnGroupIterator expectedRows = expectedReader.rowIterator();
+        RowColumnGroupIterator actualRows = actualReader.rowIterator();
+
+        long rowCount = 0;
+        while (expectedRows.hasNext()) {
+          assertTrue(actualRows.hasNext());
+          RowColumnGroup expected = expectedRows.next();
+          RowColumnGroup actual = actualRows.next();
+          for (int i = 0; i < expected.getColumnCount(); i++) {
+            assertEquals(expected.getColumnValue(i), actual.getColumnValue(i));
+          }
+          rowCount++;
+        }
+        assertFalse(actualRows.hasNext());
+        assertEquals(expectedReader.getTotalRowCount(), rowCount);
+      }
+      if (expectedRowGroups(path) > 1) {
+        assertTrue(allocator.stats().reused() > 0, "Expected buffers to be reused");
+      }
+    }
+  }
+
+  @Test
+  void testColumnChunksAreReusedAcrossRowGroups(@TempDir Path tempDir) throws IOException {
+    // Uncompressed, so the only pooled buffers are the fetched column chunks
+    SchemaDescriptor schema = SchemaDescriptor.fromLogicalColumns("test", List.of(
+        new LogicalColumnDescriptor("id", LogicalType.PRIMITIVE, Type.INT64,
+            new ColumnDescriptor(Type.INT64, new String[] {"id"}, 0, 0, 0))));
+    Path path = tempDir.resolve("row_groups.parquet");
+    try (ParquetFileWriter writer = new ParquetFileWriter(path, schema,
+        CompressionCodec.UNCOMPRESSED, 8 * 1024, 16 * 1024)) {
+      for (long id = 0; id < 20_000; id++) {
+        writer.addRow(new SimpleRowColumnGroup(schema, new Object[] {id}));
+      }
+    }
+
+    PooledBufferAllocator allocator = new PooledBufferAllocator(false, 64L << 20);
+    try (ParquetFileReader reader = new ParquetFileReader(path, allocator)) {
+      assertTrue(reader.getNumRowGroups() > 4, reader.getNumRowGroups() + " row groups");
+      RowColumnGroupIterator rows = reader.rowIterator();
+      long expected = 0;
+      while (rows.hasNext()) {
+        assertEquals(expected++, rows.next().getColumnValue(0));
+      }
+      assertEquals(20_000, expected);
+    }
+    assertTrue(allocator.stats().reused() > 0, "Expected column chunks to be reused");
+  }
+
+  private static int expectedRowGroups(Path path) throws IOException {
+    try (ParquetFileReader reader = new ParquetFileReader(path)) {
+      return reader.getNumRowGroups();
+    }
+  }
+}
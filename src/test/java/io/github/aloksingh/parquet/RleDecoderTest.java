@@ -4,8 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import io.github.aloksingh.parquet.model.ParquetException;
 
@@ -360,6 +363,70 @@ public class RleDecoderTest {
     assertArrayEquals(new int[] {0, 1, 2}, result);
   }
 
+  @Test
+  void testReadBatchAllBitWidths() throws IOException {
+    Random random = new Random(42);
+    for (int bitWidth = 0; bitWidth <= 32; bitWidth++) {
+      // Mix repeated and random values so both RLE and bit-packed runs are written
+      int[] values = new int[1000];
+      for (int i = 0; i < values.length; i++) {
+        int value = random.nextInt(4) == 0 && i > 0 ? values[i - 1] : random.nextInt();
+        values[i] = value & (int) ((1L << bitWidth) - 1);
+      }
+      byte[] encoded = new RleEncoder(bitWidth).encode(values);
+      // Skip the 4-byte length prefix
+      ByteBuffer data = ByteBuffer.wrap(encoded, 4, encoded.length - 4).slice();
+
+      assertArrayEquals(values, new RleDecoder(data, bitWidth, values.length).readAll(),
+          "bit width " + bitWidth);
+
+      // Odd batch sizes split runs and groups at every offset
+      RleDecoder decoder = new RleDecoder(data, bitWidth, values.length);
+      int[] batched = new int[values.length + 1];
+      int read = 0;
+      for (int batch = 1; read < values.length; batch = batch % 13 + 1) {
+        read += decoder.readBatch(batched, read + 1, batch);
+        if (batch % 3 == 0 && read < values.length) {
+          batched[++read] = decoder.readNext();
+        }
+      }
+      assertEquals(0, decoder.readBatch(batched, 0, 1));
+      assertEquals(-1, decoder.readNext());
+      assertArrayEquals(values, Arrays.copyOfRange(batched, 1, batched.length),
+          "bit width " + bitWidth);
+    }
+  }
+
+  @Test
+  void testBitWidth32() {
+    // One bit-packed group of 8 full ints, then an RLE run of 3 values of -1
+    ByteBuffer buffer = ByteBuffer.allocate(38).order(ByteOrder.LITTLE_ENDIAN);
+    int[] values = {0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, 123456789, -42, 7};
+    buffer.put((byte) 3);
+    for (int value : values) {
+      buffer.putInt(value);
+    }
+    buffer.put((byte) 6);
+    buffer.putInt(-1);
+    buffer.flip();
+
+    RleDecoder decoder = new RleDecoder(buffer, 32, 11);
+
+    int[] expected = Arrays.copyOf(values, 11);
+    Arrays.fill(expected, 8, 11, -1);
+    assertArrayEquals(expected, decoder.readAll());
+  }
+
+  @Test
+  void testTruncatedBitPackedRun() {
+    // One group of width 16 announced, but only 3 of its 16 bytes present
+    ByteBuffer buffer = ByteBuffer.wrap(new byte[] {3, 1, 0, 2});
+
+    RleDecoder decoder = new RleDecoder(buffer, 16, 8);
+
+    assertArrayEquals(new int[] {1, 2, 0, 0, 0, 0, 0, 0}, decoder.readAll());
+  }
+
   /**
    * Helper method to write unsigned varint
    */
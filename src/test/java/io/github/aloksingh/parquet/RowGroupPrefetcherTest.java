@@ -0,0 +1,110 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.ColumnValues;
+import io.github.aloksingh.parquet.model.RowColumnGroup;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for background row group prefetching.
+ */
+class RowGroupPrefetcherTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+  private static final String MULTI_ROW_GROUP_FILE = TEST_DATA_DIR + "large_map_gzip.parquet";
+
+  @Test
+  void testPrefetchingIteratorMatchesDefault() throws IOException {
+    try (ParquetFileReader expectedReader = new ParquetFileReader(MULTI_ROW_GROUP_FILE);
+         ParquetFileReader actualReader = new ParquetFileReader(MULTI_ROW_GROUP_FILE);
+         ParquetRowIterator actualRows = actualReader.rowIterator(3, 1L << 20)) {
+      assertTrue(actualReader.getNumRowGroups() > 3);
+      RowColumnGroupIterator expectedRows = expectedReader.rowIterator();
+
+      int rowCount = 0;
+      while (expectedRows.hasNext()) {
+        assertTrue(actualRows.hasNext());
+        RowColumnGroup expected = expectedRows.next();
+        RowColumnGroup actual = actualRows.next();
+        for (int i = 0; i < expected.getColumnCount(); i++) {
+          assertEquals(expected.getColumnValue(i), actual.getColumnValue(i));
+        }
+        rowCount++;
+      }
+      assertFalse(actualRows.hasNext());
+      assertEquals(expectedReader.getTotalRowCount(), rowCount);
+    }
+  }
+
+  @Test
+  void testDepthBoundsPrefetching() throws IOException {
+    try (ParquetFileReader reader = new ParquetFileReader(MULTI_ROW_GROUP_FILE);
+         RowGroupPrefetcher prefetcher =
+             new RowGroupPrefetcher(reader, new int[] {0, 1}, 2, Long.MAX_VALUE)) {
+      List<ByteBuffer> chunks = prefetcher.take(0);
+      assertEquals(2, chunks.size());
+      assertEquals(2, prefetcher.prefetchedCount());
+
+      prefetcher.take(1);
+      assertEquals(2, prefetcher.prefetchedCount());
+
+      // The prefetched bytes decode to the same values as a direct read
+      ParquetFileReader.RowGroupReader rowGroup = reader.getRowGroup(2);
+      List<ColumnValues> fromPrefetch =
+          rowGroup.decodeColumns(new int[] {0, 1}, prefetcher.take(2));
+      assertEquals(rowGroup.readColumn(0).decodeAsList(value -> value),
+          fromPrefetch.get(0).decodeAsList(value -> value));
+    }
+  }
+
+  @Test
+  void testMemoryBudgetBoundsPrefetching() throws IOException {
+    try (ParquetFileReader reader = new ParquetFileReader(MULTI_ROW_GROUP_FILE);
+         RowGroupPrefetcher prefetcher =
+             new RowGroupPrefetcher(reader, new int[] {0, 1}, 5, 0)) {
+      // A zero budget still prefetches one row group so iteration keeps moving
+      prefetcher.take(0);
+      assertEquals(1, prefetcher.prefetchedCount());
+      prefetcher.take(1);
+      assertEquals(1, prefetcher.prefetchedCount());
+      // Row groups that were never prefetched are fetched on the calling thread
+      assertEquals(2, prefetcher.take(5).size());
+    }
+  }
+
+  @Test
+  void testCloseCancelsPrefetching() throws IOException {
+    try (ParquetFileReader reader = new ParquetFileReader(MULTI_ROW_GROUP_FILE)) {
+      RowGroupPrefetcher prefetcher =
+          new RowGroupPrefetcher(reader, new int[] {0, 1}, 4, Long.MAX_VALUE);
+      prefetcher.take(0);
+      prefetcher.close();
+      assertEquals(0, prefetcher.prefetchedCount());
+      assertThrows(IllegalStateException.class, () -> prefetcher.take(1));
+
+      // Closing an iterator part way through leaves the file reader usable
+      ParquetRowIterator rows = reader.rowIterator(2, 1L << 20);
+      rows.next();
+      rows.close();
+      assertEquals(reader.getRowGroup(0).getNumRows(),
+          reader.getRowGroup(0).readColumn(0).decodeAsList(value -> value).size());
+    }
+  }
+
+  @Test
+  void testInvalidSettings() throws IOException {
+    try (ParquetFileReader reader = new ParquetFileReader(MULTI_ROW_GROUP_FILE)) {
+      assertThrows(IllegalArgumentException.class,
+          () -> new RowGroupPrefetcher(reader, new int[] {0}, 0, 1));
+      assertThrows(IllegalArgumentException.class,
+          () -> new RowGroupPrefetcher(reader, new int[] {0}, 1, -1));
+    }
+  }
+}
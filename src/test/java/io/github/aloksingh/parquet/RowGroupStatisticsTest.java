@@ -0,0 +1,211 @@
+package io.github.aloksingh.parquet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.ColumnDescriptor;
+import io.github.aloksingh.parquet.model.CompressionCodec;
+import io.github.aloksingh.parquet.model.ParquetMetadata;
+import io.github.aloksingh.parquet.model.SortOrder;
+import io.github.aloksingh.parquet.model.Type;
+import io.github.aloksingh.parquet.util.filter.ColumnEqualFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnFilterSet;
+import io.github.aloksingh.parquet.util.filter.ColumnGreaterThanFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnIsNotNullFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnIsNullFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnLessThanFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnNameFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnPrefixFilter;
+import io.github.aloksingh.parquet.util.filter.ColumnValueStatistics;
+import io.github.aloksingh.parquet.util.filter.FilterJoinType;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for decoding column chunk statistics and skipping row groups that cannot match.
+ */
+class RowGroupStatisticsTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testDecodesTypedStatistics() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "alltypes_tiny_pages.parquet")) {
+      ColumnValueStatistics id = decode(reader, 0, 0);
+      assertEquals(0, id.min());
+      assertEquals(7299, id.max());
+      assertFalse(id.mayContainNulls());
+
+      ColumnValueStatistics bigint = decode(reader, 0, 5);
+      assertEquals(0L, bigint.min());
+      assertEquals(90L, bigint.max());
+
+      // NaN is not reflected in min/max, so the upper bound is NaN; zero widens to -0.0
+      ColumnValueStatistics floats = decode(reader, 0, 6);
+      assertEquals(-0.0f, floats.min());
+      assertTrue(Float.isNaN((Float) floats.max()));
+      assertTrue(floats.mayContain(Float.NaN));
+
+      ColumnValueStatistics strings = decode(reader, 0, 8);
+      assertEquals("01/01/09", strings.min());
+      assertEquals("12/31/10", strings.max());
+      assertTrue(strings.mayContainPrefix("04/"));
+      assertFalse(strings.mayContainPrefix("13/"));
+
+      // INT96 bounds are not decoded
+      ColumnValueStatistics timestamps = decode(reader, 0, 10);
+      assertNull(timestamps.min());
+      assertNull(timestamps.max());
+    }
+  }
+
+  @Test
+  void testNaNStatisticsAreUnknown() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "nan_in_stats.parquet")) {
+      ColumnValueStatistics stats = decode(reader, 0, 0);
+      assertNull(stats.min());
+      assertNull(stats.max());
+
+      ColumnFilter filter = new ColumnNameFilter("x", new ColumnGreaterThanFilter(1e300));
+      List<String> expected = scan(reader, false, filter);
+      assertEquals(expected, scan(reader, true, filter));
+    }
+  }
+
+  @Test
+  void testListStatisticsAreNotUsed() throws IOException {
+    Path path = Path.of(TEST_DATA_DIR + "null_list.parquet");
+    try (FileChannelChunkReader fileReader = new FileChannelChunkReader(path)) {
+      CountingChunkReader counting = new CountingChunkReader(fileReader);
+      ParquetFileReader reader = new ParquetFileReader(counting,
+          ParquetMetadataReader.readMetadata(fileReader));
+      // The one row holds an empty list, which the leaf statistics count as a null
+      assertTrue(decode(reader, 0, 0).allNull());
+
+      for (ColumnFilter filter : new ColumnFilter[] {
+          new ColumnNameFilter("emptylist.list.item", new ColumnIsNotNullFilter()),
+          new ColumnNameFilter("emptylist.list.item", new ColumnIsNullFilter())}) {
+        List<String> expected = scan(reader, false, filter);
+        counting.reset();
+        assertEquals(expected, scan(reader, true, filter));
+        // The row group is not skipped on the statistics of a list
+        assertTrue(counting.bytes() > 0);
+      }
+    }
+  }
+
+  @Test
+  void testBinaryBounds() {
+    ColumnDescriptor utf8 = new ColumnDescriptor(Type.BYTE_ARRAY, new String[] {"s"}, 0, 0, 0,
+        SortOrder.UNSIGNED);
+    assertEquals("abc", ColumnStatisticsDecoder.decodeBound(utf8, bytes("abc"), true));
+    // Non-ASCII bounds do not order like Java Strings
+    assertNull(ColumnStatisticsDecoder.decodeBound(utf8, bytes("été"), true));
+
+    // Truncated bounds still bound the values: "ab" <= "abcz" <= "abd"
+    ColumnValueStatistics truncated = new ColumnValueStatistics("ab", "abd", false, false);
+    assertTrue(truncated.mayContain("abcz"));
+    assertTrue(truncated.mayContainPrefix("abc"));
+    assertFalse(truncated.mayContainPrefix("abe"));
+
+    // Deprecated min/max were compared as signed bytes and are ignored for strings
+    ParquetMetadata.ColumnStatistics legacy = new ParquetMetadata.ColumnStatistics(
+        bytes("a").array(), bytes("z").array(), 0L, null, true);
+    ParquetMetadata.ColumnChunkMetadata chunk = new ParquetMetadata.ColumnChunkMetadata(
+        Type.BYTE_ARRAY, new String[] {"s"}, CompressionCodec.UNCOMPRESSED, 4, -1, 100, 100,
+        10, legacy);
+    ColumnValueStatistics stats = ColumnStatisticsDecoder.decode(utf8, chunk);
+    assertNull(stats.min());
+    assertNull(stats.max());
+  }
+
+  @Test
+  void testSkipsRowGroups() throws IOException {
+    // Timestamps increase across the 21 row groups of this file
+    Path path = Path.of(TEST_DATA_DIR + "large_map_gzip.parquet");
+    long lastMin;
+    int numRowGroups;
+    try (ParquetFileReader reader = new ParquetFileReader(path)) {
+      numRowGroups = reader.getMetadata().rowGroups().size();
+      lastMin = (Long) decode(reader, numRowGroups - 1, 2).min();
+    }
+
+    List<ColumnFilter[]> filterSets = List.of(
+        new ColumnFilter[] {timestamp(new ColumnGreaterThanFilter(lastMin))},
+        new ColumnFilter[] {timestamp(new ColumnLessThanFilter(0L))},
+        new ColumnFilter[] {timestamp(new ColumnFilterSet(FilterJoinType.All,
+            new ColumnGreaterThanFilter(lastMin), new ColumnLessThanFilter(Long.MAX_VALUE)))},
+        new ColumnFilter[] {new ColumnNameFilter("hostname", new ColumnPrefixFilter("NODE"))},
+        new ColumnFilter[] {new ColumnNameFilter("id", new ColumnIsNullFilter())},
+        new ColumnFilter[] {new ColumnNameFilter("application", new ColumnEqualFilter("app3"))});
+
+    for (ColumnFilter[] filters : filterSets) {
+      List<String> expected = new ArrayList<>();
+      long fullScanBytes;
+      try (FileChannelChunkReader fileReader = new FileChannelChunkReader(path)) {
+        CountingChunkReader counting = new CountingChunkReader(fileReader);
+        ParquetFileReader reader = new ParquetFileReader(counting,
+            ParquetMetadataReader.readMetadata(fileReader));
+        try (FilteringParquetRowIterator iterator =
+                 new FilteringParquetRowIterator(new ParquetRowIterator(reader), filters)) {
+          iterator.forEachRemaining(row -> expected.add(row.toString()));
+        }
+        fullScanBytes = counting.bytes();
+      }
+
+      List<String> actual = new ArrayList<>();
+      long skippingBytes;
+      try (FileChannelChunkReader fileReader = new FileChannelChunkReader(path)) {
+        CountingChunkReader counting = new CountingChunkReader(fileReader);
+        ParquetFileReader reader = new ParquetFileReader(counting,
+            ParquetMetadataReader.readMetadata(fileReader));
+        try (FilteringParquetRowIterator iterator =
+                 new FilteringParquetRowIterator(reader, filters)) {
+          iterator.forEachRemaining(row -> actual.add(row.toString()));
+        }
+        skippingBytes = counting.bytes();
+      }
+
+      assertEquals(expected, actual);
+      // At most one of the row groups is read
+      assertTrue(skippingBytes * (numRowGroups - 1) <= fullScanBytes,
+          "Read " + skippingBytes + " of " + fullScanBytes + " bytes");
+    }
+  }
+
+  private static ColumnFilter timestamp(ColumnFilter filter) {
+    return new ColumnNameFilter("timestamp", filter);
+  }
+
+  private static ColumnValueStatistics decode(ParquetFileReader reader, int rowGroup,
+                                              int column) {
+    return ColumnStatisticsDecoder.decode(reader.getSchema().getColumn(column),
+        reader.getMetadata().rowGroups().get(rowGroup).columns().get(column));
+  }
+
+  private static List<String> scan(ParquetFileReader reader, boolean prune,
+                                   ColumnFilter... filters) throws IOException {
+    List<String> rows = new ArrayList<>();
+    ParquetRowIterator source = prune
+        ? new ParquetRowIterator(reader, false, filters)
+        : new ParquetRowIterator(reader, false);
+    try (FilteringParquetRowIterator iterator = new FilteringParquetRowIterator(source, filters)) {
+      iterator.forEachRemaining(row -> rows.add(row.toString()));
+    }
+    return rows;
+  }
+
+  private static ByteBuffer bytes(String s) {
+    return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,110 @@
+package io.github.aloksingh.parquet.vector;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.model.Type;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for binary vectors and decoding BYTE_ARRAY columns into them.
+ */
+class BinaryVectorTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testSliceOperations() {
+    BinaryVector vector = new BinaryVector(1, 0);
+    vector.append(bytes("apple"));
+    vector.appendNull();
+    vector.append(bytes("héllo"));
+    vector.append(new byte[0]);
+
+    assertEquals(4, vector.size());
+    assertEquals("apple", vector.getString(0));
+    assertNull(vector.getString(1));
+    assertNull(vector.get(1));
+    assertEquals(0, vector.getLength(1));
+    assertEquals("héllo", vector.getString(2));
+    assertEquals("", vector.getString(3));
+
+    assertTrue(vector.equals(0, bytes("apple")));
+    assertFalse(vector.equals(0, bytes("apples")));
+    assertFalse(vector.equals(1, new byte[0]));
+    assertTrue(vector.compare(0, bytes("apply")) < 0);
+    assertTrue(vector.compare(2, bytes("h")) > 0);
+    // Bytes compare unsigned, so non-ASCII sorts after ASCII
+    assertTrue(vector.compare(2, bytes("hz")) > 0);
+    assertEquals(Arrays.hashCode(bytes("héllo")), vector.hashCode(2));
+
+    BinaryVector copy = new BinaryVector(0, 0);
+    copy.append(bytes("x"));
+    copy.appendFrom(vector, 1, 3);
+    assertEquals(4, copy.size());
+    assertTrue(copy.isNull(1));
+    assertTrue(copy.equals(2, vector, 2));
+    assertTrue(copy.equals(1, vector, 1));
+    assertFalse(copy.equals(0, vector, 0));
+    assertArrayEquals(bytes("héllo"), copy.get(2));
+  }
+
+  @Test
+  void testAppendDecodedSpreadsValues() {
+    BinaryVector vector = new BinaryVector(1, 0);
+    vector.append(bytes("a"));
+
+    // Decode 3 values densely, then spread them over 5 positions
+    vector.ensureCapacity(5);
+    vector.ensureDataCapacity(6);
+    byte[] values = bytes("bbcccd");
+    System.arraycopy(values, 0, vector.getData(), 1, values.length);
+    int[] offsets = vector.getOffsets();
+    offsets[2] = 3;
+    offsets[3] = 6;
+    offsets[4] = 7;
+    vector.appendDecoded(5, new int[] {0, 1, 1, 0, 1}, 1, 3);
+
+    List<String> strings = new ArrayList<>();
+    for (int i = 0; i < vector.size(); i++) {
+      strings.add(vector.getString(i));
+    }
+    assertEquals(Arrays.asList("a", null, "bb", "ccc", null, "d"), strings);
+    assertEquals(2, vector.getNullCount());
+    assertEquals(0, vector.getLength(4));
+  }
+
+  @Test
+  void testVectorsMatchStringDecoding() throws IOException {
+    Set<String> files = new HashSet<>();
+    int decodedColumns = CorpusColumns.forEachColumn(
+        values -> values.getType() == Type.BYTE_ARRAY ? values.decodeAsString() : null,
+        (name, values, expected) -> {
+          BinaryVector vector = assertDoesNotThrow(values::decodeAsBinaryVector, name);
+          List<String> actual = new ArrayList<>(vector.size());
+          for (int i = 0; i < vector.size(); i++) {
+            actual.add(vector.getString(i));
+          }
+          assertEquals(expected, actual, name);
+          files.add(name.substring(0, name.indexOf(':')));
+        });
+    assertTrue(decodedColumns > 50, "Decoded " + decodedColumns + " columns");
+    assertTrue(files.contains("delta_byte_array.parquet"));
+    assertTrue(files.contains("delta_length_byte_array.parquet"));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,184 @@
+package io.github.aloksingh.parquet.vector;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.ParquetFileReader;
+import io.github.aloksingh.parquet.model.ColumnDescriptor;
+import io.github.aloksingh.parquet.model.ColumnValues;
+import io.github.aloksingh.parquet.model.Encoding;
+import io.github.aloksingh.parquet.model.Page;
+import io.github.aloksingh.parquet.model.ParquetException;
+import io.github.aloksingh.parquet.model.Type;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for primitive column vectors and decoding columns into them.
+ */
+class ColumnVectorTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testAppendDecodedSpreadsValues() {
+    IntVector vector = new IntVector(2);
+    vector.append(7);
+    assertNull(vector.getValidity());
+
+    // Decode 3 values densely, then spread them over 6 positions
+    vector.ensureCapacity(6);
+    int[] values = vector.getValues();
+    values[1] = 10;
+    values[2] = 20;
+    values[3] = 30;
+    vector.appendDecoded(6, new int[] {0, 1, 1, 0, 0, 1}, 1, 3);
+
+    assertEquals(7, vector.size());
+    assertEquals(3, vector.getNullCount());
+    assertEquals(7, vector.get(0));
+    assertTrue(vector.isNull(1));
+    assertEquals(10, vector.get(2));
+    assertEquals(20, vector.get(3));
+    assertTrue(vector.isNull(4));
+    assertTrue(vector.isNull(5));
+    assertEquals(30, vector.get(6));
+    assertFalse(vector.isNull(6));
+
+    // Growing keeps the validity of existing positions
+    for (int i = 0; i < 100; i++) {
+      vector.append(i);
+    }
+    vector.appendNull();
+    assertEquals(108, vector.size());
+    assertEquals(4, vector.getNullCount());
+    assertTrue(vector.isNull(1));
+    assertFalse(vector.isNull(106));
+    assertEquals(99, vector.get(106));
+    assertTrue(vector.isNull(107));
+  }
+
+  @Test
+  void testVectorsMatchListDecoding() throws IOException {
+    int decodedColumns = CorpusColumns.forEachColumn(ColumnVectorTest::decodeAsList,
+        (name, values, expected) -> {
+          List<Object> actual = assertDoesNotThrow(() -> toList(values.decodeAsVector()), name);
+          assertEquals(expected, actual, name);
+        });
+    assertTrue(decodedColumns > 100, "Decoded " + decodedColumns + " columns");
+  }
+
+  @Test
+  void testVectorReaderMatchesListDecoding() throws IOException {
+    // Batches of an odd size straddle the data pages
+    int decodedColumns = CorpusColumns.forEachColumn(ColumnVectorTest::decodeAsList,
+        (name, values, expected) -> {
+          ColumnValues.VectorReader reader = assertDoesNotThrow(values::vectorReader, name);
+          assertEquals(expected.size(), reader.remaining(), name);
+          List<Object> actual = new ArrayList<>(expected.size());
+          while (reader.remaining() > 0) {
+            ColumnVector batch = newVector(values.getType());
+            int read = reader.read(batch, 37);
+            assertEquals(Math.min(37, expected.size() - actual.size()), read, name);
+            actual.addAll(toList(batch));
+          }
+          assertEquals(0, reader.read(newVector(values.getType()), 37), name);
+          assertEquals(expected, actual, name);
+        });
+    assertTrue(decodedColumns > 100, "Decoded " + decodedColumns + " columns");
+  }
+
+  @Test
+  void testPresizedFromPages() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "alltypes_tiny_pages.parquet")) {
+      ColumnValues values = reader.getRowGroup(0).readColumn(5);
+      LongVector vector = values.decodeAsLongVector();
+      assertEquals(7300, vector.size());
+      assertEquals(7300, vector.capacity());
+      assertEquals(0, vector.getNullCount());
+      assertNull(vector.getValidity());
+
+      long[] expected = values.decodeAsInt64().stream().mapToLong(Long::longValue).toArray();
+      assertArrayEquals(expected, vector.getValues());
+    }
+  }
+
+  @Test
+  void testTruncatedDeltaPageIsRejected() {
+    // A DELTA_BINARY_PACKED header for 3 values in a page of 10: block size 128,
+    // 4 mini-blocks, 3 values, first value 0, then one block with min delta 0, bit widths 0
+    ByteBuffer data = ByteBuffer.wrap(new byte[] {(byte) 0x80, 0x01, 4, 3, 0, 0, 0, 0, 0, 0});
+    Page page = new Page.DataPage(data, 10, Encoding.DELTA_BINARY_PACKED, 0, 0);
+    for (Type type : new Type[] {Type.INT32, Type.INT64}) {
+      ColumnDescriptor descriptor = new ColumnDescriptor(type, new String[] {"x"}, 0, 0, 0);
+      ColumnValues values = new ColumnValues(type, List.of(page), descriptor, null);
+      assertThrows(ParquetException.class, values::decodeAsVector, type.toString());
+    }
+  }
+
+  @Test
+  void testTruncatedPlainBinaryPageIsRejected() {
+    // Two PLAIN values: "abc", then a value claiming 100 bytes with only 2 left in the page
+    ByteBuffer data = ByteBuffer.allocate(15).order(ByteOrder.LITTLE_ENDIAN);
+    data.putInt(3).put(new byte[] {'a', 'b', 'c'}).putInt(100).put(new byte[] {'d', 'e'});
+    data.flip();
+    Page page = new Page.DataPage(data, 2, Encoding.PLAIN, 0, 0);
+    ColumnDescriptor descriptor =
+        new ColumnDescriptor(Type.BYTE_ARRAY, new String[] {"x"}, 0, 0, 0);
+    ColumnValues values = new ColumnValues(Type.BYTE_ARRAY, List.of(page), descriptor, null);
+    assertThrows(ParquetException.class, values::decodeAsVector);
+  }
+
+  private static List<?> decodeAsList(ColumnValues values) {
+    return switch (values.getType()) {
+      case INT32 -> values.decodeAsInt32();
+      case INT64 -> values.decodeAsInt64();
+      case FLOAT -> values.decodeAsFloat();
+      case DOUBLE -> values.decodeAsDouble();
+      case BOOLEAN -> values.decodeAsBoolean();
+      default -> null;
+    };
+  }
+
+  private static ColumnVector newVector(Type type) {
+    return switch (type) {
+      case INT32 -> new IntVector(0);
+      case INT64 -> new LongVector(0);
+      case FLOAT -> new FloatVector(0);
+      case DOUBLE -> new DoubleVector(0);
+      case BOOLEAN -> new BooleanVector(0);
+      case BYTE_ARRAY -> new BinaryVector(0, 0);
+      default -> throw new IllegalArgumentException("No vector for " + type);
+    };
+  }
+
+  private static List<Object> toList(ColumnVector vector) {
+    List<Object> list = new ArrayList<>(vector.size());
+    for (int i = 0; i < vector.size(); i++) {
+      if (vector.isNull(i)) {
+        list.add(null);
+      } else if (vector instanceof IntVector v) {
+        list.add(v.get(i));
+      } else if (vector instanceof LongVector v) {
+        list.add(v.get(i));
+      } else if (vector instanceof FloatVector v) {
+        list.add(v.get(i));
+      } else if (vector instanceof DoubleVector v) {
+        list.add(v.get(i));
+      } else {
+        list.add(((BooleanVector) vector).get(i));
+      }
+    }
+    return list;
+  }
+}
@@ -0,0 +1,100 @@
+package io.github.aloksingh.parquet.vector;
+
+import io.github.aloksingh.parquet.ParquetFileReader;
+import io.github.aloksingh.parquet.model.ColumnDescriptor;
+import io.github.aloksingh.parquet.model.ColumnValues;
+import io.github.aloksingh.parquet.model.ParquetException;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Walks the flat columns of every test data file, for tests that compare a vector decoding
+ * with the list decoding of the same column.
+ */
+final class CorpusColumns {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  /**
+   * A check of a column against the values of its reference decoding.
+   */
+  interface ColumnCheck {
+    /**
+     * Checks one column chunk.
+     *
+     * @param name the file name and column path, for assertion messages
+     * @param values the column
+     * @param expected the values decoded by the reference decoding
+     * @throws IOException if reading the column fails
+     */
+    void check(String name, ColumnValues values, List<?> expected) throws IOException;
+  }
+
+  private CorpusColumns() {
+    // Utility class
+  }
+
+  /**
+   * Runs a check on every flat column chunk that the reference decoding supports.
+   *
+   * <p>Files the reader cannot open, and columns that cannot be read or that the reference
+   * decoding rejects, are skipped; they are covered by other tests. Failures of the check
+   * itself are not caught.
+   *
+   * @param reference decodes a column into the expected values, or returns null to skip it
+   * @param check the check to run on each column
+   * @return the number of column chunks checked
+   * @throws IOException if reading a file fails after it was opened
+   */
+  static int forEachColumn(Function<ColumnValues, List<?>> reference, ColumnCheck check)
+      throws IOException {
+    int checked = 0;
+    for (File file : testFiles()) {
+      ParquetFileReader reader;
+      try {
+        reader = new ParquetFileReader(file.getPath());
+      } catch (IOException | ParquetException e) {
+        continue;
+      }
+      try (reader) {
+        for (int rowGroup = 0; rowGroup < reader.getNumRowGroups(); rowGroup++) {
+          for (int col = 0; col < reader.getSchema().getNumColumns(); col++) {
+            ColumnDescriptor descriptor = reader.getSchema().getColumn(col);
+            if (descriptor.maxRepetitionLevel() > 0) {
+              continue;
+            }
+            ColumnValues values;
+            List<?> expected;
+            try {
+              values = reader.getRowGroup(rowGroup).readColumn(col);
+              expected = reference.apply(values);
+            } catch (IOException | ParquetException | UnsupportedOperationException e) {
+              continue;
+            }
+            if (expected == null) {
+              continue;
+            }
+            check.check(file.getName() + ":" + String.join(".", descriptor.path()), values,
+                expected);
+            checked++;
+          }
+        }
+      }
+    }
+    return checked;
+  }
+
+  private static List<File> testFiles() {
+    List<File> files = new ArrayList<>();
+    for (File file : new File(TEST_DATA_DIR).listFiles()) {
+      if (file.getName().endsWith(".parquet")) {
+        files.add(file);
+      }
+    }
+    files.sort(null);
+    return files;
+  }
+}
@@ -0,0 +1,126 @@
+package io.github.aloksingh.parquet.vector;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.aloksingh.parquet.ParquetFileReader;
+import io.github.aloksingh.parquet.model.ColumnDescriptor;
+import io.github.aloksingh.parquet.model.ColumnValues;
+import io.github.aloksingh.parquet.model.Encoding;
+import io.github.aloksingh.parquet.model.Page;
+import io.github.aloksingh.parquet.model.ParquetException;
+import io.github.aloksingh.parquet.model.Type;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for decoding dictionary-encoded columns into dictionary codes.
+ */
+class DictionaryVectorTest {
+
+  private static final String TEST_DATA_DIR = "src/test/data/";
+
+  @Test
+  void testCodesMatchValueDecoding() throws IOException {
+    int[] dictionaryColumns = new int[1];
+    CorpusColumns.forEachColumn(DictionaryVectorTest::decodeAsList,
+        (name, values, expected) -> {
+          DictionaryVector vector = assertDoesNotThrow(values::decodeAsDictionaryVector, name);
+          if (vector != null) {
+            assertEquals(expected, toList(vector), name);
+            dictionaryColumns[0]++;
+          }
+        });
+    assertTrue(dictionaryColumns[0] > 50, "Decoded " + dictionaryColumns[0] + " columns");
+  }
+
+  @Test
+  void testLowCardinalityStringColumn() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "alltypes_tiny_pages.parquet")) {
+      ColumnValues values = reader.getRowGroup(0).readColumn(9);
+      DictionaryVector vector = values.decodeAsDictionaryVector();
+      assertNotNull(vector);
+      assertEquals(7300, vector.size());
+      assertEquals(7300, vector.capacity());
+      assertEquals(10, vector.getDictionarySize());
+
+      // Equal codes are equal strings, and each string is decoded only once
+      List<String> strings = values.decodeAsString();
+      for (int i = 0; i < vector.size(); i++) {
+        assertEquals(strings.get(i), vector.getString(i));
+        assertSame(vector.getDictionaryString(vector.getCode(i)), vector.getString(i));
+      }
+    }
+  }
+
+  @Test
+  void testNullsAndCopying() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "userdata.parquet")) {
+      ColumnValues values = reader.getRowGroup(0).readColumn(12);
+      DictionaryVector vector = values.decodeAsDictionaryVector();
+      assertNotNull(vector);
+      assertEquals(6, vector.getNullCount());
+      DictionaryVector copy = new DictionaryVector(vector.getDictionary(), 0);
+      copy.appendFrom(vector, 0, vector.size());
+      assertEquals(vector.getNullCount(), copy.getNullCount());
+      assertArrayEquals(toList(vector).toArray(), toList(copy).toArray());
+
+      DictionaryVector other = new DictionaryVector(vector.getDictionary().clone(), 0);
+      assertThrows(IllegalArgumentException.class, () -> other.appendFrom(vector, 0, 1));
+    }
+  }
+
+  @Test
+  void testPlainColumnHasNoCodes() throws IOException {
+    try (ParquetFileReader reader =
+             new ParquetFileReader(TEST_DATA_DIR + "alltypes_tiny_pages_plain.parquet")) {
+      assertNull(reader.getRowGroup(0).readColumn(9).decodeAsDictionaryVector());
+    }
+  }
+
+  @Test
+  void testIndexOutsideDictionaryIsRejected() {
+    // Two INT32 dictionary values, then a page of 4 values with bit width 2 holding an RLE
+    // run of index 3
+    ByteBuffer dictionary = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN)
+        .putInt(10).putInt(20).flip();
+    ByteBuffer indices = ByteBuffer.wrap(new byte[] {2, 4 << 1, 3});
+    List<Page> pages = List.of(
+        new Page.DictionaryPage(dictionary, 2, Encoding.PLAIN_DICTIONARY),
+        new Page.DataPage(indices, 4, Encoding.RLE_DICTIONARY, 0, 0));
+    ColumnDescriptor descriptor = new ColumnDescriptor(Type.INT32, new String[] {"x"}, 0, 0, 0);
+    ColumnValues values = new ColumnValues(Type.INT32, pages, descriptor, null);
+    assertThrows(ParquetException.class, values::decodeAsDictionaryVector);
+  }
+
+  private static List<?> decodeAsList(ColumnValues values) {
+    return switch (values.getType()) {
+      case INT32 -> values.decodeAsInt32();
+      case INT64 -> values.decodeAsInt64();
+      case FLOAT -> values.decodeAsFloat();
+      case DOUBLE -> values.decodeAsDouble();
+      case BYTE_ARRAY -> values.decodeAsString();
+      default -> null;
+    };
+  }
+
+  private static List<Object> toList(DictionaryVector vector) {
+    List<Object> list = new ArrayList<>(vector.size());
+    for (int i = 0; i < vector.size(); i++) {
+      list.add(vector.get(i) instanceof byte[] ? vector.getString(i) : vector.get(i));
+    }
+    return list;
+  }
+}